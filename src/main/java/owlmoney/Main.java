@@ -1,6 +1,8 @@
 package owlmoney;
 
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Scanner;
 
@@ -11,11 +13,14 @@ import owlmoney.model.card.exception.CardException;
 import owlmoney.logic.parser.exception.ParserException;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.budget.exception.BudgetException;
 import owlmoney.model.goals.exception.GoalsException;
+import owlmoney.model.profile.AutoUpdater;
 import owlmoney.model.profile.Profile;
 import owlmoney.model.profile.exception.ProfileException;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.storage.Storage;
+import owlmoney.ui.JsonLinesUi;
 import owlmoney.ui.Ui;
 
 /**
@@ -27,15 +32,40 @@ class Main {
     private ParseCommand parser;
     private Profile profile;
     private Storage storage;
+    private int undoDepth;
+    private boolean isAutoUpdate;
+    private AutoUpdater autoUpdater;
     private static final String FILE_PATH = "data/";
     private static final String PROFILE_FILE_NAME = "profile.csv";
+    private static final String SCRIPT_OPTION = "--script";
+    private static final String FLUSH_EVERY_OPTION = "--flush-every";
+    private static final String UNDO_DEPTH_OPTION = "--undo-depth";
+    private static final String OUTPUT_OPTION = "--output";
+    private static final String AUTO_UPDATE_OPTION = "--auto-update";
+    private static final String TEXT_OUTPUT = "text";
+    private static final String JSON_LINES_OUTPUT = "jsonl";
+    private static final int ISZERO = 0;
+    private static final double MILLISECONDS_PER_SECOND = 1000.0;
+    private static final double NANOSECONDS_PER_MILLISECOND = 1000000.0;
 
     /**
      * Initializes a new OwlMoney session.
+     *
+     * @param ui the Ui that prints the session's output, plain text or JSON lines as chosen by --output.
      */
-    private Main() {
-        ui = new Ui();
-        parser = new ParseCommand();
+    private Main(Ui ui) {
+        this(new ParseCommand(), ui);
+    }
+
+    /**
+     * Initializes a new OwlMoney session that reads commands with the specified parser.
+     *
+     * @param parser The parser to read commands from.
+     * @param ui     The Ui to print output with.
+     */
+    private Main(ParseCommand parser, Ui ui) {
+        this.ui = ui;
+        this.parser = parser;
         storage = new Storage(FILE_PATH);
     }
 
@@ -65,6 +95,7 @@ class Main {
                 String username = scanner.nextLine();
                 checkUserName(username);
                 profile = new Profile(username, ui);
+                applyUndoDepth();
                 check = false;
             } catch (MainException e) {
                 ui.printError(e.toString());
@@ -72,6 +103,15 @@ class Main {
         }
     }
 
+    /**
+     * Sets the number of changes that can be undone if --undo-depth is specified.
+     */
+    private void applyUndoDepth() {
+        if (undoDepth > ISZERO) {
+            profile.profileSetUndoDepth(undoDepth);
+        }
+    }
+
     /**
      * Starts up the initialized OwlMoney session.
      */
@@ -81,6 +121,7 @@ class Main {
             List<String[]> importData = storage.readFile(PROFILE_FILE_NAME);
             String userName = importData.get(0)[0];
             profile = new Profile(userName, ui);
+            applyUndoDepth();
             ui.greet(profile.profileGetUsername());
         } catch (IOException exceptionMessage) {
             ui.printError("Unable to import profile files, starting fresh");
@@ -95,7 +136,9 @@ class Main {
                         + " try saving again, feel free to continue using the program.");
             }
         }
+        startAutoUpdater();
         while (parser.hasNextLine()) {
+            profile.profileBeginCommand();
             try {
                 Command command = parser.parseLine();
                 hasExited = command.execute(profile, ui);
@@ -103,14 +146,260 @@ class Main {
                     break;
                 }
             } catch (ParserException | BankException | TransactionException | BondException | CardException
-                    | GoalsException | ProfileException exceptionMessage) {
+                    | GoalsException | ProfileException | BudgetException exceptionMessage) {
                 ui.printError(exceptionMessage.toString());
+            } finally {
+                ui.flush();
+                profile.profileEndCommand();
+            }
+            if (autoUpdater != null) {
+                autoUpdater.reschedule();
+            }
+        }
+        if (autoUpdater != null) {
+            autoUpdater.stop();
+        }
+        rollbackUnfinishedTransaction();
+    }
+
+    /**
+     * Starts applying recurring transactions in the background as they fall due if --auto-update is specified.
+     */
+    private void startAutoUpdater() {
+        if (isAutoUpdate) {
+            autoUpdater = new AutoUpdater(profile, ui);
+            autoUpdater.reschedule();
+        }
+    }
+
+    /**
+     * Rolls back the transaction that was begun but not committed before the session ended.
+     */
+    private void rollbackUnfinishedTransaction() {
+        if (!profile.profileIsInTransaction()) {
+            return;
+        }
+        ui.printMessage("The transaction was not committed before the session ended and will be rolled back");
+        try {
+            profile.profileRollbackTransaction(ui);
+        } catch (ProfileException exceptionMessage) {
+            ui.printError(exceptionMessage.toString());
+        }
+    }
+
+    /**
+     * Runs every command in the script in a single session, deferring all disk writes.
+     * Pending writes are flushed at the end of the script, or every flushEvery lines if it is more than zero.
+     * Failing lines are reported with their line number and do not stop the script.
+     * Periodic flushes are skipped while a transaction is in progress so that it can still be rolled back.
+     *
+     * @param flushEvery Number of lines to run between flushes, or zero to only flush at the end.
+     */
+    private void runScript(int flushEvery) {
+        if (!storage.isFileExist(PROFILE_FILE_NAME)) {
+            ui.printError("A profile is required to run a script, start OwlMoney without --script to create one");
+            return;
+        }
+        try {
+            List<String[]> importData = storage.readFile(PROFILE_FILE_NAME);
+            profile = new Profile(importData.get(ISZERO)[ISZERO], ui);
+            applyUndoDepth();
+        } catch (IOException exceptionMessage) {
+            ui.printError("Unable to import profile files, script was not run");
+            return;
+        }
+        long startTime = System.nanoTime();
+        int lineNumber = ISZERO;
+        int errorCount = ISZERO;
+        int flushCount = ISZERO;
+        int filesWritten = ISZERO;
+        storage.deferWrites();
+        while (parser.hasNextLine()) {
+            lineNumber++;
+            profile.profileBeginCommand();
+            try {
+                Command command = parser.parseLine();
+                if (command.execute(profile, ui)) {
+                    break;
+                }
+            } catch (ParserException | BankException | TransactionException | BondException | CardException
+                    | GoalsException | ProfileException | BudgetException exceptionMessage) {
+                errorCount++;
+                ui.printError("Line " + lineNumber + ": " + exceptionMessage.toString());
+            } finally {
+                profile.profileEndCommand();
+            }
+            if (flushEvery > ISZERO && lineNumber % flushEvery == ISZERO && !profile.profileIsInTransaction()) {
+                filesWritten += flushScriptWrites();
+                flushCount++;
+            }
+        }
+        rollbackUnfinishedTransaction();
+        try {
+            filesWritten += storage.resumeWrites();
+        } catch (IOException exceptionMessage) {
+            ui.printError("Error trying to save your script changes to disk, the changes that could not be"
+                    + " saved have been lost. Check that the data directory can be written to before running"
+                    + " the script again.");
+        }
+        flushCount++;
+        printScriptSummary(lineNumber, errorCount, flushCount, filesWritten, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Flushes the writes deferred by the script so far.
+     *
+     * @return the number of files written to disk.
+     */
+    private int flushScriptWrites() {
+        try {
+            return storage.flushWrites();
+        } catch (IOException exceptionMessage) {
+            ui.printError("Error trying to save your script changes to disk. Your data is at risk,"
+                    + " but we will try again at the next flush.");
+            return ISZERO;
+        }
+    }
+
+    /**
+     * Prints the throughput summary of a completed script.
+     *
+     * @param lineCount    Number of lines read from the script.
+     * @param errorCount   Number of lines that failed.
+     * @param flushCount   Number of times pending writes were flushed.
+     * @param filesWritten Number of files written to disk.
+     * @param elapsedNanos Time taken to run the script in nanoseconds.
+     */
+    private void printScriptSummary(int lineCount, int errorCount, int flushCount, int filesWritten,
+            long elapsedNanos) {
+        double elapsedMillis = elapsedNanos / NANOSECONDS_PER_MILLISECOND;
+        double linesPerSecond = elapsedMillis > ISZERO ? lineCount * MILLISECONDS_PER_SECOND / elapsedMillis : ISZERO;
+        ui.printMessage("Script completed: " + lineCount + " lines read, " + (lineCount - errorCount)
+                + " succeeded, " + errorCount + " failed");
+        ui.printMessage(String.format("%d files written in %d flushes, %.0f ms elapsed (%.0f lines per second)",
+                filesWritten, flushCount, elapsedMillis, linesPerSecond));
+    }
+
+    /**
+     * Extracts the positive number that follows an option from the command line arguments.
+     *
+     * @param args   Command line arguments.
+     * @param option The option to look for, such as --flush-every.
+     * @return the number that follows the option, or zero if the option is absent.
+     * @throws MainException If the option has no value or the value is not a positive number.
+     */
+    private static int getPositiveNumberOption(String[] args, String option) throws MainException {
+        for (int i = ISZERO; i < args.length; i++) {
+            if (option.equals(args[i])) {
+                try {
+                    int number = Integer.parseInt(args[i + 1]);
+                    if (number <= ISZERO) {
+                        throw new MainException(option + " must be a positive number");
+                    }
+                    return number;
+                } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                    throw new MainException(option + " must be followed by a positive number");
+                }
+            }
+        }
+        return ISZERO;
+    }
+
+    /**
+     * Creates the Ui for the output mode in the command line arguments.
+     *
+     * @param args Command line arguments.
+     * @return a JsonLinesUi if --output jsonl is specified, otherwise the usual Ui.
+     * @throws MainException If the option has no value or the value is not a known output mode.
+     */
+    static Ui getOutputUi(String[] args) throws MainException {
+        for (int i = ISZERO; i < args.length; i++) {
+            if (OUTPUT_OPTION.equals(args[i])) {
+                if (i + 1 >= args.length) {
+                    throw new MainException(OUTPUT_OPTION + " must be followed by " + TEXT_OUTPUT + " or "
+                            + JSON_LINES_OUTPUT);
+                }
+                if (JSON_LINES_OUTPUT.equals(args[i + 1])) {
+                    return new JsonLinesUi();
+                } else if (TEXT_OUTPUT.equals(args[i + 1])) {
+                    return new Ui();
+                }
+                throw new MainException(OUTPUT_OPTION + " must be either " + TEXT_OUTPUT + " or "
+                        + JSON_LINES_OUTPUT);
             }
         }
+        return new Ui();
     }
 
+    /**
+     * Checks if a flag with no value is in the command line arguments.
+     *
+     * @param args Command line arguments.
+     * @param flag The flag to look for, such as --auto-update.
+     * @return true if the flag is specified.
+     */
+    private static boolean hasFlag(String[] args, String flag) {
+        for (String arg : args) {
+            if (flag.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extracts the script file name from the command line arguments.
+     *
+     * @param args Command line arguments.
+     * @return the script file name, or null if OwlMoney should run interactively.
+     * @throws MainException If the option has no value.
+     */
+    private static String getScriptFileName(String[] args) throws MainException {
+        for (int i = ISZERO; i < args.length; i++) {
+            if (SCRIPT_OPTION.equals(args[i])) {
+                if (i + 1 >= args.length) {
+                    throw new MainException(SCRIPT_OPTION + " must be followed by a file name");
+                }
+                return args[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Starts OwlMoney interactively, or runs a script of commands if --script is specified.
+     *
+     * @param args Command line arguments, such as --script FILE [--flush-every N] [--undo-depth N] [--output jsonl]
+     *             or --auto-update.
+     */
     public static void main(String[] args) {
-        new Main().run();
+        String scriptFileName;
+        int flushEvery;
+        int undoDepth;
+        Ui ui;
+        try {
+            ui = getOutputUi(args);
+            scriptFileName = getScriptFileName(args);
+            flushEvery = getPositiveNumberOption(args, FLUSH_EVERY_OPTION);
+            undoDepth = getPositiveNumberOption(args, UNDO_DEPTH_OPTION);
+        } catch (MainException exceptionMessage) {
+            new Ui().printError(exceptionMessage.toString());
+            return;
+        }
+        if (scriptFileName == null) {
+            Main main = new Main(ui);
+            main.undoDepth = undoDepth;
+            main.isAutoUpdate = hasFlag(args, AUTO_UPDATE_OPTION);
+            main.run();
+            return;
+        }
+        try (InputStream script = new FileInputStream(scriptFileName)) {
+            Main main = new Main(new ParseCommand(script), ui);
+            main.undoDepth = undoDepth;
+            main.runScript(flushEvery);
+        } catch (IOException exceptionMessage) {
+            ui.printError("Unable to read script file " + scriptFileName);
+        }
     }
 }
 
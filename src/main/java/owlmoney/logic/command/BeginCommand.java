@@ -0,0 +1,25 @@
+package owlmoney.logic.command;
+
+import owlmoney.model.profile.Profile;
+import owlmoney.model.profile.exception.ProfileException;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes BeginCommand to begin a transaction so that later changes are only saved on commit.
+ */
+public class BeginCommand extends Command {
+
+    /**
+     * Executes the function to begin a transaction so that later changes are only saved on commit.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws ProfileException If a transaction has already begun.
+     */
+    @Override
+    public boolean execute(Profile profile, Ui ui) throws ProfileException {
+        profile.profileBeginTransaction(ui);
+        return this.isExit;
+    }
+}
@@ -2,6 +2,7 @@ package owlmoney.logic.command;
 
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.budget.exception.BudgetException;
 import owlmoney.model.goals.exception.GoalsException;
 import owlmoney.model.card.exception.CardException;
 import owlmoney.model.profile.Profile;
@@ -23,5 +24,5 @@ public abstract class Command {
      * @return True if OwlMoney should terminate after execution.
      */
     public abstract boolean execute(Profile profile, Ui ui) throws BankException,
-            TransactionException, BondException, CardException, GoalsException, ProfileException;
+            TransactionException, BondException, CardException, GoalsException, ProfileException, BudgetException;
 }
@@ -0,0 +1,25 @@
+package owlmoney.logic.command;
+
+import owlmoney.model.profile.Profile;
+import owlmoney.model.profile.exception.ProfileException;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes CommitCommand to commit the current transaction and save its changes.
+ */
+public class CommitCommand extends Command {
+
+    /**
+     * Executes the function to commit the current transaction and save its changes.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws ProfileException If there is no transaction to commit.
+     */
+    @Override
+    public boolean execute(Profile profile, Ui ui) throws ProfileException {
+        profile.profileCommitTransaction(ui);
+        return this.isExit;
+    }
+}
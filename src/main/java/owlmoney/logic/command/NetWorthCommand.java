@@ -0,0 +1,23 @@
+package owlmoney.logic.command;
+
+import owlmoney.model.profile.Profile;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes NetWorthCommand and prints the net worth of the user.
+ */
+public class NetWorthCommand extends Command {
+
+    /**
+     * Executes the function to add up every bank account, bond and credit card into the net worth.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return False so OwlMoney does not terminate yet.
+     */
+    @Override
+    public boolean execute(Profile profile, Ui ui) {
+        profile.profileNetWorth(ui);
+        return isExit;
+    }
+}
@@ -0,0 +1,25 @@
+package owlmoney.logic.command;
+
+import owlmoney.model.profile.Profile;
+import owlmoney.model.profile.exception.ProfileException;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes RollbackCommand to roll back the current transaction and discard its changes.
+ */
+public class RollbackCommand extends Command {
+
+    /**
+     * Executes the function to roll back the current transaction and discard its changes.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws ProfileException If there is no transaction to roll back.
+     */
+    @Override
+    public boolean execute(Profile profile, Ui ui) throws ProfileException {
+        profile.profileRollbackTransaction(ui);
+        return this.isExit;
+    }
+}
@@ -0,0 +1,25 @@
+package owlmoney.logic.command;
+
+import owlmoney.model.profile.Profile;
+import owlmoney.model.profile.exception.ProfileException;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes UndoCommand to undo the latest change.
+ */
+public class UndoCommand extends Command {
+
+    /**
+     * Executes the function to undo the latest change.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws ProfileException If there is nothing to undo.
+     */
+    @Override
+    public boolean execute(Profile profile, Ui ui) throws ProfileException {
+        profile.profileUndo(ui);
+        return this.isExit;
+    }
+}
@@ -0,0 +1,44 @@
+package owlmoney.logic.command.budget;
+
+import java.util.List;
+
+import owlmoney.logic.command.Command;
+import owlmoney.model.budget.exception.BudgetException;
+import owlmoney.model.profile.Profile;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes AddBudgetCommand to add a monthly budget for a category.
+ */
+public class AddBudgetCommand extends Command {
+    private final String category;
+    private final double amount;
+    private final List<String> accounts;
+
+    /**
+     * Creates an instance of AddBudgetCommand.
+     *
+     * @param category Category the budget applies to.
+     * @param amount   Monthly amount allowed for the category.
+     * @param accounts Bank accounts and cards the budget applies to, or empty for all of them.
+     */
+    public AddBudgetCommand(String category, double amount, List<String> accounts) {
+        this.category = category;
+        this.amount = amount;
+        this.accounts = accounts;
+    }
+
+    /**
+     * Executes the function to add a new budget to the profile.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws BudgetException If the budget already exists, the limit is reached or an account does not exist.
+     */
+    @Override
+    public boolean execute(Profile profile, Ui ui) throws BudgetException {
+        profile.profileAddBudget(category, amount, accounts, ui);
+        return this.isExit;
+    }
+}
@@ -0,0 +1,36 @@
+package owlmoney.logic.command.budget;
+
+import owlmoney.logic.command.Command;
+import owlmoney.model.budget.exception.BudgetException;
+import owlmoney.model.profile.Profile;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes DeleteBudgetCommand to delete the budget of a category.
+ */
+public class DeleteBudgetCommand extends Command {
+    private final String category;
+
+    /**
+     * Creates an instance of DeleteBudgetCommand.
+     *
+     * @param category Category of the budget to delete.
+     */
+    public DeleteBudgetCommand(String category) {
+        this.category = category;
+    }
+
+    /**
+     * Executes the function to delete a budget from the profile.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws BudgetException If there is no budget for the category.
+     */
+    @Override
+    public boolean execute(Profile profile, Ui ui) throws BudgetException {
+        profile.profileDeleteBudget(category, ui);
+        return this.isExit;
+    }
+}
@@ -0,0 +1,26 @@
+package owlmoney.logic.command.budget;
+
+import owlmoney.logic.command.Command;
+import owlmoney.model.budget.exception.BudgetException;
+import owlmoney.model.profile.Profile;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes ListBudgetCommand to list the budgets and this month's spending against them.
+ */
+public class ListBudgetCommand extends Command {
+
+    /**
+     * Executes the function to list the budgets in the profile.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws BudgetException If there are no budgets.
+     */
+    @Override
+    public boolean execute(Profile profile, Ui ui) throws BudgetException {
+        profile.profileListBudgets(ui);
+        return this.isExit;
+    }
+}
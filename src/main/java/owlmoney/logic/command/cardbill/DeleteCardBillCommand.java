@@ -76,6 +76,8 @@ public class DeleteCardBillCommand extends Command {
     /**
      * Executes the function to delete a credit card bill in bank expenditure, card rebate in bank deposit,
      * and transfers the card expenditures from paid to unpaid transaction list.
+     * The expenditure is found again by its ID after the deposit is deleted, as deleting the deposit renumbers
+     * the transactions after it.
      *
      * @param profile Profile of the user.
      * @param ui      Ui of OwlMoney.
@@ -89,8 +91,9 @@ public class DeleteCardBillCommand extends Command {
         double billAmountInCard = profile.getCardPaidBillAmount(card, cardDate);
         checkBillAmountZero(billAmountInCard, card, cardDate);
         checkBillAmountMatch(profile, bank, billAmountInCard, expno);
+        long expenditureId = profile.getBankTransactionId(bank, expno);
         profile.profileDeleteDeposit(depno, bank, ui);
-        profile.profileDeleteExpenditure(expno, bank, ui, type);
+        profile.profileDeleteExpenditure(profile.getBankTransactionNumberById(bank, expenditureId), bank, ui, type);
         profile.unpayCardBill(card, cardDate, ui, type);
         return this.isExit;
     }
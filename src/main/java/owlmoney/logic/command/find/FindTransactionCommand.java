@@ -4,6 +4,7 @@ import owlmoney.logic.command.Command;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.card.exception.CardException;
 import owlmoney.model.profile.Profile;
+import owlmoney.model.transaction.PageRequest;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
 
@@ -17,6 +18,9 @@ public class FindTransactionCommand extends Command {
     private final String description;
     private final String category;
     private final String type;
+    private final int displayNum;
+    private final int pageNumber;
+    private final long cursor;
 
     /**
      * Creates an instance of FindTransactionCommand.
@@ -27,15 +31,21 @@ public class FindTransactionCommand extends Command {
      * @param description The description keyword to search for.
      * @param category    The category keyword to search for.
      * @param type        The type of object to search for such as bank or card object.
+     * @param displayNum  The number of matches to display on each page.
+     * @param pageNumber  The page of matches to display, starting from 1.
+     * @param cursor      The cursor of a previous page to continue from, or 0 to start from the earliest match.
      */
     public FindTransactionCommand(String name, String fromDate, String toDate, String description,
-            String category, String type) {
+            String category, String type, int displayNum, int pageNumber, long cursor) {
         this.name = name;
         this.fromDate = fromDate;
         this.toDate = toDate;
         this.description = description;
         this.category = category;
         this.type = type;
+        this.displayNum = displayNum;
+        this.pageNumber = pageNumber;
+        this.cursor = cursor;
     }
 
     /**
@@ -49,7 +59,9 @@ public class FindTransactionCommand extends Command {
      * @throws CardException        If card with the name does not exist.
      */
     public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException, CardException {
-        profile.findTransaction(this.name, this.fromDate, this.toDate, this.description, this.category, this.type, ui);
+        PageRequest page = new PageRequest(displayNum, pageNumber, cursor);
+        profile.findTransaction(this.name, this.fromDate, this.toDate, this.description, this.category, this.type,
+                page, ui);
         return this.isExit;
     }
 }
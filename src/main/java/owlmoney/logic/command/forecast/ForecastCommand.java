@@ -0,0 +1,36 @@
+package owlmoney.logic.command.forecast;
+
+import owlmoney.logic.command.Command;
+import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.profile.Profile;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes ForecastCommand to forecast the month-end balances of the bank accounts for the months ahead.
+ */
+public class ForecastCommand extends Command {
+    private final int months;
+
+    /**
+     * Creates an instance of ForecastCommand.
+     *
+     * @param months Number of months to forecast.
+     */
+    public ForecastCommand(int months) {
+        this.months = months;
+    }
+
+    /**
+     * Executes the function to forecast the bank accounts in the profile.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws BankException If there are no bank accounts.
+     */
+    @Override
+    public boolean execute(Profile profile, Ui ui) throws BankException {
+        profile.profileForecast(months, ui);
+        return this.isExit;
+    }
+}
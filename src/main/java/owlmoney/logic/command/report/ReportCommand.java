@@ -0,0 +1,47 @@
+package owlmoney.logic.command.report;
+
+import java.time.YearMonth;
+
+import owlmoney.logic.command.Command;
+import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.card.exception.CardException;
+import owlmoney.model.profile.Profile;
+import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes ReportCommand to report the totals of the transactions in an account by month and category.
+ */
+public class ReportCommand extends Command {
+    private final String name;
+    private final YearMonth month;
+    private final String type;
+
+    /**
+     * Creates an instance of ReportCommand.
+     *
+     * @param name  Name of the bank account or credit card to report on.
+     * @param month The month to report, or null to report every month.
+     * @param type  Type of account to report on.
+     */
+    public ReportCommand(String name, YearMonth month, String type) {
+        this.name = name;
+        this.month = month;
+        this.type = type;
+    }
+
+    /**
+     * Executes the function to report the totals of the transactions in the account.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws BankException        If bank account does not exist.
+     * @throws TransactionException If there are no transactions to report.
+     * @throws CardException        If the credit card does not exist.
+     */
+    public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException, CardException {
+        profile.profileReportTransactions(this.name, this.month, this.type, ui);
+        return this.isExit;
+    }
+}
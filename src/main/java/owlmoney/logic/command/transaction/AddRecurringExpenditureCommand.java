@@ -4,7 +4,9 @@ import java.util.Date;
 
 import owlmoney.logic.command.Command;
 import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.card.exception.CardException;
 import owlmoney.model.profile.Profile;
+import owlmoney.model.schedule.RecurrenceRule;
 import owlmoney.model.transaction.Expenditure;
 import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.exception.TransactionException;
@@ -19,6 +21,7 @@ public class AddRecurringExpenditureCommand extends Command {
     private final Date date;
     private final String description;
     private final String category;
+    private final RecurrenceRule recurrenceRule;
     private final String type;
 
     /**
@@ -29,15 +32,17 @@ public class AddRecurringExpenditureCommand extends Command {
      * @param date        Date of the next expenditure.
      * @param description Description of the recurring expenditure.
      * @param category    Category of the recurring expenditure.
+     * @param recurrenceRule How often the expenditure repeats.
      * @param type        Represents type of expenditure to be added.
      */
     public AddRecurringExpenditureCommand(String name, double amount, Date date, String description,
-            String category, String type) {
+            String category, RecurrenceRule recurrenceRule, String type) {
         this.accName = name;
         this.amount = amount;
         this.date = date;
         this.description = description;
         this.category = category;
+        this.recurrenceRule = recurrenceRule;
         this.type = type;
     }
 
@@ -48,10 +53,12 @@ public class AddRecurringExpenditureCommand extends Command {
      * @param ui      Ui of OwlMoney.
      * @return false so OwlMoney will not terminate yet.
      * @throws BankException If bank account does not exists or is an investment account.
+     * @throws CardException If the credit card does not exist.
      * @throws TransactionException If the recurring expenditure list is full.
      */
-    public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException {
+    public boolean execute(Profile profile, Ui ui) throws BankException, CardException, TransactionException {
         Transaction newExpenditure = new Expenditure(this.description, this.amount, this.date, this.category);
+        newExpenditure.setRecurrenceRule(this.recurrenceRule);
         profile.profileAddRecurringExpenditure(accName, newExpenditure, ui, this.type);
         return this.isExit;
     }
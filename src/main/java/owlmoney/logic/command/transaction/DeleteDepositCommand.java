@@ -3,6 +3,7 @@ package owlmoney.logic.command.transaction;
 import owlmoney.logic.command.Command;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.profile.Profile;
+import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
 
@@ -11,6 +12,7 @@ import owlmoney.ui.Ui;
  */
 public class DeleteDepositCommand extends Command {
     private final int expNumber;
+    private final long id;
     private final String from;
 
     /**
@@ -18,9 +20,11 @@ public class DeleteDepositCommand extends Command {
      *
      * @param bankName Bank account name.
      * @param index    Transaction number.
+     * @param id       ID of the transaction, used instead of the transaction number unless it is NO_ID.
      */
-    public DeleteDepositCommand(String bankName, int index) {
+    public DeleteDepositCommand(String bankName, int index, long id) {
         this.expNumber = index;
+        this.id = id;
         this.from = bankName;
     }
 
@@ -34,7 +38,9 @@ public class DeleteDepositCommand extends Command {
      * @throws TransactionException If transaction is not a deposit.
      */
     public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException {
-        profile.profileDeleteDeposit(this.expNumber, this.from, ui);
+        int index = this.id == Transaction.NO_ID ? this.expNumber
+                : profile.getBankTransactionNumberById(this.from, this.id);
+        profile.profileDeleteDeposit(index, this.from, ui);
         return this.isExit;
     }
 }
@@ -4,6 +4,7 @@ import owlmoney.logic.command.Command;
 import owlmoney.model.card.exception.CardException;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.profile.Profile;
+import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
 
@@ -12,6 +13,7 @@ import owlmoney.ui.Ui;
  */
 public class DeleteExpenditureCommand extends Command {
     private final int expNumber;
+    private final long id;
     private final String from;
     private final String type;
 
@@ -19,11 +21,13 @@ public class DeleteExpenditureCommand extends Command {
      * Creates an instance of a DeleteExpenditureCommand.
      *
      * @param index       Transaction number.
+     * @param id          ID of the transaction, used instead of the transaction number unless it is NO_ID.
      * @param accountName Card or Bank account name.
      * @param type        The type of account to delete expenditure from.
      */
-    public DeleteExpenditureCommand(int index, String accountName, String type) {
+    public DeleteExpenditureCommand(int index, long id, String accountName, String type) {
         this.expNumber = index;
+        this.id = id;
         this.from = accountName;
         this.type = type;
     }
@@ -39,7 +43,9 @@ public class DeleteExpenditureCommand extends Command {
      * @throws CardException        If card does not exist.
      */
     public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException, CardException {
-        profile.profileDeleteExpenditure(this.expNumber, this.from, ui, this.type);
+        int index = this.id == Transaction.NO_ID ? this.expNumber
+                : profile.profileGetTransactionNumberById(this.from, this.id, this.type);
+        profile.profileDeleteExpenditure(index, this.from, ui, this.type);
         return this.isExit;
     }
 }
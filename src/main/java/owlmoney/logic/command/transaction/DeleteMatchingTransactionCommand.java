@@ -0,0 +1,57 @@
+package owlmoney.logic.command.transaction;
+
+import owlmoney.logic.command.Command;
+import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.card.exception.CardException;
+import owlmoney.model.profile.Profile;
+import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes DeleteMatchingTransactionCommand to delete every transaction that matches the find keywords.
+ */
+public class DeleteMatchingTransactionCommand extends Command {
+    private final String name;
+    private final String fromDate;
+    private final String toDate;
+    private final String description;
+    private final String category;
+    private final String type;
+
+    /**
+     * Creates an instance of DeleteMatchingTransactionCommand.
+     *
+     * @param name        The name of bank or card to delete from.
+     * @param fromDate    The date to match from.
+     * @param toDate      The date to match until.
+     * @param description The description keyword to match against.
+     * @param category    The category keyword to match against.
+     * @param type        The type of account to delete from such as bank or card.
+     */
+    public DeleteMatchingTransactionCommand(String name, String fromDate, String toDate, String description,
+            String category, String type) {
+        this.name = name;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.description = description;
+        this.category = category;
+        this.type = type;
+    }
+
+    /**
+     * Executes the function to delete every matching transaction.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws BankException        If bank account does not exist, does not support deleting or the amount
+     *                              becomes negative.
+     * @throws TransactionException If parsing of date fails or nothing matches.
+     * @throws CardException        If card does not exist.
+     */
+    public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException, CardException {
+        profile.profileDeleteMatchingTransactions(this.name, this.fromDate, this.toDate, this.description,
+                this.category, this.type, ui);
+        return this.isExit;
+    }
+}
@@ -2,6 +2,7 @@ package owlmoney.logic.command.transaction;
 
 import owlmoney.logic.command.Command;
 import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.card.exception.CardException;
 import owlmoney.model.profile.Profile;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
@@ -34,9 +35,10 @@ public class DeleteRecurringExpenditureCommand extends Command {
      * @param ui      Ui of OwlMoney.
      * @return false so OwlMoney will not terminate yet.
      * @throws BankException        If bank account does not exist or is an investment account.
+     * @throws CardException        If the credit card does not exist.
      * @throws TransactionException If invalid transaction.
      */
-    public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException {
+    public boolean execute(Profile profile, Ui ui) throws BankException, CardException, TransactionException {
         profile.profileDeleteRecurringExpenditure(this.from, this.expenditureNumber, ui, this.type);
         return this.isExit;
     }
@@ -3,6 +3,7 @@ package owlmoney.logic.command.transaction;
 import owlmoney.logic.command.Command;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.profile.Profile;
+import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
 
@@ -15,6 +16,7 @@ public class EditDepositCommand extends Command {
     private final String date;
     private final String description;
     private final int index;
+    private final long id;
 
     /**
      * Creates an instance of EditDepositCommand.
@@ -24,13 +26,15 @@ public class EditDepositCommand extends Command {
      * @param date        New date of deposit if any.
      * @param description New description of deposit if any.
      * @param index       Transaction number.
+     * @param id          ID of the transaction, used instead of the transaction number unless it is NO_ID.
      */
-    public EditDepositCommand(String name, String amount, String date, String description, int index) {
+    public EditDepositCommand(String name, String amount, String date, String description, int index, long id) {
         this.accName = name;
         this.amount = amount;
         this.date = date;
         this.description = description;
         this.index = index;
+        this.id = id;
     }
 
     /**
@@ -43,7 +47,9 @@ public class EditDepositCommand extends Command {
      * @throws TransactionException If incorrect date format.
      */
     public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException {
-        profile.profileEditDeposit(index, accName, description, amount, date, ui);
+        int depositNumber = this.id == Transaction.NO_ID ? this.index
+                : profile.getBankTransactionNumberById(accName, this.id);
+        profile.profileEditDeposit(depositNumber, accName, description, amount, date, ui);
         return this.isExit;
     }
 }
@@ -4,6 +4,7 @@ import owlmoney.logic.command.Command;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.card.exception.CardException;
 import owlmoney.model.profile.Profile;
+import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
 
@@ -18,6 +19,7 @@ public class EditExpenditureCommand extends Command {
     private final String description;
     private final String category;
     private final int index;
+    private final long id;
     private final String type;
 
     /**
@@ -29,16 +31,18 @@ public class EditExpenditureCommand extends Command {
      * @param description New description of expenditure if any.
      * @param category    New category of expenditure if any.
      * @param index       Transaction number
+     * @param id          ID of the transaction, used instead of the transaction number unless it is NO_ID.
      * @param type        The type of account to retrieve expenditure from.
      */
     public EditExpenditureCommand(String name, String amount, String date,
-            String description, String category, int index, String type) {
+            String description, String category, int index, long id, String type) {
         this.accName = name;
         this.amount = amount;
         this.date = date;
         this.description = description;
         this.category = category;
         this.index = index;
+        this.id = id;
         this.type = type;
     }
 
@@ -53,7 +57,9 @@ public class EditExpenditureCommand extends Command {
      * @throws CardException        If card does not exist.
      */
     public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException, CardException {
-        profile.profileEditExpenditure(index, accName, description, amount, date, category, ui, this.type);
+        int expNumber = this.id == Transaction.NO_ID ? this.index
+                : profile.profileGetTransactionNumberById(accName, this.id, this.type);
+        profile.profileEditExpenditure(expNumber, accName, description, amount, date, category, ui, this.type);
         return this.isExit;
     }
 }
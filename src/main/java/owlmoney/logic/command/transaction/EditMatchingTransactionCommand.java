@@ -0,0 +1,62 @@
+package owlmoney.logic.command.transaction;
+
+import owlmoney.logic.command.Command;
+import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.card.exception.CardException;
+import owlmoney.model.profile.Profile;
+import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes EditMatchingTransactionCommand to edit every transaction that matches the find keywords.
+ */
+public class EditMatchingTransactionCommand extends Command {
+    private final String name;
+    private final String fromDate;
+    private final String toDate;
+    private final String description;
+    private final String category;
+    private final String newDescription;
+    private final String newCategory;
+    private final String type;
+
+    /**
+     * Creates an instance of EditMatchingTransactionCommand.
+     *
+     * @param name           The name of bank or card to edit in.
+     * @param fromDate       The date to match from.
+     * @param toDate         The date to match until.
+     * @param description    The description keyword to match against.
+     * @param category       The category keyword to match against.
+     * @param newDescription New description of the matches if any.
+     * @param newCategory    New category of the matching expenditures if any.
+     * @param type           The type of account to edit in such as bank or card.
+     */
+    public EditMatchingTransactionCommand(String name, String fromDate, String toDate, String description,
+            String category, String newDescription, String newCategory, String type) {
+        this.name = name;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.description = description;
+        this.category = category;
+        this.newDescription = newDescription;
+        this.newCategory = newCategory;
+        this.type = type;
+    }
+
+    /**
+     * Executes the function to edit every matching transaction.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return false so OwlMoney will not terminate yet.
+     * @throws BankException        If bank account does not exist or does not support editing.
+     * @throws TransactionException If parsing of date fails or nothing matches.
+     * @throws CardException        If card does not exist.
+     */
+    public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException, CardException {
+        profile.profileEditMatchingTransactions(this.name, this.fromDate, this.toDate, this.description,
+                this.category, this.newDescription, this.newCategory, this.type, ui);
+        return this.isExit;
+    }
+}
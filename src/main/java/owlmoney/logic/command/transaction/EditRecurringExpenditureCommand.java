@@ -2,7 +2,9 @@ package owlmoney.logic.command.transaction;
 
 import owlmoney.logic.command.Command;
 import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.card.exception.CardException;
 import owlmoney.model.profile.Profile;
+import owlmoney.model.schedule.RecurrenceRule;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
 
@@ -15,6 +17,7 @@ public class EditRecurringExpenditureCommand extends Command {
     private final String amount;
     private final String description;
     private final String category;
+    private final RecurrenceRule recurrenceRule;
     private final int index;
     private final String type;
 
@@ -25,15 +28,17 @@ public class EditRecurringExpenditureCommand extends Command {
      * @param amount      New amount of recurring expenditure if any.
      * @param description New description of recurring expenditure if any.
      * @param category    New category of recurring expenditure if any.
+     * @param recurrenceRule New recurrence rule of recurring expenditure if any, or null.
      * @param index       Transaction number
      * @param type        The type of account to retrieve expenditure from.
      */
     public EditRecurringExpenditureCommand(String name, String amount,
-            String description, String category, int index, String type) {
+            String description, String category, RecurrenceRule recurrenceRule, int index, String type) {
         this.accName = name;
         this.amount = amount;
         this.description = description;
         this.category = category;
+        this.recurrenceRule = recurrenceRule;
         this.index = index;
         this.type = type;
     }
@@ -45,10 +50,12 @@ public class EditRecurringExpenditureCommand extends Command {
      * @param ui      Ui of OwlMoney.
      * @return false so OwlMoney will not terminate yet.
      * @throws BankException        If bank account does not exist or is an investment account.
+     * @throws CardException        If the credit card does not exist.
      * @throws TransactionException If there are 0 recurring expenditure or index is out of range.
      */
-    public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException {
-        profile.profileEditRecurringExpenditure(accName, index, description, amount, category, ui, this.type);
+    public boolean execute(Profile profile, Ui ui) throws BankException, CardException, TransactionException {
+        profile.profileEditRecurringExpenditure(accName, index, description, amount, category, recurrenceRule, ui,
+                this.type);
         return this.isExit;
     }
 }
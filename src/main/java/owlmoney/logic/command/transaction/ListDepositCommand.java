@@ -3,6 +3,7 @@ package owlmoney.logic.command.transaction;
 import owlmoney.logic.command.Command;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.profile.Profile;
+import owlmoney.model.transaction.PageRequest;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
 
@@ -12,16 +13,25 @@ import owlmoney.ui.Ui;
 public class ListDepositCommand extends Command {
     private final String accName;
     private final int displayNum;
+    private final int pageNumber;
+    private final long cursor;
+    private final String sortKey;
 
     /**
      * Creates an instance of ListDepositCommand.
      *
      * @param name       Bank account name.
-     * @param displayNum Number of deposits to display.
+     * @param displayNum Number of deposits to display on each page.
+     * @param pageNumber The page of deposits to display, starting from 1.
+     * @param cursor     The cursor of a previous page to continue from, or 0 to start from the latest deposit.
+     * @param sortKey    The key to rank the deposits by, or an empty string to list the latest first.
      */
-    public ListDepositCommand(String name, int displayNum) {
+    public ListDepositCommand(String name, int displayNum, int pageNumber, long cursor, String sortKey) {
         this.accName = name;
         this.displayNum = displayNum;
+        this.pageNumber = pageNumber;
+        this.cursor = cursor;
+        this.sortKey = sortKey;
     }
 
     /**
@@ -34,7 +44,9 @@ public class ListDepositCommand extends Command {
      * @throws TransactionException If invalid transaction
      */
     public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException {
-        profile.profileListDeposit(accName, ui, displayNum);
+        PageRequest page = sortKey.isBlank() ? new PageRequest(displayNum, pageNumber, cursor)
+                : new PageRequest(displayNum, pageNumber, sortKey);
+        profile.profileListDeposit(accName, ui, page);
         return this.isExit;
     }
 }
@@ -4,6 +4,7 @@ import owlmoney.logic.command.Command;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.card.exception.CardException;
 import owlmoney.model.profile.Profile;
+import owlmoney.model.transaction.PageRequest;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
 
@@ -13,18 +14,28 @@ import owlmoney.ui.Ui;
 public class ListExpenditureCommand extends Command {
     private final String accName;
     private final int displayNum;
+    private final int pageNumber;
+    private final long cursor;
+    private final String sortKey;
     private final String type;
 
     /**
      * Creates an instance of ListExpenditureCommand.
      *
      * @param name       Bank account name.
-     * @param displayNum Number of expenditures to display.
+     * @param displayNum Number of expenditures to display on each page.
+     * @param pageNumber The page of expenditures to display, starting from 1.
+     * @param cursor     The cursor of a previous page to continue from, or 0 to start from the latest expenditure.
+     * @param sortKey    The key to rank the expenditures by, or an empty string to list the latest first.
      * @param type       Represents type of expenditure to be listed.
      */
-    public ListExpenditureCommand(String name, int displayNum, String type) {
+    public ListExpenditureCommand(String name, int displayNum, int pageNumber, long cursor, String sortKey,
+            String type) {
         this.accName = name;
         this.displayNum = displayNum;
+        this.pageNumber = pageNumber;
+        this.cursor = cursor;
+        this.sortKey = sortKey;
         this.type = type;
     }
 
@@ -39,7 +50,9 @@ public class ListExpenditureCommand extends Command {
      * @throws CardException        If the credit card name cannot be found.
      */
     public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException, CardException {
-        profile.profileListExpenditure(accName, ui, displayNum, this.type);
+        PageRequest page = sortKey.isBlank() ? new PageRequest(displayNum, pageNumber, cursor)
+                : new PageRequest(displayNum, pageNumber, sortKey);
+        profile.profileListExpenditure(accName, ui, page, this.type);
         return this.isExit;
     }
 }
@@ -2,6 +2,7 @@ package owlmoney.logic.command.transaction;
 
 import owlmoney.logic.command.Command;
 import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.card.exception.CardException;
 import owlmoney.model.profile.Profile;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
@@ -31,9 +32,10 @@ public class ListRecurringExpenditureCommand extends Command {
      * @param ui      Ui of OwlMoney.
      * @return false so OwlMoney will not terminate yet.
      * @throws BankException        If bank account does not exist or is an investment account.
+     * @throws CardException        If the credit card does not exist.
      * @throws TransactionException If there are no recurring expenditures.
      */
-    public boolean execute(Profile profile, Ui ui) throws BankException, TransactionException {
+    public boolean execute(Profile profile, Ui ui) throws BankException, CardException, TransactionException {
         profile.profileListRecurringExpenditure(accName, ui, this.type);
         return this.isExit;
     }
@@ -1,13 +1,20 @@
 package owlmoney.logic.parser;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 
+import owlmoney.logic.command.BeginCommand;
 import owlmoney.logic.command.Command;
+import owlmoney.logic.command.CommitCommand;
 import owlmoney.logic.command.ExitCommand;
+import owlmoney.logic.command.NetWorthCommand;
+import owlmoney.logic.command.RollbackCommand;
+import owlmoney.logic.command.UndoCommand;
 import owlmoney.logic.command.UpdateCommand;
 import owlmoney.logic.parser.exception.ParserException;
+import owlmoney.logic.parser.forecast.ParseForecast;
 
 /**
  * Represents the first instance of parsing user input.
@@ -15,12 +22,29 @@ import owlmoney.logic.parser.exception.ParserException;
  */
 public class ParseCommand extends Parser {
     private ParseType parseType = new ParseType();
-    private final Scanner scanner = new Scanner(System.in);
+    private final Scanner scanner;
     private static final String[] COMMAND_KEYWORDS = new String[] {
-        "/help", "/undo", "/add", "/edit", "/delete", "/list", "/find", "/transfer", "/exit", "/update"
+        "/help", "/undo", "/add", "/edit", "/delete", "/list", "/find", "/transfer", "/exit", "/update",
+        "/begin", "/commit", "/rollback", "/report", "/networth", "/forecast"
     };
     private static final List<String> COMMAND_KEYWORD_LISTS = Arrays.asList(COMMAND_KEYWORDS);
 
+    /**
+     * Creates an instance of ParseCommand that reads user input from the standard input.
+     */
+    public ParseCommand() {
+        this(System.in);
+    }
+
+    /**
+     * Creates an instance of ParseCommand that reads commands from the specified input stream.
+     *
+     * @param input The stream to read commands from, such as a script file.
+     */
+    public ParseCommand(InputStream input) {
+        this.scanner = new Scanner(input);
+    }
+
     /**
      * Checks if there are any more user input if using I/O redirection.
      *
@@ -81,6 +105,8 @@ public class ParseCommand extends Parser {
             // Fallthrough
         case "/find":
             // Fallthrough
+        case "/report":
+            // Fallthrough
         case "/list":
             return parseType.parseData(command, data);
         case "/exit":
@@ -93,6 +119,36 @@ public class ParseCommand extends Parser {
                 throw new ParserException("/update cannot have trailing arguments");
             }
             return new UpdateCommand();
+        case "/begin":
+            if (!data.isBlank()) {
+                throw new ParserException("/begin cannot have trailing arguments");
+            }
+            return new BeginCommand();
+        case "/commit":
+            if (!data.isBlank()) {
+                throw new ParserException("/commit cannot have trailing arguments");
+            }
+            return new CommitCommand();
+        case "/rollback":
+            if (!data.isBlank()) {
+                throw new ParserException("/rollback cannot have trailing arguments");
+            }
+            return new RollbackCommand();
+        case "/undo":
+            if (!data.isBlank()) {
+                throw new ParserException("/undo cannot have trailing arguments");
+            }
+            return new UndoCommand();
+        case "/networth":
+            if (!data.isBlank()) {
+                throw new ParserException("/networth cannot have trailing arguments");
+            }
+            return new NetWorthCommand();
+        case "/forecast":
+            ParseForecast forecast = new ParseForecast(data);
+            forecast.fillHashTable();
+            forecast.checkParameter();
+            return forecast.getCommand();
         default:
             throw new ParserException("You entered an invalid command");
         }
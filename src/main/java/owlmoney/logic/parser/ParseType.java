@@ -6,6 +6,7 @@ import java.util.List;
 import owlmoney.logic.command.Command;
 import owlmoney.logic.command.bank.ListInvestmentCommand;
 import owlmoney.logic.command.bank.ListSavingsCommand;
+import owlmoney.logic.command.budget.ListBudgetCommand;
 import owlmoney.logic.command.goals.ListGoalsCommand;
 import owlmoney.logic.parser.cardbill.ParseAddCardBill;
 import owlmoney.logic.parser.cardbill.ParseCardBill;
@@ -17,10 +18,15 @@ import owlmoney.logic.parser.bond.ParseBond;
 import owlmoney.logic.parser.bond.ParseDeleteBond;
 import owlmoney.logic.parser.bond.ParseEditBond;
 import owlmoney.logic.parser.bond.ParseListBond;
+import owlmoney.logic.parser.budget.ParseAddBudget;
+import owlmoney.logic.parser.budget.ParseBudget;
+import owlmoney.logic.parser.budget.ParseDeleteBudget;
 import owlmoney.logic.parser.card.ParseAddCard;
 import owlmoney.logic.parser.card.ParseCard;
 import owlmoney.logic.parser.card.ParseDeleteCard;
 import owlmoney.logic.parser.card.ParseEditCard;
+import owlmoney.logic.parser.find.ParseDeleteMatchingTransaction;
+import owlmoney.logic.parser.find.ParseEditMatchingTransaction;
 import owlmoney.logic.parser.find.ParseFindBankOrCard;
 import owlmoney.logic.parser.find.ParseFindBond;
 import owlmoney.logic.parser.find.ParseFindTransaction;
@@ -33,6 +39,7 @@ import owlmoney.logic.parser.investment.ParseDeleteInvestment;
 import owlmoney.logic.parser.investment.ParseEditInvestment;
 import owlmoney.logic.parser.investment.ParseInvestment;
 import owlmoney.logic.parser.profile.ParseEditProfile;
+import owlmoney.logic.parser.report.ParseReport;
 import owlmoney.logic.parser.saving.ParseAddSaving;
 import owlmoney.logic.parser.saving.ParseDeleteSaving;
 import owlmoney.logic.parser.saving.ParseEditSaving;
@@ -65,11 +72,13 @@ class ParseType extends Parser {
      */
     private static final String[] TYPE_KEYWORDS = new String[] {
         "/savings", "/investment", "/cardexpenditure", "/bankexpenditure", "/goals", "/card",
-        "/recurbankexp", "/bonds", "/profile", "/deposit", "/fund", "/banktransaction", "/cardtransaction", "/cardbill"
+        "/recurbankexp", "/bonds", "/profile", "/deposit", "/fund", "/banktransaction", "/cardtransaction", "/cardbill",
+        "/alltransaction", "/budget", "/recurcardexp"
     };
     private static final List<String> TYPE_KEYWORD_LISTS = Arrays.asList(TYPE_KEYWORDS);
     private static final String BANK = "bank";
     private static final String CARD = "card";
+    private static final String ALL = "all";
     private static final String SAVING = "saving";
     private static final String INVESTMENT = "investment";
     private static final String BOND = "bonds";
@@ -324,6 +333,21 @@ class ParseType extends Parser {
                 return new ListGoalsCommand();
             }
             throw new ParserException("You entered an invalid type for goals");
+        case "/budget":
+            if ("/add".equals(command)) {
+                ParseBudget addBudget = new ParseAddBudget(rawData);
+                addBudget.fillHashTable();
+                addBudget.checkParameter();
+                return addBudget.getCommand();
+            } else if ("/delete".equals(command)) {
+                ParseBudget deleteBudget = new ParseDeleteBudget(rawData);
+                deleteBudget.fillHashTable();
+                deleteBudget.checkParameter();
+                return deleteBudget.getCommand();
+            } else if ("/list".equals(command)) {
+                return new ListBudgetCommand();
+            }
+            throw new ParserException("You entered an invalid type for budget");
         case "/recurbankexp":
             if ("/add".equals(command)) {
                 ParseRecurringExpenditure addRecurringExpenditure = new ParseAddRecurringExpenditure(rawData, BANK);
@@ -348,6 +372,30 @@ class ParseType extends Parser {
                 return listRecurringExpenditure.getCommand();
             }
             throw new ParserException("You entered an invalid type for recurbankexp");
+        case "/recurcardexp":
+            if ("/add".equals(command)) {
+                ParseRecurringExpenditure addRecurringExpenditure = new ParseAddRecurringExpenditure(rawData, CARD);
+                addRecurringExpenditure.fillHashTable();
+                addRecurringExpenditure.checkParameter();
+                return addRecurringExpenditure.getCommand();
+            } else if ("/delete".equals(command)) {
+                ParseDeleteRecurringExpenditure
+                        deleteRecurringExpenditure = new ParseDeleteRecurringExpenditure(rawData, CARD);
+                deleteRecurringExpenditure.fillHashTable();
+                deleteRecurringExpenditure.checkParameter();
+                return deleteRecurringExpenditure.getCommand();
+            } else if ("/edit".equals(command)) {
+                ParseRecurringExpenditure editRecurringExpenditure = new ParseEditRecurringExpenditure(rawData, CARD);
+                editRecurringExpenditure.fillHashTable();
+                editRecurringExpenditure.checkParameter();
+                return editRecurringExpenditure.getCommand();
+            } else if ("/list".equals(command)) {
+                ParseRecurringExpenditure listRecurringExpenditure = new ParseListRecurringExpenditure(rawData, CARD);
+                listRecurringExpenditure.fillHashTable();
+                listRecurringExpenditure.checkParameter();
+                return listRecurringExpenditure.getCommand();
+            }
+            throw new ParserException("You entered an invalid type for recurcardexp");
         case "/fund":
             if ("/transfer".equals(command)) {
                 ParseTransfer parseTransfer = new ParseTransfer(rawData);
@@ -362,6 +410,22 @@ class ParseType extends Parser {
                 parseFindBankTransaction.fillHashTable();
                 parseFindBankTransaction.checkParameter();
                 return parseFindBankTransaction.getCommand();
+            } else if ("/report".equals(command)) {
+                ParseReport parseBankReport = new ParseReport(rawData, BANK);
+                parseBankReport.fillHashTable();
+                parseBankReport.checkParameter();
+                return parseBankReport.getCommand();
+            } else if ("/edit".equals(command)) {
+                ParseEditMatchingTransaction parseEditBankTransaction = new ParseEditMatchingTransaction(rawData, BANK);
+                parseEditBankTransaction.fillHashTable();
+                parseEditBankTransaction.checkParameter();
+                return parseEditBankTransaction.getCommand();
+            } else if ("/delete".equals(command)) {
+                ParseDeleteMatchingTransaction parseDeleteBankTransaction =
+                        new ParseDeleteMatchingTransaction(rawData, BANK);
+                parseDeleteBankTransaction.fillHashTable();
+                parseDeleteBankTransaction.checkParameter();
+                return parseDeleteBankTransaction.getCommand();
             }
             throw new ParserException("You entered an invalid type for banktransaction");
         case "/cardtransaction":
@@ -370,8 +434,32 @@ class ParseType extends Parser {
                 parseFindCardTransaction.fillHashTable();
                 parseFindCardTransaction.checkParameter();
                 return parseFindCardTransaction.getCommand();
+            } else if ("/report".equals(command)) {
+                ParseReport parseCardReport = new ParseReport(rawData, CARD);
+                parseCardReport.fillHashTable();
+                parseCardReport.checkParameter();
+                return parseCardReport.getCommand();
+            } else if ("/edit".equals(command)) {
+                ParseEditMatchingTransaction parseEditCardTransaction = new ParseEditMatchingTransaction(rawData, CARD);
+                parseEditCardTransaction.fillHashTable();
+                parseEditCardTransaction.checkParameter();
+                return parseEditCardTransaction.getCommand();
+            } else if ("/delete".equals(command)) {
+                ParseDeleteMatchingTransaction parseDeleteCardTransaction =
+                        new ParseDeleteMatchingTransaction(rawData, CARD);
+                parseDeleteCardTransaction.fillHashTable();
+                parseDeleteCardTransaction.checkParameter();
+                return parseDeleteCardTransaction.getCommand();
             }
             throw new ParserException("You entered an invalid type for cardtransaction");
+        case "/alltransaction":
+            if ("/find".equals(command)) {
+                ParseFindTransaction parseFindAllTransaction = new ParseFindTransaction(rawData, ALL);
+                parseFindAllTransaction.fillHashTable();
+                parseFindAllTransaction.checkParameter();
+                return parseFindAllTransaction.getCommand();
+            }
+            throw new ParserException("You entered an invalid type for alltransaction");
         case "/cardbill":
             if ("/add".equals(command)) {
                 ParseCardBill parseAddCardBill = new ParseAddCardBill(rawData);
@@ -1,5 +1,8 @@
 package owlmoney.logic.parser;
 
+import java.util.Arrays;
+import java.util.List;
+
 import owlmoney.logic.parser.exception.ParserException;
 
 /**
@@ -8,6 +11,10 @@ import owlmoney.logic.parser.exception.ParserException;
 abstract class Parser {
 
     private static final int SPACE_LENGTH = 1;
+    private static final String[] NO_ARGUMENT_COMMANDS = new String[] {
+        "/exit", "/update", "/begin", "/commit", "/rollback", "/undo", "/networth"
+    };
+    private static final List<String> NO_ARGUMENT_COMMAND_LISTS = Arrays.asList(NO_ARGUMENT_COMMANDS);
 
     /**
      * Extracts the first field of the string based on the first space detected.
@@ -29,7 +36,7 @@ abstract class Parser {
      * @throws ParserException if the command is not entered to specific requirements.
      */
     String removeFirstField(String input, String firstField) throws ParserException {
-        if ("/exit".equals(firstField) || "/update".equals(firstField)) {
+        if (NO_ARGUMENT_COMMAND_LISTS.contains(firstField)) {
             return input.substring(firstField.length());
         } else if (firstField.length() + SPACE_LENGTH < input.length()) {
             return input.substring(firstField.length() + SPACE_LENGTH);
@@ -50,7 +57,8 @@ abstract class Parser {
     String removeListFirstField(String input, String firstField) throws ParserException {
 
         if ("/savings".equals(firstField) || "/card".equals(firstField)
-                || "/investment".equals(firstField) || "/goals".equals(firstField)) {
+                || "/investment".equals(firstField) || "/goals".equals(firstField)
+                || "/budget".equals(firstField)) {
             if (input.equals(firstField)) {
                 return "";
             } else {
@@ -0,0 +1,64 @@
+package owlmoney.logic.parser.budget;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import owlmoney.logic.command.Command;
+import owlmoney.logic.command.budget.AddBudgetCommand;
+import owlmoney.logic.parser.exception.ParserException;
+
+/**
+ * Represents the parsing of inputs for adding a budget.
+ */
+public class ParseAddBudget extends ParseBudget {
+    private List<String> accounts = new ArrayList<>();
+
+    /**
+     * Creates an instance of ParseAddBudget.
+     *
+     * @param data Raw user input date.
+     * @throws ParserException If the first parameter is invalid.
+     */
+    public ParseAddBudget(String data) throws ParserException {
+        super(data);
+        checkFirstParameter();
+    }
+
+    /**
+     * Checks each user input for each parameter.
+     *
+     * @throws ParserException If there are any invalid or missing inputs.
+     */
+    @Override
+    public void checkParameter() throws ParserException {
+        Iterator<String> budgetIterator = budgetParameters.keySet().iterator();
+        while (budgetIterator.hasNext()) {
+            String key = budgetIterator.next();
+            String value = budgetParameters.get(key);
+            if (!FROM.equals(key) && (value.isBlank() || value.isEmpty())) {
+                throw new ParserException(key + " cannot be empty when adding a budget");
+            }
+            if (CATEGORY.equals(key)) {
+                checkCategory(value);
+            }
+            if (AMOUNT.equals(key)) {
+                checkAmount(value);
+            }
+            if (FROM.equals(key) && !(value.isBlank() || value.isEmpty())) {
+                accounts = checkAccounts(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the command to execute the adding of a budget.
+     *
+     * @return AddBudgetCommand to be executed.
+     */
+    @Override
+    public Command getCommand() {
+        return new AddBudgetCommand(budgetParameters.get(CATEGORY), Double.parseDouble(budgetParameters.get(AMOUNT)),
+                accounts);
+    }
+}
@@ -0,0 +1,134 @@
+package owlmoney.logic.parser.budget;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import owlmoney.logic.command.Command;
+import owlmoney.logic.parser.ParseRawData;
+import owlmoney.logic.parser.exception.ParserException;
+import owlmoney.logic.regex.RegexUtil;
+
+/**
+ * Abstracts common Budget methods and functions where the child parsers will inherit from.
+ */
+public abstract class ParseBudget {
+    HashMap<String, String> budgetParameters = new HashMap<>();
+    private ParseRawData parseRawData = new ParseRawData();
+    private String rawData;
+    private static final String[] BUDGET_KEYWORD = new String[] {"/category", "/amount", "/from"};
+    private static final List<String> BUDGET_KEYWORD_LISTS = Arrays.asList(BUDGET_KEYWORD);
+    private static final String ACCOUNT_SEPARATOR = ",";
+    static final String CATEGORY = "/category";
+    static final String AMOUNT = "/amount";
+    static final String FROM = "/from";
+
+    /**
+     * Creates an instance of any ParseBudget type object.
+     *
+     * @param data Raw user input data.
+     */
+    ParseBudget(String data) {
+        this.rawData = data;
+    }
+
+    /**
+     * Checks the user input for any redundant parameters.
+     *
+     * @param parameter Redundant parameter to check for,
+     * @param command   Command the user performed.
+     * @throws ParserException If a redundant parameter is detected.
+     */
+    void checkRedundantParameter(String parameter, String command) throws ParserException {
+        if (rawData.contains(parameter)) {
+            throw new ParserException(command + " /budget should not contain " + parameter);
+        }
+    }
+
+    /**
+     * Checks if the first parameter is a valid parameter.
+     *
+     * @throws ParserException If the first parameter is invalid.
+     */
+    void checkFirstParameter() throws ParserException {
+        String[] rawDataSplit = rawData.split(" ", 2);
+        if (!BUDGET_KEYWORD_LISTS.contains(rawDataSplit[0])) {
+            throw new ParserException("Incorrect parameter: " + rawDataSplit[0]);
+        }
+    }
+
+    /**
+     * Fills a hash table mapping each user input to each parameter.
+     *
+     * @throws ParserException If duplicate parameters are detected.
+     */
+    public void fillHashTable() throws ParserException {
+        budgetParameters.put(CATEGORY,
+                parseRawData.extractParameter(rawData, CATEGORY, BUDGET_KEYWORD));
+        budgetParameters.put(AMOUNT,
+                parseRawData.extractParameter(rawData, AMOUNT, BUDGET_KEYWORD));
+        budgetParameters.put(FROM,
+                parseRawData.extractParameter(rawData, FROM, BUDGET_KEYWORD));
+    }
+
+    /**
+     * Checks if the category entered by the user does not have special characters and is not too long.
+     *
+     * @param categoryString The category of the budget.
+     * @throws ParserException If the string has special characters or is too long.
+     */
+    void checkCategory(String categoryString) throws ParserException {
+        if (!RegexUtil.regexCheckCategory(categoryString)) {
+            throw new ParserException("/category can only contains letters and at most 15 characters");
+        }
+    }
+
+    /**
+     * Checks if the amount entered by the user is a positive amount with at most 2 decimal places.
+     *
+     * @param valueString String to be converted to double as the monthly amount.
+     * @throws ParserException If the string is not a positive amount.
+     */
+    void checkAmount(String valueString) throws ParserException {
+        if (!RegexUtil.regexCheckMoney(valueString)) {
+            throw new ParserException("/amount can only be a positive number with at most 9 digits"
+                    + " and 2 decimal places");
+        }
+    }
+
+    /**
+     * Splits the bank accounts and cards entered by the user and checks each name.
+     *
+     * @param accountsString The names of the accounts separated by commas.
+     * @return The names of the accounts.
+     * @throws ParserException If any name is too long or contains special characters.
+     */
+    List<String> checkAccounts(String accountsString) throws ParserException {
+        ArrayList<String> accounts = new ArrayList<>();
+        for (String accountName : accountsString.split(ACCOUNT_SEPARATOR)) {
+            if (!RegexUtil.regexCheckName(accountName.trim())) {
+                throw new ParserException(FROM + " can only be alphanumeric account names of at most 30 characters"
+                        + " separated by commas");
+            }
+            if (!accounts.contains(accountName.trim())) {
+                accounts.add(accountName.trim());
+            }
+        }
+        return accounts;
+    }
+
+    /**
+     * Checks the parameters entered by the user.
+     *
+     * @throws ParserException If any parameters fail the check.
+     */
+    public abstract void checkParameter() throws ParserException;
+
+    /**
+     * Gets the relevant command to be executed.
+     *
+     * @return Command to be executed.
+     */
+    public abstract Command getCommand();
+}
@@ -0,0 +1,56 @@
+package owlmoney.logic.parser.budget;
+
+import java.util.Iterator;
+
+import owlmoney.logic.command.Command;
+import owlmoney.logic.command.budget.DeleteBudgetCommand;
+import owlmoney.logic.parser.exception.ParserException;
+
+/**
+ * Represents the parsing of inputs for deleting a budget.
+ */
+public class ParseDeleteBudget extends ParseBudget {
+    private static final String DELETE = "/delete";
+
+    /**
+     * Creates an instance of ParseDeleteBudget.
+     *
+     * @param data Raw user input date.
+     * @throws ParserException If redundant parameter is provided or first parameter is invalid.
+     */
+    public ParseDeleteBudget(String data) throws ParserException {
+        super(data);
+        checkRedundantParameter(AMOUNT, DELETE);
+        checkRedundantParameter(FROM, DELETE);
+        checkFirstParameter();
+    }
+
+    /**
+     * Checks each user input for each parameter.
+     *
+     * @throws ParserException If there are any invalid or missing inputs.
+     */
+    @Override
+    public void checkParameter() throws ParserException {
+        Iterator<String> budgetIterator = budgetParameters.keySet().iterator();
+        while (budgetIterator.hasNext()) {
+            String key = budgetIterator.next();
+            String value = budgetParameters.get(key);
+            if (CATEGORY.equals(key) && (value.isBlank() || value.isEmpty())) {
+                throw new ParserException(key + " cannot be empty when deleting a budget");
+            } else if (CATEGORY.equals(key)) {
+                checkCategory(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the command to execute the deleting of a budget.
+     *
+     * @return DeleteBudgetCommand to be executed.
+     */
+    @Override
+    public Command getCommand() {
+        return new DeleteBudgetCommand(budgetParameters.get(CATEGORY));
+    }
+}
@@ -0,0 +1,52 @@
+package owlmoney.logic.parser.find;
+
+import owlmoney.logic.command.Command;
+import owlmoney.logic.command.transaction.DeleteMatchingTransactionCommand;
+import owlmoney.logic.parser.exception.ParserException;
+
+/**
+ * Represents the parsing of inputs for deleting every transaction that matches the find keywords.
+ */
+public class ParseDeleteMatchingTransaction extends ParseFind {
+    private static final String DELETETRANSACTION = "/delete /banktransaction or /delete /cardtransaction";
+
+    /**
+     * Creates an instance of ParseDeleteMatchingTransaction.
+     *
+     * @param data Raw user input data.
+     * @param type Represents the type of account to delete from.
+     * @throws ParserException If there are redundant parameters or first parameter is invalid.
+     */
+    public ParseDeleteMatchingTransaction(String data, String type) throws ParserException {
+        super(data, type);
+        checkRedundantParameter(NUM, DELETETRANSACTION);
+        checkRedundantParameter(PAGE, DELETETRANSACTION);
+        checkRedundantParameter(CURSOR, DELETETRANSACTION);
+        checkRedundantParameter(NEW_DESCRIPTION, DELETETRANSACTION);
+        checkRedundantParameter(NEW_CATEGORY, DELETETRANSACTION);
+        checkFirstParameter();
+    }
+
+    /**
+     * Checks each user input for each parameter.
+     *
+     * @throws ParserException If there are missing or invalid parameters.
+     */
+    public void checkParameter() throws ParserException {
+        int matchCounter = checkTransactionFilters("deleting matching transactions");
+        if (matchCounter == 0) {
+            throw new ParserException("Deleting of matching transactions should have at least 1 of "
+                    + "/desc, /category or /from and /to which is not empty.");
+        }
+    }
+
+    /**
+     * Returns the command to delete every matching transaction.
+     *
+     * @return Returns DeleteMatchingTransactionCommand to be executed.
+     */
+    public Command getCommand() {
+        return new DeleteMatchingTransactionCommand(findParameters.get(NAME), findParameters.get(FROM),
+                findParameters.get(TO), findParameters.get(DESCRIPTION), findParameters.get(CATEGORY), this.type);
+    }
+}
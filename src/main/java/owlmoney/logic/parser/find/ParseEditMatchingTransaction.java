@@ -0,0 +1,66 @@
+package owlmoney.logic.parser.find;
+
+import owlmoney.logic.command.Command;
+import owlmoney.logic.command.transaction.EditMatchingTransactionCommand;
+import owlmoney.logic.parser.exception.ParserException;
+import owlmoney.logic.regex.RegexUtil;
+
+/**
+ * Represents the parsing of inputs for editing every transaction that matches the find keywords.
+ */
+public class ParseEditMatchingTransaction extends ParseFind {
+    private static final String EDITTRANSACTION = "/edit /banktransaction or /edit /cardtransaction";
+
+    /**
+     * Creates an instance of ParseEditMatchingTransaction.
+     *
+     * @param data Raw user input data.
+     * @param type Represents the type of account to edit in.
+     * @throws ParserException If there are redundant parameters or first parameter is invalid.
+     */
+    public ParseEditMatchingTransaction(String data, String type) throws ParserException {
+        super(data, type);
+        checkRedundantParameter(NUM, EDITTRANSACTION);
+        checkRedundantParameter(PAGE, EDITTRANSACTION);
+        checkRedundantParameter(CURSOR, EDITTRANSACTION);
+        checkFirstParameter();
+    }
+
+    /**
+     * Checks each user input for each parameter.
+     *
+     * @throws ParserException If there are missing or invalid parameters.
+     */
+    public void checkParameter() throws ParserException {
+        int matchCounter = checkTransactionFilters("editing matching transactions");
+        if (matchCounter == 0) {
+            throw new ParserException("Editing of matching transactions should have at least 1 of "
+                    + "/desc, /category or /from and /to which is not empty.");
+        }
+        String newDescription = findParameters.get(NEW_DESCRIPTION);
+        String newCategory = findParameters.get(NEW_CATEGORY);
+        boolean isNewDescriptionGiven = !(newDescription.isBlank() || newDescription.isEmpty());
+        boolean isNewCategoryGiven = !(newCategory.isBlank() || newCategory.isEmpty());
+        if (!isNewDescriptionGiven && !isNewCategoryGiven) {
+            throw new ParserException("Editing of matching transactions should have at least 1 of "
+                    + "/newdesc or /newcategory which is not empty.");
+        }
+        if (isNewDescriptionGiven && !RegexUtil.regexCheckDescription(newDescription)) {
+            throw new ParserException("/newdesc can only contain numbers and letters and at most 50 characters");
+        }
+        if (isNewCategoryGiven && !RegexUtil.regexCheckCategory(newCategory)) {
+            throw new ParserException("/newcategory can only contains letters and at most 15 characters");
+        }
+    }
+
+    /**
+     * Returns the command to edit every matching transaction.
+     *
+     * @return Returns EditMatchingTransactionCommand to be executed.
+     */
+    public Command getCommand() {
+        return new EditMatchingTransactionCommand(findParameters.get(NAME), findParameters.get(FROM),
+                findParameters.get(TO), findParameters.get(DESCRIPTION), findParameters.get(CATEGORY),
+                findParameters.get(NEW_DESCRIPTION), findParameters.get(NEW_CATEGORY), this.type);
+    }
+}
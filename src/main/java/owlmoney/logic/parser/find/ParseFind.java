@@ -6,6 +6,7 @@ import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 
 import owlmoney.logic.command.Command;
@@ -22,7 +23,7 @@ public abstract class ParseFind {
     private String rawData;
     String type;
     private static final String[] FIND_KEYWORD = new String[] {
-        "/name", "/desc", "/category", "/from", "/to"
+        "/name", "/desc", "/category", "/from", "/to", "/num", "/page", "/cursor", "/newdesc", "/newcategory"
     };
     private static final List<String> FIND_KEYWORD_LISTS = Arrays.asList(FIND_KEYWORD);
     static final String NAME = "/name";
@@ -30,6 +31,12 @@ public abstract class ParseFind {
     static final String CATEGORY = "/category";
     static final String FROM = "/from";
     static final String TO = "/to";
+    static final String NUM = "/num";
+    static final String PAGE = "/page";
+    static final String CURSOR = "/cursor";
+    static final String NEW_DESCRIPTION = "/newdesc";
+    static final String NEW_CATEGORY = "/newcategory";
+    static final String ALL = "all";
 
     /**
      * Creates an instance of any ParseFind object.
@@ -83,6 +90,16 @@ public abstract class ParseFind {
                 parseRawData.extractParameter(rawData, TO, FIND_KEYWORD));
         findParameters.put(NAME,
                 parseRawData.extractParameter(rawData, NAME, FIND_KEYWORD));
+        findParameters.put(NUM,
+                parseRawData.extractParameter(rawData, NUM, FIND_KEYWORD));
+        findParameters.put(PAGE,
+                parseRawData.extractParameter(rawData, PAGE, FIND_KEYWORD));
+        findParameters.put(CURSOR,
+                parseRawData.extractParameter(rawData, CURSOR, FIND_KEYWORD));
+        findParameters.put(NEW_DESCRIPTION,
+                parseRawData.extractParameter(rawData, NEW_DESCRIPTION, FIND_KEYWORD));
+        findParameters.put(NEW_CATEGORY,
+                parseRawData.extractParameter(rawData, NEW_CATEGORY, FIND_KEYWORD));
     }
 
     /**
@@ -123,6 +140,19 @@ public abstract class ParseFind {
         }
     }
 
+    /**
+     * Checks if the page size, page number or cursor entered by the user is an integer.
+     *
+     * @param variable    The parameter being checked.
+     * @param valueString String to be converted to integer.
+     * @throws ParserException If the string is not an integer.
+     */
+    void checkInt(String variable, String valueString) throws ParserException {
+        if (!RegexUtil.regexCheckListNumber(valueString)) {
+            throw new ParserException(variable + " can only be a positive number with at most 9 digits");
+        }
+    }
+
     /**
      * Checks if the date is of valid format and not after now.
      *
@@ -149,6 +179,70 @@ public abstract class ParseFind {
         throw new ParserException("Incorrect date format." + " Date format is dd/mm/yyyy in year range of 1900-2099");
     }
 
+    /**
+     * Checks the name, description, category and date range that transactions are matched against.
+     *
+     * @param action What the transactions are matched for, such as "finding transaction".
+     * @return the number of criteria given to match against.
+     * @throws ParserException If there are missing or invalid parameters.
+     */
+    int checkTransactionFilters(String action) throws ParserException {
+        Iterator<String> findIterator = findParameters.keySet().iterator();
+        boolean isFromExist = false;
+        boolean isToExist = false;
+        int findCounter = 0;
+        Date fromDate = new Date();
+        Date toDate = new Date();
+        while (findIterator.hasNext()) {
+            String key = findIterator.next();
+            String value = findParameters.get(key);
+            if (FROM.equals(key) && !(value.isBlank() || value.isEmpty())) {
+                fromDate = checkDate(value);
+                isFromExist = true;
+                findCounter++;
+            }
+            if (TO.equals(key) && !(value.isBlank() || value.isEmpty())) {
+                toDate = checkDate(value);
+                isToExist = true;
+                findCounter++;
+            }
+            if (DESCRIPTION.equals(key) && !(value.isBlank() || value.isEmpty())) {
+                checkDescription(value);
+                findCounter++;
+            }
+            if (CATEGORY.equals(key) && !(value.isBlank() || value.isEmpty())) {
+                checkCategory(value);
+                findCounter++;
+            }
+            if (NAME.equals(key) && ALL.equals(type)) {
+                continue;
+            } else if (NAME.equals(key) && (value.isBlank() || value.isEmpty())) {
+                throw new ParserException(key + " cannot be empty when " + action);
+            } else if (NAME.equals(key)) {
+                checkName(value);
+            }
+        }
+        if ((isFromExist && !isToExist) || (isToExist && !isFromExist)) {
+            throw new ParserException("/from and /to both must exist to be a valid command.");
+        } else if (isFromExist && isToExist) {
+            checkDateRange(fromDate, toDate);
+        }
+        return findCounter;
+    }
+
+    /**
+     * Checks the to date is not before the from date.
+     *
+     * @param fromDate The date to match from.
+     * @param toDate   The date to match until.
+     * @throws ParserException If the to date is before the from date.
+     */
+    private void checkDateRange(Date fromDate, Date toDate) throws ParserException {
+        if (toDate.before(fromDate)) {
+            throw new ParserException("/to date cannot be before /from date.");
+        }
+    }
+
     /**
      * Abstract method where each child parser for ParseFind performs different checks on the parameters.
      *
@@ -25,6 +25,11 @@ public class ParseFindBankOrCard extends ParseFind {
         checkRedundantParameter(CATEGORY, FINDBANKORCARD);
         checkRedundantParameter(FROM, FINDBANKORCARD);
         checkRedundantParameter(TO, FINDBANKORCARD);
+        checkRedundantParameter(NUM, FINDBANKORCARD);
+        checkRedundantParameter(PAGE, FINDBANKORCARD);
+        checkRedundantParameter(CURSOR, FINDBANKORCARD);
+        checkRedundantParameter(NEW_DESCRIPTION, FINDBANKORCARD);
+        checkRedundantParameter(NEW_CATEGORY, FINDBANKORCARD);
         checkFirstParameter();
     }
 
@@ -39,8 +44,7 @@ public class ParseFindBankOrCard extends ParseFind {
         while (findIterator.hasNext()) {
             String key = findIterator.next();
             String value = findParameters.get(key);
-            if (!DESCRIPTION.equals(key) && !CATEGORY.equals(key) && !FROM.equals(key) && !TO.equals(key)
-                    && (value.isBlank() || value.isEmpty())) {
+            if (NAME.equals(key) && (value.isBlank() || value.isEmpty())) {
                 throw new ParserException(key + " cannot be empty when doing a search");
             }
             if (NAME.equals(key)) {
@@ -24,6 +24,11 @@ public class ParseFindBond extends ParseFind {
         checkRedundantParameter(DESCRIPTION, FINDBOND);
         checkRedundantParameter(CATEGORY, FINDBOND);
         checkRedundantParameter(TO, FINDBOND);
+        checkRedundantParameter(NUM, FINDBOND);
+        checkRedundantParameter(PAGE, FINDBOND);
+        checkRedundantParameter(CURSOR, FINDBOND);
+        checkRedundantParameter(NEW_DESCRIPTION, FINDBOND);
+        checkRedundantParameter(NEW_CATEGORY, FINDBOND);
         checkFirstParameter();
     }
 
@@ -38,8 +43,7 @@ public class ParseFindBond extends ParseFind {
         while (findIterator.hasNext()) {
             String key = findIterator.next();
             String value = findParameters.get(key);
-            if (!DESCRIPTION.equals(key) && !CATEGORY.equals(key) && !TO.equals(key)
-                    && (value.isBlank() || value.isEmpty())) {
+            if ((NAME.equals(key) || FROM.equals(key)) && (value.isBlank() || value.isEmpty())) {
                 throw new ParserException(key + " cannot be empty when doing a search");
             }
             if (FROM.equals(key)) {
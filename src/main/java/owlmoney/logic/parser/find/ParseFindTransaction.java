@@ -1,8 +1,5 @@
 package owlmoney.logic.parser.find;
 
-import java.util.Date;
-import java.util.Iterator;
-
 import owlmoney.logic.command.Command;
 import owlmoney.logic.command.find.FindTransactionCommand;
 import owlmoney.logic.parser.exception.ParserException;
@@ -11,6 +8,12 @@ import owlmoney.logic.parser.exception.ParserException;
  * Represents the parsing of inputs for finding of transactions.
  */
 public class ParseFindTransaction extends ParseFind {
+    private static final String DEFAULT_PAGE_SIZE = "30";
+    private static final String EVERY_MATCH = String.valueOf(Integer.MAX_VALUE);
+    private static final String FIRST_PAGE = "1";
+    private static final String NO_CURSOR = "0";
+    private static final String FINDTRANSACTION = "/find";
+    private static final String FINDALLTRANSACTION = "/find /alltransaction";
 
     /**
      * Creates an instance of ParseFindTransaction.
@@ -22,6 +25,14 @@ public class ParseFindTransaction extends ParseFind {
     public ParseFindTransaction(String data, String type) throws ParserException {
         super(data, type);
         checkFirstParameter();
+        checkRedundantParameter(NEW_DESCRIPTION, FINDTRANSACTION);
+        checkRedundantParameter(NEW_CATEGORY, FINDTRANSACTION);
+        if (ALL.equals(type)) {
+            checkRedundantParameter(NAME, FINDALLTRANSACTION);
+            checkRedundantParameter(NUM, FINDALLTRANSACTION);
+            checkRedundantParameter(PAGE, FINDALLTRANSACTION);
+            checkRedundantParameter(CURSOR, FINDALLTRANSACTION);
+        }
     }
 
     /**
@@ -30,44 +41,14 @@ public class ParseFindTransaction extends ParseFind {
      * @throws ParserException If there are missing or invalid parameters.
      */
     public void checkParameter() throws ParserException {
-        Iterator<String> findIterator = findParameters.keySet().iterator();
-        boolean isFromExist = false;
-        boolean isToExist = false;
-        int findCounter = 0;
-        Date fromDate = new Date();
-        Date toDate = new Date();
-        while (findIterator.hasNext()) {
-            String key = findIterator.next();
+        int findCounter = checkTransactionFilters("finding transaction");
+        for (String key : new String[] {NUM, PAGE, CURSOR}) {
             String value = findParameters.get(key);
-            if (FROM.equals(key) && !(value.isBlank() || value.isEmpty())) {
-                fromDate = checkDate(value);
-                isFromExist = true;
-                findCounter++;
-            }
-            if (TO.equals(key) && !(value.isBlank() || value.isEmpty())) {
-                toDate = checkDate(value);
-                isToExist = true;
-                findCounter++;
-            }
-            if (DESCRIPTION.equals(key) && !(value.isBlank() || value.isEmpty())) {
-                checkDescription(value);
-                findCounter++;
-            }
-            if (CATEGORY.equals(key) && !(value.isBlank() || value.isEmpty())) {
-                checkCategory(value);
-                findCounter++;
-            }
-            if (NAME.equals(key) && (value.isBlank() || value.isEmpty())) {
-                throw new ParserException(key + " cannot be empty when finding transaction");
-            } else if (NAME.equals(key)) {
-                checkName(value);
+            if (!(value.isBlank() || value.isEmpty())) {
+                checkInt(key, value);
             }
         }
-        if ((isFromExist && !isToExist) || (isToExist && !isFromExist)) {
-            throw new ParserException("/from and /to both must exist to be a valid command.");
-        } else if (isFromExist && isToExist) {
-            checkDateRange(fromDate, toDate);
-        }
+        fillPageParameters();
         if (findCounter == 0) {
             throw new ParserException("Finding of transaction should have at least 1 parameter "
                     + "which is not empty for find.");
@@ -75,13 +56,22 @@ public class ParseFindTransaction extends ParseFind {
     }
 
     /**
-     * Checks the to date is not before the from date.
-     *
-     * @throws ParserException If the to date is before the from date.
+     * Fills in the page parameters that were not given, listing every match unless paging was asked for.
      */
-    private void checkDateRange(Date fromDate, Date toDate) throws ParserException {
-        if (toDate.before(fromDate)) {
-            throw new ParserException("/to date cannot be before /from date.");
+    private void fillPageParameters() {
+        boolean isPaged = false;
+        for (String key : new String[] {NUM, PAGE, CURSOR}) {
+            String value = findParameters.get(key);
+            isPaged = isPaged || !(value.isBlank() || value.isEmpty());
+        }
+        if (findParameters.get(NUM).isBlank()) {
+            findParameters.put(NUM, isPaged ? DEFAULT_PAGE_SIZE : EVERY_MATCH);
+        }
+        if (findParameters.get(PAGE).isBlank()) {
+            findParameters.put(PAGE, FIRST_PAGE);
+        }
+        if (findParameters.get(CURSOR).isBlank()) {
+            findParameters.put(CURSOR, NO_CURSOR);
         }
     }
 
@@ -94,7 +84,8 @@ public class ParseFindTransaction extends ParseFind {
         FindTransactionCommand newFindTransactionCommand = new FindTransactionCommand(
             findParameters.get(NAME), findParameters.get(FROM), findParameters.get(TO),
             findParameters.get(DESCRIPTION),
-            findParameters.get(CATEGORY), this.type);
+            findParameters.get(CATEGORY), this.type, Integer.parseInt(findParameters.get(NUM)),
+            Integer.parseInt(findParameters.get(PAGE)), Long.parseLong(findParameters.get(CURSOR)));
         return newFindTransactionCommand;
 
     }
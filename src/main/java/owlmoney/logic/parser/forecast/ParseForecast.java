@@ -0,0 +1,81 @@
+package owlmoney.logic.parser.forecast;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import owlmoney.logic.command.Command;
+import owlmoney.logic.command.forecast.ForecastCommand;
+import owlmoney.logic.parser.ParseRawData;
+import owlmoney.logic.parser.exception.ParserException;
+import owlmoney.logic.regex.RegexUtil;
+
+/**
+ * Represents the parsing of inputs for forecasting the bank accounts for the months ahead.
+ */
+public class ParseForecast {
+    private HashMap<String, String> forecastParameters = new HashMap<String, String>();
+    private ParseRawData parseRawData = new ParseRawData();
+    private String rawData;
+    private static final String[] FORECAST_KEYWORD = new String[] {
+        "/months"
+    };
+    private static final List<String> FORECAST_KEYWORD_LISTS = Arrays.asList(FORECAST_KEYWORD);
+    private static final String MONTHS = "/months";
+
+    /**
+     * Creates an instance of ParseForecast.
+     *
+     * @param data Raw user input data.
+     * @throws ParserException If the first parameter is invalid.
+     */
+    public ParseForecast(String data) throws ParserException {
+        this.rawData = data;
+        checkFirstParameter();
+    }
+
+    /**
+     * Checks if the first parameter is a valid parameter.
+     *
+     * @throws ParserException If the first parameter is invalid.
+     */
+    private void checkFirstParameter() throws ParserException {
+        String[] rawDateSplit = rawData.split(" ", 2);
+        if (!FORECAST_KEYWORD_LISTS.contains(rawDateSplit[0])) {
+            throw new ParserException("Incorrect parameter " + rawDateSplit[0]);
+        }
+    }
+
+    /**
+     * Fills a hash table mapping each user input to each parameter.
+     *
+     * @throws ParserException If duplicate parameters are detected.
+     */
+    public void fillHashTable() throws ParserException {
+        forecastParameters.put(MONTHS, parseRawData.extractParameter(rawData, MONTHS, FORECAST_KEYWORD));
+    }
+
+    /**
+     * Checks each user input for each parameter.
+     *
+     * @throws ParserException If there are missing or invalid parameters.
+     */
+    public void checkParameter() throws ParserException {
+        String months = forecastParameters.get(MONTHS);
+        if (months.isBlank() || months.isEmpty()) {
+            throw new ParserException(MONTHS + " cannot be empty when forecasting");
+        }
+        if (!RegexUtil.regexCheckForecastMonths(months)) {
+            throw new ParserException(MONTHS + " can only be a whole number from 1 to 120");
+        }
+    }
+
+    /**
+     * Returns the command to forecast the bank accounts.
+     *
+     * @return Returns ForecastCommand to be executed.
+     */
+    public Command getCommand() {
+        return new ForecastCommand(Integer.parseInt(forecastParameters.get(MONTHS)));
+    }
+}
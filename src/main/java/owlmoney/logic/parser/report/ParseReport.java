@@ -0,0 +1,135 @@
+package owlmoney.logic.parser.report;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+import owlmoney.logic.command.Command;
+import owlmoney.logic.command.report.ReportCommand;
+import owlmoney.logic.parser.ParseRawData;
+import owlmoney.logic.parser.exception.ParserException;
+import owlmoney.logic.regex.RegexUtil;
+
+/**
+ * Represents the parsing of inputs for reporting the totals of an account by month and category.
+ */
+public class ParseReport {
+    private HashMap<String, String> reportParameters = new HashMap<String, String>();
+    private ParseRawData parseRawData = new ParseRawData();
+    private String rawData;
+    private String type;
+    private YearMonth month;
+    private static final String[] REPORT_KEYWORD = new String[] {
+        "/name", "/month"
+    };
+    private static final List<String> REPORT_KEYWORD_LISTS = Arrays.asList(REPORT_KEYWORD);
+    private static final String NAME = "/name";
+    private static final String MONTH = "/month";
+    private static final String FIRST_DAY = "01/";
+
+    /**
+     * Creates an instance of ParseReport.
+     *
+     * @param data Raw user input data.
+     * @param type Represents the type of account to report on.
+     * @throws ParserException If the first parameter is invalid.
+     */
+    public ParseReport(String data, String type) throws ParserException {
+        this.rawData = data;
+        this.type = type;
+        checkFirstParameter();
+    }
+
+    /**
+     * Checks if the first parameter is a valid parameter.
+     *
+     * @throws ParserException If the first parameter is invalid.
+     */
+    private void checkFirstParameter() throws ParserException {
+        String[] rawDateSplit = rawData.split(" ", 2);
+        if (!REPORT_KEYWORD_LISTS.contains(rawDateSplit[0])) {
+            throw new ParserException("Incorrect parameter " + rawDateSplit[0]);
+        }
+    }
+
+    /**
+     * Fills a hash table mapping each user input to each parameter.
+     *
+     * @throws ParserException If duplicate parameters are detected.
+     */
+    public void fillHashTable() throws ParserException {
+        reportParameters.put(NAME, parseRawData.extractParameter(rawData, NAME, REPORT_KEYWORD));
+        reportParameters.put(MONTH, parseRawData.extractParameter(rawData, MONTH, REPORT_KEYWORD));
+    }
+
+    /**
+     * Checks each user input for each parameter.
+     *
+     * @throws ParserException If there are missing or invalid parameters.
+     */
+    public void checkParameter() throws ParserException {
+        Iterator<String> reportIterator = reportParameters.keySet().iterator();
+        while (reportIterator.hasNext()) {
+            String key = reportIterator.next();
+            String value = reportParameters.get(key);
+            if (NAME.equals(key) && (value.isBlank() || value.isEmpty())) {
+                throw new ParserException(key + " cannot be empty when reporting transactions");
+            } else if (NAME.equals(key)) {
+                checkName(value);
+            }
+            if (MONTH.equals(key) && !(value.isBlank() || value.isEmpty())) {
+                month = checkMonth(value);
+            }
+        }
+    }
+
+    /**
+     * Checks if the bank or card name entered by the user does not contain
+     * special character and not too long.
+     *
+     * @param nameString Name of bank or card
+     * @throws ParserException If the name is too long or contain special characters.
+     */
+    private void checkName(String nameString) throws ParserException {
+        if (!RegexUtil.regexCheckName(nameString)) {
+            throw new ParserException("/name can only be alphanumeric and at most 30 characters");
+        }
+    }
+
+    /**
+     * Checks if the month is of valid mm/yyyy format and not after this month.
+     *
+     * @param monthString Month to be checked.
+     * @return the month if checks pass.
+     * @throws ParserException If the month format is invalid or the month is after this month.
+     */
+    private YearMonth checkMonth(String monthString) throws ParserException {
+        if (RegexUtil.regexCheckMonthYearFormat(monthString)) {
+            try {
+                DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+                LocalDate localDate = LocalDate.parse(FIRST_DAY + monthString, dateFormat);
+                if (localDate.compareTo(LocalDate.now()) > 0) {
+                    throw new ParserException("/month cannot be after this month");
+                }
+                return YearMonth.from(localDate);
+            } catch (DateTimeParseException e) {
+                throw new ParserException("Incorrect month format. Month format is mm/yyyy in year range of 1900-2099");
+            }
+        }
+        throw new ParserException("Incorrect month format. Month format is mm/yyyy in year range of 1900-2099");
+    }
+
+    /**
+     * Returns the command to report the totals of the account.
+     *
+     * @return Returns ReportCommand to be executed.
+     */
+    public Command getCommand() {
+        return new ReportCommand(reportParameters.get(NAME), month, this.type);
+    }
+}
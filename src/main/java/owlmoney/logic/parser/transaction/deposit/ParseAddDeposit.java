@@ -25,6 +25,10 @@ public class ParseAddDeposit extends ParseDeposit {
         checkRedundantParameter(TRANSNO, ADD);
         checkRedundantParameter(FROM, ADD);
         checkRedundantParameter(NUM, ADD);
+        checkRedundantParameter(PAGE, ADD);
+        checkRedundantParameter(CURSOR, ADD);
+        checkRedundantParameter(SORT, ADD);
+        checkRedundantParameter(ID, ADD);
         checkFirstParameter();
     }
 
@@ -39,7 +43,9 @@ public class ParseAddDeposit extends ParseDeposit {
         while (savingsIterator.hasNext()) {
             String key = savingsIterator.next();
             String value = depositParameters.get(key);
-            if (!(TRANSNO.equals(key) || NUM.equals(key) || FROM.equals(key)) && (value.isBlank() || value.isEmpty())) {
+            if (!(TRANSNO.equals(key) || NUM.equals(key) || FROM.equals(key) || PAGE.equals(key)
+                    || CURSOR.equals(key) || SORT.equals(key) || ID.equals(key))
+                    && (value.isBlank() || value.isEmpty())) {
                 throw new ParserException(key + " cannot be empty when adding a new deposit");
             }
             if (AMOUNT.equals(key)) {
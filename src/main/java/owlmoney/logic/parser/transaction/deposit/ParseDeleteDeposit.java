@@ -22,6 +22,9 @@ public class ParseDeleteDeposit extends ParseDeposit {
         super(data);
         checkRedundantParameter(TO, DELETE);
         checkRedundantParameter(NUM, DELETE);
+        checkRedundantParameter(PAGE, DELETE);
+        checkRedundantParameter(CURSOR, DELETE);
+        checkRedundantParameter(SORT, DELETE);
         checkRedundantParameter(AMOUNT, DELETE);
         checkRedundantParameter(DESCRIPTION, DELETE);
         checkRedundantParameter(DATE, DELETE);
@@ -39,16 +42,14 @@ public class ParseDeleteDeposit extends ParseDeposit {
         while (savingsIterator.hasNext()) {
             String key = savingsIterator.next();
             String value = depositParameters.get(key);
-            if ((TRANSNO.equals(key) || FROM.equals(key)) && (value.isEmpty() || value.isBlank())) {
-                throw new ParserException(key + " cannot be empty when adding a new deposit");
-            }
-            if (TRANSNO.equals(key)) {
-                checkInt(TRANSNO, value);
+            if (FROM.equals(key) && (value.isEmpty() || value.isBlank())) {
+                throw new ParserException(key + " cannot be empty when deleting a deposit");
             }
             if (FROM.equals(key)) {
                 checkName(value, FROM);
             }
         }
+        checkTransactionNumberOrId("deleting a deposit");
     }
 
     /**
@@ -58,7 +59,7 @@ public class ParseDeleteDeposit extends ParseDeposit {
      */
     public Command getCommand() {
         DeleteDepositCommand newDeleteDepositCommand = new DeleteDepositCommand((depositParameters.get(FROM)),
-                Integer.parseInt(depositParameters.get(TRANSNO)));
+                getTransactionNumber(), getTransactionId());
         return newDeleteDepositCommand;
     }
 }
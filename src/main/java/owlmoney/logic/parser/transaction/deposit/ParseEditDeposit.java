@@ -22,6 +22,9 @@ public class ParseEditDeposit extends ParseDeposit {
         super(data);
         checkRedundantParameter(TO, EDIT);
         checkRedundantParameter(NUM, EDIT);
+        checkRedundantParameter(PAGE, EDIT);
+        checkRedundantParameter(CURSOR, EDIT);
+        checkRedundantParameter(SORT, EDIT);
         checkFirstParameter();
     }
 
@@ -36,11 +39,6 @@ public class ParseEditDeposit extends ParseDeposit {
         while (savingsIterator.hasNext()) {
             String key = savingsIterator.next();
             String value = depositParameters.get(key);
-            if (TRANSNO.equals(key) && (value.isBlank() || value.isEmpty())) {
-                throw new ParserException(key + " cannot be empty when editing a deposit");
-            } else if (TRANSNO.equals(key)) {
-                checkInt(TRANSNO, value);
-            }
             if (FROM.equals(key) && (value.isBlank() || value.isEmpty())) {
                 throw new ParserException(key + " cannot be empty when editing a deposit");
             } else if (FROM.equals(key)) {
@@ -59,6 +57,7 @@ public class ParseEditDeposit extends ParseDeposit {
                 changeCounter++;
             }
         }
+        checkTransactionNumberOrId("editing a deposit");
         if (changeCounter == 0) {
             throw new ParserException("Edit should have at least 1 differing parameter to change.");
         }
@@ -72,7 +71,7 @@ public class ParseEditDeposit extends ParseDeposit {
     public Command getCommand() {
         EditDepositCommand newEditDepositCommand = new EditDepositCommand(depositParameters.get(FROM),
                 depositParameters.get(AMOUNT), depositParameters.get(DATE),
-                depositParameters.get(DESCRIPTION), Integer.parseInt(depositParameters.get(TRANSNO)));
+                depositParameters.get(DESCRIPTION), getTransactionNumber(), getTransactionId());
         return newEditDepositCommand;
     }
 }
@@ -25,6 +25,7 @@ public class ParseListDeposit extends ParseDeposit {
         checkRedundantParameter(DATE, LIST);
         checkRedundantParameter(DESCRIPTION, LIST);
         checkRedundantParameter(TRANSNO, LIST);
+        checkRedundantParameter(ID, LIST);
     }
 
     /**
@@ -48,6 +49,22 @@ public class ParseListDeposit extends ParseDeposit {
             } else if (NUM.equals(key)) {
                 checkInt(NUM, value);
             }
+            if (PAGE.equals(key) && (value.isBlank() || value.isEmpty())) {
+                depositParameters.put(PAGE, "1");
+            } else if (PAGE.equals(key)) {
+                checkInt(PAGE, value);
+            }
+            if (CURSOR.equals(key) && (value.isBlank() || value.isEmpty())) {
+                depositParameters.put(CURSOR, "0");
+            } else if (CURSOR.equals(key)) {
+                checkInt(CURSOR, value);
+            }
+            if (SORT.equals(key) && !(value.isBlank() || value.isEmpty())) {
+                checkSort(value);
+            }
+        }
+        if (!depositParameters.get(SORT).isBlank() && !"0".equals(depositParameters.get(CURSOR))) {
+            throw new ParserException(SORT + " cannot be used with " + CURSOR + ", use " + PAGE + " instead");
         }
     }
 
@@ -58,7 +75,8 @@ public class ParseListDeposit extends ParseDeposit {
      */
     public Command getCommand() {
         ListDepositCommand newListDepositCommand = new ListDepositCommand(depositParameters.get(FROM),
-                Integer.parseInt(depositParameters.get(NUM)));
+                Integer.parseInt(depositParameters.get(NUM)), Integer.parseInt(depositParameters.get(PAGE)),
+                Long.parseLong(depositParameters.get(CURSOR)), depositParameters.get(SORT));
         return newListDepositCommand;
     }
 }
@@ -26,6 +26,10 @@ public class ParseAddExpenditure extends ParseExpenditure {
         super(data, type);
         checkRedundantParameter(TRANSNO, ADD);
         checkRedundantParameter(NUM, ADD);
+        checkRedundantParameter(PAGE, ADD);
+        checkRedundantParameter(CURSOR, ADD);
+        checkRedundantParameter(SORT, ADD);
+        checkRedundantParameter(ID, ADD);
         checkFirstParameter();
     }
 
@@ -40,7 +44,8 @@ public class ParseAddExpenditure extends ParseExpenditure {
         while (savingsIterator.hasNext()) {
             String key = savingsIterator.next();
             String value = expendituresParameters.get(key);
-            if (!TRANSNO.equals(key) && !NUM.equals(key) && !CATEGORY.equals(key)
+            if (!TRANSNO.equals(key) && !NUM.equals(key) && !CATEGORY.equals(key) && !PAGE.equals(key)
+                    && !CURSOR.equals(key) && !SORT.equals(key) && !ID.equals(key)
                     && (value.isBlank() || value.isEmpty())) {
                 throw new ParserException(key + " cannot be empty when adding a new expenditure");
             }
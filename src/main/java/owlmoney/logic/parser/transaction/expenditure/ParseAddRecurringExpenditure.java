@@ -6,6 +6,7 @@ import java.util.Iterator;
 import owlmoney.logic.command.Command;
 import owlmoney.logic.command.transaction.AddRecurringExpenditureCommand;
 import owlmoney.logic.parser.exception.ParserException;
+import owlmoney.model.schedule.RecurrenceRule;
 
 /**
  * Parses the inputs for adding a recurring expenditure.
@@ -54,6 +55,11 @@ public class ParseAddRecurringExpenditure extends ParseRecurringExpenditure {
             } else if (DESCRIPTION.equals(key)) {
                 checkDescription(value, key);
             }
+            if (EVERY.equals(key) && value.isBlank()) {
+                expendituresParameters.put(EVERY, RecurrenceRule.MONTHLY.getKeyword());
+            } else if (EVERY.equals(key)) {
+                checkRecurrenceRule(value);
+            }
             if (FROM.equals(key) && value.isBlank()) {
                 throw new ParserException(key + " cannot be deposit when adding a new recurring expenditure");
             } else if (FROM.equals(key)) {
@@ -64,6 +70,7 @@ public class ParseAddRecurringExpenditure extends ParseRecurringExpenditure {
 
     /**
      * Returns the command to add a new recurring expenditure.
+     * The first occurrence is on the 1st of the next month, or on the next last business day for that rule.
      *
      * @return Returns AddRecurringExpenditureCommand to be executed.
      */
@@ -74,10 +81,11 @@ public class ParseAddRecurringExpenditure extends ParseRecurringExpenditure {
         calendar.set(Calendar.MINUTE, 0);
         calendar.set(Calendar.SECOND, 0);
         calendar.add(Calendar.MONTH, 1);
+        RecurrenceRule recurrenceRule = RecurrenceRule.fromKeyword(expendituresParameters.get(EVERY));
         AddRecurringExpenditureCommand newAddRecurringExpenditureCommand = new AddRecurringExpenditureCommand(
                 expendituresParameters.get(FROM), Double.parseDouble(expendituresParameters.get(AMOUNT)),
-                calendar.getTime(), (expendituresParameters.get(DESCRIPTION)),
-                (expendituresParameters.get(CATEGORY)), this.type);
+                recurrenceRule.alignFirstOccurrence(calendar.getTime()), (expendituresParameters.get(DESCRIPTION)),
+                (expendituresParameters.get(CATEGORY)), recurrenceRule, this.type);
         return newAddRecurringExpenditureCommand;
     }
 }
@@ -26,6 +26,9 @@ public class ParseDeleteExpenditure extends ParseExpenditure {
         checkRedundantParameter(DESCRIPTION, DELETE);
         checkRedundantParameter(DATE, DELETE);
         checkRedundantParameter(NUM, DELETE);
+        checkRedundantParameter(PAGE, DELETE);
+        checkRedundantParameter(CURSOR, DELETE);
+        checkRedundantParameter(SORT, DELETE);
         checkFirstParameter();
     }
 
@@ -40,16 +43,14 @@ public class ParseDeleteExpenditure extends ParseExpenditure {
         while (savingsIterator.hasNext()) {
             String key = savingsIterator.next();
             String value = expendituresParameters.get(key);
-            if ((TRANSNO.equals(key) || FROM.equals(key)) && (value.isBlank() || value.isEmpty())) {
-                throw new ParserException(key + " cannot be empty when adding a new expenditure");
-            }
-            if (TRANSNO.equals(key)) {
-                checkInt(TRANSNO, value);
+            if (FROM.equals(key) && (value.isBlank() || value.isEmpty())) {
+                throw new ParserException(key + " cannot be empty when deleting an expenditure");
             }
             if (FROM.equals(key)) {
                 checkName(value);
             }
         }
+        checkTransactionNumberOrId("deleting an expenditure");
     }
 
     /**
@@ -59,7 +60,7 @@ public class ParseDeleteExpenditure extends ParseExpenditure {
      */
     public Command getCommand() {
         DeleteExpenditureCommand newDeleteExpenditureCommand =
-                new DeleteExpenditureCommand(Integer.parseInt(expendituresParameters.get(TRANSNO)),
+                new DeleteExpenditureCommand(getTransactionNumber(), getTransactionId(),
                         expendituresParameters.get(FROM), this.type);
         return newDeleteExpenditureCommand;
     }
@@ -24,6 +24,7 @@ public class ParseDeleteRecurringExpenditure extends ParseRecurringExpenditure {
         checkRedundantParameter(CATEGORY, DELETE);
         checkRedundantParameter(DESCRIPTION, DELETE);
         checkRedundantParameter(DATE, DELETE);
+        checkRedundantParameter(EVERY, DELETE);
         checkFirstParameter();
     }
 
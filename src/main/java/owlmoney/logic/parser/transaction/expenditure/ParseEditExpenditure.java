@@ -21,6 +21,9 @@ public class ParseEditExpenditure extends ParseExpenditure {
     public ParseEditExpenditure(String data, String type) throws ParserException {
         super(data, type);
         checkRedundantParameter(NUM, EDIT);
+        checkRedundantParameter(PAGE, EDIT);
+        checkRedundantParameter(CURSOR, EDIT);
+        checkRedundantParameter(SORT, EDIT);
         checkFirstParameter();
     }
 
@@ -35,11 +38,6 @@ public class ParseEditExpenditure extends ParseExpenditure {
         while (savingsIterator.hasNext()) {
             String key = savingsIterator.next();
             String value = expendituresParameters.get(key);
-            if (TRANSNO.equals(key) && (value.isBlank() || value.isEmpty())) {
-                throw new ParserException(key + " cannot be empty when editing an expenditure");
-            } else if (TRANSNO.equals(key)) {
-                checkInt(TRANSNO, value);
-            }
             if (FROM.equals(key) && (value.isBlank() || value.isEmpty())) {
                 throw new ParserException(key + " cannot be empty when editing an expenditure");
             } else if (FROM.equals(key)) {
@@ -61,6 +59,7 @@ public class ParseEditExpenditure extends ParseExpenditure {
                 changeCounter++;
             }
         }
+        checkTransactionNumberOrId("editing an expenditure");
         if (changeCounter == 0) {
             throw new ParserException("Edit should have at least 1 differing parameter to change.");
         }
@@ -75,7 +74,7 @@ public class ParseEditExpenditure extends ParseExpenditure {
         EditExpenditureCommand newEditExpenditureCommand = new EditExpenditureCommand(expendituresParameters.get(FROM),
                 expendituresParameters.get(AMOUNT), expendituresParameters.get(DATE),
                 expendituresParameters.get(DESCRIPTION), expendituresParameters.get(CATEGORY),
-                Integer.parseInt(expendituresParameters.get(TRANSNO)), this.type);
+                getTransactionNumber(), getTransactionId(), this.type);
         return newEditExpenditureCommand;
     }
 }
@@ -5,6 +5,7 @@ import java.util.Iterator;
 import owlmoney.logic.command.Command;
 import owlmoney.logic.command.transaction.EditRecurringExpenditureCommand;
 import owlmoney.logic.parser.exception.ParserException;
+import owlmoney.model.schedule.RecurrenceRule;
 
 /**
  * Parses the inputs for editing a recurring expenditure.
@@ -54,6 +55,10 @@ public class ParseEditRecurringExpenditure extends ParseRecurringExpenditure {
                 checkDescription(value, key);
                 changeCounter++;
             }
+            if (EVERY.equals(key) && !(value.isBlank() || value.isEmpty())) {
+                checkRecurrenceRule(value);
+                changeCounter++;
+            }
         }
         if (changeCounter == 0) {
             throw new ParserException("Edit should have at least 1 differing parameter to change.");
@@ -69,6 +74,7 @@ public class ParseEditRecurringExpenditure extends ParseRecurringExpenditure {
         EditRecurringExpenditureCommand newEditRecurringExpenditureCommand = new EditRecurringExpenditureCommand(
                 expendituresParameters.get(FROM), expendituresParameters.get(AMOUNT),
                 expendituresParameters.get(DESCRIPTION), expendituresParameters.get(CATEGORY),
+                RecurrenceRule.fromKeyword(expendituresParameters.get(EVERY)),
                 Integer.parseInt(expendituresParameters.get(TRANSNO)), this.type);
         return newEditRecurringExpenditureCommand;
     }
@@ -12,6 +12,7 @@ import owlmoney.logic.command.Command;
 import owlmoney.logic.parser.ParseRawData;
 import owlmoney.logic.parser.exception.ParserException;
 import owlmoney.logic.regex.RegexUtil;
+import owlmoney.model.transaction.Transaction;
 
 /**
  * Abstracts common Expenditure methods and functions where the child parsers will inherit from.
@@ -22,9 +23,11 @@ public abstract class ParseExpenditure {
     private String rawData;
     String type;
     private static final String[] EXPENDITURE_KEYWORD = new String[] {
-        "/amount", "/date", "/desc", "/category", "/from", "/transno", "/num"
+        "/amount", "/date", "/desc", "/category", "/from", "/transno", "/num", "/page", "/cursor", "/sort",
+        "/id"
     };
     private static final List<String> EXPENDITURE_KEYWORD_LISTS = Arrays.asList(EXPENDITURE_KEYWORD);
+    private static final List<String> SORT_KEYS = Arrays.asList("amount", "date", "category");
     static final String AMOUNT = "/amount";
     static final String DATE = "/date";
     static final String DESCRIPTION = "/desc";
@@ -32,6 +35,11 @@ public abstract class ParseExpenditure {
     static final String FROM = "/from";
     static final String TRANSNO = "/transno";
     static final String NUM = "/num";
+    static final String PAGE = "/page";
+    static final String CURSOR = "/cursor";
+    static final String SORT = "/sort";
+    static final String ID = "/id";
+    static final int NO_TRANSACTION_NUMBER = 0;
 
     /**
      * Creates an instance of any ParseExpenditure type object.
@@ -89,6 +97,26 @@ public abstract class ParseExpenditure {
                 parseRawData.extractParameter(rawData, TRANSNO, EXPENDITURE_KEYWORD));
         expendituresParameters.put(NUM,
                 parseRawData.extractParameter(rawData, NUM, EXPENDITURE_KEYWORD));
+        expendituresParameters.put(PAGE,
+                parseRawData.extractParameter(rawData, PAGE, EXPENDITURE_KEYWORD));
+        expendituresParameters.put(CURSOR,
+                parseRawData.extractParameter(rawData, CURSOR, EXPENDITURE_KEYWORD));
+        expendituresParameters.put(SORT,
+                parseRawData.extractParameter(rawData, SORT, EXPENDITURE_KEYWORD));
+        expendituresParameters.put(ID,
+                parseRawData.extractParameter(rawData, ID, EXPENDITURE_KEYWORD));
+    }
+
+    /**
+     * Checks if the sort key entered by the user is one that transactions can be ranked by.
+     *
+     * @param sortString The sort key.
+     * @throws ParserException If the sort key is not amount, date or category.
+     */
+    void checkSort(String sortString) throws ParserException {
+        if (!SORT_KEYS.contains(sortString)) {
+            throw new ParserException("/sort can only be amount, date or category");
+        }
     }
 
     /**
@@ -166,6 +194,46 @@ public abstract class ParseExpenditure {
         throw new ParserException("Incorrect date format." + " Date format is dd/mm/yyyy in year range of 1900-2099");
     }
 
+    /**
+     * Checks that the transaction is given by exactly one of its transaction number or its ID, and that it is valid.
+     *
+     * @param action What the user is doing with the transaction, used in messages.
+     * @throws ParserException If neither or both are given, or the one given is not a positive number.
+     */
+    void checkTransactionNumberOrId(String action) throws ParserException {
+        String transactionNumber = expendituresParameters.get(TRANSNO);
+        String id = expendituresParameters.get(ID);
+        if (transactionNumber.isBlank() && id.isBlank()) {
+            throw new ParserException(TRANSNO + " or " + ID + " cannot be empty when " + action);
+        } else if (!transactionNumber.isBlank() && !id.isBlank()) {
+            throw new ParserException(TRANSNO + " cannot be used with " + ID);
+        } else if (id.isBlank()) {
+            checkInt(TRANSNO, transactionNumber);
+        } else {
+            checkInt(ID, id);
+        }
+    }
+
+    /**
+     * Gets the transaction number entered by the user.
+     *
+     * @return The transaction number, or NO_TRANSACTION_NUMBER if the transaction was given by its ID.
+     */
+    int getTransactionNumber() {
+        String transactionNumber = expendituresParameters.get(TRANSNO);
+        return transactionNumber.isBlank() ? NO_TRANSACTION_NUMBER : Integer.parseInt(transactionNumber);
+    }
+
+    /**
+     * Gets the transaction ID entered by the user.
+     *
+     * @return The ID, or Transaction.NO_ID if the transaction was given by its transaction number.
+     */
+    long getTransactionId() {
+        String id = expendituresParameters.get(ID);
+        return id.isBlank() ? Transaction.NO_ID : Long.parseLong(id);
+    }
+
     /**
      * Checks the parameters given by the user.
      *
@@ -25,6 +25,7 @@ public class ParseListExpenditure extends ParseExpenditure {
         checkRedundantParameter(DATE, LIST);
         checkRedundantParameter(DESCRIPTION, LIST);
         checkRedundantParameter(CATEGORY, LIST);
+        checkRedundantParameter(ID, LIST);
     }
 
     /**
@@ -48,6 +49,22 @@ public class ParseListExpenditure extends ParseExpenditure {
             } else if (NUM.equals(key)) {
                 checkInt(NUM, value);
             }
+            if (PAGE.equals(key) && (value.isBlank() || value.isEmpty())) {
+                expendituresParameters.put(PAGE, "1");
+            } else if (PAGE.equals(key)) {
+                checkInt(PAGE, value);
+            }
+            if (CURSOR.equals(key) && (value.isBlank() || value.isEmpty())) {
+                expendituresParameters.put(CURSOR, "0");
+            } else if (CURSOR.equals(key)) {
+                checkInt(CURSOR, value);
+            }
+            if (SORT.equals(key) && !(value.isBlank() || value.isEmpty())) {
+                checkSort(value);
+            }
+        }
+        if (!expendituresParameters.get(SORT).isBlank() && !"0".equals(expendituresParameters.get(CURSOR))) {
+            throw new ParserException(SORT + " cannot be used with " + CURSOR + ", use " + PAGE + " instead");
         }
     }
 
@@ -58,7 +75,8 @@ public class ParseListExpenditure extends ParseExpenditure {
      */
     public Command getCommand() {
         ListExpenditureCommand newListExpenditureCommand = new ListExpenditureCommand(expendituresParameters.get(FROM),
-                Integer.parseInt(expendituresParameters.get(NUM)), this.type);
+                Integer.parseInt(expendituresParameters.get(NUM)), Integer.parseInt(expendituresParameters.get(PAGE)),
+                Long.parseLong(expendituresParameters.get(CURSOR)), expendituresParameters.get(SORT), this.type);
         return newListExpenditureCommand;
     }
 }
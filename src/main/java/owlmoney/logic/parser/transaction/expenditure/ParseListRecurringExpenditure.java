@@ -25,6 +25,7 @@ public class ParseListRecurringExpenditure extends ParseRecurringExpenditure {
         checkRedundantParameter(DATE, LIST);
         checkRedundantParameter(DESCRIPTION, LIST);
         checkRedundantParameter(CATEGORY, LIST);
+        checkRedundantParameter(EVERY, LIST);
     }
 
     /**
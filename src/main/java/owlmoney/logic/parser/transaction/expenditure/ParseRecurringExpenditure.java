@@ -8,6 +8,7 @@ import owlmoney.logic.command.Command;
 import owlmoney.logic.parser.ParseRawData;
 import owlmoney.logic.parser.exception.ParserException;
 import owlmoney.logic.regex.RegexUtil;
+import owlmoney.model.schedule.RecurrenceRule;
 
 /**
  * Abstracts common RecurringExpenditure methods and functions where the child parsers will inherit from.
@@ -18,7 +19,7 @@ public abstract class ParseRecurringExpenditure {
     private String rawData;
     String type;
     private static final String[] EXPENDITURE_KEYWORD = new String[] {
-        "/amount", "/desc", "/category", "/from", "/transno"
+        "/amount", "/desc", "/category", "/from", "/transno", "/every"
     };
     private static final List<String> EXPENDITURE_KEYWORD_LISTS = Arrays.asList(EXPENDITURE_KEYWORD);
     static final String AMOUNT = "/amount";
@@ -27,6 +28,7 @@ public abstract class ParseRecurringExpenditure {
     static final String CATEGORY = "/category";
     static final String FROM = "/from";
     static final String TRANSNO = "/transno";
+    static final String EVERY = "/every";
 
     /**
      * Creates an instance of any ParseRecurringExpenditure type object.
@@ -80,6 +82,8 @@ public abstract class ParseRecurringExpenditure {
                 parseRawData.extractParameter(rawData, FROM, EXPENDITURE_KEYWORD));
         expendituresParameters.put(TRANSNO,
                 parseRawData.extractParameter(rawData, TRANSNO, EXPENDITURE_KEYWORD));
+        expendituresParameters.put(EVERY,
+                parseRawData.extractParameter(rawData, EVERY, EXPENDITURE_KEYWORD));
     }
 
     /**
@@ -131,6 +135,18 @@ public abstract class ParseRecurringExpenditure {
         }
     }
 
+    /**
+     * Checks if the recurrence rule entered by the user is one of the supported rules.
+     *
+     * @param ruleString Name of the recurrence rule.
+     * @throws ParserException If there is no recurrence rule with the name.
+     */
+    void checkRecurrenceRule(String ruleString) throws ParserException {
+        if (RecurrenceRule.fromKeyword(ruleString) == null) {
+            throw new ParserException("/every can only be one of: " + RecurrenceRule.listKeywords());
+        }
+    }
+
     /**
      * Checks the parameters given by the user.
      *
@@ -132,6 +132,22 @@ public final class RegexUtil {
         return input.matches(categoryRegex);
     }
 
+    /**
+     * Checks whether user input months is a whole number from 1 to 120 for forecasting up to 10 years ahead.
+     *
+     * @param input The user input that is subject to Regex checking.
+     * @return the result of the check on whether it fulfills the criteria.
+     */
+    public static boolean regexCheckForecastMonths(String input) {
+        final String monthRegex = "^[1-9]\\d{0,2}$";
+        if (input.matches(monthRegex)) {
+            int parsedMonths = Integer.parseInt(input);
+            return (parsedMonths <= 120);
+        } else {
+            return false;
+        }
+    }
+
     /**
      * Checks whether user input days is less than or equal to 365 days limit set for short term goals.
      *
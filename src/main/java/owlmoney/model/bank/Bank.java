@@ -4,13 +4,29 @@ import java.io.IOException;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.Bond;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.budget.Budget;
+import owlmoney.model.budget.BudgetList;
+import owlmoney.model.event.AccountDeletedEvent;
+import owlmoney.model.event.AccountRenamedEvent;
+import owlmoney.model.event.BalanceChangedEvent;
+import owlmoney.model.event.EventBus;
+import owlmoney.model.event.TransactionChangedEvent;
+import owlmoney.model.forecast.Forecast;
+import owlmoney.model.networth.NetWorth;
+import owlmoney.model.schedule.RecurrenceRule;
+import owlmoney.model.transaction.PageRequest;
 import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.TransactionList;
+import owlmoney.model.transaction.TransactionQuery;
+import owlmoney.model.transaction.TransactionSearch;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
 
@@ -21,6 +37,9 @@ public abstract class Bank {
     String type;
     private String accountName;
     private double currentAmount;
+    private long balanceVersion;
+    private BudgetList budgets;
+    private EventBus eventBus;
     TransactionList transactions;
 
     /**
@@ -40,7 +59,11 @@ public abstract class Bank {
      * @param newName the new name of the bank account.
      */
     void setAccountName(String newName) {
+        String oldName = this.accountName;
         this.accountName = newName;
+        if (eventBus != null) {
+            eventBus.publish(new AccountRenamedEvent(oldName, newName, type));
+        }
     }
 
     /**
@@ -59,6 +82,7 @@ public abstract class Bank {
      */
     void setCurrentAmount(double newAmount) {
         this.currentAmount = newAmount;
+        balanceChanged();
     }
 
     /**
@@ -86,6 +110,7 @@ public abstract class Bank {
      */
     void deductFromAmount(double amount) {
         this.currentAmount -= amount;
+        balanceChanged();
     }
 
     /**
@@ -95,6 +120,38 @@ public abstract class Bank {
      */
     void addToAmount(double amount) {
         this.currentAmount += amount;
+        balanceChanged();
+    }
+
+    /**
+     * Marks the balance as changed and publishes the change.
+     */
+    private void balanceChanged() {
+        balanceVersion++;
+        if (eventBus != null) {
+            eventBus.publish(new BalanceChangedEvent(this));
+        }
+    }
+
+    /**
+     * Publishes the balance changes, renames and transaction changes of the bank account from now on.
+     *
+     * @param eventBus The event bus to publish to.
+     */
+    public void setEventBus(EventBus eventBus) {
+        this.eventBus = eventBus;
+        transactions.setTransactionListener((transaction, change) ->
+                eventBus.publish(new TransactionChangedEvent(getAccountName(), transaction, change)));
+    }
+
+    /**
+     * Publishes the removal of every transaction and the deletion of the bank account.
+     */
+    void publishDeletion() {
+        if (eventBus != null) {
+            transactions.releaseAll();
+            eventBus.publish(new AccountDeletedEvent(getAccountName(), type));
+        }
     }
 
     /**
@@ -153,6 +210,31 @@ public abstract class Bank {
         throw new BankException("This account does not support this feature");
     }
 
+    /**
+     * Edits the description and category of several transactions in the current bank account together.
+     *
+     * @param transactionNumbers Transaction numbers of the transactions, in the order of the list.
+     * @param description        New description, or blank to keep the descriptions.
+     * @param category           New category of the expenditures, or blank to keep the categories.
+     * @param ui                 Ui of OwlMoney.
+     * @throws BankException If used on investment account.
+     */
+    void editMatchingTransactions(List<Integer> transactionNumbers, String description, String category, Ui ui)
+            throws BankException {
+        throw new BankException("This account does not support this feature");
+    }
+
+    /**
+     * Deletes several transactions from the current bank account together.
+     *
+     * @param transactionNumbers Transaction numbers of the transactions, in the order of the list.
+     * @param ui                 Ui of OwlMoney.
+     * @throws BankException If used on investment account or amount becomes negative after deleting.
+     */
+    void deleteMatchingTransactions(List<Integer> transactionNumbers, Ui ui) throws BankException {
+        throw new BankException("This account does not support this feature");
+    }
+
     /**
      * Sets the income of the current bank.
      *
@@ -164,28 +246,41 @@ public abstract class Bank {
     }
 
     /**
-     * Lists expenditures from the current bank.
+     * Lists a page of expenditures from the current bank.
      *
-     * @param ui         Ui of OwlMoney.
-     * @param expendituresToDisplay Number of expenditure to list.
+     * @param ui   Ui of OwlMoney.
+     * @param page the page of expenditures to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older expenditures.
      * @throws TransactionException If no expenditure is found.
      */
-    void listAllExpenditure(Ui ui, int expendituresToDisplay) throws TransactionException {
+    long listAllExpenditure(Ui ui, PageRequest page) throws TransactionException {
         throw new TransactionException("This account does not support this feature");
     }
 
     /**
-     * Lists deposits from the current bank.
+     * Lists a page of deposits from the current bank.
      *
-     * @param ui         Ui of OwlMoney.
-     * @param depositsToDisplay Number of deposits to list.
+     * @param ui   Ui of OwlMoney.
+     * @param page the page of deposits to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older deposits.
      * @throws TransactionException If no deposit is found.
      * @throws BankException        If used on investment account.
      */
-    void listAllDeposit(Ui ui, int depositsToDisplay) throws TransactionException, BankException {
+    long listAllDeposit(Ui ui, PageRequest page) throws TransactionException, BankException {
         throw new BankException("This account does not support this feature");
     }
 
+    /**
+     * Prints the totals of the transactions in the bank account by month and category.
+     *
+     * @param month the month to report, or null to report every month.
+     * @param ui    Ui of OwlMoney.
+     * @throws TransactionException If there are no transactions to report.
+     */
+    void reportTransactions(YearMonth month, Ui ui) throws TransactionException {
+        transactions.getRollup().printReport(month, ui);
+    }
+
     /**
      * Adds a new deposit to the current bank account.
      *
@@ -289,12 +384,32 @@ public abstract class Bank {
         throw new BankException("This account does not support this feature");
     }
 
+    /**
+     * Gets the date the next income of the instance of the bank account is credited.
+     *
+     * @return The next income date of the bank account.
+     * @throws BankException If used on investment account.
+     */
+    Date getNextIncomeDate() throws BankException {
+        throw new BankException("This account does not support this feature");
+    }
+
     /**
      * Updates recurring transactions to transaction list if any.
      *
      * @param ui Used for printing.
+     * @return true if the balance or transactions of the account changed.
      */
-    abstract void updateRecurringTransactions(Ui ui);
+    abstract boolean updateRecurringTransactions(Ui ui);
+
+    /**
+     * Gets the date the earliest recurring transaction of the bank account falls due.
+     *
+     * @return the earliest due date, or null if nothing recurs in the bank account.
+     */
+    Date getNextDueDate() {
+        return null;
+    }
 
     /**
      * Adds a new recurring expenditure to a savings account.
@@ -324,12 +439,13 @@ public abstract class Bank {
      * Edits a recurring expenditure from the bank.
      *
      * @param index Index of the recurring expenditure.
+     * @param repeats New recurrence rule of the recurring expenditure, or null to keep the current one.
      * @param ui Used for printing.
      * @throws BankException If used on an investment account.
      * @throws TransactionException If there are 0 recurring expenditures or the index is out of range.
      */
-    void savingEditRecurringExpenditure(int index, String description, String amount, String category, Ui ui)
-            throws BankException, TransactionException {
+    void savingEditRecurringExpenditure(int index, String description, String amount, String category,
+            RecurrenceRule repeats, Ui ui) throws BankException, TransactionException {
         throw new BankException("This account does not support this feature");
     }
 
@@ -368,18 +484,74 @@ public abstract class Bank {
     }
 
     /**
-     * Finds the transactions from the bank object that matches with the keywords specified by the user.
+     * Finds a page of the transactions from the bank object that matches with the query specified by the user.
      *
-     * @param fromDate The date to search from.
-     * @param toDate The date to search until.
-     * @param description The description keyword to match against.
-     * @param category The category keyword to match against.
+     * @param query The criteria to match against.
+     * @param page The page of matches to list.
      * @param ui The object required for printing.
-     * @throws TransactionException  If parsing of date fails.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no further matches.
+     */
+    long findTransaction(TransactionQuery query, PageRequest page, Ui ui) {
+        return transactions.findMatchingTransaction(query, page, ui);
+    }
+
+    /**
+     * Adds the transactions of the bank account to a search across every account.
+     *
+     * @param search The search to add the transactions to.
+     */
+    void addToSearch(TransactionSearch search) {
+        search.addAccount(getAccountName(), transactions);
+    }
+
+    /**
+     * Sets the budgets to check whenever an expenditure is added to the bank account.
+     *
+     * @param budgets The budgets to print alerts from.
+     */
+    void setBudgetList(BudgetList budgets) {
+        this.budgets = budgets;
+    }
+
+    /**
+     * Adds the amounts already spent by the bank account to a new budget.
+     *
+     * @param budget The budget to add the amounts to.
+     */
+    void addSpentToBudget(Budget budget) {
+        if (budget.isTracking(getAccountName())) {
+            transactions.getRollup().getSpentCentsByMonth(budget.getCategory()).forEach(budget::addSpent);
+        }
+    }
+
+    /**
+     * Prints a warning if a newly added expenditure took its budget past a threshold.
+     *
+     * @param expenditure The expenditure that was added.
+     * @param ui          Ui of OwlMoney.
+     */
+    void printBudgetAlerts(Transaction expenditure, Ui ui) {
+        if (budgets != null) {
+            budgets.printAlerts(getAccountName(), expenditure, ui);
+        }
+    }
+
+    /**
+     * Adds the balance of the bank account to a net worth calculation.
+     *
+     * @param netWorth The net worth calculation to add the balance to.
      */
-    void findTransaction(String fromDate, String toDate, String description, String category, Ui ui)
-            throws TransactionException {
-        transactions.findMatchingTransaction(fromDate, toDate, description, category, ui);
+    void addToNetWorth(NetWorth netWorth) {
+        netWorth.addHolding(this, balanceVersion, type, () -> NetWorth.toCents(currentAmount));
+    }
+
+    /**
+     * Adds the balance of the bank account to a forecast.
+     *
+     * @param forecast The forecast to add the bank account to.
+     */
+    void addToForecast(Forecast forecast) {
+        forecast.addAccount(getAccountName(), currentAmount);
     }
 
     /**
@@ -403,7 +575,7 @@ public abstract class Bank {
         DecimalFormat decimalFormat = new DecimalFormat("#.##");
         decimalFormat.setRoundingMode(RoundingMode.DOWN);
         SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
-        exportArrayList.add(new String[]{"description","amount","date","category","spent"});
+        exportArrayList.add(new String[]{"description","amount","date","category","spent","id"});
 
         for (int i = 0; i < transactions.getSize(); i++) {
             String description = transactions.get(i).getDescription();
@@ -413,7 +585,8 @@ public abstract class Bank {
             boolean spent = transactions.get(i).getSpent();
             String stringAmount = decimalFormat.format(amount);
             String stringSpent = String.valueOf(spent);
-            exportArrayList.add(new String[] {description,stringAmount,date,category,stringSpent});
+            String id = String.valueOf(transactions.get(i).getId());
+            exportArrayList.add(new String[] {description,stringAmount,date,category,stringSpent,id});
         }
         return exportArrayList;
     }
@@ -481,6 +654,18 @@ public abstract class Bank {
         throw new BankException("This account does not support this feature");
     }
 
+    /**
+     * Marks the transactions as loaded from the saved file and its delete log.
+     *
+     * @param fileName the name of the file the transactions were loaded from.
+     * @param savedRowCount the number of transactions in the file.
+     * @param skippedRowCount the number of transactions in the file that were skipped as deleted.
+     * @param loggedDeletedIds the IDs in the delete log of the file.
+     */
+    void markTransactionsSaved(String fileName, int savedRowCount, int skippedRowCount, List<Long> loggedDeletedIds) {
+        transactions.markSaved(fileName, savedRowCount, skippedRowCount, loggedDeletedIds);
+    }
+
     /**
      * Imports recurring expenditures from the imported saved file line by line.
      *
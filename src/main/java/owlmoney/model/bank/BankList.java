@@ -2,25 +2,47 @@ package owlmoney.model.bank;
 
 import java.io.IOException;
 import java.math.RoundingMode;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.Bond;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.budget.Budget;
+import owlmoney.model.budget.BudgetList;
+import owlmoney.model.event.EventBus;
+import owlmoney.model.forecast.Forecast;
+import owlmoney.model.networth.NetWorth;
+import owlmoney.model.schedule.DueQueue;
+import owlmoney.model.schedule.RecurrenceRule;
+import owlmoney.model.transaction.PageRequest;
 import owlmoney.model.transaction.Transaction;
+import owlmoney.model.transaction.TransactionList;
+import owlmoney.model.transaction.TransactionQuery;
+import owlmoney.model.transaction.TransactionSearch;
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.model.undo.Revertible;
+import owlmoney.model.undo.UndoJournal;
+import owlmoney.model.undo.UndoRecord;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
 /**
  * Contains a list of all bank objects in the profile.
+ * The bank accounts with recurring transactions are also queued by the date the earliest one falls due, so an
+ * update only visits the bank accounts that have something due.
  */
 public class BankList {
     private ArrayList<Bank> bankLists;
+    private DueQueue<Bank> dueAccounts;
     private Storage storage;
+    private UndoJournal undoJournal;
+    private BudgetList budgetList;
+    private EventBus eventBus;
     private static final String SAVING = "saving";
     private static final String INVESTMENT = "investment";
     private static final int ONE_INDEX = 1;
@@ -29,7 +51,6 @@ public class BankList {
     private static final boolean ISMULTIPLE = true;
     private static final boolean ISSINGLE = false;
     private static final int ISZERO = 0;
-    private static final String FILE_PATH = "data/";
     private static final String PROFILE_BANK_LIST_FILE_NAME = "profile_banklist.csv";
     private static final String INVESTMENT_BOND_LIST_FILE_NAME = "_investment_bondList.csv";
     private static final String INVESTMENT_TRANSACTION_LIST_FILE_NAME = "_investment_transactionList.csv";
@@ -43,7 +64,85 @@ public class BankList {
      */
     public BankList(Storage storage) {
         bankLists = new ArrayList<Bank>();
+        dueAccounts = new DueQueue<>();
         this.storage = storage;
+        this.undoJournal = new UndoJournal();
+        this.budgetList = new BudgetList(storage);
+        this.eventBus = new EventBus();
+    }
+
+    /**
+     * Sets the journal that records the inverse of changes made to bank accounts.
+     *
+     * @param undoJournal the undo journal of the profile.
+     */
+    public void setUndoJournal(UndoJournal undoJournal) {
+        this.undoJournal = undoJournal;
+    }
+
+    /**
+     * Sets the budgets that the expenditures of every bank account added from now on are tracked in.
+     *
+     * @param budgetList the budgets of the profile.
+     */
+    public void setBudgetList(BudgetList budgetList) {
+        this.budgetList = budgetList;
+    }
+
+    /**
+     * Sets the event bus that every bank account added from now on publishes its changes to.
+     *
+     * @param eventBus the event bus of the profile.
+     */
+    public void setEventBus(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Adds the amounts already spent by every bank account to a new budget.
+     *
+     * @param budget the budget to add the amounts to.
+     */
+    public void bankListAddSpentToBudget(Budget budget) {
+        for (int i = ISZERO; i < bankLists.size(); i++) {
+            bankLists.get(i).addSpentToBudget(budget);
+        }
+    }
+
+    /**
+     * Records the inverse of a change to the transactions and balance of a bank account.
+     *
+     * @param description       what the change did.
+     * @param bank              the bank account that was changed.
+     * @param transactionChange the inverse of the change to the transaction list.
+     * @param previousAmount    the amount in the bank account before the change.
+     */
+    private void recordTransactionUndo(String description, Bank bank, Revertible transactionChange,
+            double previousAmount) {
+        UndoRecord record = new UndoRecord(description, ui -> exportBankAfterUndo(bank, ui));
+        record.addChange(transactionChange);
+        record.addChange(ui -> bank.setCurrentAmount(previousAmount));
+        undoJournal.record(record);
+    }
+
+    /**
+     * Writes the bank list and the transactions of the bank account after a change to it was undone.
+     *
+     * @param bank the bank account that was reverted.
+     * @param ui   required for printing.
+     */
+    private void exportBankAfterUndo(Bank bank, Ui ui) {
+        int index = bankLists.indexOf(bank);
+        if (index < ISZERO) {
+            return;
+        }
+        try {
+            exportBankList();
+            bank.exportBankTransactionList(Integer.toString(index));
+        } catch (IOException | BankException e) {
+            ui.printError("Error trying to save your undo to disk. Your data is"
+                    + " at risk, but we will try again, feel free to continue using the program.");
+        }
     }
 
     /**
@@ -78,7 +177,10 @@ public class BankList {
         } else if (accountType.equals(INVESTMENT) && getNumberOfAccountType(accountType) >= MAX_INVESTMENT_LIMIT) {
             throw new BankException("The maximum limit of 3 investment account has been reached");
         }
+        newBank.setBudgetList(budgetList);
+        newBank.setEventBus(eventBus);
         bankLists.add(newBank);
+        scheduleDueAccount(newBank);
         ui.printMessage("Added new bank with following details: ");
         printOneBank(ONE_INDEX, newBank, ISSINGLE, ui);
         try {
@@ -146,7 +248,7 @@ public class BankList {
      * @param bankName name of bank account.
      * @return the result bankName exists.
      */
-    private boolean bankAccountExists(String bankName) {
+    public boolean bankAccountExists(String bankName) {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankName.equals(bankLists.get(i).getAccountName())) {
                 return true;
@@ -194,18 +296,20 @@ public class BankList {
                 if (bankName.equals(bankLists.get(i).getAccountName())) {
                     Bank temp = bankLists.get(i);
                     bankLists.remove(i);
+                    dueAccounts.remove(temp);
+                    temp.publishDeletion();
                     ui.printMessage("Removed bank with the following details: ");
                     printOneBank(ONE_INDEX, temp, ISSINGLE, ui);
                     try {
                         exportBankList();
-                        Files.deleteIfExists(Paths.get(FILE_PATH + Integer.toString(i)
-                                + INVESTMENT_BOND_LIST_FILE_NAME));
-                        Files.deleteIfExists(Paths.get(FILE_PATH + Integer.toString(i)
-                                + INVESTMENT_TRANSACTION_LIST_FILE_NAME));
-                        Files.deleteIfExists(Paths.get(FILE_PATH + Integer.toString(i)
-                                + SAVING_TRANSACTION_LIST_FILE_NAME));
-                        Files.deleteIfExists(Paths.get(FILE_PATH + Integer.toString(i)
-                                + SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME));
+                        storage.deleteFile(Integer.toString(i) + INVESTMENT_BOND_LIST_FILE_NAME);
+                        storage.deleteFile(Integer.toString(i) + INVESTMENT_TRANSACTION_LIST_FILE_NAME);
+                        storage.deleteFile(TransactionList.getDeleteLogFileName(
+                                Integer.toString(i) + INVESTMENT_TRANSACTION_LIST_FILE_NAME));
+                        storage.deleteFile(Integer.toString(i) + SAVING_TRANSACTION_LIST_FILE_NAME);
+                        storage.deleteFile(TransactionList.getDeleteLogFileName(
+                                Integer.toString(i) + SAVING_TRANSACTION_LIST_FILE_NAME));
+                        storage.deleteFile(Integer.toString(i) + SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME);
                     } catch (IOException e) {
                         ui.printError("Error trying to save your deletions to disk."
                                 + " Your data is at risk, but we will try again,"
@@ -232,6 +336,10 @@ public class BankList {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(bankName)
                     && "saving".equals(bankLists.get(i).getType())) {
+                Bank bank = bankLists.get(i);
+                String previousName = bank.getAccountName();
+                double previousAmount = bank.getCurrentAmount();
+                double previousIncome = bank.getIncome();
                 if (!(newName.isEmpty() || newName.isBlank())) {
                     compareBank(bankLists.get(i), newName);
                     bankLists.get(i).setAccountName(newName);
@@ -242,6 +350,13 @@ public class BankList {
                 if (!(income.isEmpty() || income.isBlank())) {
                     bankLists.get(i).setIncome(Double.parseDouble(income));
                 }
+                UndoRecord record = new UndoRecord("editing " + bankName, this::exportBankListAfterUndo);
+                record.addChange(undoUi -> {
+                    bank.setAccountName(previousName);
+                    bank.setCurrentAmount(previousAmount);
+                    ((Saving) bank).setIncome(previousIncome);
+                });
+                undoJournal.record(record);
                 ui.printMessage("New details of the account:");
                 printOneBank(ONE_INDEX, bankLists.get(i), ISSINGLE, ui);
                 try {
@@ -285,6 +400,9 @@ public class BankList {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(bankName)
                     && "investment".equals(bankLists.get(i).getType())) {
+                Bank bank = bankLists.get(i);
+                String previousName = bank.getAccountName();
+                double previousAmount = bank.getCurrentAmount();
                 if (!(newName.isEmpty() || newName.isBlank())) {
                     compareBank(bankLists.get(i), newName);
                     bankLists.get(i).setAccountName(newName);
@@ -292,6 +410,12 @@ public class BankList {
                 if (!(amount.isBlank() || amount.isEmpty())) {
                     bankLists.get(i).setCurrentAmount(Double.parseDouble(amount));
                 }
+                UndoRecord record = new UndoRecord("editing " + bankName, this::exportBankListAfterUndo);
+                record.addChange(undoUi -> {
+                    bank.setAccountName(previousName);
+                    bank.setCurrentAmount(previousAmount);
+                });
+                undoJournal.record(record);
                 ui.printMessage("New details of the account:");
                 printOneBank(ONE_INDEX, bankLists.get(i), ISSINGLE, ui);
                 try {
@@ -332,45 +456,65 @@ public class BankList {
     }
 
     /**
-     * Lists expenditures in the bank account.
+     * Lists a page of expenditures in the bank account.
      *
      * @param bankToList The name of the bank account.
      * @param ui         required for printing.
-     * @param displayNum Number of expenditures to list.
+     * @param page       The page of expenditures to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older expenditures.
      * @throws TransactionException If no expenditure is found.
      * @throws BankException        If bank name does not exist.
      */
-    public void bankListListBankExpenditure(String bankToList, Ui ui, int displayNum)
+    public long bankListListBankExpenditure(String bankToList, Ui ui, PageRequest page)
             throws TransactionException, BankException {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankToList.equals(bankLists.get(i).getAccountName())) {
-                bankLists.get(i).listAllExpenditure(ui, displayNum);
-                return;
+                return bankLists.get(i).listAllExpenditure(ui, page);
             }
         }
         throw new BankException("Cannot find bank with name: " + bankToList);
     }
 
     /**
-     * Lists deposits in the bank account.
+     * Lists a page of deposits in the bank account.
      *
      * @param bankToList The name of the bank account.
      * @param ui         required for printing.
-     * @param displayNum Number of deposits to list.
+     * @param page       The page of deposits to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older deposits.
      * @throws TransactionException If no deposit is found.
      * @throws BankException        If bank account does not exist.
      */
-    public void bankListListBankDeposit(String bankToList, Ui ui, int displayNum)
+    public long bankListListBankDeposit(String bankToList, Ui ui, PageRequest page)
             throws TransactionException, BankException {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankToList.equals(bankLists.get(i).getAccountName())) {
-                bankLists.get(i).listAllDeposit(ui, displayNum);
-                return;
+                return bankLists.get(i).listAllDeposit(ui, page);
             }
         }
         throw new BankException("Cannot find bank with name: " + bankToList);
     }
 
+    /**
+     * Prints the totals of the transactions in the bank account by month and category.
+     *
+     * @param bankToReport The name of the bank account.
+     * @param month        The month to report, or null to report every month.
+     * @param ui           required for printing.
+     * @throws TransactionException If there are no transactions to report.
+     * @throws BankException        If bank account does not exist.
+     */
+    public void bankListReportTransactions(String bankToReport, YearMonth month, Ui ui)
+            throws TransactionException, BankException {
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            if (bankToReport.equals(bankLists.get(i).getAccountName())) {
+                bankLists.get(i).reportTransactions(month, ui);
+                return;
+            }
+        }
+        throw new BankException("Cannot find bank with name: " + bankToReport);
+    }
+
     /**
      * Adds an expenditure tied to a bank account.
      * This will store the expenditure in the ExpenditureList in the bank account.
@@ -385,7 +529,11 @@ public class BankList {
             throws BankException {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(accName)) {
-                bankLists.get(i).addInExpenditure(exp, ui, type);
+                Bank bank = bankLists.get(i);
+                Revertible transactionChange = bank.transactions.prepareAddUndo(exp);
+                double previousAmount = bank.getCurrentAmount();
+                bank.addInExpenditure(exp, ui, type);
+                recordTransactionUndo("adding an expenditure to " + accName, bank, transactionChange, previousAmount);
                 try {
                     exportBankList();
                     bankLists.get(i).exportBankTransactionList(Integer.toString(i));
@@ -416,7 +564,12 @@ public class BankList {
             String amount, String date, String category, Ui ui) throws BankException, TransactionException {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(editFromBank)) {
-                bankLists.get(i).editExpenditureDetails(expNum, desc, amount, date, category, ui);
+                Bank bank = bankLists.get(i);
+                Revertible transactionChange = bank.transactions.prepareEditUndo(expNum);
+                double previousAmount = bank.getCurrentAmount();
+                bank.editExpenditureDetails(expNum, desc, amount, date, category, ui);
+                recordTransactionUndo("editing an expenditure in " + editFromBank, bank, transactionChange,
+                        previousAmount);
                 try {
                     exportBankList();
                     bankLists.get(i).exportBankTransactionList(Integer.toString(i));
@@ -443,7 +596,12 @@ public class BankList {
             throws TransactionException, BankException {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (deleteFromBank.equals(bankLists.get(i).getAccountName())) {
-                bankLists.get(i).deleteExpenditure(expNum, ui);
+                Bank bank = bankLists.get(i);
+                Revertible transactionChange = bank.transactions.prepareRemoveUndo(expNum);
+                double previousAmount = bank.getCurrentAmount();
+                bank.deleteExpenditure(expNum, ui);
+                recordTransactionUndo("deleting an expenditure from " + deleteFromBank, bank, transactionChange,
+                        previousAmount);
                 try {
                     exportBankList();
                     bankLists.get(i).exportBankTransactionList(Integer.toString(i));
@@ -470,7 +628,11 @@ public class BankList {
     public void bankListAddDeposit(String accName, Transaction dep, Ui ui, String bankType) throws BankException {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(accName)) {
-                bankLists.get(i).addDepositTransaction(dep, ui, bankType);
+                Bank bank = bankLists.get(i);
+                Revertible transactionChange = bank.transactions.prepareAddUndo(dep);
+                double previousAmount = bank.getCurrentAmount();
+                bank.addDepositTransaction(dep, ui, bankType);
+                recordTransactionUndo("adding a deposit to " + accName, bank, transactionChange, previousAmount);
                 try {
                     exportBankList();
                     bankLists.get(i).exportBankTransactionList(Integer.toString(i));
@@ -501,7 +663,12 @@ public class BankList {
             String amount, String date, Ui ui) throws BankException, TransactionException {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(editFromBank)) {
-                bankLists.get(i).editDepositDetails(expNum, desc, amount, date, ui);
+                Bank bank = bankLists.get(i);
+                Revertible transactionChange = bank.transactions.prepareEditUndo(expNum);
+                double previousAmount = bank.getCurrentAmount();
+                bank.editDepositDetails(expNum, desc, amount, date, ui);
+                recordTransactionUndo("editing a deposit in " + editFromBank, bank, transactionChange,
+                        previousAmount);
                 try {
                     exportBankList();
                     bankLists.get(i).exportBankTransactionList(Integer.toString(i));
@@ -527,7 +694,11 @@ public class BankList {
     public void bankListDeleteDeposit(String accName, int index, Ui ui) throws BankException, TransactionException {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(accName)) {
-                bankLists.get(i).deleteDepositTransaction(index, ui);
+                Bank bank = bankLists.get(i);
+                Revertible transactionChange = bank.transactions.prepareRemoveUndo(index);
+                double previousAmount = bank.getCurrentAmount();
+                bank.deleteDepositTransaction(index, ui);
+                recordTransactionUndo("deleting a deposit from " + accName, bank, transactionChange, previousAmount);
                 try {
                     exportBankList();
                     bankLists.get(i).exportBankTransactionList(Integer.toString(i));
@@ -541,6 +712,77 @@ public class BankList {
         throw new BankException("Cannot find bank with name: " + accName);
     }
 
+    /**
+     * Edits the description and category of every transaction in the bank account that matches the query.
+     * The matches are found in a single pass, edited together and saved to disk once.
+     *
+     * @param bankName    The name of the bank account.
+     * @param query       The criteria to match against.
+     * @param description The new description of the matches, or blank to keep their descriptions.
+     * @param category    The new category of the matching expenditures, or blank to keep their categories.
+     * @param ui          required for printing.
+     * @throws BankException        If bank account does not exist or does not support editing.
+     * @throws TransactionException If no transaction matches the query.
+     */
+    public void bankListEditMatchingTransactions(String bankName, TransactionQuery query, String description,
+            String category, Ui ui) throws BankException, TransactionException {
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            if (bankLists.get(i).getAccountName().equals(bankName)) {
+                Bank bank = bankLists.get(i);
+                List<Integer> matches = bank.transactions.getMatchingTransactionNumbers(query);
+                Revertible transactionChange = bank.transactions.prepareEditUndo(matches);
+                double previousAmount = bank.getCurrentAmount();
+                bank.editMatchingTransactions(matches, description, category, ui);
+                recordTransactionUndo("editing " + matches.size() + " transactions in " + bankName, bank,
+                        transactionChange, previousAmount);
+                try {
+                    exportBankList();
+                    bank.exportBankTransactionList(Integer.toString(i));
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your edits to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
+                return;
+            }
+        }
+        throw new BankException("Cannot find bank with name: " + bankName);
+    }
+
+    /**
+     * Deletes every transaction in the bank account that matches the query.
+     * The matches are found in a single pass, deleted together with one change to the amount and saved to disk once.
+     *
+     * @param bankName The name of the bank account.
+     * @param query    The criteria to match against.
+     * @param ui       required for printing.
+     * @throws BankException        If bank account does not exist, does not support deleting or the amount
+     *                              becomes negative.
+     * @throws TransactionException If no transaction matches the query.
+     */
+    public void bankListDeleteMatchingTransactions(String bankName, TransactionQuery query, Ui ui)
+            throws BankException, TransactionException {
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            if (bankLists.get(i).getAccountName().equals(bankName)) {
+                Bank bank = bankLists.get(i);
+                List<Integer> matches = bank.transactions.getMatchingTransactionNumbers(query);
+                Revertible transactionChange = bank.transactions.prepareRemoveUndo(matches);
+                double previousAmount = bank.getCurrentAmount();
+                bank.deleteMatchingTransactions(matches, ui);
+                recordTransactionUndo("deleting " + matches.size() + " transactions from " + bankName, bank,
+                        transactionChange, previousAmount);
+                try {
+                    exportBankList();
+                    bank.exportBankTransactionList(Integer.toString(i));
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your deletions to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
+                return;
+            }
+        }
+        throw new BankException("Cannot find bank with name: " + bankName);
+    }
+
     /**
      * Checks if the bond exists before adding.
      *
@@ -571,6 +813,7 @@ public class BankList {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (accName.equals(bankLists.get(i).getAccountName())) {
                 bankLists.get(i).addBondToInvestmentAccount(bond, ui);
+                scheduleDueAccount(bankLists.get(i));
                 try {
                     exportBankList();
                     bankLists.get(i).exportInvestmentBondList(Integer.toString(i));
@@ -692,12 +935,9 @@ public class BankList {
         }
 
         if (INVESTMENT.equals(bank.getType())) {
-            ui.printInvestment(num, bank.getAccountName(), bank.getType(),
-                    "$" + new DecimalFormat("0.00").format(bank.getCurrentAmount()));
+            ui.printInvestment(num, bank.getAccountName(), bank.getType(), bank.getCurrentAmount());
         } else if (SAVING.equals(bank.getType())) {
-            ui.printSaving(num, bank.getAccountName(), bank.getType(),
-                    "$" + new DecimalFormat("0.00").format(bank.getCurrentAmount()),
-                    "$" + new DecimalFormat("0.00").format(bank.getIncome()));
+            ui.printSaving(num, bank.getAccountName(), bank.getType(), bank.getCurrentAmount(), bank.getIncome());
         }
         if (!isMultiplePrinting) {
             ui.printDivider();
@@ -746,6 +986,7 @@ public class BankList {
         for (int i = 0; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(bankName)) {
                 bankLists.get(i).savingAddRecurringExpenditure(newRecurringExpenditure, ui);
+                scheduleDueAccount(bankLists.get(i));
                 try {
                     exportBankList();
                     if (bankLists.get(i).getType().equals(INVESTMENT)) {
@@ -818,16 +1059,17 @@ public class BankList {
      *
      * @param bankName Name of bank account.
      * @param index    Index of recurring expenditure.
+     * @param repeats  New recurrence rule of the recurring expenditure, or null to keep the current one.
      * @param ui       Used for printing.
      * @throws BankException        If bank is not found or is an investment account.
      * @throws TransactionException There are 0 recurring expenditures or index is out of range.
      */
-    public void bankListEditRecurringExpenditure(
-            String bankName, int index, String description, String amount, String category, Ui ui)
-            throws BankException, TransactionException {
+    public void bankListEditRecurringExpenditure(String bankName, int index, String description, String amount,
+            String category, RecurrenceRule repeats, Ui ui) throws BankException, TransactionException {
         for (int i = 0; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(bankName)) {
-                bankLists.get(i).savingEditRecurringExpenditure(index, description, amount, category, ui);
+                bankLists.get(i).savingEditRecurringExpenditure(index, description, amount, category, repeats, ui);
+                scheduleDueAccount(bankLists.get(i));
                 try {
                     exportBankList();
                     if (bankLists.get(i).getType().equals(INVESTMENT)) {
@@ -846,15 +1088,43 @@ public class BankList {
     }
 
     /**
-     * Updates all recurring transactions from all banks.
+     * Queues a bank account by the date its earliest recurring transaction falls due, replacing the entry
+     * queued for it before, if any.
+     *
+     * @param bank the bank account to queue.
+     */
+    private void scheduleDueAccount(Bank bank) {
+        dueAccounts.schedule(bank, bank.getNextDueDate());
+    }
+
+    /**
+     * Gets the date the earliest recurring transaction of any bank account falls due.
+     *
+     * @return the earliest due date, or null if nothing recurs in any bank account.
+     */
+    public Date bankListGetNextDueDate() {
+        return dueAccounts.getNextDueDate();
+    }
+
+    /**
+     * Updates the recurring transactions of the banks that have any due, and saves the banks that changed.
+     * Only the bank accounts at the front of the due queue are visited, and each is queued again by the date
+     * its next recurring transaction falls due.
      *
      * @param ui Used for printing,
+     * @return true if any bank account changed.
      */
-    public void bankListUpdateRecurringTransactions(Ui ui) {
-        for (int i = 0; i < getBankListSize(); i++) {
-            bankLists.get(i).updateRecurringTransactions(ui);
+    public boolean bankListUpdateRecurringTransactions(Ui ui) {
+        boolean isAnyBankUpdated = false;
+        for (Bank dueBank : dueAccounts.pollDue(new Date())) {
+            boolean isBankUpdated = dueBank.updateRecurringTransactions(ui);
+            scheduleDueAccount(dueBank);
+            if (!isBankUpdated) {
+                continue;
+            }
+            isAnyBankUpdated = true;
+            int i = bankLists.indexOf(dueBank);
             try {
-                exportBankList();
                 if (bankLists.get(i).getType().equals(INVESTMENT)) {
                     bankLists.get(i).exportInvestmentBondList(Integer.toString(i));
                 }
@@ -867,6 +1137,15 @@ public class BankList {
                         + " at risk, but we will try again, feel free to continue using the program.");
             }
         }
+        if (isAnyBankUpdated) {
+            try {
+                exportBankList();
+            } catch (IOException e) {
+                ui.printError("Error trying to save your updates to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+            }
+        }
+        return isAnyBankUpdated;
     }
 
     /**
@@ -973,28 +1252,62 @@ public class BankList {
     }
 
     /**
-     * Finds matching bank transactions from the account specified by the user.
+     * Finds a page of matching bank transactions from the account specified by the user.
      *
-     * @param bankName    The name of the bank object to search for matching bank transaction.
-     * @param fromDate    The date to search from.
-     * @param toDate      The date to search until.
-     * @param description The description keyword to match against.
-     * @param category    The category keyword to match against.
-     * @param ui          The object required for printing.
-     * @throws BankException        If bank name specified does not exist.
-     * @throws TransactionException If parsing of date fails.
-     */
-    public void bankListFindTransaction(String bankName, String fromDate, String toDate,
-            String description, String category, Ui ui) throws BankException, TransactionException {
+     * @param bankName The name of the bank object to search for matching bank transaction.
+     * @param query    The criteria to match against.
+     * @param page     The page of matches to list.
+     * @param ui       The object required for printing.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no further matches.
+     * @throws BankException If bank name specified does not exist.
+     */
+    public long bankListFindTransaction(String bankName, TransactionQuery query, PageRequest page, Ui ui)
+            throws BankException {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(bankName)) {
-                bankLists.get(i).findTransaction(fromDate, toDate, description, category, ui);
-                return;
+                return bankLists.get(i).findTransaction(query, page, ui);
             }
         }
         throw new BankException("Bank with the following name does not exist: " + bankName);
     }
 
+    /**
+     * Adds the transactions of every bank account to a search across every account.
+     *
+     * @param search The search to add the transactions to.
+     */
+    public void bankListAddToSearch(TransactionSearch search) {
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            bankLists.get(i).addToSearch(search);
+        }
+    }
+
+    /**
+     * Adds the balances and bonds of every bank account to a net worth calculation.
+     *
+     * @param netWorth The net worth calculation to add the bank accounts to.
+     */
+    public void bankListAddToNetWorth(NetWorth netWorth) {
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            bankLists.get(i).addToNetWorth(netWorth);
+        }
+    }
+
+    /**
+     * Adds the balances and schedules of every bank account to a forecast.
+     *
+     * @param forecast The forecast to add the bank accounts to.
+     * @throws BankException If there are no bank accounts.
+     */
+    public void bankListAddToForecast(Forecast forecast) throws BankException {
+        if (getBankListSize() <= ISZERO) {
+            throw new BankException("There are 0 bank accounts");
+        }
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            bankLists.get(i).addToForecast(forecast);
+        }
+    }
+
     /**
      * Prepares the bankList for exporting of bank name and type of the bank account.
      *
@@ -1004,24 +1317,41 @@ public class BankList {
         ArrayList<String[]> exportArrayList = new ArrayList<>();
         DecimalFormat decimalFormat = new DecimalFormat(".00");
         decimalFormat.setRoundingMode(RoundingMode.DOWN);
-        exportArrayList.add(new String[]{"accountName","type","amount","income"});
+        SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        exportArrayList.add(new String[]{"accountName","type","amount","income","nextIncomeDate"});
         for (int i = 0; i < getBankListSize(); i++) {
             String accountName = bankLists.get(i).getAccountName();
             String accountType = bankLists.get(i).getType();
             double amount = bankLists.get(i).getCurrentAmount();
             double income = 0;
             String stringAmount = decimalFormat.format(amount);
+            String nextIncomeDate = null;
             try {
                 income = bankLists.get(i).getIncome();
+                nextIncomeDate = exportDateFormat.format(bankLists.get(i).getNextIncomeDate());
             } catch (BankException e) {
                 income = 0;
             }
             String stringIncome = decimalFormat.format(income);
-            exportArrayList.add(new String[]{accountName,accountType,stringAmount,stringIncome});
+            exportArrayList.add(new String[]{accountName,accountType,stringAmount,stringIncome,nextIncomeDate});
         }
         return exportArrayList;
     }
 
+    /**
+     * Writes the bank list after a change to the details of a bank account was undone.
+     *
+     * @param ui required for printing.
+     */
+    private void exportBankListAfterUndo(Ui ui) {
+        try {
+            exportBankList();
+        } catch (IOException e) {
+            ui.printError("Error trying to save your undo to disk. Your data is"
+                    + " at risk, but we will try again, feel free to continue using the program.");
+        }
+    }
+
     /**
      * Writes the data of the bank list that was prepared to permanent storage.
      *
@@ -1043,6 +1373,7 @@ public class BankList {
         for (int i = ISZERO; i < getBankListSize(); i++) {
             if (bankName.equals(bankLists.get(i).getAccountName())) {
                 bankLists.get(i).importNewBonds(newBond);
+                scheduleDueAccount(bankLists.get(i));
             }
         }
     }
@@ -1081,12 +1412,35 @@ public class BankList {
         throw new BankException("There is no account with the name: " + bankName);
     }
 
+    /**
+     * Marks the transactions of the bank account as loaded from the saved file and its delete log.
+     * @param bankName bank name the transactions were imported to.
+     * @param fileName the name of the file the transactions were loaded from.
+     * @param savedRowCount the number of transactions in the file.
+     * @param skippedRowCount the number of transactions in the file that were skipped as deleted.
+     * @param loggedDeletedIds the IDs in the delete log of the file.
+     * @throws BankException if the bank account does not exist.
+     */
+    public void bankListMarkTransactionsSaved(String bankName, String fileName, int savedRowCount,
+            int skippedRowCount, List<Long> loggedDeletedIds) throws BankException {
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            if (bankLists.get(i).getAccountName().equals(bankName)) {
+                bankLists.get(i).markTransactionsSaved(fileName, savedRowCount, skippedRowCount, loggedDeletedIds);
+                return;
+            }
+        }
+        throw new BankException("There is no account with the name: " + bankName);
+    }
+
     /**
      * Imports banks loaded from save file into bankList.
      * @param newBank an instance of the bank account to be imported.
      */
     public void bankListImportNewBank(Bank newBank) {
+        newBank.setBudgetList(budgetList);
+        newBank.setEventBus(eventBus);
         bankLists.add(newBank);
+        scheduleDueAccount(newBank);
     }
 
     /**
@@ -1100,6 +1454,7 @@ public class BankList {
         for (int i = 0; i < getBankListSize(); i++) {
             if (bankLists.get(i).getAccountName().equals(bankName)) {
                 bankLists.get(i).importNewRecurringExpenditure(newRecurringExpenditure);
+                scheduleDueAccount(bankLists.get(i));
             }
         }
     }
@@ -1138,4 +1493,40 @@ public class BankList {
         }
         throw new BankException("Bank with the following name does not exist: " + bank);
     }
+
+    /**
+     * Gets the transaction number of the transaction with an ID in the bank account.
+     *
+     * @param bank The name of the bank account.
+     * @param id   The ID of the transaction.
+     * @return The transaction number of the transaction.
+     * @throws TransactionException If there is no transaction with the ID.
+     * @throws BankException        If bank account does not exist.
+     */
+    public int bankListGetTransactionNumberById(String bank, long id) throws TransactionException, BankException {
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            if (bankLists.get(i).getAccountName().equals(bank)) {
+                return bankLists.get(i).transactions.getTransactionNumberById(id);
+            }
+        }
+        throw new BankException("Bank with the following name does not exist: " + bank);
+    }
+
+    /**
+     * Gets the ID of the transaction with a transaction number in the bank account.
+     *
+     * @param bank  The name of the bank account.
+     * @param index The transaction number of the transaction.
+     * @return The ID of the transaction.
+     * @throws TransactionException If the transaction number is out of range.
+     * @throws BankException        If bank account does not exist.
+     */
+    public long bankListGetTransactionId(String bank, int index) throws TransactionException, BankException {
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            if (bankLists.get(i).getAccountName().equals(bank)) {
+                return bankLists.get(i).transactions.getIdByTransactionNumber(index);
+            }
+        }
+        throw new BankException("Bank with the following name does not exist: " + bank);
+    }
 }
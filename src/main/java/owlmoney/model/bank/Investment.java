@@ -6,13 +6,18 @@ import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Comparator;
 import java.util.Date;
 
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.Bond;
 import owlmoney.model.bond.BondList;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.forecast.Forecast;
+import owlmoney.model.networth.NetWorth;
+import owlmoney.model.schedule.RecurrenceRule;
 import owlmoney.model.transaction.Deposit;
+import owlmoney.model.transaction.PageRequest;
 import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.TransactionList;
 import owlmoney.model.transaction.exception.TransactionException;
@@ -30,6 +35,7 @@ public class Investment extends Bank {
     private static final String INVESTMENT_TRANSACTION_LIST_FILE_NAME = "_investment_transactionList.csv";
     private Storage storage;
     private static final String FILE_PATH = "data/";
+    private static final RecurrenceRule COUPON_SCHEDULE = RecurrenceRule.everyMonths(6);
 
 
     /**
@@ -64,6 +70,7 @@ public class Investment extends Bank {
         } else {
             transactions.addExpenditureToList(expenditure, ui, bankType);
             deductFromAmount(expenditure.getAmount());
+            printBudgetAlerts(expenditure, ui);
         }
     }
 
@@ -95,6 +102,28 @@ public class Investment extends Bank {
         bonds.addBondToList(bond, ui);
     }
 
+    /**
+     * Adds the balance and the bond principal of the investment account to a net worth calculation.
+     *
+     * @param netWorth The net worth calculation to add the balance and bonds to.
+     */
+    @Override
+    void addToNetWorth(NetWorth netWorth) {
+        super.addToNetWorth(netWorth);
+        bonds.addToNetWorth(netWorth);
+    }
+
+    /**
+     * Adds the balance of the investment account and the coupons and principal of its bonds to a forecast.
+     *
+     * @param forecast The forecast to add the investment account to.
+     */
+    @Override
+    void addToForecast(Forecast forecast) {
+        super.addToForecast(forecast);
+        bonds.addToForecast(getAccountName(), forecast);
+    }
+
     /**
      * Checks if bond exists in the bondList.
      *
@@ -176,99 +205,100 @@ public class Investment extends Bank {
     }
 
     /**
-     * Updates the bank amount with the interest generated from the bond and the corresponding deposit
-     * record in the transaction list.
-     *
-     * @param bond the bond that generated the interest.
-     * @param ui   required for printing.
-     */
-    private void addBondInterestDeposit(Bond bond, Ui ui) {
-        double interestAmount = bond.getAmount() * bond.getHalfYearlyCouponRate() / 100;
-        Transaction newDeposit = createNewDeposit(bond.getName(), interestAmount, bond.getNextDateToCreditInterest());
-        transactions.addDepositToList(newDeposit, ui, "bonds");
-        addToAmount(interestAmount);
-    }
-
-    /**
-     * Calculates the next interest rate date.
-     *
-     * @param currentInterestDate the current interest rate to calculate from.
-     * @return the next interest rate crediting date.
-     */
-    private Date calculateNextInterestDate(Date currentInterestDate) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(currentInterestDate);
-        calendar.add(Calendar.MONTH, 6);
-        return calendar.getTime();
-    }
-
-    /**
-     * Removes the bond if the bond has reached its maturity date.
+     * Checks the investment account for bonds interest crediting and updates the bonds to the next deposit date.
+     * The interest payments due on each bond are counted directly from its next interest date, up to the current
+     * date or its maturity, and the deposits of every bond are then added together in date order.
+     * Bonds that have reached maturity are paid back and removed together at the end.
      *
-     * @param ui         required for printing.
-     * @param targetBond the target bond to delete.
-     * @param endDate    the maturity date of the bond.
+     * @param ui Used for printing.
+     * @return true if any bond interest was credited.
      */
-    private boolean removeBondIfMature(Ui ui, Bond targetBond, Date endDate) {
-        if (targetBond.getNextDateToCreditInterest().compareTo(endDate) > 0) {
-            try {
-                ui.printMessage("Bond has reached maturity, removing bond.");
-                investmentDeleteBond(targetBond.getName(), ui);
-                return true;
-            } catch (BondException e) {
-                ui.printError("Unable to delete bond after crediting interest.");
+    @Override
+    public boolean updateRecurringTransactions(Ui ui) {
+        Date currentDate = new Date();
+        ArrayList<Transaction> newDeposits = new ArrayList<>();
+        ArrayList<Bond> matureBonds = new ArrayList<>();
+        double totalAmount = 0;
+        for (int i = 0; i < bonds.getSize(); i++) {
+            Bond targetBond = bonds.get(i);
+            Date firstDate = targetBond.getNextDateToCreditInterest();
+            Date endDate = targetBond.getBondEndDate();
+            int dueCount = Math.min(COUPON_SCHEDULE.countOccurrences(firstDate, currentDate),
+                    COUPON_SCHEDULE.countOccurrences(firstDate, endDate));
+            if (dueCount == 0) {
+                continue;
+            }
+            double interestAmount = targetBond.getAmount() * targetBond.getHalfYearlyCouponRate() / 100;
+            for (int coupon = 0; coupon < dueCount; coupon++) {
+                newDeposits.add(createNewDeposit(targetBond.getName(), interestAmount,
+                        COUPON_SCHEDULE.getOccurrence(firstDate, coupon)));
+            }
+            totalAmount += interestAmount * dueCount;
+            Date nextDateToCreditInterest = COUPON_SCHEDULE.getOccurrence(firstDate, dueCount);
+            targetBond.setNextDateToCreditInterest(nextDateToCreditInterest);
+            if (nextDateToCreditInterest.compareTo(endDate) > 0) {
+                matureBonds.add(targetBond);
             }
         }
-        return false;
+        if (newDeposits.isEmpty()) {
+            return false;
+        }
+        int interestCount = newDeposits.size();
+        newDeposits.sort(Comparator.comparing(Transaction::getDateInDateFormat));
+        for (Bond matureBond : matureBonds) {
+            newDeposits.add(createNewDeposit(matureBond.getName(), matureBond.getAmount(), currentDate));
+            totalAmount += matureBond.getAmount();
+        }
+        transactions.addTransactionsToList(newDeposits);
+        addToAmount(totalAmount);
+        ui.printMessage("Credited " + interestCount + " bond interest payments to " + getAccountName());
+        if (!matureBonds.isEmpty()) {
+            bonds.removeMatureBonds(matureBonds, ui);
+        }
+        return true;
     }
 
     /**
-     * Checks the investment account for bonds interest crediting and updates the bonds to the next deposit date.
+     * Gets the date the next bond interest of the investment account is credited.
      *
-     * @param ui Used for printing.
+     * @return the earliest next interest date of the bonds, or null if there are no bonds.
      */
     @Override
-    public void updateRecurringTransactions(Ui ui) {
+    Date getNextDueDate() {
+        Date nextDueDate = null;
         for (int i = 0; i < bonds.getSize(); i++) {
-            Bond targetBond = bonds.get(i);
-            Date endDate = targetBond.getBondEndDate();
-            Calendar calendarCurrentDate = Calendar.getInstance();
-            Date currentDate = calendarCurrentDate.getTime();
-            Date nextDateToCreditInterest = targetBond.getNextDateToCreditInterest();
-            while (currentDate.compareTo(nextDateToCreditInterest) >= 0) {
-                addBondInterestDeposit(targetBond,ui);
-                nextDateToCreditInterest = calculateNextInterestDate(nextDateToCreditInterest);
-                targetBond.setNextDateToCreditInterest(nextDateToCreditInterest);
-                if (removeBondIfMature(ui, targetBond, endDate)) {
-                    i--;
-                    break;
-                }
+            Date interestDate = bonds.get(i).getNextDateToCreditInterest();
+            if (nextDueDate == null || interestDate.before(nextDueDate)) {
+                nextDueDate = interestDate;
             }
         }
+        return nextDueDate;
     }
 
     /**
-     * Lists the deposits in the current bank account.
+     * Lists a page of the deposits in the current bank account.
      *
      * @param ui         Ui of OwlMoney.
-     * @param depositsToDisplay Number of deposits to list.
+     * @param page         the page of deposits to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older deposits.
      * @throws TransactionException If no deposit is found.
      */
     @Override
-    void listAllDeposit(Ui ui, int depositsToDisplay) throws TransactionException {
-        transactions.listDeposit(ui, depositsToDisplay);
+    long listAllDeposit(Ui ui, PageRequest page) throws TransactionException {
+        return transactions.listDeposit(ui, page);
     }
 
     /**
-     * Lists the expenditures in the current bank account.
+     * Lists a page of the expenditures in the current bank account.
      *
      * @param ui         Ui of OwlMoney.
-     * @param expendituresToDisplay Number of expenditure to list.
+     * @param page         the page of expenditures to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older expenditures.
      * @throws TransactionException If no expenditure is found.
      */
     @Override
-    void listAllExpenditure(Ui ui, int expendituresToDisplay) throws TransactionException {
-        transactions.listExpenditure(ui, expendituresToDisplay);
+    long listAllExpenditure(Ui ui, PageRequest page) throws TransactionException {
+        return transactions.listExpenditure(ui, page);
     }
 
     /**
@@ -336,9 +366,9 @@ public class Investment extends Bank {
      */
     @Override
     public void exportBankTransactionList(String prependFileName) throws IOException {
-        ArrayList<String[]> inputData = prepareExportTransactionList();
         try {
-            storage.writeFile(inputData,prependFileName + INVESTMENT_TRANSACTION_LIST_FILE_NAME);
+            transactions.exportTransactionList(storage, prependFileName + INVESTMENT_TRANSACTION_LIST_FILE_NAME,
+                    this::prepareExportTransactionList);
         } catch (IOException e) {
             throw new IOException(e);
         }
@@ -2,16 +2,19 @@ package owlmoney.model.bank;
 
 import java.io.IOException;
 import java.math.RoundingMode;
-import java.text.DateFormat;
 import java.text.DecimalFormat;
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 
 import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.forecast.Forecast;
+import owlmoney.model.schedule.DueOccurrence;
+import owlmoney.model.schedule.RecurrenceRule;
 import owlmoney.model.transaction.Expenditure;
+import owlmoney.model.transaction.PageRequest;
 import owlmoney.model.transaction.RecurringExpenditureList;
 import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.TransactionList;
@@ -34,6 +37,9 @@ public class Saving extends Bank {
 
     private Storage storage;
     private static final String FILE_PATH = "data/";
+    private static final int INCOME_SCHEDULE = 0;
+    private static final int ONE_INDEX = 1;
+    private static final int ISZERO = 0;
 
     /**
      * Creates an instance of a savings account.
@@ -59,22 +65,16 @@ public class Saving extends Bank {
     }
 
     /**
-     * Updates the next income date and current amount if an income has been earned.
+     * Creates an instance of a savings account loaded from the save file, with the date its next income is due.
      *
-     * @return If there is an update to the income.
+     * @param name           The name of the bank account.
+     * @param currentAmount  The current amount of money in  the bank account.
+     * @param income         The amount of money that is credited monthly into the account.
+     * @param nextIncomeDate The date the next income is credited into the account.
      */
-    private boolean earnedIncome() {
-        if (new Date().compareTo(nextIncomeDate) >= 0) {
-            if (income > 0) {
-                addToAmount(income);
-            }
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(nextIncomeDate);
-            calendar.add(Calendar.MONTH, 1);
-            nextIncomeDate = calendar.getTime();
-            return true;
-        }
-        return false;
+    public Saving(String name, double currentAmount, double income, Date nextIncomeDate) {
+        this(name, currentAmount, income);
+        this.nextIncomeDate = nextIncomeDate;
     }
 
     /**
@@ -87,6 +87,16 @@ public class Saving extends Bank {
         return income;
     }
 
+    /**
+     * Gets the date the next income is credited into the savings account.
+     *
+     * @return the next income date of the savings account.
+     */
+    @Override
+    Date getNextIncomeDate() {
+        return nextIncomeDate;
+    }
+
     /**
      * Adds an expenditure tied to this instance of the bank account.
      *
@@ -105,31 +115,34 @@ public class Saving extends Bank {
         } else {
             transactions.addExpenditureToList(expenditure, ui, bankType);
             deductFromAmount(expenditure.getAmount());
+            printBudgetAlerts(expenditure, ui);
         }
     }
 
     /**
-     * Lists the deposits in the current bank account.
+     * Lists a page of the deposits in the current bank account.
      *
      * @param ui                Ui of OwlMoney.
-     * @param depositsToDisplay Number of deposits to list.
+     * @param page                the page of deposits to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older deposits.
      * @throws TransactionException If no deposit is found.
      */
     @Override
-    void listAllDeposit(Ui ui, int depositsToDisplay) throws TransactionException {
-        transactions.listDeposit(ui, depositsToDisplay);
+    long listAllDeposit(Ui ui, PageRequest page) throws TransactionException {
+        return transactions.listDeposit(ui, page);
     }
 
     /**
-     * Lists the expenditures in the current bank account.
+     * Lists a page of the expenditures in the current bank account.
      *
      * @param ui                    Ui of OwlMoney.
-     * @param expendituresToDisplay Number of expenditure to list.
+     * @param page                    the page of expenditures to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older expenditures.
      * @throws TransactionException If no expenditure is found.
      */
     @Override
-    void listAllExpenditure(Ui ui, int expendituresToDisplay) throws TransactionException {
-        transactions.listExpenditure(ui, expendituresToDisplay);
+    long listAllExpenditure(Ui ui, PageRequest page) throws TransactionException {
+        return transactions.listExpenditure(ui, page);
     }
 
     /**
@@ -204,6 +217,36 @@ public class Saving extends Bank {
         this.deductFromAmount(oldAmount);
     }
 
+    /**
+     * Edits the description and category of several transactions in the current bank account together.
+     *
+     * @param transactionNumbers Transaction numbers of the transactions, in the order of the list.
+     * @param description        New description, or blank to keep the descriptions.
+     * @param category           New category of the expenditures, or blank to keep the categories.
+     * @param ui                 Ui of OwlMoney.
+     */
+    @Override
+    void editMatchingTransactions(List<Integer> transactionNumbers, String description, String category, Ui ui) {
+        transactions.editTransactions(transactionNumbers, description, category, ui);
+    }
+
+    /**
+     * Deletes several transactions from the current bank account together, adjusting the amount once.
+     *
+     * @param transactionNumbers Transaction numbers of the transactions, in the order of the list.
+     * @param ui                 Ui of OwlMoney.
+     * @throws BankException If amount becomes negative after deleting the transactions.
+     */
+    @Override
+    void deleteMatchingTransactions(List<Integer> transactionNumbers, Ui ui) throws BankException {
+        double netDepositAmount = transactions.getNetDepositAmount(transactionNumbers);
+        if (this.getCurrentAmount() < netDepositAmount) {
+            throw new BankException("Bank account cannot have a negative amount");
+        }
+        transactions.deleteTransactionsFromList(transactionNumbers, ui);
+        this.deductFromAmount(netDepositAmount);
+    }
+
     /**
      * Adds a new deposit to the current bank account.
      *
@@ -239,61 +282,120 @@ public class Saving extends Bank {
     }
 
     /**
-     * Updates the recurring expenditure to the net date and add an expenditure to expenditure list if overdue.
+     * Catches up on the incomes and recurring expenditures that fell due since the last update.
+     * The number of occurrences due on each schedule is counted directly from its start date and the occurrences
+     * already applied, and every due occurrence is then applied in date order, with incomes before expenditures
+     * on the same day.
+     * A recurring expenditure that the balance cannot cover stays due from that occurrence onwards.
      *
-     * @param recurringExpenditure The recurring expenditure to check.
-     * @param outdatedState        The state of the recurring expenditure if it is outdated.
-     * @param ui                   Used for printing.
-     * @return Outdated state of the expenditure.
-     * @throws BankException If bank amount becomes negative.
+     * @param ui Used for printing.
+     * @return true if the balance or transactions of the account changed.
      */
-    private boolean savingUpdateRecurringExpenditure(Transaction recurringExpenditure, boolean outdatedState, Ui ui)
-            throws BankException {
-        DateFormat dateOutputFormat = new SimpleDateFormat("dd MMMM yyyy");
-        Date expenditureDate = null;
-        boolean currentState = outdatedState;
-        try {
-            expenditureDate = dateOutputFormat.parse(recurringExpenditure.getDate());
-        } catch (ParseException e) {
-            //check is already done when adding expenditure
+    @Override
+    boolean updateRecurringTransactions(Ui ui) {
+        Date currentDate = new Date();
+        int scheduleCount = recurringExpenditures.getListSize() + ONE_INDEX;
+        Date[] firstDates = new Date[scheduleCount];
+        RecurrenceRule[] rules = new RecurrenceRule[scheduleCount];
+        int[] startCounts = new int[scheduleCount];
+        int[] appliedCounts = new int[scheduleCount];
+        boolean[] isBlocked = new boolean[scheduleCount];
+        ArrayList<DueOccurrence> dueOccurrences = new ArrayList<>();
+        for (int schedule = ISZERO; schedule < scheduleCount; schedule++) {
+            if (schedule == INCOME_SCHEDULE) {
+                firstDates[schedule] = nextIncomeDate;
+                rules[schedule] = RecurrenceRule.MONTHLY;
+            } else {
+                Transaction recurringExpenditure = recurringExpenditures.getRecurringExpenditure(schedule - ONE_INDEX);
+                firstDates[schedule] = recurringExpenditure.getRecurrenceStartDate();
+                startCounts[schedule] = recurringExpenditure.getRecurrenceCount();
+                rules[schedule] = recurringExpenditure.getRecurrenceRule();
+            }
+            int dueCount = rules[schedule].countOccurrences(firstDates[schedule], currentDate);
+            for (int occurrence = startCounts[schedule]; occurrence < dueCount; occurrence++) {
+                dueOccurrences.add(new DueOccurrence(rules[schedule].getOccurrence(firstDates[schedule], occurrence),
+                        schedule));
+            }
+        }
+        if (dueOccurrences.isEmpty()) {
+            return false;
+        }
+        dueOccurrences.sort(DueOccurrence.DATE_ORDER);
+        int incomeCount = ISZERO;
+        int expenditureCount = ISZERO;
+        for (DueOccurrence dueOccurrence : dueOccurrences) {
+            int schedule = dueOccurrence.getSchedule();
+            if (isBlocked[schedule]) {
+                continue;
+            }
+            if (schedule == INCOME_SCHEDULE) {
+                if (income > 0) {
+                    addToAmount(income);
+                    incomeCount++;
+                }
+            } else {
+                Transaction recurringExpenditure = recurringExpenditures.getRecurringExpenditure(schedule - ONE_INDEX);
+                if (recurringExpenditure.getAmount() > this.getCurrentAmount()) {
+                    ui.printError("There is not enough money in the bank for: "
+                            + recurringExpenditure.getDescription());
+                    isBlocked[schedule] = true;
+                    continue;
+                }
+                Transaction newExpenditure = new Expenditure(recurringExpenditure.getDescription(),
+                        recurringExpenditure.getAmount(), dueOccurrence.getDate(), recurringExpenditure.getCategory());
+                transactions.addExpenditureToList(newExpenditure, ACCOUNT_TYPE);
+                deductFromAmount(newExpenditure.getAmount());
+                printBudgetAlerts(newExpenditure, ui);
+                expenditureCount++;
+            }
+            appliedCounts[schedule]++;
+        }
+        nextIncomeDate = rules[INCOME_SCHEDULE].getOccurrence(firstDates[INCOME_SCHEDULE],
+                appliedCounts[INCOME_SCHEDULE]);
+        for (int schedule = ONE_INDEX; schedule < scheduleCount; schedule++) {
+            Transaction recurringExpenditure = recurringExpenditures.getRecurringExpenditure(schedule - ONE_INDEX);
+            recurringExpenditure.advanceRecurrence(appliedCounts[schedule]);
         }
-        if (new Date().compareTo(expenditureDate) >= 0) {
-            Transaction newExpenditure = new Expenditure(
-                    recurringExpenditure.getDescription(), recurringExpenditure.getAmount(),
-                    expenditureDate, recurringExpenditure.getCategory());
-            addInExpenditure(newExpenditure, ui, ACCOUNT_TYPE);
-            Calendar calendar = Calendar.getInstance();
-            calendar.clear();
-            calendar.setTime(expenditureDate);
-            calendar.add(Calendar.MONTH, 1);
-            recurringExpenditure.setDate(calendar.getTime());
-            currentState = true;
+        if (incomeCount > ISZERO || expenditureCount > ISZERO) {
+            ui.printMessage("Updated " + getAccountName() + " with " + incomeCount + " income credits and "
+                    + expenditureCount + " recurring expenditures");
         }
-        return currentState;
+        return appliedCounts[INCOME_SCHEDULE] > ISZERO || expenditureCount > ISZERO;
     }
 
     /**
-     * Updates all recurring expenditures in the bank.
+     * Gets the date the next income or recurring expenditure of the savings account falls due.
      *
-     * @param ui Used for printing.
+     * @return the earliest of the next income date and the next dates of the recurring expenditures.
      */
     @Override
-    void updateRecurringTransactions(Ui ui) {
-        boolean outdatedIncome;
-        boolean outdatedExpenditure;
-        do {
-            outdatedExpenditure = false;
-            outdatedIncome = earnedIncome();
-            for (int i = 0; i < recurringExpenditures.getListSize(); i++) {
-                try {
-                    outdatedExpenditure = savingUpdateRecurringExpenditure(
-                            recurringExpenditures.getRecurringExpenditure(i), outdatedExpenditure, ui);
-                } catch (BankException errorMessage) {
-                    ui.printError("There is not enough money in the bank for: "
-                            + recurringExpenditures.getRecurringExpenditure(i).getDescription());
-                }
+    Date getNextDueDate() {
+        Date nextDueDate = nextIncomeDate;
+        for (int i = ISZERO; i < recurringExpenditures.getListSize(); i++) {
+            Date expenditureDate = recurringExpenditures.getRecurringExpenditure(i).getDateInDateFormat();
+            if (expenditureDate.before(nextDueDate)) {
+                nextDueDate = expenditureDate;
             }
-        } while (outdatedIncome || outdatedExpenditure);
+        }
+        return nextDueDate;
+    }
+
+    /**
+     * Adds the balance, monthly income and recurring expenditures of the savings account to a forecast.
+     *
+     * @param forecast The forecast to add the savings account to.
+     */
+    @Override
+    void addToForecast(Forecast forecast) {
+        super.addToForecast(forecast);
+        if (income > 0) {
+            forecast.addSchedule(getAccountName(), nextIncomeDate, null, Forecast.MONTHLY, income);
+        }
+        for (int i = 0; i < recurringExpenditures.getListSize(); i++) {
+            Transaction recurringExpenditure = recurringExpenditures.getRecurringExpenditure(i);
+            forecast.addSchedule(getAccountName(), recurringExpenditure.getDateInDateFormat(), null,
+                    recurringExpenditure.getRecurrenceRule(), -recurringExpenditure.getAmount());
+        }
     }
 
     /**
@@ -325,12 +427,13 @@ public class Saving extends Bank {
      * @param description New description of the recurring expenditure.
      * @param amount      New amount of the recurring expenditure.
      * @param category    New category of the recurring expenditure.
+     * @param repeats     New recurrence rule of the recurring expenditure, or null to keep the current one.
      * @param ui          Used for printing.
      * @throws TransactionException If there are 0 recurring expenditures or index is out of range.
      */
-    void savingEditRecurringExpenditure(int index, String description, String amount, String category, Ui ui)
-            throws TransactionException {
-        recurringExpenditures.editRecurringExpenditure(index, description, amount, category, ui);
+    void savingEditRecurringExpenditure(int index, String description, String amount, String category,
+            RecurrenceRule repeats, Ui ui) throws TransactionException {
+        recurringExpenditures.editRecurringExpenditure(index, description, amount, category, repeats, ui);
     }
 
     /**
@@ -351,9 +454,9 @@ public class Saving extends Bank {
      */
     @Override
     public void exportBankTransactionList(String prependFileName) throws IOException {
-        ArrayList<String[]> inputData = prepareExportTransactionList();
         try {
-            storage.writeFile(inputData, prependFileName + SAVING_TRANSACTION_LIST_FILE_NAME);
+            transactions.exportTransactionList(storage, prependFileName + SAVING_TRANSACTION_LIST_FILE_NAME,
+                    this::prepareExportTransactionList);
         } catch (IOException e) {
             throw new IOException(e);
         }
@@ -372,7 +475,8 @@ public class Saving extends Bank {
         DecimalFormat decimalFormat = new DecimalFormat("#.##");
         decimalFormat.setRoundingMode(RoundingMode.DOWN);
         SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
-        exportArrayList.add(new String[] {"description", "amount", "date", "category", "spent"});
+        exportArrayList.add(new String[] {"description", "amount", "date", "category", "spent", "repeats",
+            "startDate", "occurrences"});
 
         for (int i = 0; i < recurringExpenditures.getListSize(); i++) {
             String description = recurringExpenditures.get(i).getDescription();
@@ -382,7 +486,11 @@ public class Saving extends Bank {
             boolean spent = recurringExpenditures.get(i).getSpent();
             String stringAmount = decimalFormat.format(amount);
             String stringSpent = String.valueOf(spent);
-            exportArrayList.add(new String[] {description, stringAmount, date, category, stringSpent});
+            String repeats = recurringExpenditures.get(i).getRecurrenceRule().getKeyword();
+            String startDate = exportDateFormat.format(recurringExpenditures.get(i).getRecurrenceStartDate());
+            String occurrences = String.valueOf(recurringExpenditures.get(i).getRecurrenceCount());
+            exportArrayList.add(new String[] {description, stringAmount, date, category, stringSpent, repeats,
+                startDate, occurrences});
         }
         return exportArrayList;
     }
@@ -1,9 +1,16 @@
 package owlmoney.model.bond;
 
-import java.text.DecimalFormat;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.forecast.Forecast;
+import owlmoney.model.networth.NetWorth;
 import owlmoney.ui.Ui;
 
 /**
@@ -11,6 +18,7 @@ import owlmoney.ui.Ui;
  */
 public class BondList {
     private ArrayList<Bond> bondLists;
+    private long version;
     private static final int ONE_INDEX = 1;
     private static final boolean ISMULTIPLE = true;
     private static final boolean ISSINGLE = false;
@@ -58,6 +66,7 @@ public class BondList {
      */
     public void addBondToList(Bond bond, Ui ui) {
         bondLists.add(bond);
+        version++;
         ui.printMessage("Bond with the following details has been added: ");
         printOneBond(ONE_INDEX, bond, ISSINGLE, ui);
     }
@@ -99,6 +108,7 @@ public class BondList {
             if (bondName.equals(bondLists.get(i).getName())) {
                 Bond temp = bondLists.get(i);
                 bondLists.remove(i);
+                version++;
                 ui.printMessage("Bond with the following details has been deleted: ");
                 printOneBond(ONE_INDEX, temp, ISSINGLE, ui);
                 return;
@@ -107,6 +117,25 @@ public class BondList {
         throw new BondException("There are no bonds with the name: " + bondName);
     }
 
+    /**
+     * Removes bonds that have reached maturity from the bondList in one pass.
+     *
+     * @param matureBonds the bonds that have reached maturity.
+     * @param ui          required for printing.
+     */
+    public void removeMatureBonds(List<Bond> matureBonds, Ui ui) {
+        Set<Bond> bondsToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        bondsToRemove.addAll(matureBonds);
+        bondLists.removeIf(bondsToRemove::contains);
+        version++;
+        ui.printMessage("Bonds with the following details have reached maturity and have been removed: ");
+        ui.printBondHeader();
+        for (int i = ISZERO; i < matureBonds.size(); i++) {
+            printOneBond(i + ONE_INDEX, matureBonds.get(i), ISMULTIPLE, ui);
+        }
+        ui.printDivider();
+    }
+
     /**
      * Gets the bond object from the bondList by specifying the name.
      *
@@ -196,10 +225,8 @@ public class BondList {
         if (!isMultiplePrinting) {
             ui.printBondHeader();
         }
-        ui.printBond(num, bond.getName(),
-                "$" + new DecimalFormat("0.00").format(bond.getAmount()),
-                new DecimalFormat("0.00").format(bond.getYearlyCouponRate()),
-                bond.getDate(), bond.getYear());
+        ui.printBond(num, bond.getName(), bond.getAmount(), bond.getYearlyCouponRate(), bond.getDateInDateFormat(),
+                bond.getYear());
         if (!isMultiplePrinting) {
             ui.printDivider();
         }
@@ -251,6 +278,49 @@ public class BondList {
      */
     public void importBondToList(Bond bond) {
         bondLists.add(bond);
+        version++;
+    }
+
+    /**
+     * Adds the principal of every bond to a net worth calculation.
+     *
+     * @param netWorth the net worth calculation to add the bonds to.
+     */
+    public void addToNetWorth(NetWorth netWorth) {
+        netWorth.addHolding(this, version, NetWorth.BONDS, this::getTotalPrincipalCents);
+    }
+
+    /**
+     * Adds the half-yearly coupons of every bond until it matures, and its principal returned on maturity,
+     * to a forecast.
+     *
+     * @param accountName the name of the investment account the bonds are in.
+     * @param forecast    the forecast to add the bonds to.
+     */
+    public void addToForecast(String accountName, Forecast forecast) {
+        for (Bond bond : bondLists) {
+            Date nextCouponDate = bond.getNextDateToCreditInterest();
+            forecast.addSchedule(accountName, nextCouponDate, bond.getBondEndDate(), Forecast.HALF_YEARLY,
+                    bond.getAmount() * bond.getHalfYearlyCouponRate() / 100);
+            YearMonth maturityMonth = Forecast.getLastOccurrence(nextCouponDate, bond.getBondEndDate(),
+                    Forecast.HALF_YEARLY);
+            if (maturityMonth != null) {
+                forecast.addOnce(accountName, maturityMonth, bond.getAmount());
+            }
+        }
+    }
+
+    /**
+     * Gets the total principal of every bond in cents.
+     *
+     * @return the total principal in cents.
+     */
+    private long getTotalPrincipalCents() {
+        long totalCents = ISZERO;
+        for (Bond bond : bondLists) {
+            totalCents += NetWorth.toCents(bond.getAmount());
+        }
+        return totalCents;
     }
 
     /**
@@ -0,0 +1,151 @@
+package owlmoney.model.budget;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Contains the details of a monthly budget for one category and the running amount spent in each month.
+ */
+public class Budget {
+    private final String category;
+    private final double amount;
+    private final ArrayList<String> accounts;
+    private final HashMap<YearMonth, Long> spentCents;
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int PERCENT = 100;
+    private static final int[] THRESHOLD_PERCENTS = {100, 80};
+    private static final int NO_THRESHOLD = 0;
+    private static final long ISZERO = 0;
+
+    /**
+     * Creates an instance of Budget with nothing spent yet.
+     *
+     * @param category The category of expenditures the budget is for.
+     * @param amount   The amount that can be spent in a month.
+     * @param accounts The bank accounts and cards the budget is for, or an empty list for every account.
+     */
+    public Budget(String category, double amount, List<String> accounts) {
+        this.category = category;
+        this.amount = amount;
+        this.accounts = new ArrayList<>(accounts);
+        this.spentCents = new HashMap<>();
+    }
+
+    /**
+     * Gets the category of expenditures the budget is for.
+     *
+     * @return the category of the budget.
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Gets the amount that can be spent in a month.
+     *
+     * @return the monthly amount of the budget.
+     */
+    public double getAmount() {
+        return amount;
+    }
+
+    /**
+     * Gets the bank accounts and cards the budget is for.
+     *
+     * @return the names of the accounts, or an empty list if the budget is for every account.
+     */
+    public List<String> getAccounts() {
+        return new ArrayList<>(accounts);
+    }
+
+    /**
+     * Checks if expenditures from the account count towards the budget.
+     *
+     * @param accountName the name of the bank account or card.
+     * @return the result of whether the budget is for the account.
+     */
+    public boolean isTracking(String accountName) {
+        return accounts.isEmpty() || accounts.contains(accountName);
+    }
+
+    /**
+     * Changes the name of an account the budget is for, if it is one of them.
+     *
+     * @param oldName the name of the account before it was renamed.
+     * @param newName the new name of the account.
+     * @return true if the budget is for the account.
+     */
+    boolean renameAccount(String oldName, String newName) {
+        int index = accounts.indexOf(oldName);
+        if (index < ISZERO) {
+            return false;
+        }
+        accounts.set(index, newName);
+        return true;
+    }
+
+    /**
+     * Stops the budget from being for a deleted account, if it is one of them.
+     *
+     * @param accountName the name of the deleted account.
+     * @return true if the budget was for the account.
+     */
+    boolean removeAccount(String accountName) {
+        return accounts.remove(accountName);
+    }
+
+    /**
+     * Checks if the budget is for every account.
+     *
+     * @return true if the budget is not limited to some accounts.
+     */
+    boolean isForEveryAccount() {
+        return accounts.isEmpty();
+    }
+
+    /**
+     * Adds to the amount spent in a month, or takes away from it if the amount is negative.
+     *
+     * @param month the month of the expenditure.
+     * @param cents the amount to add in cents.
+     */
+    public void addSpent(YearMonth month, long cents) {
+        long total = spentCents.getOrDefault(month, ISZERO) + cents;
+        if (total == ISZERO) {
+            spentCents.remove(month);
+        } else {
+            spentCents.put(month, total);
+        }
+    }
+
+    /**
+     * Gets the amount spent in a month.
+     *
+     * @param month the month to get the amount spent in.
+     * @return the amount spent in the month in cents.
+     */
+    long getSpentCents(YearMonth month) {
+        return spentCents.getOrDefault(month, ISZERO);
+    }
+
+    /**
+     * Gets the highest threshold that the last expenditure of the month crossed.
+     *
+     * @param month      the month of the last expenditure.
+     * @param addedCents the amount of the last expenditure in cents, which has already been added.
+     * @return the percentage of the budget crossed, or 0 if no threshold was crossed.
+     */
+    int getCrossedThreshold(YearMonth month, long addedCents) {
+        long spentAfter = getSpentCents(month);
+        long spentBefore = spentAfter - addedCents;
+        for (int thresholdPercent : THRESHOLD_PERCENTS) {
+            long thresholdCents = Math.round(amount * CENTS_PER_DOLLAR) * thresholdPercent / PERCENT;
+            if (spentBefore < thresholdCents && spentAfter >= thresholdCents) {
+                return thresholdPercent;
+            }
+        }
+        return NO_THRESHOLD;
+    }
+}
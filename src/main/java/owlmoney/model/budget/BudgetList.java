@@ -0,0 +1,329 @@
+package owlmoney.model.budget;
+
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import owlmoney.model.budget.exception.BudgetException;
+import owlmoney.model.event.AccountDeletedEvent;
+import owlmoney.model.event.AccountRenamedEvent;
+import owlmoney.model.event.EventBus;
+import owlmoney.model.event.TransactionChangedEvent;
+import owlmoney.model.transaction.Transaction;
+import owlmoney.storage.Storage;
+import owlmoney.ui.Ui;
+
+/**
+ * Contains the list of budgets in the profile, looked up by category so that every expenditure updates
+ * the running amount spent of its budget in constant time.
+ */
+public class BudgetList {
+    private ArrayList<Budget> budgetList;
+    private HashMap<String, Budget> budgetsByCategory;
+    private Storage storage;
+    private boolean hasUnsavedBudgets = false;
+    private static final int ONE_INDEX = 1;
+    private static final int ISZERO = 0;
+    private static final int MAX_LIST_SIZE = 20;
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int FULL_PERCENT = 100;
+    private static final String ACCOUNT_SEPARATOR = ";";
+    private static final String PROFILE_BUDGET_LIST_FILE_NAME = "profile_budgetlist.csv";
+
+    /**
+     * Creates an instance of BudgetList with no budgets.
+     *
+     * @param storage for importing and exporting purposes.
+     */
+    public BudgetList(Storage storage) {
+        budgetList = new ArrayList<>();
+        budgetsByCategory = new HashMap<>();
+        this.storage = storage;
+    }
+
+    /**
+     * Adds a budget to the list.
+     *
+     * @param budget the budget to add, with the amounts already spent added.
+     * @param ui     required for printing.
+     * @throws BudgetException If there is already a budget for the category or there are too many budgets.
+     */
+    public void addBudget(Budget budget, Ui ui) throws BudgetException {
+        if (budgetsByCategory.containsKey(toKey(budget.getCategory()))) {
+            throw new BudgetException("There is already a budget for the category " + budget.getCategory());
+        }
+        if (budgetList.size() >= MAX_LIST_SIZE) {
+            throw new BudgetException("You've reached the limit of " + MAX_LIST_SIZE + " budgets!");
+        }
+        importBudget(budget);
+        exportBudgetList(ui);
+        ui.printMessage("Added a new budget with the below details: ");
+        ui.printBudgetHeader();
+        printOneBudget(ONE_INDEX, budget, ui);
+        ui.printDivider();
+    }
+
+    /**
+     * Deletes the budget of a category from the list.
+     *
+     * @param category the category of the budget.
+     * @param ui       required for printing.
+     * @throws BudgetException If there is no budget for the category.
+     */
+    public void deleteBudget(String category, Ui ui) throws BudgetException {
+        Budget budget = budgetsByCategory.remove(toKey(category));
+        if (budget == null) {
+            throw new BudgetException("There is no budget for the category " + category);
+        }
+        budgetList.remove(budget);
+        exportBudgetList(ui);
+        ui.printMessage("Details of the budget being removed:");
+        ui.printBudgetHeader();
+        printOneBudget(ONE_INDEX, budget, ui);
+        ui.printDivider();
+    }
+
+    /**
+     * Lists every budget with the amount spent this month.
+     *
+     * @param ui required for printing.
+     * @throws BudgetException If there are no budgets.
+     */
+    public void listBudgets(Ui ui) throws BudgetException {
+        if (budgetList.isEmpty()) {
+            throw new BudgetException("There are no budgets set");
+        }
+        ui.printBudgetHeader();
+        for (int i = ISZERO; i < budgetList.size(); i++) {
+            printOneBudget(i + ONE_INDEX, budgetList.get(i), ui);
+        }
+        ui.printDivider();
+        if (hasUnsavedBudgets) {
+            exportBudgetList(ui);
+        }
+    }
+
+    /**
+     * Adds an expenditure to the running amount spent of its budget, or takes it away if it was removed.
+     *
+     * @param accountName the name of the bank account or card of the expenditure.
+     * @param expenditure the expenditure that was added or removed.
+     * @param sign        1 if the expenditure was added, or -1 if it was removed.
+     */
+    public void updateSpent(String accountName, Transaction expenditure, int sign) {
+        Budget budget = budgetsByCategory.get(toKey(expenditure.getCategory()));
+        if (budget != null && budget.isTracking(accountName)) {
+            budget.addSpent(YearMonth.from(expenditure.getLocalDate()), sign * toCents(expenditure.getAmount()));
+        }
+    }
+
+    /**
+     * Prints a warning if a newly added expenditure took its budget past a threshold.
+     *
+     * @param accountName the name of the bank account or card of the expenditure.
+     * @param expenditure the expenditure that was added.
+     * @param ui          required for printing.
+     */
+    public void printAlerts(String accountName, Transaction expenditure, Ui ui) {
+        Budget budget = budgetsByCategory.get(toKey(expenditure.getCategory()));
+        if (budget == null || !budget.isTracking(accountName)) {
+            return;
+        }
+        YearMonth month = YearMonth.from(expenditure.getLocalDate());
+        int thresholdPercent = budget.getCrossedThreshold(month, toCents(expenditure.getAmount()));
+        if (thresholdPercent == ISZERO) {
+            return;
+        }
+        String spending = "($" + formatCents(budget.getSpentCents(month)) + " of $"
+                + formatCents(toCents(budget.getAmount())) + ")";
+        String budgetName = budget.getCategory() + " budget for "
+                + month.format(DateTimeFormatter.ofPattern("MMMM yyyy"));
+        if (thresholdPercent >= FULL_PERCENT) {
+            ui.printMessage("Warning: you have used up your " + budgetName + " " + spending);
+        } else {
+            ui.printMessage("Warning: you have used " + thresholdPercent + "% of your " + budgetName + " "
+                    + spending);
+        }
+    }
+
+    /**
+     * Subscribes the budgets to the changes of every bank account and card, so that the amounts spent follow
+     * every expenditure and the budgets follow renamed and deleted accounts.
+     *
+     * @param eventBus the event bus the accounts publish to.
+     */
+    public void listenTo(EventBus eventBus) {
+        eventBus.subscribe(TransactionChangedEvent.class, this::transactionChanged);
+        eventBus.subscribe(AccountRenamedEvent.class, this::accountRenamed);
+        eventBus.subscribe(AccountDeletedEvent.class, this::accountDeleted);
+    }
+
+    /**
+     * Updates the amount spent of the budget of an expenditure that was added or removed.
+     *
+     * @param event the transaction that was added or removed.
+     */
+    private void transactionChanged(TransactionChangedEvent event) {
+        if (event.getTransaction().getSpent()) {
+            updateSpent(event.getAccountName(), event.getTransaction(), event.getChange());
+        }
+    }
+
+    /**
+     * Renames the account in every budget that is for it.
+     *
+     * @param event the account that was renamed.
+     */
+    private void accountRenamed(AccountRenamedEvent event) {
+        boolean isAnyBudgetChanged = false;
+        for (Budget budget : budgetList) {
+            if (budget.renameAccount(event.getOldName(), event.getNewName())) {
+                isAnyBudgetChanged = true;
+            }
+        }
+        if (isAnyBudgetChanged) {
+            saveBudgetList();
+        }
+    }
+
+    /**
+     * Removes the account from every budget that is for it, and deletes the budgets left without an account.
+     * The expenditures of the account were already taken away from the amounts spent as it was deleted.
+     *
+     * @param event the account that was deleted.
+     */
+    private void accountDeleted(AccountDeletedEvent event) {
+        boolean isAnyBudgetChanged = false;
+        for (int i = budgetList.size() - ONE_INDEX; i >= ISZERO; i--) {
+            Budget budget = budgetList.get(i);
+            if (budget.removeAccount(event.getAccountName())) {
+                isAnyBudgetChanged = true;
+                if (budget.isForEveryAccount()) {
+                    budgetList.remove(i);
+                    budgetsByCategory.remove(toKey(budget.getCategory()));
+                }
+            }
+        }
+        if (isAnyBudgetChanged) {
+            saveBudgetList();
+        }
+    }
+
+    /**
+     * Imports a budget loaded from the save file into the list.
+     *
+     * @param budget the budget to import, with the amounts already spent added.
+     */
+    public void importBudget(Budget budget) {
+        budgetList.add(budget);
+        budgetsByCategory.put(toKey(budget.getCategory()), budget);
+    }
+
+    /**
+     * Splits the accounts of a budget as they are saved in the save file.
+     *
+     * @param accounts the saved accounts, separated by semicolons.
+     * @return the names of the accounts, or an empty list if the budget is for every account.
+     */
+    public static List<String> parseAccounts(String accounts) {
+        ArrayList<String> accountNames = new ArrayList<>();
+        for (String accountName : accounts.split(ACCOUNT_SEPARATOR)) {
+            if (!accountName.isBlank()) {
+                accountNames.add(accountName.trim());
+            }
+        }
+        return accountNames;
+    }
+
+    /**
+     * Prints one budget with the amount spent this month.
+     *
+     * @param num    the numbering of the budget.
+     * @param budget the budget to print.
+     * @param ui     required for printing.
+     */
+    private void printOneBudget(int num, Budget budget, Ui ui) {
+        ui.printBudget(num, budget.getCategory(), budget.getAmount(), budget.getSpentCents(YearMonth.now()),
+                budget.getAccounts());
+    }
+
+    /**
+     * Gets the key a budget is looked up by, so that categories differing only in case share a budget.
+     *
+     * @param category the category of the budget.
+     * @return the key of the category.
+     */
+    private String toKey(String category) {
+        return category.toLowerCase();
+    }
+
+    /**
+     * Converts an amount in dollars to whole cents.
+     *
+     * @param amount the amount in dollars.
+     * @return the amount in cents.
+     */
+    private long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Formats an amount in cents as dollars to two decimal places.
+     *
+     * @param cents the amount in cents.
+     * @return the formatted amount.
+     */
+    private String formatCents(long cents) {
+        return new DecimalFormat("0.00").format((double) cents / CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Prepares the budgetList for exporting of attributes of each budget.
+     *
+     * @return ArrayList of String arrays for containing each budget in the budget list.
+     */
+    private ArrayList<String[]> prepareExportBudgetList() {
+        ArrayList<String[]> exportArrayList = new ArrayList<>();
+        DecimalFormat decimalFormat = new DecimalFormat(".00");
+        decimalFormat.setRoundingMode(RoundingMode.DOWN);
+        exportArrayList.add(new String[] {"category", "amount", "accounts"});
+        for (Budget budget : budgetList) {
+            exportArrayList.add(new String[] {budget.getCategory(), decimalFormat.format(budget.getAmount()),
+                String.join(ACCOUNT_SEPARATOR, budget.getAccounts())});
+        }
+        return exportArrayList;
+    }
+
+    /**
+     * Writes the budgets to permanent storage.
+     *
+     * @param ui required for printing.
+     */
+    private void exportBudgetList(Ui ui) {
+        if (!saveBudgetList()) {
+            ui.printError("Error trying to save your budgets to disk. Your data is"
+                    + " at risk, but we will try again, feel free to continue using the program.");
+        }
+    }
+
+    /**
+     * Writes the budgets to permanent storage, to be tried again at the next listing if it fails.
+     *
+     * @return true if the budgets were written.
+     */
+    private boolean saveBudgetList() {
+        try {
+            storage.writeFile(prepareExportBudgetList(), PROFILE_BUDGET_LIST_FILE_NAME);
+            hasUnsavedBudgets = false;
+            return true;
+        } catch (IOException e) {
+            hasUnsavedBudgets = true;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package owlmoney.model.budget.exception;
+
+public class BudgetException extends Exception {
+    private String message;
+
+    /**
+     * Creates a new BudgetException object.
+     *
+     * @param message The exception message.
+     */
+    public BudgetException(String message) {
+        super(message);
+        this.message = message;
+    }
+
+    /**
+     * Converts any exception messages to string format.
+     *
+     * @return The corresponding message in string format.
+     */
+    public String toString() {
+        return this.message;
+    }
+}
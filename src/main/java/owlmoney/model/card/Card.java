@@ -1,13 +1,37 @@
 package owlmoney.model.card;
 
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 
+import owlmoney.model.budget.Budget;
+import owlmoney.model.budget.BudgetList;
 import owlmoney.model.card.exception.CardException;
+import owlmoney.model.event.AccountDeletedEvent;
+import owlmoney.model.event.AccountRenamedEvent;
+import owlmoney.model.event.EventBus;
+import owlmoney.model.event.TransactionChangedEvent;
+import owlmoney.model.networth.NetWorth;
+import owlmoney.model.schedule.DueOccurrence;
+import owlmoney.model.schedule.RecurrenceRule;
+import owlmoney.model.transaction.Expenditure;
+import owlmoney.model.transaction.PageRequest;
+import owlmoney.model.transaction.RecurringExpenditureList;
 import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.TransactionList;
+import owlmoney.model.transaction.TransactionListener;
+import owlmoney.model.transaction.TransactionQuery;
+import owlmoney.model.transaction.TransactionRollup;
+import owlmoney.model.transaction.TransactionSearch;
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
 /**
@@ -19,8 +43,14 @@ public class Card {
     private double rebate;
     private TransactionList paid;
     private TransactionList unpaid;
+    private RecurringExpenditureList recurringExpenditures;
+    private BudgetList budgets;
+    private EventBus eventBus;
     private static final int OBJ_DOES_NOT_EXIST = -1;
     private static final int ONE_ARRAY_INDEX = 1;
+    private static final int ISZERO = 0;
+    private static final String CARD = "card";
+    private static final String PAID_SUFFIX = " (paid)";
 
     /**
      * Creates a Card with details of name, limit and rebate.
@@ -35,6 +65,7 @@ public class Card {
         this.rebate = rebate;
         this.paid = new TransactionList();
         this.unpaid = new TransactionList();
+        this.recurringExpenditures = new RecurringExpenditureList();
     }
 
     /**
@@ -52,7 +83,11 @@ public class Card {
      * @param name A name for the credit card.
      */
     void setName(String name) {
+        String oldName = this.name;
         this.name = name;
+        if (eventBus != null) {
+            eventBus.publish(new AccountRenamedEvent(oldName, name, CARD));
+        }
     }
 
     /**
@@ -92,6 +127,24 @@ public class Card {
         this.rebate = rebate;
     }
 
+    /**
+     * Gets the paid expenditures of the credit card.
+     *
+     * @return the paid transaction list of the credit card.
+     */
+    TransactionList getPaidTransactions() {
+        return this.paid;
+    }
+
+    /**
+     * Gets the unpaid expenditures of the credit card.
+     *
+     * @return the unpaid transaction list of the credit card.
+     */
+    TransactionList getUnpaidTransactions() {
+        return this.unpaid;
+    }
+
     /**
      * Checks if expenditure exceeds remaining card limit.
      *
@@ -119,6 +172,7 @@ public class Card {
     void addInExpenditure(Transaction exp, Ui ui, String type) throws CardException {
         this.checkExpExceedRemainingLimit(exp);
         unpaid.addExpenditureToList(exp, ui, type);
+        printBudgetAlerts(exp, ui);
     }
 
     /**
@@ -132,6 +186,189 @@ public class Card {
     void addInPaidExpenditure(Transaction exp, Ui ui, String type) throws CardException {
         this.checkExpExceedRemainingLimit(exp);
         paid.addExpenditureToList(exp, ui, type);
+        printBudgetAlerts(exp, ui);
+    }
+
+    /**
+     * Sets the budgets to check whenever an expenditure is added to the credit card.
+     *
+     * @param budgets The budgets to print alerts from.
+     */
+    void setBudgetList(BudgetList budgets) {
+        this.budgets = budgets;
+    }
+
+    /**
+     * Publishes the renames and the paid and unpaid transaction changes of the credit card from now on.
+     *
+     * @param eventBus The event bus to publish to.
+     */
+    void setEventBus(EventBus eventBus) {
+        this.eventBus = eventBus;
+        TransactionListener listener = (transaction, change) ->
+                eventBus.publish(new TransactionChangedEvent(name, transaction, change));
+        unpaid.setTransactionListener(listener);
+        paid.setTransactionListener(listener);
+    }
+
+    /**
+     * Publishes the removal of every transaction and the deletion of the credit card.
+     */
+    void publishDeletion() {
+        if (eventBus != null) {
+            unpaid.releaseAll();
+            paid.releaseAll();
+            eventBus.publish(new AccountDeletedEvent(name, CARD));
+        }
+    }
+
+    /**
+     * Adds the amounts already spent by the credit card to a new budget.
+     *
+     * @param budget The budget to add the amounts to.
+     */
+    void addSpentToBudget(Budget budget) {
+        if (budget.isTracking(name)) {
+            unpaid.getRollup().getSpentCentsByMonth(budget.getCategory()).forEach(budget::addSpent);
+            paid.getRollup().getSpentCentsByMonth(budget.getCategory()).forEach(budget::addSpent);
+        }
+    }
+
+    /**
+     * Prints a warning if a newly added expenditure took its budget past a threshold.
+     *
+     * @param exp The expenditure that was added.
+     * @param ui  Ui of OwlMoney.
+     */
+    private void printBudgetAlerts(Transaction exp, Ui ui) {
+        if (budgets != null) {
+            budgets.printAlerts(name, exp, ui);
+        }
+    }
+
+    /**
+     * Adds a new recurring expenditure to the credit card.
+     *
+     * @param newExpenditure New recurring expenditure to be added.
+     * @param ui             Ui of OwlMoney.
+     * @throws TransactionException If the recurring expenditure list is full.
+     */
+    void cardAddRecurringExpenditure(Transaction newExpenditure, Ui ui) throws TransactionException {
+        recurringExpenditures.addRecurringExpenditure(newExpenditure, ui);
+    }
+
+    /**
+     * Deletes a recurring expenditure from the credit card.
+     *
+     * @param index Index of the recurring expenditure.
+     * @param ui    Ui of OwlMoney.
+     * @throws TransactionException If there are 0 recurring expenditures or index is out of range.
+     */
+    void cardDeleteRecurringExpenditure(int index, Ui ui) throws TransactionException {
+        recurringExpenditures.deleteRecurringExpenditure(index, ui);
+    }
+
+    /**
+     * Edits a recurring expenditure in the credit card.
+     *
+     * @param index       Index of the recurring expenditure.
+     * @param description New description of the recurring expenditure.
+     * @param amount      New amount of the recurring expenditure.
+     * @param category    New category of the recurring expenditure.
+     * @param repeats     New recurrence rule of the recurring expenditure, or null to keep the current one.
+     * @param ui          Ui of OwlMoney.
+     * @throws TransactionException If there are 0 recurring expenditures or index is out of range.
+     */
+    void cardEditRecurringExpenditure(int index, String description, String amount, String category,
+            RecurrenceRule repeats, Ui ui) throws TransactionException {
+        recurringExpenditures.editRecurringExpenditure(index, description, amount, category, repeats, ui);
+    }
+
+    /**
+     * Lists all recurring expenditures in the credit card.
+     *
+     * @param ui Ui of OwlMoney.
+     * @throws TransactionException If there are 0 recurring expenditures.
+     */
+    void cardListRecurringExpenditure(Ui ui) throws TransactionException {
+        recurringExpenditures.listRecurringExpenditure(ui);
+    }
+
+    /**
+     * Adds the recurring expenditures that have fallen due to the unpaid expenditures of the credit card.
+     * The number of occurrences due on each recurring expenditure is counted directly from its start date and the
+     * occurrences already applied, and every due occurrence is then checked against the limit of its month and
+     * added in date order.
+     * An occurrence that would exceed the limit is reported and skipped, so the recurring expenditure still
+     * moves on to its next date instead of retrying the same month on every update.
+     *
+     * @param ui Ui of OwlMoney.
+     * @return true if the unpaid expenditures or recurring expenditures of the credit card changed.
+     */
+    boolean updateRecurringTransactions(Ui ui) {
+        Date currentDate = new Date();
+        int scheduleCount = recurringExpenditures.getListSize();
+        Date[] firstDates = new Date[scheduleCount];
+        RecurrenceRule[] rules = new RecurrenceRule[scheduleCount];
+        int[] startCounts = new int[scheduleCount];
+        int[] appliedCounts = new int[scheduleCount];
+        ArrayList<DueOccurrence> dueOccurrences = new ArrayList<>();
+        for (int schedule = ISZERO; schedule < scheduleCount; schedule++) {
+            Transaction recurringExpenditure = recurringExpenditures.getRecurringExpenditure(schedule);
+            firstDates[schedule] = recurringExpenditure.getRecurrenceStartDate();
+            startCounts[schedule] = recurringExpenditure.getRecurrenceCount();
+            rules[schedule] = recurringExpenditure.getRecurrenceRule();
+            int dueCount = rules[schedule].countOccurrences(firstDates[schedule], currentDate);
+            for (int occurrence = startCounts[schedule]; occurrence < dueCount; occurrence++) {
+                dueOccurrences.add(new DueOccurrence(rules[schedule].getOccurrence(firstDates[schedule], occurrence),
+                        schedule));
+            }
+        }
+        if (dueOccurrences.isEmpty()) {
+            return false;
+        }
+        dueOccurrences.sort(DueOccurrence.DATE_ORDER);
+        int expenditureCount = ISZERO;
+        for (DueOccurrence dueOccurrence : dueOccurrences) {
+            int schedule = dueOccurrence.getSchedule();
+            appliedCounts[schedule]++;
+            Transaction recurringExpenditure = recurringExpenditures.getRecurringExpenditure(schedule);
+            Transaction newExpenditure = new Expenditure(recurringExpenditure.getDescription(),
+                    recurringExpenditure.getAmount(), dueOccurrence.getDate(), recurringExpenditure.getCategory());
+            try {
+                checkExpExceedRemainingLimit(newExpenditure);
+            } catch (CardException e) {
+                ui.printError("Skipped recurring expenditure " + recurringExpenditure.getDescription() + " due on "
+                        + newExpenditure.getDate() + " for " + name + ": " + e.getMessage());
+                continue;
+            }
+            unpaid.addExpenditureToList(newExpenditure, CARD);
+            printBudgetAlerts(newExpenditure, ui);
+            expenditureCount++;
+        }
+        for (int schedule = ISZERO; schedule < scheduleCount; schedule++) {
+            recurringExpenditures.getRecurringExpenditure(schedule).advanceRecurrence(appliedCounts[schedule]);
+        }
+        if (expenditureCount > ISZERO) {
+            ui.printMessage("Updated " + name + " with " + expenditureCount + " recurring expenditures");
+        }
+        return true;
+    }
+
+    /**
+     * Gets the date the earliest recurring expenditure of the credit card falls due.
+     *
+     * @return the earliest due date, or null if there are no recurring expenditures in the credit card.
+     */
+    Date getNextDueDate() {
+        Date nextDueDate = null;
+        for (int i = ISZERO; i < recurringExpenditures.getListSize(); i++) {
+            Date expenditureDate = recurringExpenditures.getRecurringExpenditure(i).getDateInDateFormat();
+            if (nextDueDate == null || expenditureDate.before(nextDueDate)) {
+                nextDueDate = expenditureDate;
+            }
+        }
+        return nextDueDate;
     }
 
     /**
@@ -142,12 +379,41 @@ public class Card {
      * @throws TransactionException If no expenditure is found or no expenditure is in the list.
      */
     void listAllExpenditure(Ui ui, int displayNum) throws TransactionException {
+        listAllExpenditure(ui, new PageRequest(displayNum));
+    }
+
+    /**
+     * Prints the totals of the paid and unpaid expenditures in the credit card by month and category.
+     *
+     * @param month the month to report, or null to report every month.
+     * @param ui    Ui of OwlMoney.
+     * @throws TransactionException If there are no expenditures to report.
+     */
+    void reportTransactions(YearMonth month, Ui ui) throws TransactionException {
+        try {
+            TransactionRollup.combine(unpaid.getRollup(), paid.getRollup()).printReport(month, ui);
+        } catch (TransactionException error) {
+            throw new TransactionException("There are no expenditures in this card to report.");
+        }
+    }
+
+    /**
+     * Lists a page of the unpaid expenditures in the current credit card.
+     *
+     * @param ui   Ui of OwlMoney.
+     * @param page the page of expenditures to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older expenditures.
+     * @throws TransactionException If no expenditure is found or no expenditure is in the list.
+     */
+    long listAllExpenditure(Ui ui, PageRequest page) throws TransactionException {
         try {
-            unpaid.listExpenditure(ui, displayNum);
+            return unpaid.listExpenditure(ui, page);
         } catch (TransactionException e) {
+            if (!page.isFirstPage()) {
+                throw new TransactionException("There are no more expenditures in this card to list.");
+            }
             throw new TransactionException("There are no expenditures in this card.");
         }
-
     }
 
     /**
@@ -176,6 +442,28 @@ public class Card {
         unpaid.deleteExpenditureFromList(exId, ui);
     }
 
+    /**
+     * Edits the description and category of several unpaid expenditures in the current credit card together.
+     *
+     * @param expNums     Transaction numbers of the expenditures, in the order of the list.
+     * @param description New description, or blank to keep the descriptions.
+     * @param category    New category, or blank to keep the categories.
+     * @param ui          Ui of OwlMoney.
+     */
+    void editMatchingExpenditures(List<Integer> expNums, String description, String category, Ui ui) {
+        unpaid.editTransactions(expNums, description, category, ui);
+    }
+
+    /**
+     * Deletes several unpaid expenditures from the current credit card together.
+     *
+     * @param expNums Transaction numbers of the expenditures, in the order of the list.
+     * @param ui      Ui of OwlMoney.
+     */
+    void deleteMatchingExpenditures(List<Integer> expNums, Ui ui) {
+        unpaid.deleteTransactionsFromList(expNums, ui);
+    }
+
     /**
      * Edits the expenditure details from the current card account.
      *
@@ -233,18 +521,35 @@ public class Card {
     }
 
     /**
-     * Finds the transactions from the card object that matches with the keywords specified by the user.
+     * Finds a page of the unpaid transactions from the card object that matches with the query specified by the user.
      *
-     * @param fromDate The date to search from.
-     * @param toDate The date to search until.
-     * @param description The description keyword to match against.
-     * @param category The category keyword to match against.
+     * @param query The criteria to match against.
+     * @param page The page of matches to list.
      * @param ui The object required for printing.
-     * @throws TransactionException If incorrect date format.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no further matches.
+     */
+    long findTransaction(TransactionQuery query, PageRequest page, Ui ui) {
+        return unpaid.findMatchingTransaction(query, page, ui);
+    }
+
+    /**
+     * Adds the unpaid and paid expenditures of the card to a search across every account.
+     *
+     * @param search The search to add the expenditures to.
      */
-    void findTransaction(String fromDate, String toDate, String description, String category, Ui ui)
-            throws TransactionException {
-        unpaid.findMatchingTransaction(fromDate, toDate, description, category, ui);
+    void addToSearch(TransactionSearch search) {
+        search.addAccount(name, unpaid);
+        search.addAccount(name + PAID_SUFFIX, paid);
+    }
+
+    /**
+     * Adds the unpaid expenditures of the credit card to a net worth calculation.
+     *
+     * @param netWorth The net worth calculation to add the unpaid expenditures to.
+     */
+    void addToNetWorth(NetWorth netWorth) {
+        TransactionRollup unpaidRollup = unpaid.getRollup();
+        netWorth.addHolding(unpaidRollup, unpaidRollup.getVersion(), NetWorth.CARD, unpaidRollup::getTotalSpentCents);
     }
 
     /**
@@ -312,4 +617,143 @@ public class Card {
             throw new TransactionException("There are no expenditures in this card.");
         }
     }
+
+    /**
+     * Prepares the paid expenditures of the credit card for exporting.
+     *
+     * @return properly formatted paid expenditures in ArrayList that contains array of strings.
+     */
+    ArrayList<String[]> prepareExportPaidTransactionList() {
+        return prepareExportTransactionList(paid);
+    }
+
+    /**
+     * Saves the paid expenditures of the credit card.
+     *
+     * @param storage the storage to save with.
+     * @param fileName the name of the file to save to.
+     * @throws IOException when unable to write to file.
+     */
+    void exportPaidTransactionList(Storage storage, String fileName) throws IOException {
+        paid.exportTransactionList(storage, fileName, this::prepareExportPaidTransactionList);
+    }
+
+    /**
+     * Saves the unpaid expenditures of the credit card.
+     *
+     * @param storage the storage to save with.
+     * @param fileName the name of the file to save to.
+     * @throws IOException when unable to write to file.
+     */
+    void exportUnpaidTransactionList(Storage storage, String fileName) throws IOException {
+        unpaid.exportTransactionList(storage, fileName, this::prepareExportUnpaidTransactionList);
+    }
+
+    /**
+     * Prepares the unpaid expenditures of the credit card for exporting.
+     *
+     * @return properly formatted unpaid expenditures in ArrayList that contains array of strings.
+     */
+    ArrayList<String[]> prepareExportUnpaidTransactionList() {
+        return prepareExportTransactionList(unpaid);
+    }
+
+    /**
+     * Prepares the recurring expenditures of the credit card for exporting.
+     *
+     * @return properly formatted recurring expenditures in ArrayList that contains array of strings.
+     */
+    ArrayList<String[]> prepareExportRecurringTransactionList() {
+        ArrayList<String[]> exportArrayList = new ArrayList<>();
+        DecimalFormat decimalFormat = new DecimalFormat("#.##");
+        decimalFormat.setRoundingMode(RoundingMode.DOWN);
+        SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        exportArrayList.add(new String[] {"description", "amount", "date", "category", "spent", "repeats",
+            "startDate", "occurrences"});
+
+        for (int i = 0; i < recurringExpenditures.getListSize(); i++) {
+            String description = recurringExpenditures.get(i).getDescription();
+            double amount = recurringExpenditures.get(i).getAmount();
+            String date = exportDateFormat.format(recurringExpenditures.get(i).getDateInDateFormat());
+            String category = recurringExpenditures.get(i).getCategory();
+            boolean spent = recurringExpenditures.get(i).getSpent();
+            String stringAmount = decimalFormat.format(amount);
+            String stringSpent = String.valueOf(spent);
+            String repeats = recurringExpenditures.get(i).getRecurrenceRule().getKeyword();
+            String startDate = exportDateFormat.format(recurringExpenditures.get(i).getRecurrenceStartDate());
+            String occurrences = String.valueOf(recurringExpenditures.get(i).getRecurrenceCount());
+            exportArrayList.add(new String[] {description, stringAmount, date, category, stringSpent, repeats,
+                startDate, occurrences});
+        }
+        return exportArrayList;
+    }
+
+    /**
+     * Prepares the expenditures in the specified transaction list for exporting.
+     *
+     * @param transactions the paid or unpaid transaction list of the credit card.
+     * @return properly formatted expenditures in ArrayList that contains array of strings.
+     */
+    private ArrayList<String[]> prepareExportTransactionList(TransactionList transactions) {
+        ArrayList<String[]> exportArrayList = new ArrayList<>();
+        DecimalFormat decimalFormat = new DecimalFormat("#.##");
+        decimalFormat.setRoundingMode(RoundingMode.DOWN);
+        SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        exportArrayList.add(new String[] {"description", "amount", "date", "category", "spent", "id"});
+
+        for (int i = 0; i < transactions.getSize(); i++) {
+            String description = transactions.get(i).getDescription();
+            double amount = transactions.get(i).getAmount();
+            String date = exportDateFormat.format(transactions.get(i).getDateInDateFormat());
+            String category = transactions.get(i).getCategory();
+            boolean spent = transactions.get(i).getSpent();
+            String stringAmount = decimalFormat.format(amount);
+            String stringSpent = String.valueOf(spent);
+            String id = String.valueOf(transactions.get(i).getId());
+            exportArrayList.add(new String[] {description, stringAmount, date, category, stringSpent, id});
+        }
+        return exportArrayList;
+    }
+
+    /**
+     * Imports a paid expenditure loaded from the save file.
+     *
+     * @param expenditure an instance of the expenditure to be imported.
+     */
+    void importNewPaidExpenditure(Transaction expenditure) {
+        paid.importExpenditureToList(expenditure, CARD);
+    }
+
+    /**
+     * Imports an unpaid expenditure loaded from the save file.
+     *
+     * @param expenditure an instance of the expenditure to be imported.
+     */
+    void importNewUnpaidExpenditure(Transaction expenditure) {
+        unpaid.importExpenditureToList(expenditure, CARD);
+    }
+
+    /**
+     * Marks the paid or unpaid expenditures as loaded from the saved file and its delete log.
+     *
+     * @param isPaid whether the expenditures belong to paid card bills.
+     * @param fileName the name of the file the expenditures were loaded from.
+     * @param savedRowCount the number of expenditures in the file.
+     * @param skippedRowCount the number of expenditures in the file that were skipped as deleted.
+     * @param loggedDeletedIds the IDs in the delete log of the file.
+     */
+    void markExpendituresSaved(boolean isPaid, String fileName, int savedRowCount, int skippedRowCount,
+            List<Long> loggedDeletedIds) {
+        TransactionList transactions = isPaid ? paid : unpaid;
+        transactions.markSaved(fileName, savedRowCount, skippedRowCount, loggedDeletedIds);
+    }
+
+    /**
+     * Imports a recurring expenditure loaded from the save file.
+     *
+     * @param expenditure an instance of the recurring expenditure to be imported.
+     */
+    void importNewRecurringExpenditure(Transaction expenditure) {
+        recurringExpenditures.importRecurringExpenditureToList(expenditure);
+    }
 }
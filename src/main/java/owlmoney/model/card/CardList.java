@@ -1,26 +1,53 @@
 package owlmoney.model.card;
 
+import java.io.IOException;
+import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 
+import owlmoney.model.budget.Budget;
+import owlmoney.model.budget.BudgetList;
 import owlmoney.model.card.exception.CardException;
+import owlmoney.model.event.EventBus;
+import owlmoney.model.networth.NetWorth;
+import owlmoney.model.schedule.DueQueue;
+import owlmoney.model.schedule.RecurrenceRule;
+import owlmoney.model.transaction.PageRequest;
 import owlmoney.model.transaction.Transaction;
+import owlmoney.model.transaction.TransactionList;
+import owlmoney.model.transaction.TransactionQuery;
+import owlmoney.model.transaction.TransactionSearch;
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.model.undo.Revertible;
+import owlmoney.model.undo.UndoJournal;
+import owlmoney.model.undo.UndoRecord;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
 /**
  * Provides a layer of abstraction for the ArrayList that stores credit cards.
+ * The credit cards with recurring expenditures are also queued by the date the earliest one falls due, so an
+ * update only visits the credit cards that have something due.
  */
 public class CardList {
     private ArrayList<Card> cardLists;
+    private DueQueue<Card> dueCards;
     private static final int ONE_INDEX = 1;
     private static final boolean ISMULTIPLE = true;
     private static final boolean ISSINGLE = false;
     private static final int ISZERO = 0;
     private static final int MAX_CARD_LIMIT = 10;
+    private static final String PROFILE_CARD_LIST_FILE_NAME = "profile_cardlist.csv";
+    private static final String CARD_PAID_TRANSACTION_LIST_FILE_NAME = "_card_paid_transactionList.csv";
+    private static final String CARD_UNPAID_TRANSACTION_LIST_FILE_NAME = "_card_unpaid_transactionList.csv";
+    private static final String CARD_RECURRING_TRANSACTION_LIST_FILE_NAME = "_card_recurring_transactionList.csv";
     private Storage storage;
+    private UndoJournal undoJournal;
+    private BudgetList budgetList;
+    private EventBus eventBus;
 
     /**
      * Creates an arrayList of Cards.
@@ -28,7 +55,82 @@ public class CardList {
      */
     public CardList(Storage storage) {
         cardLists = new ArrayList<Card>();
+        dueCards = new DueQueue<>();
         this.storage = storage;
+        this.undoJournal = new UndoJournal();
+        this.budgetList = new BudgetList(storage);
+        this.eventBus = new EventBus();
+    }
+
+    /**
+     * Sets the journal that records the inverse of changes made to credit cards.
+     *
+     * @param undoJournal the undo journal of the profile.
+     */
+    public void setUndoJournal(UndoJournal undoJournal) {
+        this.undoJournal = undoJournal;
+    }
+
+    /**
+     * Sets the budgets that the expenditures of every credit card added from now on are tracked in.
+     *
+     * @param budgetList the budgets of the profile.
+     */
+    public void setBudgetList(BudgetList budgetList) {
+        this.budgetList = budgetList;
+    }
+
+    /**
+     * Sets the event bus that every credit card added from now on publishes its changes to.
+     *
+     * @param eventBus the event bus of the profile.
+     */
+    public void setEventBus(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Adds the amounts already spent by every credit card to a new budget.
+     *
+     * @param budget the budget to add the amounts to.
+     */
+    public void cardListAddSpentToBudget(Budget budget) {
+        for (int i = ISZERO; i < cardLists.size(); i++) {
+            cardLists.get(i).addSpentToBudget(budget);
+        }
+    }
+
+    /**
+     * Records the inverse of a change to the expenditures of a credit card.
+     *
+     * @param description       what the change did.
+     * @param card              the credit card that was changed.
+     * @param transactionChange the inverse of the change to the expenditures.
+     */
+    private void recordTransactionUndo(String description, Card card, Revertible transactionChange) {
+        UndoRecord record = new UndoRecord(description, ui -> exportCardAfterUndo(card, ui));
+        record.addChange(transactionChange);
+        undoJournal.record(record);
+    }
+
+    /**
+     * Writes the card list and the expenditures of the credit card after a change to it was undone.
+     *
+     * @param card the credit card that was reverted.
+     * @param ui   required for printing.
+     */
+    private void exportCardAfterUndo(Card card, Ui ui) {
+        int index = cardLists.indexOf(card);
+        if (index < ISZERO) {
+            return;
+        }
+        try {
+            exportCardList();
+            exportCardTransactionList(index);
+        } catch (IOException e) {
+            ui.printError("Error trying to save your undo to disk. Your data is"
+                    + " at risk, but we will try again, feel free to continue using the program.");
+        }
     }
 
     /**
@@ -45,9 +147,18 @@ public class CardList {
         if (cardLists.size() >= MAX_CARD_LIMIT) {
             throw new CardException("The maximum limit of 10 credit cards has been reached.");
         }
+        newCard.setBudgetList(budgetList);
+        newCard.setEventBus(eventBus);
         cardLists.add(newCard);
         ui.printMessage("Added a new card with the below details: ");
         printOneCard(ONE_INDEX, newCard, ISSINGLE, ui);
+        try {
+            exportCardList();
+            exportCardTransactionList(cardLists.size() - ONE_INDEX);
+        } catch (IOException e) {
+            ui.printError("Error trying to save your additions to disk. Your data is"
+                    + " at risk, but we will try again, feel free to continue using the program.");
+        }
     }
 
     /**
@@ -64,9 +175,17 @@ public class CardList {
             if (cardLists.get(i).getName().equals(name)) {
                 Card temp = cardLists.get(i);
                 cardLists.remove(i);
+                dueCards.remove(temp);
+                temp.publishDeletion();
                 ui.printMessage("Card with the following details has been removed:");
                 printOneCard(ONE_INDEX, temp, ISSINGLE, ui);
                 isDeleted = true;
+                try {
+                    exportCardListAfterDeletion(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your deletions to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
                 break;
             }
         }
@@ -101,7 +220,7 @@ public class CardList {
      * @param cardName name of credit card.
      * @return the result specifying whether the credit card name already exists.
      */
-    private boolean cardExists(String cardName) {
+    public boolean cardExists(String cardName) {
         for (int i = ISZERO; i < getCardListSize(); i++) {
             if (cardName.equals(cardLists.get(i).getName())) {
                 return true;
@@ -169,6 +288,10 @@ public class CardList {
             throws CardException {
         for (int i = ISZERO; i < cardLists.size(); i++) {
             if (cardLists.get(i).getName().equals(name)) {
+                Card card = cardLists.get(i);
+                String previousName = card.getName();
+                double previousLimit = card.getLimit();
+                double previousRebate = card.getRebate();
                 if (!(newName.isEmpty() || newName.isBlank())) {
                     compareCard(cardLists.get(i), newName);
                     cardLists.get(i).setName(newName);
@@ -180,8 +303,21 @@ public class CardList {
                 if (!(rebate.isEmpty() || rebate.isBlank())) {
                     cardLists.get(i).setRebate(Double.parseDouble(rebate));
                 }
+                UndoRecord record = new UndoRecord("editing " + name, undoUi -> exportCardAfterUndo(card, undoUi));
+                record.addChange(undoUi -> {
+                    card.setName(previousName);
+                    card.setLimit(previousLimit);
+                    card.setRebate(previousRebate);
+                });
+                undoJournal.record(record);
                 ui.printMessage("New details of the cards: ");
                 printOneCard(ONE_INDEX, cardLists.get(i), ISSINGLE, ui);
+                try {
+                    exportCardList();
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your edits to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
                 return;
             }
         }
@@ -217,7 +353,16 @@ public class CardList {
             throws CardException {
         for (int i = ISZERO; i < cardLists.size(); i++) {
             if (cardLists.get(i).getName().equals(cardName)) {
-                cardLists.get(i).addInExpenditure(exp, ui, type);
+                Card card = cardLists.get(i);
+                Revertible transactionChange = card.getUnpaidTransactions().prepareAddUndo(exp);
+                card.addInExpenditure(exp, ui, type);
+                recordTransactionUndo("adding an expenditure to " + cardName, card, transactionChange);
+                try {
+                    exportCardTransactionList(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your additions to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
                 return;
             }
         }
@@ -225,25 +370,45 @@ public class CardList {
     }
 
     /**
-     * Lists expenditures in the credit card.
+     * Lists a page of expenditures in the credit card.
      *
      * @param cardToList The name of the credit card.
      * @param ui         required for printing.
-     * @param displayNum Number of expenditures to list.
+     * @param page       The page of expenditures to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older expenditures.
      * @throws CardException        If the credit card name cannot be found.
      * @throws TransactionException If no expenditure found or no expenditure is in the list.
      */
-    public void cardListListCardExpenditure(String cardToList, Ui ui, int displayNum)
+    public long cardListListCardExpenditure(String cardToList, Ui ui, PageRequest page)
             throws TransactionException, CardException {
         for (int i = ISZERO; i < cardLists.size(); i++) {
             if (cardToList.equals(cardLists.get(i).getName())) {
-                cardLists.get(i).listAllExpenditure(ui, displayNum);
-                return;
+                return cardLists.get(i).listAllExpenditure(ui, page);
             }
         }
         throw new CardException("Card cannot be found to list expenditure: " + cardToList);
     }
 
+    /**
+     * Prints the totals of the expenditures in the credit card by month and category.
+     *
+     * @param cardToReport The name of the credit card.
+     * @param month        The month to report, or null to report every month.
+     * @param ui           required for printing.
+     * @throws CardException        If the credit card name cannot be found.
+     * @throws TransactionException If there are no expenditures to report.
+     */
+    public void cardListReportTransactions(String cardToReport, YearMonth month, Ui ui)
+            throws TransactionException, CardException {
+        for (int i = ISZERO; i < cardLists.size(); i++) {
+            if (cardToReport.equals(cardLists.get(i).getName())) {
+                cardLists.get(i).reportTransactions(month, ui);
+                return;
+            }
+        }
+        throw new CardException("Card cannot be found to report expenditures: " + cardToReport);
+    }
+
     /**
      * Deletes an expenditure from the transactionList in the card object.
      *
@@ -257,7 +422,17 @@ public class CardList {
             throws CardException, TransactionException {
         for (int i = ISZERO; i < cardLists.size(); i++) {
             if (deleteFromAccountCard.equals(cardLists.get(i).getName())) {
-                cardLists.get(i).deleteExpenditure(expNum, ui);
+                Card card = cardLists.get(i);
+                Revertible transactionChange = card.getUnpaidTransactions().prepareRemoveUndo(expNum);
+                card.deleteExpenditure(expNum, ui);
+                recordTransactionUndo("deleting an expenditure from " + deleteFromAccountCard, card,
+                        transactionChange);
+                try {
+                    exportCardTransactionList(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your deletions to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
                 return;
             }
         }
@@ -281,13 +456,231 @@ public class CardList {
             String date, String category, Ui ui) throws CardException, TransactionException {
         for (int i = ISZERO; i < cardLists.size(); i++) {
             if (cardLists.get(i).getName().equals(editFromCard)) {
-                cardLists.get(i).editExpenditureDetails(expNum, desc, amount, date, category, ui);
+                Card card = cardLists.get(i);
+                Revertible transactionChange = card.getUnpaidTransactions().prepareEditUndo(expNum);
+                card.editExpenditureDetails(expNum, desc, amount, date, category, ui);
+                recordTransactionUndo("editing an expenditure in " + editFromCard, card, transactionChange);
+                try {
+                    exportCardTransactionList(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your edits to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
                 return;
             }
         }
         throw new CardException("Card cannot be found for editing expenditure: " + editFromCard);
     }
 
+    /**
+     * Edits the description and category of every unpaid expenditure in the card that matches the query.
+     * The matches are found in a single pass, edited together and saved to disk once.
+     *
+     * @param cardName    The name of the card.
+     * @param query       The criteria to match against.
+     * @param description The new description of the matches, or blank to keep their descriptions.
+     * @param category    The new category of the matches, or blank to keep their categories.
+     * @param ui          Required for printing.
+     * @throws CardException        If card does not exist.
+     * @throws TransactionException If no expenditure matches the query.
+     */
+    public void cardListEditMatchingExpenditures(String cardName, TransactionQuery query, String description,
+            String category, Ui ui) throws CardException, TransactionException {
+        for (int i = ISZERO; i < cardLists.size(); i++) {
+            if (cardLists.get(i).getName().equals(cardName)) {
+                Card card = cardLists.get(i);
+                List<Integer> matches = card.getUnpaidTransactions().getMatchingTransactionNumbers(query);
+                Revertible transactionChange = card.getUnpaidTransactions().prepareEditUndo(matches);
+                card.editMatchingExpenditures(matches, description, category, ui);
+                recordTransactionUndo("editing " + matches.size() + " expenditures in " + cardName, card,
+                        transactionChange);
+                try {
+                    exportCardTransactionList(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your edits to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
+                return;
+            }
+        }
+        throw new CardException("Card cannot be found for editing expenditure: " + cardName);
+    }
+
+    /**
+     * Deletes every unpaid expenditure in the card that matches the query.
+     * The matches are found in a single pass, deleted together and saved to disk once.
+     *
+     * @param cardName The name of the card.
+     * @param query    The criteria to match against.
+     * @param ui       Required for printing.
+     * @throws CardException        If card does not exist.
+     * @throws TransactionException If no expenditure matches the query.
+     */
+    public void cardListDeleteMatchingExpenditures(String cardName, TransactionQuery query, Ui ui)
+            throws CardException, TransactionException {
+        for (int i = ISZERO; i < cardLists.size(); i++) {
+            if (cardLists.get(i).getName().equals(cardName)) {
+                Card card = cardLists.get(i);
+                List<Integer> matches = card.getUnpaidTransactions().getMatchingTransactionNumbers(query);
+                Revertible transactionChange = card.getUnpaidTransactions().prepareRemoveUndo(matches);
+                card.deleteMatchingExpenditures(matches, ui);
+                recordTransactionUndo("deleting " + matches.size() + " expenditures from " + cardName, card,
+                        transactionChange);
+                try {
+                    exportCardTransactionList(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your deletions to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
+                return;
+            }
+        }
+        throw new CardException("Card cannot be found for deleting expenditure: " + cardName);
+    }
+
+    /**
+     * Adds a new recurring expenditure to the specified credit card.
+     *
+     * @param cardName                Name of the credit card.
+     * @param newRecurringExpenditure New recurring expenditure to be added.
+     * @param ui                      Required for printing.
+     * @throws CardException        If the credit card cannot be found.
+     * @throws TransactionException If the recurring expenditure list is full.
+     */
+    public void cardListAddRecurringExpenditure(String cardName, Transaction newRecurringExpenditure, Ui ui)
+            throws CardException, TransactionException {
+        for (int i = ISZERO; i < cardLists.size(); i++) {
+            if (cardLists.get(i).getName().equals(cardName)) {
+                Card card = cardLists.get(i);
+                card.cardAddRecurringExpenditure(newRecurringExpenditure, ui);
+                dueCards.schedule(card, card.getNextDueDate());
+                try {
+                    exportCardTransactionList(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your additions to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
+                return;
+            }
+        }
+        throw new CardException("Card cannot be found for adding recurring expenditure: " + cardName);
+    }
+
+    /**
+     * Deletes the recurring expenditure of the specified index from the specified credit card.
+     *
+     * @param cardName Name of the credit card.
+     * @param index    Index of the recurring expenditure.
+     * @param ui       Required for printing.
+     * @throws CardException        If the credit card cannot be found.
+     * @throws TransactionException If there are 0 recurring expenditures or index is out of range.
+     */
+    public void cardListDeleteRecurringExpenditure(String cardName, int index, Ui ui)
+            throws CardException, TransactionException {
+        for (int i = ISZERO; i < cardLists.size(); i++) {
+            if (cardLists.get(i).getName().equals(cardName)) {
+                cardLists.get(i).cardDeleteRecurringExpenditure(index, ui);
+                try {
+                    exportCardTransactionList(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your deletions to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
+                return;
+            }
+        }
+        throw new CardException("Card cannot be found for deleting recurring expenditure: " + cardName);
+    }
+
+    /**
+     * Edits the recurring expenditure of the specified index in the specified credit card.
+     *
+     * @param cardName    Name of the credit card.
+     * @param index       Index of the recurring expenditure.
+     * @param description New description of the recurring expenditure.
+     * @param amount      New amount of the recurring expenditure.
+     * @param category    New category of the recurring expenditure.
+     * @param repeats     New recurrence rule of the recurring expenditure, or null to keep the current one.
+     * @param ui          Required for printing.
+     * @throws CardException        If the credit card cannot be found.
+     * @throws TransactionException If there are 0 recurring expenditures or index is out of range.
+     */
+    public void cardListEditRecurringExpenditure(
+            String cardName, int index, String description, String amount, String category, RecurrenceRule repeats,
+            Ui ui) throws CardException, TransactionException {
+        for (int i = ISZERO; i < cardLists.size(); i++) {
+            if (cardLists.get(i).getName().equals(cardName)) {
+                Card card = cardLists.get(i);
+                card.cardEditRecurringExpenditure(index, description, amount, category, repeats, ui);
+                dueCards.schedule(card, card.getNextDueDate());
+                try {
+                    exportCardTransactionList(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your edits to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
+                return;
+            }
+        }
+        throw new CardException("Card cannot be found for editing recurring expenditure: " + cardName);
+    }
+
+    /**
+     * Lists all recurring expenditures in the specified credit card.
+     *
+     * @param cardName Name of the credit card.
+     * @param ui       Required for printing.
+     * @throws CardException        If the credit card cannot be found.
+     * @throws TransactionException If there are 0 recurring expenditures.
+     */
+    public void cardListListRecurringExpenditure(String cardName, Ui ui)
+            throws CardException, TransactionException {
+        for (int i = ISZERO; i < cardLists.size(); i++) {
+            if (cardLists.get(i).getName().equals(cardName)) {
+                cardLists.get(i).cardListRecurringExpenditure(ui);
+                return;
+            }
+        }
+        throw new CardException("Card cannot be found for listing recurring expenditures: " + cardName);
+    }
+
+    /**
+     * Adds the recurring expenditures of the credit cards that have any due, and saves the credit cards that
+     * changed.
+     * Only the credit cards at the front of the due queue are visited, and each is queued again by the date its
+     * next recurring expenditure falls due.
+     *
+     * @param ui Required for printing.
+     * @return true if any credit card changed.
+     */
+    public boolean cardListUpdateRecurringTransactions(Ui ui) {
+        boolean isAnyCardUpdated = false;
+        for (Card dueCard : dueCards.pollDue(new Date())) {
+            boolean isCardUpdated = dueCard.updateRecurringTransactions(ui);
+            dueCards.schedule(dueCard, dueCard.getNextDueDate());
+            if (!isCardUpdated) {
+                continue;
+            }
+            isAnyCardUpdated = true;
+            try {
+                exportCardTransactionList(cardLists.indexOf(dueCard));
+            } catch (IOException e) {
+                ui.printError("Error trying to save your updates to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+            }
+        }
+        return isAnyCardUpdated;
+    }
+
+    /**
+     * Gets the date the earliest recurring expenditure of any credit card falls due.
+     *
+     * @return the earliest due date, or null if there are no recurring expenditures in any credit card.
+     */
+    public Date cardListGetNextDueDate() {
+        return dueCards.getNextDueDate();
+    }
+
     /**
      * Prints card details.
      *
@@ -301,10 +694,7 @@ public class CardList {
         if (!isMultiplePrinting) {
             ui.printCardHeader();
         }
-        ui.printCard(num, card.getName(),
-                "$" + new DecimalFormat("0.00").format(card.getLimit()),
-                "$" + new DecimalFormat("0.00").format(card.getRemainingLimitNow()),
-                new DecimalFormat("0.00").format(card.getRebate()) + "%");
+        ui.printCard(num, card.getName(), card.getLimit(), card.getRemainingLimitNow(), card.getRebate());
         if (!isMultiplePrinting) {
             ui.printDivider();
         }
@@ -350,28 +740,47 @@ public class CardList {
     }
 
     /**
-     * Finds matching card transactions from the card specified by the user.
+     * Finds a page of matching card transactions from the card specified by the user.
      *
-     * @param cardName    The name of the card object to be searched for matching transaction.
-     * @param fromDate    The date to search from.
-     * @param toDate      The date to search until.
-     * @param description The description keyword to match against.
-     * @param category    The category keyword to match against.
-     * @param ui          The object required for printing.
-     * @throws CardException        If card with the name does not exist.
-     * @throws TransactionException If parsing of date fails.
+     * @param cardName The name of the card object to be searched for matching transaction.
+     * @param query    The criteria to match against.
+     * @param page     The page of matches to list.
+     * @param ui       The object required for printing.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no further matches.
+     * @throws CardException If card with the name does not exist.
      */
-    public void cardListFindTransaction(String cardName, String fromDate, String toDate,
-            String description, String category, Ui ui) throws CardException, TransactionException {
+    public long cardListFindTransaction(String cardName, TransactionQuery query, PageRequest page, Ui ui)
+            throws CardException {
         for (int i = ISZERO; i < getCardListSize(); i++) {
             if (cardLists.get(i).getName().equals(cardName)) {
-                cardLists.get(i).findTransaction(fromDate, toDate, description, category, ui);
-                return;
+                return cardLists.get(i).findTransaction(query, page, ui);
             }
         }
         throw new CardException("Card with the following name does not exist: " + cardName);
     }
 
+    /**
+     * Adds the expenditures of every card to a search across every account.
+     *
+     * @param search The search to add the expenditures to.
+     */
+    public void cardListAddToSearch(TransactionSearch search) {
+        for (int i = ISZERO; i < getCardListSize(); i++) {
+            cardLists.get(i).addToSearch(search);
+        }
+    }
+
+    /**
+     * Adds the unpaid expenditures of every credit card to a net worth calculation.
+     *
+     * @param netWorth The net worth calculation to add the credit cards to.
+     */
+    public void cardListAddToNetWorth(NetWorth netWorth) {
+        for (int i = ISZERO; i < getCardListSize(); i++) {
+            cardLists.get(i).addToNetWorth(netWorth);
+        }
+    }
+
     /**
      * Returns the total unpaid expenditure amount based on the specified date.
      *
@@ -434,13 +843,24 @@ public class CardList {
      * @param card      The credit card of which the expenditures to transfer.
      * @param cardDate  The YearMonth date of expenditures to transfer.
      * @param type      Type of expenditure (card or bank).
+     * @param ui        Required for printing.
      * @throws TransactionException If invalid transaction when deleting.
      */
-    public void transferExpUnpaidToPaid(String card, YearMonth cardDate, String type)
+    public void transferExpUnpaidToPaid(String card, YearMonth cardDate, String type, Ui ui)
             throws TransactionException {
         for (int i = 0; i < cardLists.size(); i++) {
             if (card.equals(cardLists.get(i).getName())) {
-                cardLists.get(i).transferExpUnpaidToPaid(cardDate, type);
+                Card paidCard = cardLists.get(i);
+                Revertible transactionChange = paidCard.getUnpaidTransactions()
+                        .prepareMoveUndo(paidCard.getPaidTransactions(), cardDate);
+                paidCard.transferExpUnpaidToPaid(cardDate, type);
+                recordTransactionUndo("paying the bill of " + card, paidCard, transactionChange);
+                try {
+                    exportCardTransactionList(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your card bill to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
             }
         }
     }
@@ -451,14 +871,184 @@ public class CardList {
      * @param card      The credit card of which the expenditures to transfer.
      * @param cardDate  The YearMonth date of expenditures to transfer.
      * @param type      Type of expenditure (card or bank).
+     * @param ui        Required for printing.
      * @throws TransactionException If invalid transaction when deleting.
      */
-    public void transferExpPaidToUnpaid(String card, YearMonth cardDate, String type)
+    public void transferExpPaidToUnpaid(String card, YearMonth cardDate, String type, Ui ui)
             throws TransactionException {
         for (int i = 0; i < cardLists.size(); i++) {
             if (card.equals(cardLists.get(i).getName())) {
-                cardLists.get(i).transferExpPaidToUnpaid(cardDate, type);
+                Card unpaidCard = cardLists.get(i);
+                Revertible transactionChange = unpaidCard.getPaidTransactions()
+                        .prepareMoveUndo(unpaidCard.getUnpaidTransactions(), cardDate);
+                unpaidCard.transferExpPaidToUnpaid(cardDate, type);
+                recordTransactionUndo("reverting the bill of " + card, unpaidCard, transactionChange);
+                try {
+                    exportCardTransactionList(i);
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your card bill to disk. Your data is"
+                            + " at risk, but we will try again, feel free to continue using the program.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Prepares the names, limits and rebates of the credit cards for exporting.
+     *
+     * @return properly formatted credit card details in ArrayList that contains array of strings.
+     */
+    private ArrayList<String[]> prepareExportCardList() {
+        ArrayList<String[]> exportArrayList = new ArrayList<>();
+        DecimalFormat decimalFormat = new DecimalFormat("#.##");
+        decimalFormat.setRoundingMode(RoundingMode.DOWN);
+        exportArrayList.add(new String[] {"cardName", "limit", "rebate"});
+        for (int i = ISZERO; i < getCardListSize(); i++) {
+            String cardName = cardLists.get(i).getName();
+            String stringLimit = decimalFormat.format(cardLists.get(i).getLimit());
+            String stringRebate = decimalFormat.format(cardLists.get(i).getRebate());
+            exportArrayList.add(new String[] {cardName, stringLimit, stringRebate});
+        }
+        return exportArrayList;
+    }
+
+    /**
+     * Writes the data of the card list that was prepared to permanent storage.
+     *
+     * @throws IOException when unable to write to file.
+     */
+    private void exportCardList() throws IOException {
+        ArrayList<String[]> inputData = prepareExportCardList();
+        storage.writeFile(inputData, PROFILE_CARD_LIST_FILE_NAME);
+    }
+
+    /**
+     * Writes the paid, unpaid and recurring expenditures of the credit card to permanent storage.
+     *
+     * @param index the index of the credit card in the cardList.
+     * @throws IOException when unable to write to file.
+     */
+    private void exportCardTransactionList(int index) throws IOException {
+        Card card = cardLists.get(index);
+        card.exportPaidTransactionList(storage, Integer.toString(index) + CARD_PAID_TRANSACTION_LIST_FILE_NAME);
+        card.exportUnpaidTransactionList(storage, Integer.toString(index) + CARD_UNPAID_TRANSACTION_LIST_FILE_NAME);
+        storage.writeFile(card.prepareExportRecurringTransactionList(),
+                Integer.toString(index) + CARD_RECURRING_TRANSACTION_LIST_FILE_NAME);
+    }
+
+    /**
+     * Writes the card list to permanent storage after a card is removed.
+     * Cards after the deleted card are saved again under their new index and the last set of files is removed.
+     *
+     * @param deletedIndex the index the deleted card was at.
+     * @throws IOException when unable to write to file.
+     */
+    private void exportCardListAfterDeletion(int deletedIndex) throws IOException {
+        exportCardList();
+        for (int i = deletedIndex; i < getCardListSize(); i++) {
+            exportCardTransactionList(i);
+        }
+        String lastIndex = Integer.toString(getCardListSize());
+        storage.deleteFile(lastIndex + CARD_PAID_TRANSACTION_LIST_FILE_NAME);
+        storage.deleteFile(TransactionList.getDeleteLogFileName(lastIndex + CARD_PAID_TRANSACTION_LIST_FILE_NAME));
+        storage.deleteFile(lastIndex + CARD_UNPAID_TRANSACTION_LIST_FILE_NAME);
+        storage.deleteFile(TransactionList.getDeleteLogFileName(lastIndex + CARD_UNPAID_TRANSACTION_LIST_FILE_NAME));
+        storage.deleteFile(lastIndex + CARD_RECURRING_TRANSACTION_LIST_FILE_NAME);
+    }
+
+    /**
+     * Imports a credit card loaded from the save file into the cardList.
+     *
+     * @param newCard an instance of the credit card to be imported.
+     */
+    public void cardListImportNewCard(Card newCard) {
+        newCard.setBudgetList(budgetList);
+        newCard.setEventBus(eventBus);
+        cardLists.add(newCard);
+        dueCards.schedule(newCard, newCard.getNextDueDate());
+    }
+
+    /**
+     * Imports an expenditure loaded from the save file into the specified credit card.
+     *
+     * @param cardName    the name of the credit card the expenditure should be imported to.
+     * @param expenditure an instance of the expenditure to be imported.
+     * @param isPaid      whether the expenditure belongs to a paid card bill.
+     * @throws CardException if the credit card does not exist.
+     */
+    public void cardListImportNewExpenditure(String cardName, Transaction expenditure, boolean isPaid)
+            throws CardException {
+        for (int i = ISZERO; i < getCardListSize(); i++) {
+            if (cardLists.get(i).getName().equals(cardName)) {
+                if (isPaid) {
+                    cardLists.get(i).importNewPaidExpenditure(expenditure);
+                } else {
+                    cardLists.get(i).importNewUnpaidExpenditure(expenditure);
+                }
+                return;
+            }
+        }
+        throw new CardException("Card cannot be found for importing expenditure: " + cardName);
+    }
+
+    /**
+     * Marks the paid or unpaid expenditures of the card as loaded from the saved file and its delete log.
+     *
+     * @param cardName the name of the card the expenditures were loaded into.
+     * @param isPaid whether the expenditures belong to paid card bills.
+     * @param fileName the name of the file the expenditures were loaded from.
+     * @param savedRowCount the number of expenditures in the file.
+     * @param skippedRowCount the number of expenditures in the file that were skipped as deleted.
+     * @param loggedDeletedIds the IDs in the delete log of the file.
+     * @throws CardException if the card does not exist.
+     */
+    public void cardListMarkExpendituresSaved(String cardName, boolean isPaid, String fileName, int savedRowCount,
+            int skippedRowCount, List<Long> loggedDeletedIds) throws CardException {
+        for (int i = ISZERO; i < getCardListSize(); i++) {
+            if (cardLists.get(i).getName().equals(cardName)) {
+                cardLists.get(i).markExpendituresSaved(isPaid, fileName, savedRowCount, skippedRowCount,
+                        loggedDeletedIds);
+                return;
+            }
+        }
+        throw new CardException("Card cannot be found for importing expenditure: " + cardName);
+    }
+
+    /**
+     * Imports a recurring expenditure loaded from the save file into the specified credit card.
+     *
+     * @param cardName    the name of the credit card the recurring expenditure should be imported to.
+     * @param expenditure an instance of the recurring expenditure to be imported.
+     * @throws CardException if the credit card does not exist.
+     */
+    public void cardListImportNewRecurringExpenditure(String cardName, Transaction expenditure)
+            throws CardException {
+        for (int i = ISZERO; i < getCardListSize(); i++) {
+            if (cardLists.get(i).getName().equals(cardName)) {
+                Card card = cardLists.get(i);
+                card.importNewRecurringExpenditure(expenditure);
+                dueCards.schedule(card, card.getNextDueDate());
+                return;
+            }
+        }
+        throw new CardException("Card cannot be found for importing recurring expenditure: " + cardName);
+    }
+
+    /**
+     * Gets the transaction number of the unpaid expenditure with an ID in the specified credit card.
+     *
+     * @param cardName the name of the credit card.
+     * @param id       the ID of the expenditure.
+     * @return the transaction number of the expenditure.
+     * @throws CardException        if the credit card does not exist.
+     * @throws TransactionException if there is no unpaid expenditure with the ID.
+     */
+    public int cardListGetTransactionNumberById(String cardName, long id) throws CardException, TransactionException {
+        for (int i = ISZERO; i < getCardListSize(); i++) {
+            if (cardLists.get(i).getName().equals(cardName)) {
+                return cardLists.get(i).getUnpaidTransactions().getTransactionNumberById(id);
             }
         }
+        throw new CardException("Card cannot be found: " + cardName);
     }
 }
@@ -0,0 +1,38 @@
+package owlmoney.model.event;
+
+/**
+ * AccountDeletedEvent is published whenever a bank account or card is deleted.
+ */
+public class AccountDeletedEvent {
+    private final String accountName;
+    private final String type;
+
+    /**
+     * Creates an AccountDeletedEvent.
+     *
+     * @param accountName the name of the deleted account.
+     * @param type        the type of the account, such as saving or card.
+     */
+    public AccountDeletedEvent(String accountName, String type) {
+        this.accountName = accountName;
+        this.type = type;
+    }
+
+    /**
+     * Gets the name of the deleted account.
+     *
+     * @return the name of the account.
+     */
+    public String getAccountName() {
+        return accountName;
+    }
+
+    /**
+     * Gets the type of the deleted account.
+     *
+     * @return the type of the account, such as saving or card.
+     */
+    public String getType() {
+        return type;
+    }
+}
@@ -0,0 +1,50 @@
+package owlmoney.model.event;
+
+/**
+ * AccountRenamedEvent is published whenever a bank account or card is renamed.
+ */
+public class AccountRenamedEvent {
+    private final String oldName;
+    private final String newName;
+    private final String type;
+
+    /**
+     * Creates an AccountRenamedEvent.
+     *
+     * @param oldName the name of the account before it was renamed.
+     * @param newName the new name of the account.
+     * @param type    the type of the account, such as saving or card.
+     */
+    public AccountRenamedEvent(String oldName, String newName, String type) {
+        this.oldName = oldName;
+        this.newName = newName;
+        this.type = type;
+    }
+
+    /**
+     * Gets the name of the account before it was renamed.
+     *
+     * @return the old name.
+     */
+    public String getOldName() {
+        return oldName;
+    }
+
+    /**
+     * Gets the new name of the account.
+     *
+     * @return the new name.
+     */
+    public String getNewName() {
+        return newName;
+    }
+
+    /**
+     * Gets the type of the account.
+     *
+     * @return the type of the account, such as saving or card.
+     */
+    public String getType() {
+        return type;
+    }
+}
@@ -0,0 +1,50 @@
+package owlmoney.model.event;
+
+import owlmoney.model.bank.Bank;
+
+/**
+ * BalanceChangedEvent is published whenever the balance of a bank account changes.
+ * Events for the same bank account are equal, so a batch delivers only one of them.
+ */
+public class BalanceChangedEvent {
+    private final Bank bank;
+
+    /**
+     * Creates a BalanceChangedEvent.
+     *
+     * @param bank the bank account whose balance changed.
+     */
+    public BalanceChangedEvent(Bank bank) {
+        this.bank = bank;
+    }
+
+    /**
+     * Gets the bank account whose balance changed.
+     *
+     * @return the bank account, which holds the new balance.
+     */
+    public Bank getBank() {
+        return bank;
+    }
+
+    /**
+     * Checks if another event is for the same bank account.
+     *
+     * @param other the object to compare with.
+     * @return true if the other object is a BalanceChangedEvent for the same bank account.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof BalanceChangedEvent && ((BalanceChangedEvent) other).bank == bank;
+    }
+
+    /**
+     * Gets the hash code of the bank account of the event.
+     *
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(bank);
+    }
+}
@@ -0,0 +1,126 @@
+package owlmoney.model.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * EventBus delivers the events published by the model to every handler subscribed to their type.
+ * Immediate handlers are called as soon as an event is published, for anything that must be exact before the
+ * publisher carries on, such as running totals. Batched handlers are called once the outermost batch ends,
+ * usually at the end of a command, with equal events published during the batch delivered only once.
+ * Everything runs on the thread that publishes, as the model is not safe to change from other threads.
+ */
+public class EventBus {
+    private final HashMap<Class<?>, List<EventHandler<Object>>> immediateHandlers;
+    private final HashMap<Class<?>, List<EventHandler<Object>>> batchedHandlers;
+    private final LinkedHashSet<Object> pendingEvents;
+    private int batchDepth;
+    private static final int ISZERO = 0;
+
+    /**
+     * Creates an EventBus with no handlers.
+     */
+    public EventBus() {
+        immediateHandlers = new HashMap<>();
+        batchedHandlers = new HashMap<>();
+        pendingEvents = new LinkedHashSet<>();
+        batchDepth = ISZERO;
+    }
+
+    /**
+     * Subscribes a handler to be called as soon as an event of the type is published.
+     *
+     * @param type    the type of event to handle.
+     * @param handler the handler to call.
+     * @param <T>     the type of event to handle.
+     */
+    public <T> void subscribe(Class<T> type, EventHandler<? super T> handler) {
+        addHandler(immediateHandlers, type, handler);
+    }
+
+    /**
+     * Subscribes a handler to be called for an event of the type once the batch it was published in ends,
+     * or as soon as it is published outside of a batch.
+     *
+     * @param type    the type of event to handle.
+     * @param handler the handler to call.
+     * @param <T>     the type of event to handle.
+     */
+    public <T> void subscribeBatched(Class<T> type, EventHandler<? super T> handler) {
+        addHandler(batchedHandlers, type, handler);
+    }
+
+    /**
+     * Publishes an event to the immediate handlers of its type, and to its batched handlers once the current
+     * batch ends.
+     *
+     * @param event the event to publish.
+     */
+    public void publish(Object event) {
+        deliver(immediateHandlers, event);
+        if (batchDepth > ISZERO) {
+            pendingEvents.add(event);
+        } else {
+            deliver(batchedHandlers, event);
+        }
+    }
+
+    /**
+     * Starts a batch, or a nested batch that ends with the batch around it.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends one level of batching, and delivers the events published during the batch to the batched handlers
+     * if no batch remains. Events published by the batched handlers themselves are delivered in turn.
+     */
+    public void endBatch() {
+        if (batchDepth == ISZERO) {
+            return;
+        }
+        batchDepth--;
+        if (batchDepth > ISZERO) {
+            return;
+        }
+        while (!pendingEvents.isEmpty()) {
+            ArrayList<Object> events = new ArrayList<>(pendingEvents);
+            pendingEvents.clear();
+            for (Object event : events) {
+                deliver(batchedHandlers, event);
+            }
+        }
+    }
+
+    /**
+     * Adds a handler to the handlers of a type of event.
+     *
+     * @param handlers the immediate or batched handlers.
+     * @param type     the type of event to handle.
+     * @param handler  the handler to add.
+     */
+    @SuppressWarnings("unchecked")
+    private void addHandler(HashMap<Class<?>, List<EventHandler<Object>>> handlers, Class<?> type,
+            EventHandler<?> handler) {
+        handlers.computeIfAbsent(type, key -> new ArrayList<>()).add((EventHandler<Object>) handler);
+    }
+
+    /**
+     * Calls every handler of the type of an event.
+     *
+     * @param handlers the immediate or batched handlers.
+     * @param event    the event to deliver.
+     */
+    private void deliver(HashMap<Class<?>, List<EventHandler<Object>>> handlers, Object event) {
+        List<EventHandler<Object>> handlersOfType = handlers.get(event.getClass());
+        if (handlersOfType == null) {
+            return;
+        }
+        for (EventHandler<Object> handler : handlersOfType) {
+            handler.handle(event);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package owlmoney.model.event;
+
+/**
+ * EventHandler reacts to one type of event published on an EventBus.
+ *
+ * @param <T> the type of event handled.
+ */
+public interface EventHandler<T> {
+
+    /**
+     * Reacts to an event.
+     *
+     * @param event the event that was published.
+     */
+    void handle(T event);
+}
@@ -0,0 +1,57 @@
+package owlmoney.model.event;
+
+import owlmoney.model.transaction.Transaction;
+import owlmoney.model.transaction.TransactionListener;
+
+/**
+ * TransactionChangedEvent is published whenever a transaction is added to or removed from an account,
+ * including undos. An edited transaction is removed with its old details and added again with its new details,
+ * so running totals only need to handle additions and removals.
+ */
+public class TransactionChangedEvent {
+    public static final int ADDED = TransactionListener.ADDED;
+    public static final int REMOVED = TransactionListener.REMOVED;
+    private final String accountName;
+    private final Transaction transaction;
+    private final int change;
+
+    /**
+     * Creates a TransactionChangedEvent.
+     *
+     * @param accountName the name of the bank account or card of the transaction.
+     * @param transaction the transaction that was added or removed.
+     * @param change      ADDED if the transaction was added, or REMOVED if it was removed.
+     */
+    public TransactionChangedEvent(String accountName, Transaction transaction, int change) {
+        this.accountName = accountName;
+        this.transaction = transaction;
+        this.change = change;
+    }
+
+    /**
+     * Gets the name of the bank account or card of the transaction.
+     *
+     * @return the name of the account.
+     */
+    public String getAccountName() {
+        return accountName;
+    }
+
+    /**
+     * Gets the transaction that was added or removed.
+     *
+     * @return the transaction.
+     */
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    /**
+     * Gets whether the transaction was added or removed.
+     *
+     * @return ADDED if the transaction was added, or REMOVED if it was removed.
+     */
+    public int getChange() {
+        return change;
+    }
+}
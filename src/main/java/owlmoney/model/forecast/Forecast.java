@@ -0,0 +1,157 @@
+package owlmoney.model.forecast;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import owlmoney.model.schedule.RecurrenceRule;
+import owlmoney.ui.Ui;
+
+/**
+ * Forecast projects the month-end balance of every bank account for the months ahead.
+ * Each account adds its current balance and the schedules of its incomes, recurring expenditures and bond
+ * coupons. The balance at the end of any month is then the current balance plus the number of occurrences of
+ * each schedule by that month times its amount, so a forecast takes the same time however far ahead it goes,
+ * and however often each schedule repeats.
+ */
+public class Forecast {
+    private final LinkedHashMap<String, Long> openingBalances;
+    private final LinkedHashMap<String, ArrayList<Schedule>> schedules;
+    public static final int MONTHLY = 1;
+    public static final int HALF_YEARLY = 6;
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int FIRST_DAY = 1;
+    private static final long ISZERO = 0;
+
+    /**
+     * Creates a Forecast with no accounts.
+     */
+    public Forecast() {
+        openingBalances = new LinkedHashMap<>();
+        schedules = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adds an account and its current balance to the forecast.
+     *
+     * @param accountName the name of the account.
+     * @param balance     the current balance of the account.
+     */
+    public void addAccount(String accountName, double balance) {
+        openingBalances.put(accountName, toCents(balance));
+        schedules.put(accountName, new ArrayList<>());
+    }
+
+    /**
+     * Adds an amount that repeats every fixed number of months in an account to the forecast.
+     *
+     * @param accountName  the name of the account the amount is credited to or debited from.
+     * @param nextDate     the date of the next occurrence.
+     * @param lastDate     the latest date an occurrence can be on, or null if it repeats without end.
+     * @param periodMonths the number of months between occurrences.
+     * @param amount       the amount of each occurrence, negative if it is debited.
+     */
+    public void addSchedule(String accountName, Date nextDate, Date lastDate, int periodMonths, double amount) {
+        addSchedule(accountName, nextDate, lastDate, RecurrenceRule.everyMonths(periodMonths), amount);
+    }
+
+    /**
+     * Adds an amount that repeats by a recurrence rule in an account to the forecast.
+     *
+     * @param accountName the name of the account the amount is credited to or debited from.
+     * @param nextDate    the date of the next occurrence.
+     * @param lastDate    the latest date an occurrence can be on, or null if it repeats without end.
+     * @param rule        how often the amount repeats.
+     * @param amount      the amount of each occurrence, negative if it is debited.
+     */
+    public void addSchedule(String accountName, Date nextDate, Date lastDate, RecurrenceRule rule, double amount) {
+        schedules.get(accountName).add(new Schedule(nextDate, lastDate, rule, toCents(amount)));
+    }
+
+    /**
+     * Adds an amount that happens once in an account to the forecast.
+     *
+     * @param accountName the name of the account the amount is credited to or debited from.
+     * @param month       the month the amount is credited or debited.
+     * @param amount      the amount, negative if it is debited.
+     */
+    public void addOnce(String accountName, YearMonth month, double amount) {
+        Date date = Date.from(month.atDay(FIRST_DAY).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        schedules.get(accountName).add(new Schedule(date, date, RecurrenceRule.MONTHLY, toCents(amount)));
+    }
+
+    /**
+     * Gets the month of the last occurrence of a schedule that stops at a date.
+     *
+     * @param nextDate     the date of the next occurrence.
+     * @param lastDate     the latest date an occurrence can be on.
+     * @param periodMonths the number of months between occurrences.
+     * @return the month of the last occurrence, or null if there are no more occurrences.
+     */
+    public static YearMonth getLastOccurrence(Date nextDate, Date lastDate, int periodMonths) {
+        LocalDate firstDate = toLocalDate(nextDate);
+        LocalDate finalDate = toLocalDate(lastDate);
+        if (finalDate.isBefore(firstDate)) {
+            return null;
+        }
+        long monthsToLastDate = ChronoUnit.MONTHS.between(firstDate, finalDate);
+        return YearMonth.from(firstDate.plusMonths(monthsToLastDate / periodMonths * periodMonths));
+    }
+
+    /**
+     * Prints the money in, money out and month-end balance of every account for each of the months ahead,
+     * starting with the current month.
+     *
+     * @param months the number of months to forecast.
+     * @param ui     required for printing.
+     */
+    public void printForecast(int months, Ui ui) {
+        YearMonth currentMonth = YearMonth.now();
+        ui.printForecastHeader();
+        for (int i = 0; i < months; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            for (Map.Entry<String, Long> account : openingBalances.entrySet()) {
+                long moneyInCents = ISZERO;
+                long moneyOutCents = ISZERO;
+                long balanceCents = account.getValue();
+                for (Schedule schedule : schedules.get(account.getKey())) {
+                    long occurrences = schedule.countOccurrencesUntil(month);
+                    long occurrencesInMonth = occurrences - schedule.countOccurrencesUntil(month.minusMonths(1));
+                    balanceCents += occurrences * schedule.getCents();
+                    if (schedule.getCents() > ISZERO) {
+                        moneyInCents += occurrencesInMonth * schedule.getCents();
+                    } else {
+                        moneyOutCents -= occurrencesInMonth * schedule.getCents();
+                    }
+                }
+                ui.printForecast(month, account.getKey(), moneyInCents, moneyOutCents, balanceCents);
+            }
+        }
+        ui.printDivider();
+    }
+
+    /**
+     * Converts a date to a local date in the default time zone.
+     *
+     * @param date the date to convert.
+     * @return the local date.
+     */
+    private static LocalDate toLocalDate(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Converts an amount in dollars to whole cents.
+     *
+     * @param amount the amount in dollars.
+     * @return the amount in cents.
+     */
+    private static long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_DOLLAR);
+    }
+}
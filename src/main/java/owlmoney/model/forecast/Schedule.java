@@ -0,0 +1,61 @@
+package owlmoney.model.forecast;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+
+import owlmoney.model.schedule.RecurrenceRule;
+
+/**
+ * Schedule is an amount that repeats in an account by a recurrence rule, such as a monthly income, a weekly
+ * recurring expenditure or a bond coupon.
+ */
+class Schedule {
+    private final Date firstDate;
+    private final Date lastDate;
+    private final RecurrenceRule rule;
+    private final long cents;
+    private static final int ONE_MONTH = 1;
+    private static final int FIRST_DAY = 1;
+    private static final int ONE_MILLISECOND = 1;
+
+    /**
+     * Creates a schedule of an amount repeating in an account.
+     *
+     * @param firstDate the date of the next occurrence.
+     * @param lastDate  the latest date an occurrence can be on, or null if it repeats without end.
+     * @param rule      how often the amount repeats.
+     * @param cents     the amount of each occurrence in cents, negative if it is debited.
+     */
+    Schedule(Date firstDate, Date lastDate, RecurrenceRule rule, long cents) {
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.rule = rule;
+        this.cents = cents;
+    }
+
+    /**
+     * Gets the amount of each occurrence.
+     *
+     * @return the amount of each occurrence in cents, negative if it is debited.
+     */
+    long getCents() {
+        return cents;
+    }
+
+    /**
+     * Counts the occurrences from the next occurrence up to and including a month.
+     * The count comes from the recurrence rule directly, without stepping through the occurrences.
+     *
+     * @param month the month to count up to.
+     * @return the number of occurrences up to the end of the month.
+     */
+    long countOccurrencesUntil(YearMonth month) {
+        Date endDate = new Date(month.plusMonths(ONE_MONTH).atDay(FIRST_DAY).atStartOfDay(ZoneId.systemDefault())
+                .toInstant().toEpochMilli() - ONE_MILLISECOND);
+        if (lastDate != null && lastDate.before(endDate)) {
+            endDate = lastDate;
+        }
+        return rule.countOccurrences(firstDate, endDate);
+    }
+}
@@ -16,6 +16,7 @@ public class Goals {
     private double amount;
     private Date date;
     private Bank savingAccount = null;
+    private double remainingAmount;
     private boolean done = false;
 
     /**
@@ -29,6 +30,7 @@ public class Goals {
         this.name = name;
         this.amount = amount;
         this.date = date;
+        this.remainingAmount = amount;
     }
 
     /**
@@ -44,9 +46,7 @@ public class Goals {
         this.amount = amount;
         this.date = date;
         this.savingAccount = savingAcc;
-        if (Double.parseDouble(getRemainingAmount()) <= 0) {
-            this.done = true;
-        }
+        updateRemainingAmount();
     }
 
     /**
@@ -111,21 +111,50 @@ public class Goals {
     }
 
     /**
-     * Gets the remaining amount to save to reach the Goal.
+     * Checks if the Goal is tied to a saving account.
      *
-     * @return remaining amount left to reaching goal.
+     * @param bank the saving account to check.
+     * @return true if the Goal is tied to the saving account.
      */
-    String getRemainingAmount() {
+    boolean isTiedTo(Bank bank) {
+        return savingAccount == bank;
+    }
+
+    /**
+     * Updates the remaining amount from the target amount and the balance of the tied saving account,
+     * and marks the Goal as achieved once nothing remains.
+     *
+     * @return true if the Goal has just been achieved.
+     */
+    boolean updateRemainingAmount() {
         if (savingAccount == null) {
-            return new DecimalFormat("0.00").format(getGoalsAmount());
+            remainingAmount = getGoalsAmount();
         } else {
-            double remainingAmount = getGoalsAmount() - savingAccount.getCurrentAmount();
-            if (remainingAmount <= 0) {
-                return "0.00";
-            } else {
-                return new DecimalFormat("0.00").format(remainingAmount);
-            }
+            remainingAmount = Math.max(getGoalsAmount() - savingAccount.getCurrentAmount(), 0);
+        }
+        if (remainingAmount <= 0 && !done) {
+            done = true;
+            return true;
         }
+        return false;
+    }
+
+    /**
+     * Gets the remaining amount to save to reach the Goal.
+     *
+     * @return remaining amount left to reaching goal.
+     */
+    String getRemainingAmount() {
+        return new DecimalFormat("0.00").format(remainingAmount);
+    }
+
+    /**
+     * Gets the remaining amount to save to reach the Goal as a number.
+     *
+     * @return remaining amount left to reaching goal.
+     */
+    double getRawRemainingAmount() {
+        return remainingAmount;
     }
 
     /**
@@ -173,6 +202,7 @@ public class Goals {
      */
     void setGoalsAmount(double newAmount) {
         this.amount = newAmount;
+        updateRemainingAmount();
     }
 
     /**
@@ -189,8 +219,8 @@ public class Goals {
      *
      * @param newSavingAcc new saving account to tie to Goal.
      */
-
     void setSavingAccount(Bank newSavingAcc) {
         this.savingAccount = newSavingAcc;
+        updateRemainingAmount();
     }
 }
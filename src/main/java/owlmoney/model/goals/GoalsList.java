@@ -1,6 +1,10 @@
 package owlmoney.model.goals;
 
 import owlmoney.model.bank.Bank;
+import owlmoney.model.event.AccountDeletedEvent;
+import owlmoney.model.event.AccountRenamedEvent;
+import owlmoney.model.event.BalanceChangedEvent;
+import owlmoney.model.event.EventBus;
 import owlmoney.model.goals.exception.GoalsException;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
@@ -14,15 +18,19 @@ import java.util.Date;
 
 /**
  * Contains the list of goals in the profile.
+ * The list listens to the balances of the saving accounts tied to the goals, so the remaining amounts and
+ * achieved statuses are kept up to date as the balances change, and listing the goals only reads them.
  */
 public class GoalsList {
     private ArrayList<Goals> goalList;
+    private boolean hasUnsavedGoals = false;
     private static final int ONE_INDEX = 1;
     private static final boolean ISMULTIPLE = true;
     private static final boolean ISSINGLE = false;
     private static final int ISZERO = 0;
     private Storage storage;
     private static final String PROFILE_GOAL_LIST_FILE_NAME = "profile_goallist.csv";
+    private static final String SAVING = "saving";
 
 
     /**
@@ -60,15 +68,85 @@ public class GoalsList {
                 printOneGoal((i + ONE_INDEX), goalList.get(i), ISMULTIPLE, ui);
             }
             ui.printGoalDivider();
-            try {
-                exportGoalList();
-            } catch (IOException e) {
+            if (hasUnsavedGoals && !saveGoalList()) {
                 ui.printError("Error trying to save your goals to disk. Your data is"
                         + " at risk, but we will try again, feel free to continue using the program.");
             }
         }
     }
 
+    /**
+     * Subscribes the goals to the changes of the bank accounts.
+     * The changes are handled once at the end of each command, so a command that changes a balance many
+     * times saves the goals at most once.
+     *
+     * @param eventBus the event bus the bank accounts publish to.
+     */
+    public void listenTo(EventBus eventBus) {
+        eventBus.subscribeBatched(BalanceChangedEvent.class, this::balanceChanged);
+        eventBus.subscribeBatched(AccountRenamedEvent.class, this::accountRenamed);
+        eventBus.subscribeBatched(AccountDeletedEvent.class, this::accountDeleted);
+    }
+
+    /**
+     * Updates the goals tied to a saving account whose balance changed.
+     * The goals are saved only if one of them has just been achieved, as that is the only saved detail
+     * that depends on the balance.
+     *
+     * @param event the saving account whose balance changed.
+     */
+    private void balanceChanged(BalanceChangedEvent event) {
+        Bank bank = event.getBank();
+        boolean isAnyGoalAchieved = false;
+        for (Goals goal : goalList) {
+            if (goal.isTiedTo(bank) && goal.updateRemainingAmount()) {
+                isAnyGoalAchieved = true;
+            }
+        }
+        if (isAnyGoalAchieved) {
+            saveGoalList();
+        }
+    }
+
+    /**
+     * Saves the goals again if any goal is tied to a saving account that was renamed.
+     *
+     * @param event the account that was renamed.
+     */
+    private void accountRenamed(AccountRenamedEvent event) {
+        if (!SAVING.equals(event.getType())) {
+            return;
+        }
+        for (Goals goal : goalList) {
+            if (event.getNewName().equals(goal.getSavingAccount())) {
+                saveGoalList();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Changes all goals tied to a deleted saving account to untied.
+     *
+     * @param event the account that was deleted.
+     */
+    private void accountDeleted(AccountDeletedEvent event) {
+        if (!SAVING.equals(event.getType())) {
+            return;
+        }
+        boolean isAnyGoalChanged = false;
+        for (int i = ISZERO; i < goalList.size(); i++) {
+            Goals currentGoal = getGoal(i);
+            if (event.getAccountName().equals(currentGoal.getSavingAccount())) {
+                currentGoal.setSavingAccount(null);
+                isAnyGoalChanged = true;
+            }
+        }
+        if (isAnyGoalChanged) {
+            saveGoalList();
+        }
+    }
+
     /**
      * Adds an instance of goals into GoalsList.
      *
@@ -216,11 +294,8 @@ public class GoalsList {
         if (!isMultiplePrinting) {
             ui.printGoalHeader();
         }
-        if (!goal.getSavingAccount().isBlank()) {
-            goal.isDone(Double.parseDouble(goal.getRemainingAmount()));
-        }
-        ui.printGoal(num, goal.getGoalsName(), "$" + new DecimalFormat("0.00").format(goal.getGoalsAmount()),
-                goal.getSavingAccount(), "$" + goal.getRemainingAmount(), goal.getGoalsDate(), goal.getStatus());
+        ui.printGoal(num, goal.getGoalsName(), goal.getGoalsAmount(), goal.getSavingAccount(),
+                goal.getRawRemainingAmount(), goal.getGoalsDateInDateFormat(), goal.getRawStatus());
         if (!isMultiplePrinting) {
             ui.printGoalDivider();
         }
@@ -237,17 +312,17 @@ public class GoalsList {
     }
 
     /**
-     * Change all goals tied to a deleted account to untied.
+     * Writes the goals to permanent storage, to be tried again at the next listing if it fails.
      *
-     * @param bankName Name of deleted bank account.
+     * @return true if the goals were written.
      */
-    public void changeTiedAccountsToNull(String bankName) {
-        for (int i = ISZERO; i < goalList.size(); i++) {
-            Goals currentGoal = getGoal(i);
-            String tiedAccount = currentGoal.getSavingAccount();
-            if (bankName.equals(tiedAccount)) {
-                currentGoal.setSavingAccount(null);
-            }
+    private boolean saveGoalList() {
+        try {
+            exportGoalList();
+            return true;
+        } catch (IOException e) {
+            hasUnsavedGoals = true;
+            return false;
         }
     }
 
@@ -295,6 +370,7 @@ public class GoalsList {
     private void exportGoalList() throws IOException {
         ArrayList<String[]> inputData = prepareExportGoalList();
         storage.writeFile(inputData, PROFILE_GOAL_LIST_FILE_NAME);
+        hasUnsavedGoals = false;
     }
 
     /**
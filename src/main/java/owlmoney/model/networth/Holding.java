@@ -0,0 +1,94 @@
+package owlmoney.model.networth;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Holding is one amount that makes up the net worth, such as the balance of a bank account or the unpaid
+ * expenditures of a card, together with the version of its source when it was gathered.
+ */
+class Holding {
+    private final Object source;
+    private final long version;
+    private final String type;
+    private final LongSupplier centsCalculator;
+    private long cents;
+    private boolean isCalculated;
+
+    /**
+     * Creates a Holding that has not been calculated yet.
+     *
+     * @param source          the object the amount is calculated from.
+     * @param version         the version of the source, which changes whenever the amount may have changed.
+     * @param type            the type of holding, such as saving or card.
+     * @param centsCalculator calculates the amount of the holding in cents.
+     */
+    Holding(Object source, long version, String type, LongSupplier centsCalculator) {
+        this.source = source;
+        this.version = version;
+        this.type = type;
+        this.centsCalculator = centsCalculator;
+    }
+
+    /**
+     * Calculates the amount of the holding from its source.
+     */
+    void calculate() {
+        cents = centsCalculator.getAsLong();
+        isCalculated = true;
+    }
+
+    /**
+     * Takes the amount from an earlier calculation of the same source and version.
+     *
+     * @param cached the earlier calculation of the holding.
+     */
+    void reuse(Holding cached) {
+        cents = cached.cents;
+        isCalculated = true;
+    }
+
+    /**
+     * Gets the object the amount is calculated from.
+     *
+     * @return the object the amount is calculated from.
+     */
+    Object getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the version of the source when the holding was gathered.
+     *
+     * @return the version of the source.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the type of holding.
+     *
+     * @return the type of holding.
+     */
+    String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the amount of the holding in cents.
+     *
+     * @return the amount of the holding in cents.
+     */
+    long getCents() {
+        return cents;
+    }
+
+    /**
+     * Checks if the amount of the holding is known.
+     *
+     * @return the result of whether the amount has been calculated or reused.
+     */
+    boolean isCalculated() {
+        return isCalculated;
+    }
+}
@@ -0,0 +1,96 @@
+package owlmoney.model.networth;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.function.LongSupplier;
+
+import owlmoney.ui.Ui;
+
+/**
+ * NetWorth adds up the bank balances, bond principal and unpaid card expenditures of a profile in cents.
+ * Unpaid card expenditures are already totalled in cents, but bank balances and bond principal are kept in dollars
+ * as doubles by their accounts and are only rounded to the nearest cent here, so their totals are only as exact
+ * as the balances they are rounded from.
+ * Each account adds its holdings with a version that changes whenever its amount may change, and only holdings
+ * whose version changed since the last calculation are calculated again, in parallel.
+ */
+public class NetWorth {
+    private final ArrayList<Holding> holdings;
+    private IdentityHashMap<Object, Holding> cachedHoldings;
+    public static final String SAVING = "saving";
+    public static final String INVESTMENT = "investment";
+    public static final String BONDS = "bonds";
+    public static final String CARD = "card";
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final long ISZERO = 0;
+
+    /**
+     * Creates a NetWorth with no holdings.
+     */
+    public NetWorth() {
+        holdings = new ArrayList<>();
+        cachedHoldings = new IdentityHashMap<>();
+    }
+
+    /**
+     * Adds a holding to the next calculation.
+     *
+     * @param source          the object the amount is calculated from, which identifies the holding.
+     * @param version         the version of the source, which changes whenever the amount may have changed.
+     * @param type            the type of holding, such as saving or card.
+     * @param centsCalculator calculates the amount of the holding in cents.
+     */
+    public void addHolding(Object source, long version, String type, LongSupplier centsCalculator) {
+        holdings.add(new Holding(source, version, type, centsCalculator));
+    }
+
+    /**
+     * Calculates the holdings that changed since the last calculation and prints the totals of every type.
+     * The holdings are cleared afterwards, ready to be added again for the next calculation.
+     *
+     * @param ui required for printing.
+     */
+    public void printNetWorth(Ui ui) {
+        IdentityHashMap<Object, Holding> calculatedHoldings = new IdentityHashMap<>();
+        for (Holding holding : holdings) {
+            Holding cached = cachedHoldings.get(holding.getSource());
+            if (cached != null && cached.getVersion() == holding.getVersion()) {
+                holding.reuse(cached);
+            }
+            calculatedHoldings.put(holding.getSource(), holding);
+        }
+        holdings.parallelStream().filter(holding -> !holding.isCalculated()).forEach(Holding::calculate);
+        ui.printNetWorth(getTotalCents(SAVING), getTotalCents(INVESTMENT), getTotalCents(BONDS),
+                getTotalCents(CARD));
+        ui.printDivider();
+        cachedHoldings = calculatedHoldings;
+        holdings.clear();
+    }
+
+    /**
+     * Rounds an amount in dollars to the nearest whole cent.
+     * This does not undo any floating point error already in the amount, it only stops further error from adding up.
+     *
+     * @param amount the amount in dollars.
+     * @return the amount in cents.
+     */
+    public static long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Gets the total of the holdings of one type.
+     *
+     * @param type the type of holding to total.
+     * @return the total of the holdings of the type in cents.
+     */
+    private long getTotalCents(String type) {
+        long totalCents = ISZERO;
+        for (Holding holding : holdings) {
+            if (type.equals(holding.getType())) {
+                totalCents += holding.getCents();
+            }
+        }
+        return totalCents;
+    }
+}
@@ -0,0 +1,126 @@
+package owlmoney.model.profile;
+
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import owlmoney.ui.Ui;
+
+/**
+ * Applies the recurring transactions of a profile in the background as they fall due, instead of waiting for
+ * /update to be entered.
+ * A single daemon thread sleeps until the earliest due date of the profile and then updates it, holding the same
+ * lock that the command loop holds while a command runs.
+ */
+public class AutoUpdater {
+    private final Profile profile;
+    private final Ui ui;
+    private final ScheduledExecutorService executor;
+    private final LongSupplier clock;
+    private ScheduledFuture<?> nextUpdate;
+    private Date scheduledDueDate;
+    private static final long RETRY_DELAY_MILLISECONDS = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * Creates an AutoUpdater for a profile, with nothing scheduled until {@link #reschedule()} is called.
+     *
+     * @param profile the profile to update.
+     * @param ui      required for printing.
+     */
+    public AutoUpdater(Profile profile, Ui ui) {
+        this(profile, ui, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "owlmoney-auto-update");
+            thread.setDaemon(true);
+            return thread;
+        }), System::currentTimeMillis);
+    }
+
+    /**
+     * Creates an AutoUpdater for a profile that updates on the executor and tells the time from the clock.
+     *
+     * @param profile  the profile to update.
+     * @param ui       required for printing.
+     * @param executor runs the updates when they fall due.
+     * @param clock    gets the current time in milliseconds since the epoch.
+     */
+    AutoUpdater(Profile profile, Ui ui, ScheduledExecutorService executor, LongSupplier clock) {
+        this.profile = profile;
+        this.ui = ui;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Schedules the next update for the earliest due date of the profile.
+     * Called after every command, as a command can add a recurring transaction that falls due sooner.
+     */
+    public void reschedule() {
+        profile.profileBeginCommand();
+        try {
+            scheduleUpdate(profile.profileGetNextDueDate(), clock.getAsLong());
+        } finally {
+            profile.profileEndCommand();
+        }
+    }
+
+    /**
+     * Stops the background updates.
+     * An update that is already running is left to finish, and nothing is scheduled afterwards.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Schedules an update for a due date, unless one is already scheduled for it or the updates have stopped.
+     * Must be called while holding the lock of the profile.
+     *
+     * @param dueDate        the due date to update at, or null if nothing recurs in the profile.
+     * @param earliestMillis the earliest time to update at, in milliseconds since the epoch.
+     */
+    private void scheduleUpdate(Date dueDate, long earliestMillis) {
+        if (nextUpdate != null && dueDate != null && dueDate.equals(scheduledDueDate)) {
+            return;
+        }
+        if (nextUpdate != null) {
+            nextUpdate.cancel(false);
+            nextUpdate = null;
+        }
+        scheduledDueDate = dueDate;
+        if (dueDate == null) {
+            return;
+        }
+        long delay = Math.max(dueDate.getTime(), earliestMillis) - clock.getAsLong();
+        try {
+            nextUpdate = executor.schedule(this::update, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            nextUpdate = null;
+        }
+    }
+
+    /**
+     * Applies the recurring transactions that have fallen due and schedules the next update.
+     * A recurring transaction that is still due afterwards, such as one the balance cannot cover, is tried again
+     * after a delay rather than straight away.
+     */
+    private void update() {
+        profile.profileBeginCommand();
+        try {
+            nextUpdate = null;
+            profile.profileUpdateDueTransactions(ui);
+            ui.flush();
+            Date nextDueDate = profile.profileGetNextDueDate();
+            long earliestMillis = clock.getAsLong();
+            if (nextDueDate != null && nextDueDate.getTime() <= earliestMillis) {
+                earliestMillis += RETRY_DELAY_MILLISECONDS;
+            }
+            scheduleUpdate(nextDueDate, earliestMillis);
+        } finally {
+            profile.profileEndCommand();
+        }
+    }
+}
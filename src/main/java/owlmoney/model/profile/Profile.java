@@ -1,11 +1,15 @@
 package owlmoney.model.profile;
 
 import java.text.ParseException;
-import java.time.YearMonth;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 import owlmoney.model.bank.Investment;
 import owlmoney.model.bank.Saving;
@@ -15,16 +19,29 @@ import owlmoney.model.bank.BankList;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.Bond;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.budget.Budget;
+import owlmoney.model.budget.BudgetList;
+import owlmoney.model.budget.exception.BudgetException;
 import owlmoney.model.card.Card;
 import owlmoney.model.card.CardList;
+import owlmoney.model.event.EventBus;
+import owlmoney.model.forecast.Forecast;
 import owlmoney.model.goals.Goals;
 import owlmoney.model.goals.GoalsList;
 import owlmoney.model.goals.exception.GoalsException;
+import owlmoney.model.networth.NetWorth;
 import owlmoney.model.profile.exception.ProfileException;
+import owlmoney.model.schedule.RecurrenceRule;
 import owlmoney.model.transaction.Deposit;
 import owlmoney.model.transaction.Expenditure;
+import owlmoney.model.transaction.PageRequest;
 import owlmoney.model.transaction.Transaction;
+import owlmoney.model.transaction.TransactionList;
+import owlmoney.model.transaction.TransactionQuery;
+import owlmoney.model.transaction.TransactionSearch;
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.model.undo.UndoJournal;
+import owlmoney.model.undo.UndoRecord;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
@@ -36,14 +53,21 @@ public class Profile {
     private BankList bankList;
     private CardList cardList;
     private GoalsList goalsList;
+    private BudgetList budgetList;
+    private EventBus eventBus;
     private Storage storage;
+    private UndoJournal undoJournal;
+    private NetWorth netWorth;
     private Ui ui;
+    private boolean isInTransaction = false;
+    private final ReentrantLock commandLock = new ReentrantLock();
 
     private static final String BANK = "bank";
     private static final String SAVING = "saving";
     private static final String BONDS = "bonds";
     private static final String INVESTMENT = "investment";
     private static final String CARD = "card";
+    private static final String ALL = "all";
     private static final String ISBANK = "savings transfer";
     private static final String ISINVESTMENT = "investment transfer";
     private static final String TRANSFERCATEGORY = "Fund Transfer";
@@ -51,11 +75,18 @@ public class Profile {
     private static final String FILE_PATH = "data/";
     private static final String PROFILE_BANK_LIST_FILE_NAME = "profile_banklist.csv";
     private static final String PROFILE_GOAL_LIST_FILE_NAME = "profile_goallist.csv";
+    private static final String PROFILE_BUDGET_LIST_FILE_NAME = "profile_budgetlist.csv";
     private static final String INVESTMENT_BOND_LIST_FILE_NAME = "_investment_bondList.csv";
     private static final String INVESTMENT_TRANSACTION_LIST_FILE_NAME = "_investment_transactionList.csv";
     private static final String SAVING_TRANSACTION_LIST_FILE_NAME = "_saving_transactionList.csv";
     private static final String SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME = "_saving_recurring_transactionList.csv";
     private static final String PROFILE_FILE_NAME = "profile.csv";
+    private static final String PROFILE_CARD_LIST_FILE_NAME = "profile_cardlist.csv";
+    private static final String CARD_PAID_TRANSACTION_LIST_FILE_NAME = "_card_paid_transactionList.csv";
+    private static final String CARD_UNPAID_TRANSACTION_LIST_FILE_NAME = "_card_unpaid_transactionList.csv";
+    private static final String CARD_RECURRING_TRANSACTION_LIST_FILE_NAME = "_card_recurring_transactionList.csv";
+    private static final boolean IS_PAID = true;
+    private static final boolean IS_UNPAID = false;
     private static final String HAS_SPENT = "true";
     private static final String NOT_SPENT = "false";
     private static final String NO_BANK_ACCOUNT = "";
@@ -68,14 +99,34 @@ public class Profile {
      */
     public Profile(String newUserName, Ui ui) {
         storage = new Storage(FILE_PATH);
+        undoJournal = new UndoJournal();
+        netWorth = new NetWorth();
         this.username = newUserName;
+        this.ui = ui;
+        loadProfileData();
+    }
+
+    /**
+     * Loads the bank accounts, cards and goals of the profile from the saved files.
+     */
+    private void loadProfileData() {
         this.bankList = new BankList(storage);
         this.cardList = new CardList(storage);
         this.goalsList = new GoalsList(storage);
-        this.ui = ui;
+        this.budgetList = new BudgetList(storage);
+        this.eventBus = new EventBus();
+        this.bankList.setUndoJournal(undoJournal);
+        this.cardList.setUndoJournal(undoJournal);
+        this.bankList.setBudgetList(budgetList);
+        this.cardList.setBudgetList(budgetList);
+        this.bankList.setEventBus(eventBus);
+        this.cardList.setEventBus(eventBus);
+        this.goalsList.listenTo(eventBus);
+        this.budgetList.listenTo(eventBus);
+        undoJournal.clear();
         try {
             loadBanksFromImportedData();
-        } catch (BankException exceptionMessage) {
+        } catch (BankException | ParseException exceptionMessage) {
             ui.printError("Error importing banks");
         }
         try {
@@ -89,6 +140,176 @@ public class Profile {
         } catch (ParseException | BankException exceptionMessage) {
             ui.printError("Error importing goals for bank accounts.");
         }
+        try {
+            loadCardsFromImportedData();
+        } catch (ParseException | CardException exceptionMessage) {
+            ui.printError("Error importing cards and card expenditures.");
+        }
+        loadBudgetsFromImportedData();
+    }
+
+    /**
+     * Begins a command, holding back the changes to the goals until the command ends so that a command
+     * which changes a balance many times updates and saves the goals only once.
+     * The profile is locked until the command ends, so background updates only run between commands.
+     */
+    public void profileBeginCommand() {
+        commandLock.lock();
+        eventBus.beginBatch();
+    }
+
+    /**
+     * Ends a command, updating the goals from the changes made during the command, and unlocks the profile.
+     */
+    public void profileEndCommand() {
+        try {
+            eventBus.endBatch();
+        } finally {
+            commandLock.unlock();
+        }
+    }
+
+    /**
+     * Begins a transaction where changes are only saved to disk on commit.
+     * Any changes pending from before the transaction are saved first so that a rollback only discards
+     * changes made within the transaction.
+     *
+     * @param ui required for printing.
+     * @throws ProfileException If a transaction has already begun or earlier changes cannot be saved.
+     */
+    public void profileBeginTransaction(Ui ui) throws ProfileException {
+        if (isInTransaction) {
+            throw new ProfileException("A transaction has already begun, use /commit or /rollback to end it first");
+        }
+        try {
+            storage.flushWrites();
+        } catch (IOException e) {
+            throw new ProfileException("Unable to save your earlier changes to disk, transaction was not started");
+        }
+        storage.deferWrites();
+        isInTransaction = true;
+        ui.printMessage("Transaction has begun, changes will be saved when you enter /commit");
+    }
+
+    /**
+     * Commits the current transaction by saving every change made within it to disk at once.
+     *
+     * @param ui required for printing.
+     * @throws ProfileException If there is no transaction to commit.
+     */
+    public void profileCommitTransaction(Ui ui) throws ProfileException {
+        checkIsInTransaction("commit");
+        isInTransaction = false;
+        try {
+            storage.resumeWrites();
+            storage.flushWrites();
+        } catch (IOException e) {
+            ui.printError("Error trying to save your committed changes to disk. Your data is at risk,"
+                    + " but we will try again, feel free to continue using the program.");
+        }
+        ui.printMessage("Transaction has been committed");
+    }
+
+    /**
+     * Rolls back the current transaction by discarding unsaved changes and reloading the saved profile.
+     *
+     * @param ui required for printing.
+     * @throws ProfileException If there is no transaction to roll back.
+     */
+    public void profileRollbackTransaction(Ui ui) throws ProfileException {
+        checkIsInTransaction("roll back");
+        isInTransaction = false;
+        storage.discardWrites();
+        resumeWrites(ui);
+        try {
+            this.username = storage.readFile(PROFILE_FILE_NAME).get(0)[0];
+        } catch (IOException | IndexOutOfBoundsException e) {
+            ui.printError("Unable to reload your profile name, keeping " + this.username);
+        }
+        loadProfileData();
+        ui.printMessage("Transaction has been rolled back, changes made since /begin have been discarded");
+    }
+
+    /**
+     * Checks if a transaction is in progress.
+     *
+     * @return the result of whether a transaction is in progress.
+     */
+    public boolean profileIsInTransaction() {
+        return isInTransaction;
+    }
+
+    /**
+     * Undoes the latest change to expenditures, deposits, fund transfers, card bills or account details.
+     * Other changes, such as adding or deleting accounts, cannot be undone and clear the changes before them.
+     *
+     * @param ui required for printing.
+     * @throws ProfileException If there is nothing to undo.
+     */
+    public void profileUndo(Ui ui) throws ProfileException {
+        UndoRecord record = undoJournal.pop();
+        if (record == null) {
+            throw new ProfileException("There is nothing to undo");
+        }
+        storage.deferWrites();
+        try {
+            record.revert(ui);
+        } finally {
+            resumeWrites(ui);
+        }
+        ui.printMessage("Undone " + record.getDescription());
+    }
+
+    /**
+     * Sets the number of changes that can be undone.
+     *
+     * @param depth the maximum number of changes kept for undo.
+     */
+    public void profileSetUndoDepth(int depth) {
+        undoJournal.setMaxDepth(depth);
+    }
+
+    /**
+     * Throws ProfileException if there is no transaction in progress.
+     *
+     * @param action the action that requires a transaction.
+     * @throws ProfileException If there is no transaction in progress.
+     */
+    private void checkIsInTransaction(String action) throws ProfileException {
+        if (!isInTransaction) {
+            throw new ProfileException("There is no transaction to " + action + ", use /begin first");
+        }
+    }
+
+    /**
+     * Ends the undo group of a command made of several changes, then ends its deferred writes.
+     * If the command failed part way, the changes it already made are reverted first so that neither memory nor
+     * disk is left with half of the command.
+     *
+     * @param isCompleted whether every change of the command was made.
+     * @param ui required for printing.
+     */
+    private void endGroupAndResumeWrites(boolean isCompleted, Ui ui) {
+        if (isCompleted) {
+            undoJournal.endGroup();
+        } else {
+            undoJournal.abortGroup(ui);
+        }
+        resumeWrites(ui);
+    }
+
+    /**
+     * Ends one level of deferred writes, saving them if nothing else is deferring writes.
+     *
+     * @param ui required for printing.
+     */
+    private void resumeWrites(Ui ui) {
+        try {
+            storage.resumeWrites();
+        } catch (IOException e) {
+            ui.printError("Error trying to save your changes to disk. Your data is at risk,"
+                    + " but we will try again, feel free to continue using the program.");
+        }
     }
 
     /**
@@ -119,6 +340,7 @@ public class Profile {
             ui.printError("Unable to save profile now, your data is at risk, but we will"
                     + " try saving again, feel free to continue using the program.");
         }
+        undoJournal.clear();
     }
 
     /**
@@ -146,6 +368,7 @@ public class Profile {
      */
     public void profileAddNewBank(Bank newBank, Ui ui) throws BankException {
         bankList.bankListAddBank(newBank, ui);
+        undoJournal.clear();
     }
 
     /**
@@ -157,9 +380,7 @@ public class Profile {
      */
     public void profileDeleteBank(String bankName, String bankType, Ui ui) throws BankException {
         bankList.bankListDeleteBank(bankName, bankType, ui);
-        if (bankType.equals(SAVING)) {
-            goalsList.changeTiedAccountsToNull(bankName);
-        }
+        undoJournal.clear();
     }
 
     /**
@@ -210,36 +431,93 @@ public class Profile {
     }
 
     /**
-     * Lists deposits from a specific bank account.
+     * Lists a page of deposits from a specific bank account.
      *
      * @param listedBank Bank account to list from.
      * @param ui         required for printing.
-     * @param displayNum Number of deposits to list.
+     * @param page       The page of deposits to list.
      * @throws BankException        If bank account does not exist.
      * @throws TransactionException If invalid transaction
      */
-    public void profileListDeposit(String listedBank, Ui ui, int displayNum)
+    public void profileListDeposit(String listedBank, Ui ui, PageRequest page)
             throws BankException, TransactionException {
-        bankList.bankListListBankDeposit(listedBank, ui, displayNum);
+        printNextPageHint(bankList.bankListListBankDeposit(listedBank, ui, page), ui);
     }
 
     /**
-     * Lists expenditure from a specific a bank account or credit card.
+     * Lists a page of expenditure from a specific a bank account or credit card.
      *
      * @param listedBankOrCard Bank account or credit card to list from.
      * @param ui               required for printing.
-     * @param expendituresToDisplay       Number of expenditure to list.
+     * @param page             The page of expenditures to list.
      * @param type             Type of account to add expenditure into.
      * @throws BankException        If bank account does not exist.
      * @throws TransactionException If no expenditure found or no expenditure is in the list..
      * @throws CardException        If the credit card name cannot be found.
      */
-    public void profileListExpenditure(String listedBankOrCard, Ui ui, int expendituresToDisplay, String type)
+    public void profileListExpenditure(String listedBankOrCard, Ui ui, PageRequest page, String type)
             throws BankException, TransactionException, CardException {
         if ("card".equals(type)) {
-            cardList.cardListListCardExpenditure(listedBankOrCard, ui, expendituresToDisplay);
+            printNextPageHint(cardList.cardListListCardExpenditure(listedBankOrCard, ui, page), ui);
         } else if ("bank".equals(type)) {
-            bankList.bankListListBankExpenditure(listedBankOrCard, ui, expendituresToDisplay);
+            printNextPageHint(bankList.bankListListBankExpenditure(listedBankOrCard, ui, page), ui);
+        }
+    }
+
+    /**
+     * Prints the totals of the transactions in a bank account or credit card by month and category.
+     *
+     * @param name  Bank account or credit card to report on.
+     * @param month The month to report, or null to report every month.
+     * @param type  Type of account to report on.
+     * @param ui    required for printing.
+     * @throws BankException        If bank account does not exist.
+     * @throws TransactionException If there are no transactions to report.
+     * @throws CardException        If the credit card name cannot be found.
+     */
+    public void profileReportTransactions(String name, YearMonth month, String type, Ui ui)
+            throws BankException, TransactionException, CardException {
+        if (type.equals(CARD)) {
+            cardList.cardListReportTransactions(name, month, ui);
+        } else if (type.equals(BANK)) {
+            bankList.bankListReportTransactions(name, month, ui);
+        }
+    }
+
+    /**
+     * Prints the net worth of the user from every bank account, bond and credit card.
+     * Only the accounts that changed since the last time are added up again.
+     *
+     * @param ui required for printing.
+     */
+    public void profileNetWorth(Ui ui) {
+        bankList.bankListAddToNetWorth(netWorth);
+        cardList.cardListAddToNetWorth(netWorth);
+        netWorth.printNetWorth(ui);
+    }
+
+    /**
+     * Prints the month-end balance of every bank account for the months ahead.
+     *
+     * @param months the number of months to forecast.
+     * @param ui     required for printing.
+     * @throws BankException If there are no bank accounts.
+     */
+    public void profileForecast(int months, Ui ui) throws BankException {
+        Forecast forecast = new Forecast();
+        bankList.bankListAddToForecast(forecast);
+        forecast.printForecast(months, ui);
+    }
+
+    /**
+     * Prints how to see the next page of a listing if there is one.
+     *
+     * @param cursor the cursor for the next page, or PageRequest.NO_CURSOR if there is no next page.
+     * @param ui     required for printing.
+     */
+    private void printNextPageHint(long cursor, Ui ui) {
+        if (cursor != PageRequest.NO_CURSOR) {
+            ui.printMessage("Enter the same command with /cursor " + cursor + " to see the next page");
         }
     }
 
@@ -350,6 +628,7 @@ public class Profile {
      */
     public void profileAddNewCard(Card newCard, Ui ui) throws CardException {
         cardList.cardListAddCard(newCard, ui);
+        undoJournal.clear();
     }
 
     /**
@@ -376,6 +655,7 @@ public class Profile {
      */
     public void profileDeleteCard(String name, Ui ui) throws CardException {
         cardList.cardListDeleteCard(name, ui);
+        undoJournal.clear();
     }
 
     /**
@@ -399,6 +679,7 @@ public class Profile {
     public void profileDeleteBond(String bankName, String bondName, Ui ui)
             throws BankException, BondException {
         bankList.bankListDeleteBond(bankName, bondName, ui);
+        undoJournal.clear();
     }
 
     /**
@@ -424,6 +705,7 @@ public class Profile {
      */
     public void profileAddNewBond(String bankName, Bond newBond, Ui ui) throws BankException {
         bankList.bankListAddBond(bankName, newBond, ui);
+        undoJournal.clear();
     }
 
     /**
@@ -452,6 +734,7 @@ public class Profile {
     public void profileEditBond(String bankName, String bondName, String year, String rate, Ui ui)
             throws BankException, BondException {
         bankList.bankListEditBond(bankName, bondName, year, rate, ui);
+        undoJournal.clear();
     }
 
     /**
@@ -468,6 +751,58 @@ public class Profile {
         bankList.bankListListBond(bankName, ui, displayNum);
     }
 
+    /**
+     * Adds a new monthly budget for a category, counting what has already been spent in each month.
+     *
+     * @param category The category of expenditures the budget is for.
+     * @param amount   The amount that can be spent in a month.
+     * @param accounts The bank accounts and cards the budget is for, or an empty list for every account.
+     * @param ui       required for printing.
+     * @throws BudgetException If an account does not exist or there is already a budget for the category.
+     */
+    public void profileAddBudget(String category, double amount, List<String> accounts, Ui ui)
+            throws BudgetException {
+        for (String accountName : accounts) {
+            if (!bankList.bankAccountExists(accountName) && !cardList.cardExists(accountName)) {
+                throw new BudgetException("There is no bank account or credit card with the name: " + accountName);
+            }
+        }
+        Budget newBudget = new Budget(category, amount, accounts);
+        addSpentToBudget(newBudget);
+        budgetList.addBudget(newBudget, ui);
+    }
+
+    /**
+     * Deletes the budget of a category.
+     *
+     * @param category The category of the budget.
+     * @param ui       required for printing.
+     * @throws BudgetException If there is no budget for the category.
+     */
+    public void profileDeleteBudget(String category, Ui ui) throws BudgetException {
+        budgetList.deleteBudget(category, ui);
+    }
+
+    /**
+     * Lists every budget with the amount spent this month.
+     *
+     * @param ui required for printing.
+     * @throws BudgetException If there are no budgets.
+     */
+    public void profileListBudgets(Ui ui) throws BudgetException {
+        budgetList.listBudgets(ui);
+    }
+
+    /**
+     * Adds the amounts already spent by every bank account and credit card to a new budget.
+     *
+     * @param budget The budget to add the amounts to.
+     */
+    private void addSpentToBudget(Budget budget) {
+        bankList.bankListAddSpentToBudget(budget);
+        cardList.cardListAddSpentToBudget(budget);
+    }
+
     /**
      * Lists all goals in GoalsList.
      *
@@ -486,6 +821,7 @@ public class Profile {
      */
     public void profileAddGoals(Goals goals, Ui ui) throws GoalsException {
         goalsList.addToGoals(goals, ui);
+        undoJournal.clear();
     }
 
     /**
@@ -497,6 +833,7 @@ public class Profile {
      */
     public void profileDeleteGoals(String name, Ui ui) throws GoalsException {
         goalsList.deleteFromGoalList(name, ui);
+        undoJournal.clear();
     }
 
     /**
@@ -513,6 +850,7 @@ public class Profile {
     public void profileEditGoals(String goalName, String amount, Date date, String newName, Bank savingName, Ui ui)
             throws GoalsException {
         goalsList.editGoals(goalName, amount, date, newName, savingName, ui);
+        undoJournal.clear();
     }
 
     /**
@@ -534,16 +872,18 @@ public class Profile {
      * @param ui                      Used for printing.
      * @param type                    Type of account to add to.
      * @throws BankException        If bank account is not found or if bank account is an investment account.
+     * @throws CardException        If the credit card is not found.
      * @throws TransactionException If the recurring expenditure list is full.
      */
     public void profileAddRecurringExpenditure(
             String accountName, Transaction newRecurringExpenditure, Ui ui, String type)
-            throws BankException, TransactionException {
+            throws BankException, CardException, TransactionException {
         if ("card".equals(type)) {
-            //card recurring transaction
-            System.out.println("Do card recurring transaction here");
+            cardList.cardListAddRecurringExpenditure(accountName, newRecurringExpenditure, ui);
+            undoJournal.clear();
         } else if ("bank".equals(type)) {
             bankList.bankListAddRecurringExpenditure(accountName, newRecurringExpenditure, ui);
+            undoJournal.clear();
         }
     }
 
@@ -555,15 +895,17 @@ public class Profile {
      * @param ui          Used for printing.
      * @param type        Type of account to delete from.
      * @throws BankException        If bank account does not exist or is an investment account.
+     * @throws CardException        If the credit card does not exist.
      * @throws TransactionException If there are 0 recurring expenditure in the list or if index is out of range.
      */
     public void profileDeleteRecurringExpenditure(String accountName, int index, Ui ui, String type)
-            throws BankException, TransactionException {
+            throws BankException, CardException, TransactionException {
         if ("card".equals(type)) {
-            //card recurring transaction
-            System.out.println("Do card recurring transaction here");
+            cardList.cardListDeleteRecurringExpenditure(accountName, index, ui);
+            undoJournal.clear();
         } else if ("bank".equals(type)) {
             bankList.bankListDeleteRecurringExpenditure(accountName, index, ui);
+            undoJournal.clear();
         }
     }
 
@@ -574,13 +916,13 @@ public class Profile {
      * @param ui          Used for printing.
      * @param type        Account type.
      * @throws BankException        If bank is not found or is an investment account.
+     * @throws CardException        If the credit card is not found.
      * @throws TransactionException If there are 0 recurring expenditures in the account.
      */
     public void profileListRecurringExpenditure(String accountName, Ui ui, String type)
-            throws BankException, TransactionException {
+            throws BankException, CardException, TransactionException {
         if ("card".equals(type)) {
-            //card recurring transaction
-            System.out.println("Do card recurring transaction here");
+            cardList.cardListListRecurringExpenditure(accountName, ui);
         } else if ("bank".equals(type)) {
             bankList.bankListListRecurringExpenditure(accountName, ui);
         }
@@ -594,19 +936,22 @@ public class Profile {
      * @param description New description of the recurring expenditure.
      * @param amount      New amount of the recurring expenditure.
      * @param category    New category of the recurring expenditure.
+     * @param repeats     New recurrence rule of the recurring expenditure, or null to keep the current one.
      * @param ui          Used for printing.
      * @param type        The account type.
      * @throws BankException        If the bank is not found or is an investment account.
+     * @throws CardException        If the credit card is not found.
      * @throws TransactionException If there are 0 recurring expenditure in the account or index is out of range.
      */
-    public void profileEditRecurringExpenditure(
-            String accountName, int index, String description, String amount, String category, Ui ui, String type)
-            throws BankException, TransactionException {
+    public void profileEditRecurringExpenditure(String accountName, int index, String description, String amount,
+            String category, RecurrenceRule repeats, Ui ui, String type)
+            throws BankException, CardException, TransactionException {
         if ("card".equals(type)) {
-            //card recurring transaction
-            System.out.println("Do card recurring transaction here");
+            cardList.cardListEditRecurringExpenditure(accountName, index, description, amount, category, repeats, ui);
+            undoJournal.clear();
         } else if ("bank".equals(type)) {
-            bankList.bankListEditRecurringExpenditure(accountName, index, description, amount, category, ui);
+            bankList.bankListEditRecurringExpenditure(accountName, index, description, amount, category, repeats, ui);
+            undoJournal.clear();
         }
     }
 
@@ -617,10 +962,38 @@ public class Profile {
      */
     public void profileUpdate(Ui ui) {
         bankList.bankListUpdateRecurringTransactions(ui);
-        //card update recurring
+        cardList.cardListUpdateRecurringTransactions(ui);
+        undoJournal.clear();
         ui.printMessage("Profile has been updated");
     }
 
+    /**
+     * Applies the recurring transactions that have fallen due, without a message if nothing was due.
+     *
+     * @param ui Used for printing.
+     */
+    void profileUpdateDueTransactions(Ui ui) {
+        boolean isBankUpdated = bankList.bankListUpdateRecurringTransactions(ui);
+        boolean isCardUpdated = cardList.cardListUpdateRecurringTransactions(ui);
+        if (isBankUpdated || isCardUpdated) {
+            undoJournal.clear();
+        }
+    }
+
+    /**
+     * Gets the date the earliest recurring transaction of the profile falls due.
+     *
+     * @return the earliest due date, or null if nothing recurs in the profile.
+     */
+    Date profileGetNextDueDate() {
+        Date bankDueDate = bankList.bankListGetNextDueDate();
+        Date cardDueDate = cardList.cardListGetNextDueDate();
+        if (bankDueDate == null || (cardDueDate != null && cardDueDate.before(bankDueDate))) {
+            return cardDueDate;
+        }
+        return bankDueDate;
+    }
+
     /**
      * Transfers fund from one bank account to another bank account.
      *
@@ -637,10 +1010,18 @@ public class Profile {
         String toType = bankList.bankListIsAccountExistToReceive(to);
         String descriptionTo = "Fund Transfer to " + to;
         Transaction newExpenditure = new Expenditure(descriptionTo, amount, date, TRANSFERCATEGORY);
-        bankList.bankListAddExpenditure(from, newExpenditure, ui, checkBankType(fromType));
-        String descriptionFrom = "Fund Received from " + from;
-        Transaction newDeposit = new Deposit(descriptionFrom, amount, date, DEPOSITCATEGORY);
-        bankList.bankListAddDeposit(to, newDeposit, ui, checkBankType(toType));
+        storage.deferWrites();
+        undoJournal.startGroup("transferring funds from " + from + " to " + to);
+        boolean isTransferred = false;
+        try {
+            bankList.bankListAddExpenditure(from, newExpenditure, ui, checkBankType(fromType));
+            String descriptionFrom = "Fund Received from " + from;
+            Transaction newDeposit = new Deposit(descriptionFrom, amount, date, DEPOSITCATEGORY);
+            bankList.bankListAddDeposit(to, newDeposit, ui, checkBankType(toType));
+            isTransferred = true;
+        } finally {
+            endGroupAndResumeWrites(isTransferred, ui);
+        }
     }
 
     /**
@@ -692,22 +1073,82 @@ public class Profile {
     /**
      * Finds the transactions in either bank or card object that matches with the keywords provided by user.
      *
-     * @param name        The bank or card name to be searched for.
+     * @param name        The bank or card name to be searched for, unused when searching every account.
      * @param fromDate    The date to search from.
      * @param toDate      The date to search until.
      * @param description The description keyword to match against.
      * @param category    The category keyword to match against.
+     * @param type        The type of account to search in.
+     * @param page        The page of matches to list, unused when searching every account.
      * @param ui          The object required for printing.
      * @throws BankException        If bank name specified does not exist.
      * @throws TransactionException If parsing of date fails.
      * @throws CardException        If card with the name does not exist.
      */
     public void findTransaction(String name, String fromDate, String toDate, String description, String category,
-            String type, Ui ui) throws BankException, TransactionException, CardException {
+            String type, PageRequest page, Ui ui) throws BankException, TransactionException, CardException {
+        TransactionQuery query = new TransactionQuery(fromDate, toDate, description, category);
+        if (type.equals(BANK)) {
+            printNextPageHint(bankList.bankListFindTransaction(name, query, page, ui), ui);
+        } else if (type.equals(CARD)) {
+            printNextPageHint(cardList.cardListFindTransaction(name, query, page, ui), ui);
+        } else if (type.equals(ALL)) {
+            TransactionSearch search = new TransactionSearch(query);
+            bankList.bankListAddToSearch(search);
+            cardList.cardListAddToSearch(search);
+            search.printSearch(ui);
+        }
+    }
+
+    /**
+     * Edits the description and category of every transaction in a bank account or card that matches the keywords.
+     *
+     * @param name           The bank or card name to edit in.
+     * @param fromDate       The date to match from.
+     * @param toDate         The date to match until.
+     * @param description    The description keyword to match against.
+     * @param category       The category keyword to match against.
+     * @param newDescription The new description of the matches, or blank to keep their descriptions.
+     * @param newCategory    The new category of the matching expenditures, or blank to keep their categories.
+     * @param type           The type of account to edit in.
+     * @param ui             The object required for printing.
+     * @throws BankException        If bank name specified does not exist or does not support editing.
+     * @throws TransactionException If parsing of date fails or nothing matches.
+     * @throws CardException        If card with the name does not exist.
+     */
+    public void profileEditMatchingTransactions(String name, String fromDate, String toDate, String description,
+            String category, String newDescription, String newCategory, String type, Ui ui)
+            throws BankException, TransactionException, CardException {
+        TransactionQuery query = new TransactionQuery(fromDate, toDate, description, category);
+        if (type.equals(BANK)) {
+            bankList.bankListEditMatchingTransactions(name, query, newDescription, newCategory, ui);
+        } else if (type.equals(CARD)) {
+            cardList.cardListEditMatchingExpenditures(name, query, newDescription, newCategory, ui);
+        }
+    }
+
+    /**
+     * Deletes every transaction in a bank account or card that matches the keywords.
+     *
+     * @param name        The bank or card name to delete from.
+     * @param fromDate    The date to match from.
+     * @param toDate      The date to match until.
+     * @param description The description keyword to match against.
+     * @param category    The category keyword to match against.
+     * @param type        The type of account to delete from.
+     * @param ui          The object required for printing.
+     * @throws BankException        If bank name specified does not exist, does not support deleting or the amount
+     *                              becomes negative.
+     * @throws TransactionException If parsing of date fails or nothing matches.
+     * @throws CardException        If card with the name does not exist.
+     */
+    public void profileDeleteMatchingTransactions(String name, String fromDate, String toDate, String description,
+            String category, String type, Ui ui) throws BankException, TransactionException, CardException {
+        TransactionQuery query = new TransactionQuery(fromDate, toDate, description, category);
         if (type.equals(BANK)) {
-            bankList.bankListFindTransaction(name, fromDate, toDate, description, category, ui);
+            bankList.bankListDeleteMatchingTransactions(name, query, ui);
         } else if (type.equals(CARD)) {
-            cardList.cardListFindTransaction(name, fromDate, toDate, description, category, ui);
+            cardList.cardListDeleteMatchingExpenditures(name, query, ui);
         }
     }
 
@@ -728,12 +1169,39 @@ public class Profile {
         return importData;
     }
 
+    /**
+     * Checks if a row of the imported bank list has the date of the next income.
+     * Bank lists saved before the date was saved do not have it, and savings accounts from them start
+     * from the first of next month instead.
+     *
+     * @param importDataRow a row of the imported bank list.
+     * @return true if the row has the date of the next income.
+     */
+    private boolean hasNextIncomeDate(String[] importDataRow) {
+        return importDataRow.length > 4 && !importDataRow[4].isBlank();
+    }
+
+    /**
+     * Gets the ID saved in a row of transactions.
+     * Rows saved before IDs were saved have none, and are given the next ID of their list when imported.
+     *
+     * @param importDataRow a row of transactions.
+     * @return the ID of the row, or Transaction.NO_ID if the row has none.
+     */
+    private long getTransactionId(String[] importDataRow) {
+        if (importDataRow.length <= 5 || importDataRow[5].isBlank()) {
+            return Transaction.NO_ID;
+        }
+        return Long.parseLong(importDataRow[5]);
+    }
+
     /**
      * Add banks from imported data.
      *
      * @throws BankException if there are errors importing data.
+     * @throws ParseException if there are errors parsing the date of the next income.
      */
-    private void loadBanksFromImportedData() throws BankException {
+    private void loadBanksFromImportedData() throws BankException, ParseException {
         if (storage.isFileExist(PROFILE_BANK_LIST_FILE_NAME)) {
             List<String[]> importData = importListDataFromStorage(PROFILE_BANK_LIST_FILE_NAME,ui);
             for (String[] importDataRow : importData) {
@@ -746,6 +1214,10 @@ public class Profile {
                 if (bankType.equals(INVESTMENT)) {
                     Bank newInvestment = new Investment(bankName, doubleAmount);
                     profileImportNewBank(newInvestment);
+                } else if (bankType.equals(SAVING) && hasNextIncomeDate(importDataRow)) {
+                    Date nextIncomeDate = new SimpleDateFormat("dd/MM/yyyy").parse(importDataRow[4]);
+                    Bank newSaving = new Saving(bankName, doubleAmount, doubleIncome, nextIncomeDate);
+                    profileImportNewBank(newSaving);
                 } else if (bankType.equals(SAVING)) {
                     Bank newSaving = new Saving(bankName, doubleAmount, doubleIncome);
                     profileImportNewBank(newSaving);
@@ -804,7 +1276,15 @@ public class Profile {
     private void loadTransactionsForBanks(String fileName, String bankName, String bankType)
             throws BankException, ParseException {
         List<String[]> importData = importListDataFromStorage(fileName,ui);
+        List<Long> loggedDeletedIds = importDeletedTransactionIds(fileName);
+        Set<Long> deletedIds = new HashSet<>(loggedDeletedIds);
+        int skippedRowCount = 0;
         for (String[] importDataRow : importData) {
+            long id = getTransactionId(importDataRow);
+            if (deletedIds.contains(id)) {
+                skippedRowCount++;
+                continue;
+            }
             String description = importDataRow[0];
             String amount = importDataRow[1];
             double doubleAmount = Double.parseDouble(amount);
@@ -816,21 +1296,82 @@ public class Profile {
             if (bankType.equals(INVESTMENT)) {
                 if (hasSpent.equals(HAS_SPENT)) {
                     Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat, category);
+                    newExpenditure.setId(id);
                     profileImportNewExpenditure(bankName, newExpenditure, BONDS);
                 } else if (hasSpent.equals(NOT_SPENT)) {
                     Transaction newDeposit = new Deposit(description, doubleAmount, dateInFormat, category);
+                    newDeposit.setId(id);
                     profileImportNewDeposit(bankName, newDeposit, BONDS);
                 }
             } else if (bankType.equals(SAVING)) {
                 if (hasSpent.equals(HAS_SPENT)) {
                     Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat, category);
+                    newExpenditure.setId(id);
                     profileImportNewExpenditure(bankName, newExpenditure, BANK);
                 } else if (hasSpent.equals(NOT_SPENT)) {
                     Transaction newDeposit = new Deposit(description, doubleAmount, dateInFormat, category);
+                    newDeposit.setId(id);
                     profileImportNewDeposit(bankName, newDeposit, BANK);
                 }
             }
         }
+        bankList.bankListMarkTransactionsSaved(bankName, fileName, importData.size(), skippedRowCount,
+                loggedDeletedIds);
+    }
+
+    /**
+     * Loads the IDs in the delete log of the file, which are of transactions deleted after the file was last
+     * written in full.
+     *
+     * @param fileName the name of the file the transactions are saved to.
+     * @return the IDs in the delete log, or none if the file has no delete log.
+     */
+    private List<Long> importDeletedTransactionIds(String fileName) {
+        List<Long> deletedIds = new ArrayList<>();
+        String deleteLogFileName = TransactionList.getDeleteLogFileName(fileName);
+        if (!storage.isFileExist(deleteLogFileName)) {
+            return deletedIds;
+        }
+        List<String[]> importData = importListDataFromStorage(deleteLogFileName, ui);
+        if (importData == null) {
+            return deletedIds;
+        }
+        for (String[] importDataRow : importData) {
+            deletedIds.add(Long.parseLong(importDataRow[0]));
+        }
+        return deletedIds;
+    }
+
+    /**
+     * Gets the recurrence rule saved in a row of recurring transactions.
+     * Rows saved before recurrence rules were added have no rule, and repeat monthly.
+     *
+     * @param importDataRow a row of recurring transactions.
+     * @return the recurrence rule of the row, or the monthly rule if the row has none.
+     */
+    private RecurrenceRule getRecurrenceRule(String[] importDataRow) {
+        if (importDataRow.length <= 5) {
+            return RecurrenceRule.MONTHLY;
+        }
+        RecurrenceRule recurrenceRule = RecurrenceRule.fromKeyword(importDataRow[5]);
+        return recurrenceRule == null ? RecurrenceRule.MONTHLY : recurrenceRule;
+    }
+
+    /**
+     * Sets the start date and applied occurrences saved in a row of recurring transactions.
+     * Rows saved before these were added start repeating from their next date.
+     *
+     * @param recurringTransaction the recurring transaction loaded from the row.
+     * @param importDataRow        a row of recurring transactions.
+     * @throws ParseException if there are errors parsing the start date.
+     */
+    private void setRecurrenceStart(Transaction recurringTransaction, String[] importDataRow)
+            throws ParseException {
+        if (importDataRow.length <= 7) {
+            return;
+        }
+        Date startDate = new SimpleDateFormat("dd/MM/yyyy").parse(importDataRow[6]);
+        recurringTransaction.setRecurrenceStart(startDate, Integer.parseInt(importDataRow[7]));
     }
 
     /**
@@ -854,12 +1395,17 @@ public class Profile {
             Date dateInFormat = dateFormat.parse(date);
             String category = importDataRow[3];
             String hasSpent = importDataRow[4];
+            RecurrenceRule recurrenceRule = getRecurrenceRule(importDataRow);
             if (bankType.equals(SAVING)) {
                 if (hasSpent.equals(HAS_SPENT)) {
                     Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat, category);
+                    newExpenditure.setRecurrenceRule(recurrenceRule);
+                    setRecurrenceStart(newExpenditure, importDataRow);
                     profileImportNewRecurringExpenditure(bankName, newExpenditure);
                 } else if (hasSpent.equals(NOT_SPENT)) {
                     Transaction newDeposit = new Deposit(description, doubleAmount, dateInFormat, category);
+                    newDeposit.setRecurrenceRule(recurrenceRule);
+                    setRecurrenceStart(newDeposit, importDataRow);
                     profileImportNewRecurringExpenditure(bankName, newDeposit);
                 }
             }
@@ -992,6 +1538,111 @@ public class Profile {
         }
     }
 
+    /**
+     * Adds budgets from imported data, with the amounts already spent by the imported accounts.
+     */
+    private void loadBudgetsFromImportedData() {
+        if (storage.isFileExist(PROFILE_BUDGET_LIST_FILE_NAME)) {
+            List<String[]> importData = importListDataFromStorage(PROFILE_BUDGET_LIST_FILE_NAME, ui);
+            for (String[] importDataRow : importData) {
+                String category = importDataRow[0];
+                double amount = Double.parseDouble(importDataRow[1]);
+                String accounts = importDataRow.length > 2 ? importDataRow[2] : "";
+                Budget newBudget = new Budget(category, amount, BudgetList.parseAccounts(accounts));
+                addSpentToBudget(newBudget);
+                budgetList.importBudget(newBudget);
+            }
+        }
+    }
+
+    /**
+     * Adds cards and their paid, unpaid and recurring expenditures from imported data.
+     *
+     * @throws CardException if the card of an expenditure does not exist.
+     * @throws ParseException if there are errors parsing date.
+     */
+    private void loadCardsFromImportedData() throws ParseException, CardException {
+        if (storage.isFileExist(PROFILE_CARD_LIST_FILE_NAME)) {
+            List<String[]> importData = importListDataFromStorage(PROFILE_CARD_LIST_FILE_NAME, ui);
+            for (int i = 0; i < importData.size(); i++) {
+                String cardName = importData.get(i)[0];
+                double doubleLimit = Double.parseDouble(importData.get(i)[1]);
+                double doubleRebate = Double.parseDouble(importData.get(i)[2]);
+                cardList.cardListImportNewCard(new Card(cardName, doubleLimit, doubleRebate));
+                String paidFileName = i + CARD_PAID_TRANSACTION_LIST_FILE_NAME;
+                String unpaidFileName = i + CARD_UNPAID_TRANSACTION_LIST_FILE_NAME;
+                String recurringFileName = i + CARD_RECURRING_TRANSACTION_LIST_FILE_NAME;
+                if (storage.isFileExist(paidFileName)) {
+                    loadTransactionsForCards(paidFileName, cardName, IS_PAID);
+                }
+                if (storage.isFileExist(unpaidFileName)) {
+                    loadTransactionsForCards(unpaidFileName, cardName, IS_UNPAID);
+                }
+                if (storage.isFileExist(recurringFileName)) {
+                    loadRecurringTransactionsForCards(recurringFileName, cardName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the paid or unpaid expenditures tied to the card.
+     *
+     * @param fileName the name of the file to obtain expenditures from.
+     * @param cardName the name of the card.
+     * @param isPaid   whether the expenditures belong to paid card bills.
+     * @throws CardException if the card does not exist.
+     * @throws ParseException if there are errors parsing date.
+     */
+    private void loadTransactionsForCards(String fileName, String cardName, boolean isPaid)
+            throws ParseException, CardException {
+        List<String[]> importData = importListDataFromStorage(fileName, ui);
+        List<Long> loggedDeletedIds = importDeletedTransactionIds(fileName);
+        Set<Long> deletedIds = new HashSet<>(loggedDeletedIds);
+        int skippedRowCount = 0;
+        for (String[] importDataRow : importData) {
+            long id = getTransactionId(importDataRow);
+            if (deletedIds.contains(id)) {
+                skippedRowCount++;
+                continue;
+            }
+            String description = importDataRow[0];
+            double doubleAmount = Double.parseDouble(importDataRow[1]);
+            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+            Date dateInFormat = dateFormat.parse(importDataRow[2]);
+            String category = importDataRow[3];
+            Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat, category);
+            newExpenditure.setId(id);
+            cardList.cardListImportNewExpenditure(cardName, newExpenditure, isPaid);
+        }
+        cardList.cardListMarkExpendituresSaved(cardName, isPaid, fileName, importData.size(), skippedRowCount,
+                loggedDeletedIds);
+    }
+
+    /**
+     * Loads the recurring expenditures tied to the card.
+     *
+     * @param fileName the name of the file to obtain recurring expenditures from.
+     * @param cardName the name of the card.
+     * @throws CardException if the card does not exist.
+     * @throws ParseException if there are errors parsing date.
+     */
+    private void loadRecurringTransactionsForCards(String fileName, String cardName)
+            throws ParseException, CardException {
+        List<String[]> importData = importListDataFromStorage(fileName, ui);
+        for (String[] importDataRow : importData) {
+            String description = importDataRow[0];
+            double doubleAmount = Double.parseDouble(importDataRow[1]);
+            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+            Date dateInFormat = dateFormat.parse(importDataRow[2]);
+            String category = importDataRow[3];
+            Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat, category);
+            newExpenditure.setRecurrenceRule(getRecurrenceRule(importDataRow));
+            setRecurrenceStart(newExpenditure, importDataRow);
+            cardList.cardListImportNewRecurringExpenditure(cardName, newExpenditure);
+        }
+    }
+
     /**
      * Imports one instance of goals.
      *
@@ -1065,10 +1716,18 @@ public class Profile {
     public void payCardBill(String card, String bank, Expenditure expenditure, Deposit deposit, YearMonth cardDate,
             Ui ui, String type)
             throws BankException, TransactionException {
-        bankList.bankListAddExpenditure(bank, expenditure, ui, type);
-        ui.printMessage("\n");
-        bankList.bankListAddDeposit(bank, deposit, ui, type);
-        cardList.transferExpUnpaidToPaid(card, cardDate, type);
+        storage.deferWrites();
+        undoJournal.startGroup("paying the " + cardDate + " bill of " + card);
+        boolean isPaid = false;
+        try {
+            bankList.bankListAddExpenditure(bank, expenditure, ui, type);
+            ui.printMessage("\n");
+            bankList.bankListAddDeposit(bank, deposit, ui, type);
+            cardList.transferExpUnpaidToPaid(card, cardDate, type, ui);
+            isPaid = true;
+        } finally {
+            endGroupAndResumeWrites(isPaid, ui);
+        }
         ui.printMessage("Credit Card bill for " + card + " for the month of " + cardDate
                 + " have been successfully paid!");
     }
@@ -1083,7 +1742,7 @@ public class Profile {
      * @throws TransactionException If invalid transaction when transferring transaction.
      */
     public void unpayCardBill(String card, YearMonth cardDate, Ui ui, String type) throws TransactionException {
-        cardList.transferExpPaidToUnpaid(card, cardDate, type);
+        cardList.transferExpPaidToUnpaid(card, cardDate, type, ui);
         ui.printMessage("Credit Card bill for " + card + " for the month of " + cardDate
                 + " have been successfully reverted!");
     }
@@ -1100,4 +1759,49 @@ public class Profile {
     public double getBankExpAmountById(String bank, int expenditureId) throws BankException, TransactionException {
         return bankList.bankListGetExpAmountById(bank, expenditureId);
     }
+
+    /**
+     * Gets the transaction number of the transaction with an ID in a bank account or card.
+     *
+     * @param accountName The name of the bank account or card.
+     * @param id          The ID of the transaction.
+     * @param type        The type of account, either bank or card.
+     * @return The transaction number of the transaction.
+     * @throws BankException        If bank account does not exist.
+     * @throws CardException        If card does not exist.
+     * @throws TransactionException If there is no transaction with the ID.
+     */
+    public int profileGetTransactionNumberById(String accountName, long id, String type)
+            throws BankException, CardException, TransactionException {
+        if ("card".equals(type)) {
+            return cardList.cardListGetTransactionNumberById(accountName, id);
+        }
+        return getBankTransactionNumberById(accountName, id);
+    }
+
+    /**
+     * Gets the transaction number of the transaction with an ID in a bank account.
+     *
+     * @param bank The name of the bank account.
+     * @param id   The ID of the transaction.
+     * @return The transaction number of the transaction.
+     * @throws BankException        If bank account does not exist.
+     * @throws TransactionException If there is no transaction with the ID.
+     */
+    public int getBankTransactionNumberById(String bank, long id) throws BankException, TransactionException {
+        return bankList.bankListGetTransactionNumberById(bank, id);
+    }
+
+    /**
+     * Gets the ID of the transaction with a transaction number in a bank account.
+     *
+     * @param bank  The name of the bank account.
+     * @param index The transaction number of the transaction.
+     * @return The ID of the transaction.
+     * @throws BankException        If bank account does not exist.
+     * @throws TransactionException If the transaction number is out of range.
+     */
+    public long getBankTransactionId(String bank, int index) throws BankException, TransactionException {
+        return bankList.bankListGetTransactionId(bank, index);
+    }
 }
@@ -0,0 +1,42 @@
+package owlmoney.model.schedule;
+
+import java.util.Date;
+
+/**
+ * An entry in the queue of accounts waiting for their next recurring transaction to fall due.
+ *
+ * @param <T> the type of account queued.
+ */
+class DueEntry<T> {
+    private final Date dueDate;
+    private final T account;
+
+    /**
+     * Creates an entry for an account that has a recurring transaction due on a date.
+     *
+     * @param dueDate the date the earliest recurring transaction of the account falls due.
+     * @param account the account.
+     */
+    DueEntry(Date dueDate, T account) {
+        this.dueDate = dueDate;
+        this.account = account;
+    }
+
+    /**
+     * Gets the date the earliest recurring transaction of the account falls due.
+     *
+     * @return the due date of the entry.
+     */
+    Date getDueDate() {
+        return dueDate;
+    }
+
+    /**
+     * Gets the account of the entry.
+     *
+     * @return the account.
+     */
+    T getAccount() {
+        return account;
+    }
+}
@@ -0,0 +1,47 @@
+package owlmoney.model.schedule;
+
+import java.util.Comparator;
+import java.util.Date;
+
+/**
+ * An occurrence of a recurring transaction that has fallen due.
+ */
+public class DueOccurrence {
+    /**
+     * Orders occurrences by date, and occurrences on the same date by their schedule.
+     */
+    public static final Comparator<DueOccurrence> DATE_ORDER = Comparator.comparing(DueOccurrence::getDate)
+            .thenComparingInt(DueOccurrence::getSchedule);
+
+    private final Date date;
+    private final int schedule;
+
+    /**
+     * Creates an occurrence due on a date.
+     *
+     * @param date     The date the occurrence is due.
+     * @param schedule The number of the schedule the occurrence belongs to.
+     */
+    public DueOccurrence(Date date, int schedule) {
+        this.date = date;
+        this.schedule = schedule;
+    }
+
+    /**
+     * Gets the date the occurrence is due.
+     *
+     * @return The date the occurrence is due.
+     */
+    public Date getDate() {
+        return date;
+    }
+
+    /**
+     * Gets the schedule the occurrence belongs to.
+     *
+     * @return The number of the schedule the occurrence belongs to.
+     */
+    public int getSchedule() {
+        return schedule;
+    }
+}
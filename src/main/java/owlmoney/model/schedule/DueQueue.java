@@ -0,0 +1,103 @@
+package owlmoney.model.schedule;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Queues accounts by the date their earliest recurring transaction falls due, so that an update only visits the
+ * accounts that have something due.
+ * Entries are never changed once queued; an entry whose due date is no longer the one scheduled for its account is
+ * stale and skipped when it reaches the front of the queue.
+ *
+ * @param <T> the type of account queued.
+ */
+public class DueQueue<T> {
+    private final PriorityQueue<DueEntry<T>> dueEntries;
+    private final IdentityHashMap<T, Date> scheduledDueDates;
+
+    /**
+     * Creates an empty DueQueue.
+     */
+    public DueQueue() {
+        dueEntries = new PriorityQueue<>(Comparator.comparing(DueEntry::getDueDate));
+        scheduledDueDates = new IdentityHashMap<>();
+    }
+
+    /**
+     * Queues an account by the date its earliest recurring transaction falls due, replacing the entry queued for it
+     * before, if any.
+     *
+     * @param account     the account to queue.
+     * @param nextDueDate the date its earliest recurring transaction falls due, or null if nothing recurs in it.
+     */
+    public void schedule(T account, Date nextDueDate) {
+        if (nextDueDate == null) {
+            scheduledDueDates.remove(account);
+            return;
+        }
+        if (nextDueDate.equals(scheduledDueDates.get(account))) {
+            return;
+        }
+        scheduledDueDates.put(account, nextDueDate);
+        dueEntries.add(new DueEntry<>(nextDueDate, account));
+    }
+
+    /**
+     * Stops queueing an account, such as one that was deleted.
+     *
+     * @param account the account to stop queueing.
+     */
+    public void remove(T account) {
+        scheduledDueDates.remove(account);
+    }
+
+    /**
+     * Gets the date the earliest recurring transaction of any queued account falls due.
+     * Stale entries at the front of the queue are dropped on the way.
+     *
+     * @return the earliest due date, or null if nothing is queued.
+     */
+    public Date getNextDueDate() {
+        while (!dueEntries.isEmpty()) {
+            DueEntry<T> dueEntry = dueEntries.peek();
+            if (isLive(dueEntry)) {
+                return dueEntry.getDueDate();
+            }
+            dueEntries.poll();
+        }
+        return null;
+    }
+
+    /**
+     * Takes every account with a recurring transaction due by the current date off the queue.
+     * The accounts must be queued again with {@link #schedule(Object, Date)} once they are updated.
+     *
+     * @param currentDate the current date.
+     * @return the accounts that have something due, each listed once.
+     */
+    public List<T> pollDue(Date currentDate) {
+        ArrayList<T> dueAccounts = new ArrayList<>();
+        while (!dueEntries.isEmpty() && !dueEntries.peek().getDueDate().after(currentDate)) {
+            DueEntry<T> dueEntry = dueEntries.poll();
+            if (isLive(dueEntry)) {
+                scheduledDueDates.remove(dueEntry.getAccount());
+                dueAccounts.add(dueEntry.getAccount());
+            }
+        }
+        return dueAccounts;
+    }
+
+    /**
+     * Checks if an entry is still the one scheduled for its account.
+     *
+     * @param dueEntry the entry to check.
+     * @return true if the entry is not stale.
+     */
+    private boolean isLive(DueEntry<T> dueEntry) {
+        return dueEntry.getDueDate().equals(scheduledDueDates.get(dueEntry.getAccount()));
+    }
+}
@@ -0,0 +1,187 @@
+package owlmoney.model.schedule;
+
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Describes how often a recurring transaction repeats, such as weekly, monthly or on the last business day of
+ * every month.
+ * The date of any occurrence and the number of occurrences up to a date are both worked out directly from the
+ * first date, so jumping over many missed occurrences takes the same time as jumping over one.
+ */
+public final class RecurrenceRule {
+    public static final RecurrenceRule WEEKLY = new RecurrenceRule("weekly", Calendar.DATE, 7);
+    public static final RecurrenceRule FORTNIGHTLY = new RecurrenceRule("fortnightly", Calendar.DATE, 14);
+    public static final RecurrenceRule MONTHLY = new RecurrenceRule("monthly", Calendar.MONTH, 1);
+    public static final RecurrenceRule QUARTERLY = new RecurrenceRule("quarterly", Calendar.MONTH, 3);
+    public static final RecurrenceRule YEARLY = new RecurrenceRule("yearly", Calendar.MONTH, 12);
+    public static final RecurrenceRule LAST_BUSINESS_DAY =
+            new RecurrenceRule("lastbusinessday", RecurrenceRule.LAST_BUSINESS_DAY_OF_MONTH, 1);
+    private static final RecurrenceRule[] RULES = new RecurrenceRule[] {
+        WEEKLY, FORTNIGHTLY, MONTHLY, QUARTERLY, YEARLY, LAST_BUSINESS_DAY
+    };
+    private static final int LAST_BUSINESS_DAY_OF_MONTH = -1;
+    private static final int MONTHS_IN_YEAR = 12;
+    private static final int ONE_INDEX = 1;
+    private static final int ISZERO = 0;
+    private static final String MONTHS_SUFFIX = "months";
+
+    private final String keyword;
+    private final int unit;
+    private final int period;
+
+    /**
+     * Creates a rule that repeats every fixed number of days or months.
+     *
+     * @param keyword The name the rule is entered and saved as.
+     * @param unit    Calendar.DATE, Calendar.MONTH or LAST_BUSINESS_DAY_OF_MONTH.
+     * @param period  The number of units between occurrences.
+     */
+    private RecurrenceRule(String keyword, int unit, int period) {
+        this.keyword = keyword;
+        this.unit = unit;
+        this.period = period;
+    }
+
+    /**
+     * Gets the rule that repeats every fixed number of months, such as the half-yearly coupons of a bond.
+     *
+     * @param months The number of months between occurrences.
+     * @return The rule that repeats every number of months.
+     */
+    public static RecurrenceRule everyMonths(int months) {
+        for (RecurrenceRule rule : RULES) {
+            if (rule.unit == Calendar.MONTH && rule.period == months) {
+                return rule;
+            }
+        }
+        return new RecurrenceRule(months + MONTHS_SUFFIX, Calendar.MONTH, months);
+    }
+
+    /**
+     * Gets the rule with the name it is entered and saved as.
+     *
+     * @param keyword The name of the rule, in any case.
+     * @return The rule with the name, or null if there is no such rule.
+     */
+    public static RecurrenceRule fromKeyword(String keyword) {
+        for (RecurrenceRule rule : RULES) {
+            if (rule.keyword.equalsIgnoreCase(keyword)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the names of every rule that can be entered, separated by commas.
+     *
+     * @return The names of the rules.
+     */
+    public static String listKeywords() {
+        StringBuilder keywords = new StringBuilder();
+        for (RecurrenceRule rule : RULES) {
+            if (keywords.length() > ISZERO) {
+                keywords.append(", ");
+            }
+            keywords.append(rule.keyword);
+        }
+        return keywords.toString();
+    }
+
+    /**
+     * Gets the name the rule is entered and saved as.
+     *
+     * @return The name of the rule.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Moves a date onto the schedule, for the first occurrence of a new recurring transaction.
+     * Only the last business day rule moves the date, to the last business day of its month, or of the next
+     * month if that day has already passed.
+     *
+     * @param date The date the recurring transaction should start from.
+     * @return The date of its first occurrence.
+     */
+    public Date alignFirstOccurrence(Date date) {
+        if (unit != LAST_BUSINESS_DAY_OF_MONTH) {
+            return date;
+        }
+        Date occurrence = getOccurrence(date, ISZERO);
+        if (occurrence.before(date)) {
+            occurrence = getOccurrence(date, ONE_INDEX);
+        }
+        return occurrence;
+    }
+
+    /**
+     * Gets the date of an occurrence, counting from the first occurrence.
+     * Every occurrence is counted from the first date, so a monthly schedule on the 31st does not drift after
+     * shorter months.
+     *
+     * @param firstDate The date of the first occurrence.
+     * @param index     The number of occurrences after the first, where 0 is the first occurrence itself.
+     * @return The date of the occurrence.
+     */
+    public Date getOccurrence(Date firstDate, int index) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(firstDate);
+        if (unit != LAST_BUSINESS_DAY_OF_MONTH) {
+            calendar.add(unit, index * period);
+            return calendar.getTime();
+        }
+        calendar.set(Calendar.DAY_OF_MONTH, ONE_INDEX);
+        calendar.add(Calendar.MONTH, index * period);
+        calendar.set(Calendar.DAY_OF_MONTH, calendar.getActualMaximum(Calendar.DAY_OF_MONTH));
+        while (calendar.get(Calendar.DAY_OF_WEEK) == Calendar.SATURDAY
+                || calendar.get(Calendar.DAY_OF_WEEK) == Calendar.SUNDAY) {
+            calendar.add(Calendar.DATE, -ONE_INDEX);
+        }
+        return calendar.getTime();
+    }
+
+    /**
+     * Counts the occurrences from a first date that fall on or before a limit date.
+     * The count is estimated from the number of days or months in between and corrected by at most one
+     * occurrence, however far apart the dates are.
+     *
+     * @param firstDate The date of the first occurrence.
+     * @param limitDate The last date an occurrence can fall on.
+     * @return The number of occurrences on or before the limit date.
+     */
+    public int countOccurrences(Date firstDate, Date limitDate) {
+        if (limitDate.before(firstDate)) {
+            return ISZERO;
+        }
+        int periods = (int) (countUnitsBetween(firstDate, limitDate) / period);
+        if (getOccurrence(firstDate, periods).after(limitDate)) {
+            periods--;
+        }
+        return periods + ONE_INDEX;
+    }
+
+    /**
+     * Counts the whole days or calendar months from one date to a later date.
+     *
+     * @param firstDate The earlier date.
+     * @param limitDate The later date.
+     * @return The number of days for a daily rule, or of calendar months otherwise.
+     */
+    private long countUnitsBetween(Date firstDate, Date limitDate) {
+        if (unit == Calendar.DATE) {
+            return ChronoUnit.DAYS.between(firstDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate(),
+                    limitDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
+        }
+        Calendar first = Calendar.getInstance();
+        first.setTime(firstDate);
+        Calendar limit = Calendar.getInstance();
+        limit.setTime(limitDate);
+        return (limit.get(Calendar.YEAR) - first.get(Calendar.YEAR)) * MONTHS_IN_YEAR
+                + limit.get(Calendar.MONTH) - first.get(Calendar.MONTH);
+    }
+}
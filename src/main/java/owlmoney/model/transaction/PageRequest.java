@@ -0,0 +1,132 @@
+package owlmoney.model.transaction;
+
+/**
+ * PageRequest describes which page of a list to show, either by page number or by the cursor of a previous page.
+ * A cursor is the ID of the last transaction shown, so the next page stays the same when new
+ * transactions are added in between. A page may instead be ranked by a sort key, in which case it is found by
+ * page number only.
+ */
+public class PageRequest {
+    private final int pageSize;
+    private final int pageNumber;
+    private final long cursor;
+    private final String sortKey;
+    public static final long NO_CURSOR = 0;
+    public static final String UNSORTED = "";
+    public static final String SORT_BY_AMOUNT = "amount";
+    public static final String SORT_BY_DATE = "date";
+    public static final String SORT_BY_CATEGORY = "category";
+    private static final int FIRST_PAGE = 1;
+    private static final int MIN_PAGE_SIZE = 1;
+
+    /**
+     * Creates a PageRequest for the first page.
+     *
+     * @param pageSize the number of transactions on each page.
+     */
+    public PageRequest(int pageSize) {
+        this(pageSize, FIRST_PAGE, NO_CURSOR);
+    }
+
+    /**
+     * Creates a PageRequest for a page number, counted after the cursor if there is one.
+     * Every page shows at least one transaction.
+     *
+     * @param pageSize   the number of transactions on each page.
+     * @param pageNumber the page to show, starting from 1.
+     * @param cursor     the cursor of a previous page, or NO_CURSOR to start from the beginning.
+     */
+    public PageRequest(int pageSize, int pageNumber, long cursor) {
+        this(pageSize, pageNumber, cursor, UNSORTED);
+    }
+
+    /**
+     * Creates a PageRequest for a page number of the transactions ranked by the sort key.
+     * Amounts are ranked from the largest, dates from the latest and categories in alphabetical order.
+     *
+     * @param pageSize   the number of transactions on each page.
+     * @param pageNumber the page to show, starting from 1.
+     * @param sortKey    the key to rank the transactions by, or UNSORTED to keep the order they were added in.
+     */
+    public PageRequest(int pageSize, int pageNumber, String sortKey) {
+        this(pageSize, pageNumber, NO_CURSOR, sortKey);
+    }
+
+    /**
+     * Creates a PageRequest.
+     *
+     * @param pageSize   the number of transactions on each page.
+     * @param pageNumber the page to show, starting from 1.
+     * @param cursor     the cursor of a previous page, or NO_CURSOR to start from the beginning.
+     * @param sortKey    the key to rank the transactions by, or UNSORTED to keep the order they were added in.
+     */
+    private PageRequest(int pageSize, int pageNumber, long cursor, String sortKey) {
+        this.pageSize = Math.max(pageSize, MIN_PAGE_SIZE);
+        this.pageNumber = pageNumber;
+        this.cursor = cursor;
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * Gets the number of transactions on each page.
+     *
+     * @return the number of transactions on each page.
+     */
+    int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Gets the number of transactions to skip before the page.
+     *
+     * @return the number of transactions on the pages before this page.
+     */
+    long getSkipCount() {
+        return (long) (pageNumber - FIRST_PAGE) * pageSize;
+    }
+
+    /**
+     * Gets the cursor of the previous page.
+     *
+     * @return the cursor of the previous page.
+     */
+    long getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Checks if the page continues from a cursor.
+     *
+     * @return the result of whether the page continues from a cursor.
+     */
+    boolean hasCursor() {
+        return cursor != NO_CURSOR;
+    }
+
+    /**
+     * Checks if this is the first page of the list.
+     *
+     * @return the result of whether this is the first page.
+     */
+    public boolean isFirstPage() {
+        return pageNumber == FIRST_PAGE && !hasCursor();
+    }
+
+    /**
+     * Gets the key to rank the transactions by.
+     *
+     * @return the sort key, or UNSORTED if the transactions keep the order they were added in.
+     */
+    String getSortKey() {
+        return sortKey;
+    }
+
+    /**
+     * Checks if the transactions are ranked by a sort key.
+     *
+     * @return the result of whether the transactions are ranked by a sort key.
+     */
+    boolean isSorted() {
+        return !UNSORTED.equals(sortKey);
+    }
+}
@@ -1,8 +1,9 @@
 package owlmoney.model.transaction;
 
-import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Date;
 
+import owlmoney.model.schedule.RecurrenceRule;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.ui.Ui;
 
@@ -85,12 +86,12 @@ public class RecurringExpenditureList {
      * @param description New description of the recurring expenditure.
      * @param amount New amount of the recurring expenditure.
      * @param category New category of the recurring expenditure.
+     * @param recurrenceRule New recurrence rule of the recurring expenditure, or null to keep the current one.
      * @param ui Used for printing.
      * @throws TransactionException If there are 0 recurring expenditures or index is out of range.
      */
-    public void editRecurringExpenditure(
-            int index, String description, String amount, String category, Ui ui)
-            throws TransactionException {
+    public void editRecurringExpenditure(int index, String description, String amount, String category,
+            RecurrenceRule recurrenceRule, Ui ui) throws TransactionException {
         if (recurringExpenditures.size() <= 0) {
             throw new TransactionException("There are no recurring expenditures in this account");
         }
@@ -106,6 +107,12 @@ public class RecurringExpenditureList {
         if (!category.isBlank()) {
             recurringExpenditures.get(index - 1).setCategory(category);
         }
+        if (recurrenceRule != null && recurrenceRule != recurringExpenditures.get(index - 1).getRecurrenceRule()) {
+            Transaction recurringExpenditure = recurringExpenditures.get(index - 1);
+            recurringExpenditure.setRecurrenceRule(recurrenceRule);
+            Date nextDate = recurringExpenditure.getDateInDateFormat();
+            recurringExpenditure.setDate(recurrenceRule.alignFirstOccurrence(nextDate));
+        }
         ui.printMessage("Edited details of the specified expenditure:");
         printOneTransaction(1, recurringExpenditures.get(index - 1), ISSINGLE, ui);
     }
@@ -142,9 +149,9 @@ public class RecurringExpenditureList {
         if (!isMultiplePrinting) {
             ui.printTransactionHeader(RECURITEMTYPE);
         }
-        ui.printTransaction(num, transaction.getDescription(),
-                (transaction.checkDebitCredit() + new DecimalFormat("0.00")
-                        .format(transaction.getAmount())), transaction.getDate(), transaction.getCategory());
+        ui.printRecurringTransaction(num, transaction.getDescription(), transaction.getAmount(),
+                transaction.getSpent(), transaction.getDateInDateFormat(), transaction.getCategory(),
+                transaction.getRecurrenceRule().getKeyword());
         if (!isMultiplePrinting) {
             ui.printDivider();
         }
@@ -0,0 +1,75 @@
+package owlmoney.model.transaction;
+
+/**
+ * RollupCell holds the running totals of the transactions in one month and category of a TransactionRollup.
+ * Totals are kept in cents so that adding and removing the same transaction always cancels out exactly.
+ */
+class RollupCell {
+    private long spentCents;
+    private long depositCents;
+    private int transactionCount;
+    private static final int ISZERO = 0;
+
+    /**
+     * Adds or removes an amount from the totals of the cell.
+     *
+     * @param amountCents the amount of the transaction in cents.
+     * @param isSpent     whether the transaction is an expenditure.
+     * @param sign        1 to add the transaction, or -1 to remove it.
+     */
+    void apply(long amountCents, boolean isSpent, int sign) {
+        if (isSpent) {
+            spentCents += sign * amountCents;
+        } else {
+            depositCents += sign * amountCents;
+        }
+        transactionCount += sign;
+    }
+
+    /**
+     * Adds the totals of another cell to this cell.
+     *
+     * @param other the cell to add.
+     */
+    void add(RollupCell other) {
+        spentCents += other.spentCents;
+        depositCents += other.depositCents;
+        transactionCount += other.transactionCount;
+    }
+
+    /**
+     * Gets the total amount spent in cents.
+     *
+     * @return the total amount spent in cents.
+     */
+    long getSpentCents() {
+        return spentCents;
+    }
+
+    /**
+     * Gets the total amount deposited in cents.
+     *
+     * @return the total amount deposited in cents.
+     */
+    long getDepositCents() {
+        return depositCents;
+    }
+
+    /**
+     * Gets the number of transactions in the cell.
+     *
+     * @return the number of transactions in the cell.
+     */
+    int getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Checks if every transaction of the cell has been removed.
+     *
+     * @return the result of whether the cell has no transactions.
+     */
+    boolean isEmpty() {
+        return transactionCount == ISZERO;
+    }
+}
@@ -6,16 +6,23 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Date;
 
+import owlmoney.model.schedule.RecurrenceRule;
+
 /**
  * Contains the details of a transaction.
  */
 public abstract class Transaction {
+    public static final long NO_ID = 0;
 
     private String description;
     private double amount;
     private Date date;
     private String category;
     private boolean spent;
+    private long id = NO_ID;
+    private RecurrenceRule recurrenceRule = RecurrenceRule.MONTHLY;
+    private Date recurrenceStartDate;
+    private int recurrenceCount;
 
     /**
      * Creates an instance of a transaction object.
@@ -106,6 +113,27 @@ public abstract class Transaction {
         return this.category;
     }
 
+    /**
+     * Gets the ID given to the transaction by the list it was added to.
+     * IDs only increase along a list and are not given out again, so an ID keeps naming the same transaction
+     * when others are deleted or dropped from the list.
+     *
+     * @return the ID of the transaction, or NO_ID if it has not been added to a list.
+     */
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Sets the ID of the transaction.
+     * An ID set before the transaction is imported into a list is kept if it is higher than every ID in the list.
+     *
+     * @param id the ID of the transaction.
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
     /**
      * Checks if it is a + or - to bank amount.
      *
@@ -144,6 +172,8 @@ public abstract class Transaction {
      */
     public void setDate(Date newDate) {
         this.date = newDate;
+        this.recurrenceStartDate = null;
+        this.recurrenceCount = 0;
     }
 
     /**
@@ -154,4 +184,64 @@ public abstract class Transaction {
     void setCategory(String newCategory) {
         this.category = newCategory;
     }
+
+    /**
+     * Gets how often the transaction repeats, when it is kept as a recurring transaction.
+     *
+     * @return The recurrence rule of the transaction, monthly unless set otherwise.
+     */
+    public RecurrenceRule getRecurrenceRule() {
+        return recurrenceRule;
+    }
+
+    /**
+     * Sets how often the transaction repeats, when it is kept as a recurring transaction.
+     *
+     * @param recurrenceRule The new recurrence rule of the transaction.
+     */
+    public void setRecurrenceRule(RecurrenceRule recurrenceRule) {
+        this.recurrenceRule = recurrenceRule;
+    }
+
+    /**
+     * Gets the date a recurring transaction started repeating from, which every later occurrence is counted from.
+     *
+     * @return The date of the first occurrence, or the date of the transaction if it has not repeated yet.
+     */
+    public Date getRecurrenceStartDate() {
+        return recurrenceStartDate == null ? date : recurrenceStartDate;
+    }
+
+    /**
+     * Gets the number of occurrences of a recurring transaction that have already been applied.
+     *
+     * @return The number of occurrences applied since the start date.
+     */
+    public int getRecurrenceCount() {
+        return recurrenceCount;
+    }
+
+    /**
+     * Sets the start date and the number of applied occurrences of a recurring transaction loaded from a file.
+     *
+     * @param startDate       The date of the first occurrence.
+     * @param recurrenceCount The number of occurrences applied since the start date.
+     */
+    public void setRecurrenceStart(Date startDate, int recurrenceCount) {
+        this.recurrenceStartDate = startDate;
+        this.recurrenceCount = recurrenceCount;
+    }
+
+    /**
+     * Moves a recurring transaction on by a number of applied occurrences.
+     * The new date is counted from the start date rather than the current date, so a schedule on the 31st
+     * returns to the 31st after a shorter month.
+     *
+     * @param appliedCount The number of occurrences that have just been applied.
+     */
+    public void advanceRecurrence(int appliedCount) {
+        recurrenceStartDate = getRecurrenceStartDate();
+        recurrenceCount += appliedCount;
+        date = recurrenceRule.getOccurrence(recurrenceStartDate, recurrenceCount);
+    }
 }
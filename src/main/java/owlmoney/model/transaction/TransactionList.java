@@ -1,15 +1,22 @@
 package owlmoney.model.transaction;
 
+import java.io.IOException;
 import java.text.DateFormat;
-import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.model.undo.Revertible;
+import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
 /**
@@ -18,17 +25,33 @@ import owlmoney.ui.Ui;
 public class TransactionList {
 
     private ArrayList<Transaction> transactionLists;
+    private final TransactionRollup rollup;
+    private TransactionListener transactionListener;
+    private long nextId;
+    private boolean isDateOrdered;
+    private String savedFileName;
+    private int savedRowCount;
+    private int loggedDeleteCount;
+    private final ArrayList<Long> unsavedDeletedIds;
+    private boolean hasUnsavedChanges;
+    private boolean hasReassignedIds;
     private static final int ONE_INDEX = 1;
     private static final String TRANSTYPE = "transaction";
     private static final String ITEMTYPE = "item";
     private static final boolean ISMULTIPLE = true;
     private static final boolean ISSINGLE = false;
+    private static final boolean ISEXPENDITURE = true;
     private static final int MAX_LIST_SIZE = 2000;
     private static final int ISZERO = 0;
-    private static final String FINDDESCRIPTION = "description";
-    private static final String FINDCATEGORY = "category";
-    private static final String FINDDATE = "date range";
     private static final int OBJ_DOES_NOT_EXIST = -1;
+    private static final int BYTES_PER_CHARACTER = 2;
+    private static final long FIRST_ID = 1;
+    private static final double COMPACTION_RATIO = 0.25;
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String DELETE_LOG_SUFFIX = "_deleted.csv";
+    private static final String[] DELETE_LOG_HEADER = {"id"};
+    private static final ToLongFunction<Transaction> DATE_KEY = transaction ->
+            transaction.getDateInDateFormat().getTime();
 
 
     /**
@@ -36,6 +59,56 @@ public class TransactionList {
      */
     public TransactionList() {
         transactionLists = new ArrayList<Transaction>();
+        rollup = new TransactionRollup();
+        nextId = FIRST_ID;
+        isDateOrdered = true;
+        unsavedDeletedIds = new ArrayList<>();
+        hasUnsavedChanges = true;
+    }
+
+    /**
+     * Appends a transaction with the next ID, removing the oldest transaction if the list is full.
+     * IDs only increase along the list, so that a cursor keeps its place when transactions are added and a
+     * transaction can be found from its ID by binary search.
+     *
+     * @param transaction the transaction to append.
+     */
+    private void appendTransaction(Transaction transaction) {
+        if (transactionLists.size() >= MAX_LIST_SIZE) {
+            untrack(transactionLists.remove(0));
+        }
+        if (!transactionLists.isEmpty()) {
+            Date latestDate = transactionLists.get(transactionLists.size() - ONE_INDEX).getDateInDateFormat();
+            isDateOrdered = isDateOrdered && !transaction.getDateInDateFormat().before(latestDate);
+        }
+        transaction.setId(nextId++);
+        transactionLists.add(transaction);
+        track(transaction);
+    }
+
+    /**
+     * Appends a transaction loaded from storage, keeping the ID saved with it.
+     * A transaction saved without an ID, or with one that is not higher than every ID in the list, gets the next ID.
+     *
+     * @param transaction the transaction to append.
+     */
+    private void appendImportedTransaction(Transaction transaction) {
+        long savedId = transaction.getId();
+        nextId = Math.max(nextId, savedId);
+        appendTransaction(transaction);
+        hasReassignedIds = hasReassignedIds || transaction.getId() != savedId;
+    }
+
+    /**
+     * Checks again whether the transactions are in date order, after dates were changed or transactions were put back.
+     * Removing transactions never breaks the order, so removals do not need to check again.
+     */
+    private void refreshDateOrder() {
+        isDateOrdered = true;
+        for (int i = ONE_INDEX; i < transactionLists.size() && isDateOrdered; i++) {
+            isDateOrdered = !transactionLists.get(i).getDateInDateFormat()
+                    .before(transactionLists.get(i - ONE_INDEX).getDateInDateFormat());
+        }
     }
 
     /**
@@ -46,29 +119,19 @@ public class TransactionList {
      * @throws TransactionException If no expenditure is found or no expenditure is in the list.
      */
     public void listExpenditure(Ui ui, int expendituresToDisplay) throws TransactionException {
-        if (transactionLists.size() <= ISZERO) {
-            throw new TransactionException("There are no transactions in this bank account");
-        } else {
-            int counter = expendituresToDisplay;
-            boolean expenditureExist = false;
-            for (int i = transactionLists.size() - ONE_INDEX; i >= ISZERO; i--) {
-                if (transactionLists.get(i).getSpent()) {
-                    printOneHeader(counter, expendituresToDisplay, ui);
-                    printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
-                    counter--;
-                    expenditureExist = true;
-                }
-                if (counter <= ISZERO || i == ISZERO) {
-                    ui.printDivider();
-                }
-                if (counter <= ISZERO) {
-                    break;
-                }
-            }
-            if (!expenditureExist) {
-                throw new TransactionException("No expenditures found");
-            }
-        }
+        listExpenditure(ui, new PageRequest(expendituresToDisplay));
+    }
+
+    /**
+     * Lists a page of the expenditures in the current bank account, latest first.
+     *
+     * @param ui   required for printing.
+     * @param page the page of expenditures to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older expenditures.
+     * @throws TransactionException If no expenditure is found or no expenditure is in the list.
+     */
+    public long listExpenditure(Ui ui, PageRequest page) throws TransactionException {
+        return listTransactions(ui, page, ISEXPENDITURE, "expenditures");
     }
 
     /**
@@ -79,29 +142,215 @@ public class TransactionList {
      * @throws TransactionException If no deposit is found.
      */
     public void listDeposit(Ui ui, int depositsToDisplay) throws TransactionException {
+        listDeposit(ui, new PageRequest(depositsToDisplay));
+    }
+
+    /**
+     * Lists a page of the deposits in the current bank account, latest first.
+     *
+     * @param ui   required for printing.
+     * @param page the page of deposits to list.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older deposits.
+     * @throws TransactionException If no deposit is found.
+     */
+    public long listDeposit(Ui ui, PageRequest page) throws TransactionException {
+        return listTransactions(ui, page, !ISEXPENDITURE, "deposits");
+    }
+
+    /**
+     * Lists a page of either expenditures or deposits, latest first or ranked by the sort key of the page.
+     * The page starts right before the cursor if there is one, found by binary search,
+     * so each page only reads the transactions it shows and the ones it skips.
+     * Ranking by date reads the list the same way while the transactions are in date order.
+     *
+     * @param ui        required for printing.
+     * @param page      the page of transactions to list.
+     * @param isSpent   whether to list expenditures rather than deposits.
+     * @param typeName  the name of the listed transactions used in messages.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no older transactions.
+     * @throws TransactionException If there are no transactions to list.
+     */
+    private long listTransactions(Ui ui, PageRequest page, boolean isSpent, String typeName)
+            throws TransactionException {
         if (transactionLists.size() <= ISZERO) {
             throw new TransactionException("There are no transactions in this bank account");
-        } else {
-            int counter = depositsToDisplay;
-            boolean depositExist = false;
-            for (int i = transactionLists.size() - ONE_INDEX; i >= ISZERO; i--) {
-                if (!transactionLists.get(i).getSpent()) {
-                    printOneHeader(counter, depositsToDisplay, ui);
-                    printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
-                    counter--;
-                    depositExist = true;
-                }
-                if (counter <= ISZERO || i == ISZERO) {
-                    ui.printDivider();
-                }
-                if (counter <= ISZERO) {
-                    break;
-                }
+        }
+        if (page.isSorted() && !(PageRequest.SORT_BY_DATE.equals(page.getSortKey()) && isDateOrdered)) {
+            listRankedTransactions(ui, page, isSpent, typeName);
+            return PageRequest.NO_CURSOR;
+        }
+        int i = page.hasCursor() ? getLastIndexBefore(page.getCursor()) : transactionLists.size() - ONE_INDEX;
+        long toSkip = page.getSkipCount();
+        int printCounter = ISZERO;
+        Transaction lastPrinted = null;
+        for (; i >= ISZERO && printCounter < page.getPageSize(); i--) {
+            Transaction transaction = transactionLists.get(i);
+            if (transaction.getSpent() != isSpent) {
+                continue;
+            }
+            if (toSkip > ISZERO) {
+                toSkip--;
+                continue;
+            }
+            if (printCounter == ISZERO) {
+                ui.printTransactionHeader(TRANSTYPE);
+            }
+            printOneTransaction((i + ONE_INDEX), transaction, ISMULTIPLE, ui);
+            lastPrinted = transaction;
+            printCounter++;
+        }
+        if (lastPrinted == null) {
+            throwNothingToList(ui, page, typeName);
+        }
+        ui.printDivider();
+        if (page.isSorted()) {
+            return PageRequest.NO_CURSOR;
+        }
+        for (; i >= ISZERO; i--) {
+            if (transactionLists.get(i).getSpent() == isSpent) {
+                return lastPrinted.getId();
+            }
+        }
+        return PageRequest.NO_CURSOR;
+    }
+
+    /**
+     * Lists a page of either expenditures or deposits ranked by the sort key of the page.
+     * Only the transactions up to the end of the page are kept, in a heap with the lowest ranked at the top,
+     * so ranking n transactions takes O(n log k) time and O(k) memory for the top k.
+     *
+     * @param ui        required for printing.
+     * @param page      the page of transactions to list.
+     * @param isSpent   whether to list expenditures rather than deposits.
+     * @param typeName  the name of the listed transactions used in messages.
+     * @throws TransactionException If there are no transactions to list.
+     */
+    private void listRankedTransactions(Ui ui, PageRequest page, boolean isSpent, String typeName)
+            throws TransactionException {
+        Comparator<Integer> ranking = getRanking(page.getSortKey());
+        int heapLimit = (int) Math.min(page.getSkipCount() + page.getPageSize(), transactionLists.size());
+        PriorityQueue<Integer> lowestRankedFirst = new PriorityQueue<>(heapLimit, ranking.reversed());
+        for (int i = ISZERO; i < transactionLists.size(); i++) {
+            if (transactionLists.get(i).getSpent() != isSpent) {
+                continue;
+            }
+            if (lowestRankedFirst.size() < heapLimit) {
+                lowestRankedFirst.add(i);
+            } else if (ranking.compare(i, lowestRankedFirst.peek()) < ISZERO) {
+                lowestRankedFirst.poll();
+                lowestRankedFirst.add(i);
             }
-            if (!depositExist) {
-                throw new TransactionException("No deposits found");
+        }
+        int[] ranked = new int[lowestRankedFirst.size()];
+        for (int rank = ranked.length - ONE_INDEX; rank >= ISZERO; rank--) {
+            ranked[rank] = lowestRankedFirst.poll();
+        }
+        int firstRank = (int) Math.min(page.getSkipCount(), ranked.length);
+        if (firstRank == ranked.length) {
+            throwNothingToList(ui, page, typeName);
+        }
+        ui.printTransactionHeader(TRANSTYPE);
+        for (int rank = firstRank; rank < ranked.length; rank++) {
+            printOneTransaction((ranked[rank] + ONE_INDEX), transactionLists.get(ranked[rank]), ISMULTIPLE, ui);
+        }
+        ui.printDivider();
+    }
+
+    /**
+     * Gets the order to rank transactions in by their index, with ties going to the latest transaction.
+     * Amounts are ranked from the largest, dates from the latest and categories in alphabetical order.
+     *
+     * @param sortKey the key to rank the transactions by.
+     * @return the order where higher ranked transactions come first.
+     */
+    private Comparator<Integer> getRanking(String sortKey) {
+        Comparator<Integer> latestFirst = Comparator.<Integer>comparingLong(
+                i -> transactionLists.get(i).getDateInDateFormat().getTime()).thenComparingInt(i -> i).reversed();
+        if (PageRequest.SORT_BY_AMOUNT.equals(sortKey)) {
+            return Comparator.<Integer>comparingDouble(i -> transactionLists.get(i).getAmount()).reversed()
+                    .thenComparing(latestFirst);
+        } else if (PageRequest.SORT_BY_CATEGORY.equals(sortKey)) {
+            return Comparator.<Integer, String>comparing(i -> transactionLists.get(i).getCategory(),
+                    String.CASE_INSENSITIVE_ORDER).thenComparing(latestFirst);
+        }
+        return latestFirst;
+    }
+
+    /**
+     * Reports that the page has no transactions to list.
+     *
+     * @param ui       required for printing.
+     * @param page     the page that has no transactions.
+     * @param typeName the name of the listed transactions used in messages.
+     * @throws TransactionException Always, describing whether the list has no such transactions or no more of them.
+     */
+    private void throwNothingToList(Ui ui, PageRequest page, String typeName) throws TransactionException {
+        if (page.isFirstPage()) {
+            ui.printDivider();
+            throw new TransactionException("No " + typeName + " found");
+        }
+        throw new TransactionException("There are no more " + typeName + " to list");
+    }
+
+    /**
+     * Gets the index of the latest transaction added before the cursor.
+     *
+     * @param cursor the ID of a transaction shown on a previous page.
+     * @return the index of the latest transaction with a smaller ID, or -1 if there is none.
+     */
+    private int getLastIndexBefore(long cursor) {
+        return getLastIndexBefore(cursor, Transaction::getId);
+    }
+
+    /**
+     * Gets the index of the last transaction whose key is smaller than the bound, found by binary search.
+     * The keys must not decrease along the list, as IDs always do and dates do while the list is in date order.
+     *
+     * @param bound the key to search for.
+     * @param key gets the key of a transaction, such as its ID.
+     * @return the index of the last transaction with a smaller key, or -1 if there is none.
+     */
+    private int getLastIndexBefore(long bound, ToLongFunction<Transaction> key) {
+        int low = ISZERO;
+        int high = transactionLists.size() - ONE_INDEX;
+        while (low <= high) {
+            int middle = (low + high) >>> ONE_INDEX;
+            if (key.applyAsLong(transactionLists.get(middle)) < bound) {
+                low = middle + ONE_INDEX;
+            } else {
+                high = middle - ONE_INDEX;
             }
         }
+        return high;
+    }
+
+    /**
+     * Gets the transaction number of the transaction with an ID, found by binary search.
+     *
+     * @param id the ID of the transaction.
+     * @return the transaction number of the transaction.
+     * @throws TransactionException If there is no transaction with the ID in the list.
+     */
+    public int getTransactionNumberById(long id) throws TransactionException {
+        int index = getLastIndexBefore(id + ONE_INDEX);
+        if (index < ISZERO || transactionLists.get(index).getId() != id) {
+            throw new TransactionException("There is no transaction with ID " + id);
+        }
+        return index + ONE_INDEX;
+    }
+
+    /**
+     * Gets the ID of the transaction with a transaction number.
+     *
+     * @param index the transaction number of the transaction.
+     * @return the ID of the transaction.
+     * @throws TransactionException If the transaction number is out of range.
+     */
+    public long getIdByTransactionNumber(int index) throws TransactionException {
+        if (index < ONE_INDEX || index > transactionLists.size()) {
+            throw new TransactionException("Index is out of transaction list range");
+        }
+        return transactionLists.get(index - ONE_INDEX).getId();
     }
 
     /**
@@ -111,10 +360,7 @@ public class TransactionList {
      * @param ui  required for printing.
      */
     public void addExpenditureToList(Transaction newExpenditure, Ui ui, String type) {
-        if (transactionLists.size() >= MAX_LIST_SIZE) {
-            transactionLists.remove(0);
-        }
-        transactionLists.add(newExpenditure);
+        appendTransaction(newExpenditure);
         if (!"bonds".equals(type)) {
             ui.printMessage("Added expenditure with the following details:");
             printOneTransaction(ONE_INDEX, newExpenditure, ISSINGLE, ui);
@@ -123,15 +369,33 @@ public class TransactionList {
 
     /**
      * Adds an expenditure to the TransactionList and do not print UI.
-     * Called by Card transferExpUnpaidToPaid() only.
+     * Called when moving card expenditures to paid and when catching up on recurring expenditures.
      *
      * @param exp an instance of an expenditure.
      */
     public void addExpenditureToList(Transaction exp, String type) {
-        if (transactionLists.size() >= MAX_LIST_SIZE) {
-            transactionLists.remove(0);
+        appendTransaction(exp);
+    }
+
+    /**
+     * Adds transactions to the TransactionList together without printing, in the order given.
+     * If the list would grow past its maximum size, the oldest transactions are dropped at once beforehand.
+     *
+     * @param newTransactions the transactions to add.
+     */
+    public void addTransactionsToList(List<Transaction> newTransactions) {
+        int excessCount = transactionLists.size() + newTransactions.size() - MAX_LIST_SIZE;
+        if (excessCount > ISZERO) {
+            List<Transaction> oldestTransactions = transactionLists.subList(ISZERO,
+                    Math.min(excessCount, transactionLists.size()));
+            for (Transaction oldestTransaction : oldestTransactions) {
+                untrack(oldestTransaction);
+            }
+            oldestTransactions.clear();
+        }
+        for (Transaction newTransaction : newTransactions) {
+            appendTransaction(newTransaction);
         }
-        transactionLists.add(exp);
     }
 
     /**
@@ -141,10 +405,7 @@ public class TransactionList {
      * @param ui  required for printing.
      */
     public void addDepositToList(Transaction newDeposit, Ui ui, String bankType) {
-        if (transactionLists.size() >= MAX_LIST_SIZE) {
-            transactionLists.remove(0);
-        }
-        transactionLists.add(newDeposit);
+        appendTransaction(newDeposit);
         if ("bank".equals(bankType) || "savings transfer".equals(bankType)
                 || "investment transfer".equals(bankType)) {
             ui.printMessage("Added deposit with the following details:");
@@ -169,6 +430,7 @@ public class TransactionList {
             } else {
                 Transaction temp = transactionLists.get(index - ONE_INDEX);
                 transactionLists.remove(index - ONE_INDEX);
+                untrack(temp);
                 ui.printMessage("Details of deleted Expenditure:");
                 printOneTransaction(ONE_INDEX, temp, ISSINGLE, ui);
                 return temp.getAmount();
@@ -195,6 +457,7 @@ public class TransactionList {
             } else {
                 Transaction temp = transactionLists.get(index - ONE_INDEX);
                 transactionLists.remove(index - ONE_INDEX);
+                untrack(temp);
                 return temp.getAmount();
             }
         } else {
@@ -217,23 +480,29 @@ public class TransactionList {
     public double editExpenditure(
             int expenditureIndex, String description, String amount, String date, String category, Ui ui)
             throws TransactionException {
-        if (!(description.isBlank() || description.isEmpty())) {
-            transactionLists.get(expenditureIndex - ONE_INDEX).setDescription(description);
-        }
-        if (!(amount.isBlank() || amount.isEmpty())) {
-            transactionLists.get(expenditureIndex - ONE_INDEX).setAmount(Double.parseDouble(amount));
-        }
-        if (!(date.isBlank() || date.isEmpty())) {
-            DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
-            try {
-                transactionLists.get(expenditureIndex - ONE_INDEX).setDate(temp.parse(date));
-            } catch (ParseException e) {
-                //check handled in ParseEditExpenditure
-                throw new TransactionException(e.toString());
+        untrack(transactionLists.get(expenditureIndex - ONE_INDEX));
+        try {
+            if (!(description.isBlank() || description.isEmpty())) {
+                transactionLists.get(expenditureIndex - ONE_INDEX).setDescription(description);
             }
-        }
-        if (!(category.isBlank() || category.isEmpty())) {
-            transactionLists.get(expenditureIndex - ONE_INDEX).setCategory(category);
+            if (!(amount.isBlank() || amount.isEmpty())) {
+                transactionLists.get(expenditureIndex - ONE_INDEX).setAmount(Double.parseDouble(amount));
+            }
+            if (!(date.isBlank() || date.isEmpty())) {
+                DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
+                try {
+                    transactionLists.get(expenditureIndex - ONE_INDEX).setDate(temp.parse(date));
+                    refreshDateOrder();
+                } catch (ParseException e) {
+                    //check handled in ParseEditExpenditure
+                    throw new TransactionException(e.toString());
+                }
+            }
+            if (!(category.isBlank() || category.isEmpty())) {
+                transactionLists.get(expenditureIndex - ONE_INDEX).setCategory(category);
+            }
+        } finally {
+            track(transactionLists.get(expenditureIndex - ONE_INDEX));
         }
         ui.printMessage("Edited details of the specified expenditure:");
         printOneTransaction(ONE_INDEX, transactionLists.get(expenditureIndex - ONE_INDEX), ISSINGLE, ui);
@@ -254,20 +523,26 @@ public class TransactionList {
     public double editDeposit(int depositIndex, String description, String amount, String date, Ui ui)
             throws TransactionException {
         ui.printMessage("Editing transaction...\n");
-        if (!(description.isBlank() || description.isEmpty())) {
-            transactionLists.get(depositIndex - ONE_INDEX).setDescription(description);
-        }
-        if (!(amount.isBlank() || amount.isEmpty())) {
-            transactionLists.get(depositIndex - ONE_INDEX).setAmount(Double.parseDouble(amount));
-        }
-        if (!(date.isBlank() || date.isEmpty())) {
-            DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
-            try {
-                transactionLists.get(depositIndex - ONE_INDEX).setDate(temp.parse(date));
-            } catch (ParseException e) {
-                //check handled in ParseEditExpenditure
-                throw new TransactionException(e.toString());
+        untrack(transactionLists.get(depositIndex - ONE_INDEX));
+        try {
+            if (!(description.isBlank() || description.isEmpty())) {
+                transactionLists.get(depositIndex - ONE_INDEX).setDescription(description);
+            }
+            if (!(amount.isBlank() || amount.isEmpty())) {
+                transactionLists.get(depositIndex - ONE_INDEX).setAmount(Double.parseDouble(amount));
             }
+            if (!(date.isBlank() || date.isEmpty())) {
+                DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
+                try {
+                    transactionLists.get(depositIndex - ONE_INDEX).setDate(temp.parse(date));
+                    refreshDateOrder();
+                } catch (ParseException e) {
+                    //check handled in ParseEditExpenditure
+                    throw new TransactionException(e.toString());
+                }
+            }
+        } finally {
+            track(transactionLists.get(depositIndex - ONE_INDEX));
         }
         ui.printMessage("Edited details of the specified deposits:");
         printOneTransaction(ONE_INDEX, transactionLists.get(depositIndex - ONE_INDEX), ISSINGLE, ui);
@@ -307,6 +582,7 @@ public class TransactionList {
     public double deleteDepositFromList(int index, Ui ui) {
         Transaction temp = transactionLists.get(index - ONE_INDEX);
         transactionLists.remove(index - ONE_INDEX);
+        untrack(temp);
         ui.printMessage("Details of deleted deposit:");
         printOneTransaction(ONE_INDEX, temp, ISSINGLE, ui);
         return temp.getAmount();
@@ -334,6 +610,126 @@ public class TransactionList {
         }
     }
 
+    /**
+     * Gets the index of the first transaction that can match the query.
+     * If the list is in date order and the query has a date range, it is the first transaction dated within the
+     * range, found by binary search, otherwise it is the first transaction.
+     *
+     * @param query The criteria to match against.
+     * @return the index to start looking for matches from.
+     */
+    private int getFirstCandidateIndex(TransactionQuery query) {
+        if (!isDateOrdered || !query.hasDateRange()) {
+            return ISZERO;
+        }
+        return getLastIndexBefore(query.getFromTime(), DATE_KEY) + ONE_INDEX;
+    }
+
+    /**
+     * Gets the index after the last transaction that can match the query.
+     * If the list is in date order and the query has a date range, it is after the last transaction dated within
+     * the range, found by binary search, otherwise it is the size of the list.
+     *
+     * @param query The criteria to match against.
+     * @return the index to stop looking for matches at.
+     */
+    private int getCandidateEndIndex(TransactionQuery query) {
+        if (!isDateOrdered || !query.hasDateRange()) {
+            return transactionLists.size();
+        }
+        return getLastIndexBefore(query.getToTime() + ONE_INDEX, DATE_KEY) + ONE_INDEX;
+    }
+
+    /**
+     * Gets the transaction numbers of every transaction that matches the query, in a single pass over the list.
+     *
+     * @param query The criteria to match against.
+     * @return the transaction numbers of the matches, in the order of the list.
+     * @throws TransactionException If no transaction matches the query.
+     */
+    public ArrayList<Integer> getMatchingTransactionNumbers(TransactionQuery query) throws TransactionException {
+        ArrayList<Integer> transactionNumbers = new ArrayList<>();
+        int endIndex = getCandidateEndIndex(query);
+        for (int i = getFirstCandidateIndex(query); i < endIndex; i++) {
+            if (query.matches(transactionLists.get(i))) {
+                transactionNumbers.add(i + ONE_INDEX);
+            }
+        }
+        if (transactionNumbers.isEmpty()) {
+            throw new TransactionException(query.getNoMatchMessage());
+        }
+        return transactionNumbers;
+    }
+
+    /**
+     * Gets the total of the deposits less the total of the expenditures among the transactions.
+     * This is how much the balance of a bank account falls by when the transactions are deleted.
+     *
+     * @param transactionNumbers Transaction numbers of the transactions.
+     * @return the total deposited by the transactions, negative if they spent more than they deposited.
+     */
+    public double getNetDepositAmount(List<Integer> transactionNumbers) {
+        double netDepositAmount = ISZERO;
+        for (int transactionNumber : transactionNumbers) {
+            Transaction transaction = transactionLists.get(transactionNumber - ONE_INDEX);
+            netDepositAmount += transaction.getSpent() ? -transaction.getAmount() : transaction.getAmount();
+        }
+        return netDepositAmount;
+    }
+
+    /**
+     * Changes the description and category of the transactions together and prints them.
+     * Only expenditures take the new category, as deposits are not edited by category.
+     *
+     * @param transactionNumbers Transaction numbers of the transactions, in the order of the list.
+     * @param description        New description of the transactions, or blank to keep their descriptions.
+     * @param category           New category of the expenditures, or blank to keep their categories.
+     * @param ui                 required for printing.
+     */
+    public void editTransactions(List<Integer> transactionNumbers, String description, String category, Ui ui) {
+        ui.printMessage("Edited details of the matching transactions:");
+        ui.printTransactionHeader(TRANSTYPE);
+        for (int transactionNumber : transactionNumbers) {
+            Transaction transaction = transactionLists.get(transactionNumber - ONE_INDEX);
+            untrack(transaction);
+            if (!(description.isBlank() || description.isEmpty())) {
+                transaction.setDescription(description);
+            }
+            if (!(category.isBlank() || category.isEmpty()) && transaction.getSpent()) {
+                transaction.setCategory(category);
+            }
+            track(transaction);
+            printOneTransaction(transactionNumber, transaction, ISMULTIPLE, ui);
+        }
+        ui.printDivider();
+    }
+
+    /**
+     * Deletes the transactions in a single pass and prints them.
+     * Every transaction after the first deleted one is moved up at most once, instead of once per deletion.
+     *
+     * @param transactionNumbers Transaction numbers of the transactions, in the order of the list.
+     * @param ui                 required for printing.
+     */
+    public void deleteTransactionsFromList(List<Integer> transactionNumbers, Ui ui) {
+        ui.printMessage("Details of deleted transactions:");
+        ui.printTransactionHeader(TRANSTYPE);
+        int keptCount = transactionNumbers.get(ISZERO) - ONE_INDEX;
+        int nextMatch = ISZERO;
+        for (int i = keptCount; i < transactionLists.size(); i++) {
+            Transaction transaction = transactionLists.get(i);
+            if (nextMatch < transactionNumbers.size() && transactionNumbers.get(nextMatch) == i + ONE_INDEX) {
+                nextMatch++;
+                untrack(transaction);
+                printOneTransaction(i + ONE_INDEX, transaction, ISMULTIPLE, ui);
+            } else {
+                transactionLists.set(keptCount++, transaction);
+            }
+        }
+        transactionLists.subList(keptCount, transactionLists.size()).clear();
+        ui.printDivider();
+    }
+
     /**
      * Prints transaction details.
      *
@@ -344,15 +740,15 @@ public class TransactionList {
      * @param ui                 The object use for printing.
      */
     private void printOneTransaction(int num, Transaction transaction, boolean isMultiplePrinting, Ui ui) {
-        if (!isMultiplePrinting) {
-            ui.printTransactionHeader(ITEMTYPE);
-        }
-        ui.printTransaction(num, transaction.getDescription(),
-                (transaction.checkDebitCredit() + new DecimalFormat("0.00")
-                        .format(transaction.getAmount())), transaction.getDate(), transaction.getCategory());
-        if (!isMultiplePrinting) {
-            ui.printDivider();
+        if (isMultiplePrinting) {
+            ui.printTransaction(num, transaction.getDescription(), transaction.getAmount(), transaction.getSpent(),
+                    transaction.getDateInDateFormat(), transaction.getCategory(), transaction.getId());
+            return;
         }
+        ui.printTransactionHeader(ITEMTYPE);
+        ui.printTransaction(num, transaction.getDescription(), transaction.getAmount(), transaction.getSpent(),
+                transaction.getDateInDateFormat(), transaction.getCategory());
+        ui.printDivider();
     }
 
     /**
@@ -369,23 +765,14 @@ public class TransactionList {
     }
 
     /**
-     * Returns total amount spent in a particular month of the year.
+     * Returns total amount spent in a particular month of the year, read from the monthly totals.
      *
      * @param month Month to check total amount spent.
      * @param year  Year to check total amount spent.
      * @return Total amount spent in the particular month of the year.
      */
     public double getMonthAmountSpent(int month, int year) {
-        double totalAmount = 0;
-        for (int i = 0; i < transactionLists.size(); i++) {
-            LocalDate date = transactionLists.get(i).getLocalDate();
-            int expMonth = date.getMonthValue();
-            int expYear = date.getYear();
-            if (expMonth == month && expYear == year) {
-                totalAmount += transactionLists.get(i).getAmount();
-            }
-        }
-        return totalAmount;
+        return rollup.getMonthAmountSpent(YearMonth.of(year, month));
     }
 
     /**
@@ -429,102 +816,87 @@ public class TransactionList {
      */
     public void findMatchingTransaction(String fromDate, String toDate,
             String description, String category, Ui ui) throws TransactionException {
-        if (!(description.isBlank() || description.isEmpty())) {
-            findByDescription(description, ui);
-        }
-        if (!(category.isBlank() || category.isEmpty())) {
-            findByCategory(category, ui);
-        }
-        if (!(fromDate.isBlank() || fromDate.isEmpty())) {
-            findByDate(fromDate, toDate, ui);
-        }
+        findMatchingTransaction(new TransactionQuery(fromDate, toDate, description, category), ui);
     }
 
     /**
-     * Finds the transactions that matches with the description keyword specified by the user.
+     * Finds the transactions that match every criterion of the query in a single pass over the list.
      *
-     * @param keyword The description keyword to match against.
+     * @param query The criteria to match against.
      * @param ui The object required for printing.
      */
-    private void findByDescription(String keyword, Ui ui) {
-        String matchingKeyword = keyword.toUpperCase();
-        int printCounter = 0;
-        for (int i = ISZERO; i < transactionLists.size(); i++) {
-            if (transactionLists.get(i).getDescription().toUpperCase().contains(matchingKeyword)) {
-                printOneHeaderForFind(printCounter, FINDDESCRIPTION, ui);
-                printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
-                printCounter++;
-            }
-        }
-        if (printCounter == 0) {
-            ui.printMessage("No matches for the description keyword: " + keyword);
-        } else {
-            ui.printDivider();
-        }
+    public void findMatchingTransaction(TransactionQuery query, Ui ui) {
+        findMatchingTransaction(query, new PageRequest(Integer.MAX_VALUE), ui);
     }
 
     /**
-     * Finds the transactions that matches with the category keyword specified by the user.
+     * Finds a page of the transactions that match every criterion of the query, earliest first.
+     * The page starts right after the cursor if there is one, found by binary search.
+     * Only the transactions within the date range of the query are looked at if the list is in date order.
      *
-     * @param keyword The category keyword to match against.
+     * @param query The criteria to match against.
+     * @param page The page of matches to list.
      * @param ui The object required for printing.
+     * @return the cursor for the next page, or PageRequest.NO_CURSOR if there are no further matches.
      */
-    private void findByCategory(String keyword, Ui ui) {
-        String matchingKeyword = keyword.toUpperCase();
+    public long findMatchingTransaction(TransactionQuery query, PageRequest page, Ui ui) {
+        int i = page.hasCursor() ? getLastIndexBefore(page.getCursor() + ONE_INDEX) + ONE_INDEX : ISZERO;
+        i = Math.max(i, getFirstCandidateIndex(query));
+        int endIndex = getCandidateEndIndex(query);
+        long toSkip = page.getSkipCount();
         int printCounter = 0;
-        for (int i = ISZERO; i < transactionLists.size(); i++) {
-            if (transactionLists.get(i).getCategory().toUpperCase().contains(matchingKeyword)) {
-                printOneHeaderForFind(printCounter, FINDCATEGORY, ui);
-                printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
-                printCounter++;
+        Transaction lastPrinted = null;
+        for (; i < endIndex && printCounter < page.getPageSize(); i++) {
+            Transaction transaction = transactionLists.get(i);
+            if (!query.matches(transaction)) {
+                continue;
             }
+            if (toSkip > ISZERO) {
+                toSkip--;
+                continue;
+            }
+            printOneHeaderForFind(printCounter, query.getCriteria(), ui);
+            printOneTransaction((i + ONE_INDEX), transaction, ISMULTIPLE, ui);
+            lastPrinted = transaction;
+            printCounter++;
         }
         if (printCounter == 0) {
-            ui.printMessage("No matches for the category keyword: " + keyword);
-        } else {
-            ui.printDivider();
+            ui.printMessage(query.getNoMatchMessage());
+            return PageRequest.NO_CURSOR;
         }
+        ui.printDivider();
+        for (; i < endIndex; i++) {
+            if (query.matches(transactionLists.get(i))) {
+                return lastPrinted.getId();
+            }
+        }
+        return PageRequest.NO_CURSOR;
     }
 
     /**
-     * Finds the transactions that falls within the date range specified by the user.
+     * Finds the transactions that match every criterion of the query without printing them.
      *
-     * @param fromDate The date to search from.
-     * @param toDate The date to search until.
-     * @param ui The object required for printing.
-     * @throws TransactionException If parsing of date fails.
+     * @param query The criteria to match against.
+     * @param accountName The name of the account this list belongs to, used to tag the matches.
+     * @return the matches in the order of the list.
      */
-    private void findByDate(String fromDate, String toDate, Ui ui) throws TransactionException {
-        int printCounter = 0;
-        Date from;
-        Date to;
-        DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
-        try {
-            from = temp.parse(fromDate);
-            to = temp.parse(toDate);
-        } catch (ParseException error) {
-            throw new TransactionException(error.toString());
-        }
-        for (int i = ISZERO; i < transactionLists.size(); i++) {
-            boolean isBeforeFromDate = transactionLists.get(i).getDateInDateFormat().before(from);
-            boolean isAfterToDate = transactionLists.get(i).getDateInDateFormat().after(to);
-            if (!isBeforeFromDate && !isAfterToDate) {
-                printOneHeaderForFind(printCounter, FINDDATE, ui);
-                printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
-                printCounter++;
+    ArrayList<TransactionMatch> findMatches(TransactionQuery query, String accountName) {
+        ArrayList<TransactionMatch> matches = new ArrayList<>();
+        int endIndex = getCandidateEndIndex(query);
+        for (int i = getFirstCandidateIndex(query); i < endIndex; i++) {
+            Transaction transaction = transactionLists.get(i);
+            if (query.matches(transaction)) {
+                matches.add(new TransactionMatch(accountName, i + ONE_INDEX, transaction));
             }
         }
-        if (printCounter == 0) {
-            ui.printMessage("No matches for the date range specified: " + fromDate + " to " + toDate);
-        } else {
-            ui.printDivider();
-        }
+        return matches;
     }
 
     /**
      * Prints the header to list the found transactions.
      *
      * @param counter    Represents the counter of the transaction for printing.
+     * @param findType   Represents the criteria used to find the transactions.
      * @param ui         The object use for printing.
      */
     private void printOneHeaderForFind(int counter, String findType, Ui ui) {
@@ -559,10 +931,7 @@ public class TransactionList {
      * @param type the type of expenditure
      */
     public void importExpenditureToList(Transaction expenditure, String type) {
-        if (transactionLists.size() >= MAX_LIST_SIZE) {
-            transactionLists.remove(0);
-        }
-        transactionLists.add(expenditure);
+        appendImportedTransaction(expenditure);
     }
 
     /**
@@ -571,10 +940,7 @@ public class TransactionList {
      * @param deposit an instance of an deposit.
      */
     public void importDepositToList(Transaction deposit) {
-        if (transactionLists.size() >= MAX_LIST_SIZE) {
-            transactionLists.remove(0);
-        }
-        transactionLists.add(deposit);
+        appendImportedTransaction(deposit);
     }
 
     /**
@@ -606,4 +972,391 @@ public class TransactionList {
     public Transaction getExpenditureObjectByYearMonth(int index) {
         return transactionLists.get(index);
     }
+
+    /**
+     * Gets the totals of the transactions by month and category, which are kept up to date as transactions change.
+     *
+     * @return the totals of the transactions by month and category.
+     */
+    public TransactionRollup getRollup() {
+        return rollup;
+    }
+
+    /**
+     * Sets the listener to tell whenever a transaction joins or leaves the list.
+     *
+     * @param transactionListener the listener to tell, replacing any earlier listener.
+     */
+    public void setTransactionListener(TransactionListener transactionListener) {
+        this.transactionListener = transactionListener;
+    }
+
+    /**
+     * Tells the listener that every transaction left the list, as when its account is deleted.
+     * The transactions themselves stay in the list.
+     */
+    public void releaseAll() {
+        if (transactionListener == null) {
+            return;
+        }
+        for (Transaction transaction : transactionLists) {
+            transactionListener.transactionChanged(transaction, TransactionListener.REMOVED);
+        }
+    }
+
+    /**
+     * Gets the name of the delete log kept next to the file the transactions are saved to.
+     * The delete log holds the IDs of transactions deleted since the file was last written in full.
+     *
+     * @param fileName the name of the file the transactions are saved to.
+     * @return the name of the delete log of the file.
+     */
+    public static String getDeleteLogFileName(String fileName) {
+        String baseName = fileName.endsWith(CSV_EXTENSION)
+                ? fileName.substring(ISZERO, fileName.length() - CSV_EXTENSION.length()) : fileName;
+        return baseName + DELETE_LOG_SUFFIX;
+    }
+
+    /**
+     * Marks the transactions as loaded from the file and its delete log, so that later deletions only need to be
+     * appended to the delete log.
+     * The file is written in full on the next save instead if the transactions do not match it exactly, such as
+     * when transactions saved without an ID were given one.
+     * IDs in the delete log are never given out again, even to transactions added after a restart.
+     *
+     * @param fileName the name of the file the transactions were loaded from.
+     * @param savedRowCount the number of transactions in the file.
+     * @param skippedRowCount the number of transactions in the file that were skipped as deleted.
+     * @param loggedDeletedIds the IDs in the delete log of the file.
+     */
+    public void markSaved(String fileName, int savedRowCount, int skippedRowCount, List<Long> loggedDeletedIds) {
+        this.savedFileName = fileName;
+        this.savedRowCount = savedRowCount;
+        this.loggedDeleteCount = loggedDeletedIds.size();
+        for (long deletedId : loggedDeletedIds) {
+            nextId = Math.max(nextId, deletedId + ONE_INDEX);
+        }
+        hasUnsavedChanges = hasReassignedIds || transactionLists.size() + skippedRowCount != savedRowCount;
+        hasReassignedIds = false;
+        unsavedDeletedIds.clear();
+    }
+
+    /**
+     * Saves the transactions to the file.
+     * If transactions were only deleted since the last save, their IDs are appended to the delete log of the file
+     * instead of writing every transaction again.
+     * Once the delete log would grow past a quarter of the file, or on any other change, the file is written in full
+     * without the deleted transactions and the delete log is removed.
+     * If the newest transactions were among those deleted, the delete log is kept with only the highest ID given
+     * out, so that the ID is not given out again after a restart.
+     *
+     * @param storage the storage to save with.
+     * @param fileName the name of the file to save to.
+     * @param exportData prepares every transaction for saving when the file is written in full.
+     * @throws IOException when unable to write to file.
+     */
+    public void exportTransactionList(Storage storage, String fileName, Supplier<ArrayList<String[]>> exportData)
+            throws IOException {
+        int deleteCount = loggedDeleteCount + unsavedDeletedIds.size();
+        boolean isDeleteOnly = !hasUnsavedChanges && !unsavedDeletedIds.isEmpty() && fileName.equals(savedFileName);
+        if (isDeleteOnly && deleteCount <= savedRowCount * COMPACTION_RATIO) {
+            ArrayList<String[]> deletedIds = new ArrayList<>();
+            for (long id : unsavedDeletedIds) {
+                deletedIds.add(new String[] {Long.toString(id)});
+            }
+            storage.appendToFile(deletedIds, DELETE_LOG_HEADER, getDeleteLogFileName(fileName));
+            loggedDeleteCount = deleteCount;
+            unsavedDeletedIds.clear();
+            return;
+        }
+        ArrayList<String[]> inputData = exportData.get();
+        storage.writeFile(inputData, fileName);
+        long highestId = nextId - ONE_INDEX;
+        long lastListedId = transactionLists.isEmpty()
+                ? ISZERO : transactionLists.get(transactionLists.size() - ONE_INDEX).getId();
+        if (lastListedId < highestId) {
+            ArrayList<String[]> highestIdLog = new ArrayList<>();
+            highestIdLog.add(DELETE_LOG_HEADER);
+            highestIdLog.add(new String[] {Long.toString(highestId)});
+            storage.writeFile(highestIdLog, getDeleteLogFileName(fileName));
+            loggedDeleteCount = ONE_INDEX;
+        } else {
+            if (loggedDeleteCount > ISZERO || !fileName.equals(savedFileName)) {
+                storage.deleteFile(getDeleteLogFileName(fileName));
+            }
+            loggedDeleteCount = ISZERO;
+        }
+        savedFileName = fileName;
+        savedRowCount = transactionLists.size();
+        unsavedDeletedIds.clear();
+        hasUnsavedChanges = false;
+    }
+
+    /**
+     * Adds a transaction that joined the list to the totals and tells the listener.
+     *
+     * @param transaction the transaction that joined the list.
+     */
+    private void track(Transaction transaction) {
+        hasUnsavedChanges = true;
+        rollup.add(transaction);
+        if (transactionListener != null) {
+            transactionListener.transactionChanged(transaction, TransactionListener.ADDED);
+        }
+    }
+
+    /**
+     * Removes a transaction that left the list from the totals and tells the listener.
+     *
+     * @param transaction the transaction that left the list.
+     */
+    private void untrack(Transaction transaction) {
+        unsavedDeletedIds.add(transaction.getId());
+        rollup.remove(transaction);
+        if (transactionListener != null) {
+            transactionListener.transactionChanged(transaction, TransactionListener.REMOVED);
+        }
+    }
+
+    /**
+     * Prepares the inverse of adding the transaction, to be called before it is added.
+     * The inverse removes the transaction and restores the oldest transaction if it was evicted to make space.
+     *
+     * @param transaction the transaction that will be added.
+     * @return the inverse of adding the transaction.
+     */
+    public Revertible prepareAddUndo(Transaction transaction) {
+        Transaction evicted = transactionLists.size() >= MAX_LIST_SIZE ? transactionLists.get(ISZERO) : null;
+        return new Revertible() {
+            @Override
+            public void revert(Ui ui) {
+                removeLatestOccurrence(transaction);
+                if (evicted != null) {
+                    transactionLists.add(ISZERO, evicted);
+                    track(evicted);
+                }
+                refreshDateOrder();
+            }
+
+            @Override
+            public int getEstimatedSize() {
+                return BASE_ESTIMATED_SIZE + estimateSize(evicted);
+            }
+        };
+    }
+
+    /**
+     * Prepares the inverse of removing a transaction, to be called before it is removed.
+     *
+     * @param index Transaction number of the transaction that will be removed.
+     * @return the inverse of removing the transaction, or null if there is no such transaction.
+     */
+    public Revertible prepareRemoveUndo(int index) {
+        if (index < ONE_INDEX || index > transactionLists.size()) {
+            return null;
+        }
+        Transaction removed = transactionLists.get(index - ONE_INDEX);
+        return new Revertible() {
+            @Override
+            public void revert(Ui ui) {
+                transactionLists.add(index - ONE_INDEX, removed);
+                track(removed);
+                refreshDateOrder();
+            }
+
+            @Override
+            public int getEstimatedSize() {
+                return BASE_ESTIMATED_SIZE + estimateSize(removed);
+            }
+        };
+    }
+
+    /**
+     * Prepares the inverse of editing a transaction, to be called before it is edited.
+     * The inverse only keeps the previous details of the transaction.
+     *
+     * @param index Transaction number of the transaction that will be edited.
+     * @return the inverse of editing the transaction, or null if there is no such transaction.
+     */
+    public Revertible prepareEditUndo(int index) {
+        if (index < ONE_INDEX || index > transactionLists.size()) {
+            return null;
+        }
+        Transaction edited = transactionLists.get(index - ONE_INDEX);
+        String previousDescription = edited.getDescription();
+        double previousAmount = edited.getAmount();
+        Date previousDate = edited.getDateInDateFormat();
+        String previousCategory = edited.getCategory();
+        return new Revertible() {
+            @Override
+            public void revert(Ui ui) {
+                untrack(edited);
+                edited.setDescription(previousDescription);
+                edited.setAmount(previousAmount);
+                edited.setDate(previousDate);
+                edited.setCategory(previousCategory);
+                track(edited);
+                refreshDateOrder();
+            }
+
+            @Override
+            public int getEstimatedSize() {
+                return BASE_ESTIMATED_SIZE + estimateSize(edited);
+            }
+        };
+    }
+
+    /**
+     * Prepares the inverse of removing several transactions together, to be called before they are removed.
+     * The inverse puts every transaction back in its place in a single pass over the list.
+     *
+     * @param transactionNumbers Transaction numbers of the transactions that will be removed, in the order of the list.
+     * @return the inverse of removing the transactions.
+     */
+    public Revertible prepareRemoveUndo(List<Integer> transactionNumbers) {
+        ArrayList<Transaction> removed = new ArrayList<>();
+        for (int transactionNumber : transactionNumbers) {
+            removed.add(transactionLists.get(transactionNumber - ONE_INDEX));
+        }
+        ArrayList<Integer> removedNumbers = new ArrayList<>(transactionNumbers);
+        return new Revertible() {
+            @Override
+            public void revert(Ui ui) {
+                ArrayList<Transaction> restored = new ArrayList<>(transactionLists.size() + removed.size());
+                int nextKept = ISZERO;
+                for (int i = ISZERO; i < removed.size(); i++) {
+                    while (restored.size() < removedNumbers.get(i) - ONE_INDEX) {
+                        restored.add(transactionLists.get(nextKept++));
+                    }
+                    restored.add(removed.get(i));
+                    track(removed.get(i));
+                }
+                restored.addAll(transactionLists.subList(nextKept, transactionLists.size()));
+                transactionLists = restored;
+                refreshDateOrder();
+            }
+
+            @Override
+            public int getEstimatedSize() {
+                int size = BASE_ESTIMATED_SIZE;
+                for (Transaction transaction : removed) {
+                    size += estimateSize(transaction);
+                }
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Prepares the inverse of editing several transactions together, to be called before they are edited.
+     * The inverse only keeps the previous descriptions and categories, as those are all that are edited together.
+     *
+     * @param transactionNumbers Transaction numbers of the transactions that will be edited.
+     * @return the inverse of editing the transactions.
+     */
+    public Revertible prepareEditUndo(List<Integer> transactionNumbers) {
+        ArrayList<Transaction> edited = new ArrayList<>();
+        ArrayList<String> previousDescriptions = new ArrayList<>();
+        ArrayList<String> previousCategories = new ArrayList<>();
+        for (int transactionNumber : transactionNumbers) {
+            Transaction transaction = transactionLists.get(transactionNumber - ONE_INDEX);
+            edited.add(transaction);
+            previousDescriptions.add(transaction.getDescription());
+            previousCategories.add(transaction.getCategory());
+        }
+        return new Revertible() {
+            @Override
+            public void revert(Ui ui) {
+                for (int i = ISZERO; i < edited.size(); i++) {
+                    untrack(edited.get(i));
+                    edited.get(i).setDescription(previousDescriptions.get(i));
+                    edited.get(i).setCategory(previousCategories.get(i));
+                    track(edited.get(i));
+                }
+            }
+
+            @Override
+            public int getEstimatedSize() {
+                int size = BASE_ESTIMATED_SIZE;
+                for (Transaction transaction : edited) {
+                    size += estimateSize(transaction);
+                }
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Prepares the inverse of moving every transaction of the month from this list to the destination list.
+     * To be called before the transactions are moved.
+     *
+     * @param destination the list the transactions will be moved to.
+     * @param yearMonth   the month of the transactions that will be moved.
+     * @return the inverse of moving the transactions.
+     */
+    public Revertible prepareMoveUndo(TransactionList destination, YearMonth yearMonth) {
+        ArrayList<Integer> movedIndexes = new ArrayList<>();
+        ArrayList<Transaction> moved = new ArrayList<>();
+        ArrayList<Long> movedIds = new ArrayList<>();
+        for (int i = ISZERO; i < transactionLists.size(); i++) {
+            if (YearMonth.from(transactionLists.get(i).getLocalDate()).equals(yearMonth)) {
+                movedIndexes.add(i);
+                moved.add(transactionLists.get(i));
+                movedIds.add(transactionLists.get(i).getId());
+            }
+        }
+        int evictedCount = Math.max(ISZERO, destination.getSize() + moved.size() - MAX_LIST_SIZE);
+        ArrayList<Transaction> evicted = new ArrayList<>(
+                destination.transactionLists.subList(ISZERO, Math.min(evictedCount, destination.getSize())));
+        return new Revertible() {
+            @Override
+            public void revert(Ui ui) {
+                for (int i = moved.size() - ONE_INDEX; i >= ISZERO; i--) {
+                    destination.removeLatestOccurrence(moved.get(i));
+                }
+                destination.transactionLists.addAll(ISZERO, evicted);
+                evicted.forEach(destination::track);
+                for (int i = ISZERO; i < moved.size(); i++) {
+                    moved.get(i).setId(movedIds.get(i));
+                    transactionLists.add(movedIndexes.get(i), moved.get(i));
+                    track(moved.get(i));
+                }
+                destination.refreshDateOrder();
+                refreshDateOrder();
+            }
+
+            @Override
+            public int getEstimatedSize() {
+                return BASE_ESTIMATED_SIZE * (ONE_INDEX + moved.size() + evicted.size());
+            }
+        };
+    }
+
+    /**
+     * Removes the latest occurrence of the transaction object, searching from the end of the list.
+     *
+     * @param transaction the transaction object to remove.
+     */
+    private void removeLatestOccurrence(Transaction transaction) {
+        for (int i = transactionLists.size() - ONE_INDEX; i >= ISZERO; i--) {
+            if (transactionLists.get(i) == transaction) {
+                untrack(transactionLists.remove(i));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Estimates the memory held by a transaction that is only referenced by the undo journal.
+     *
+     * @param transaction the transaction, or null if there is none.
+     * @return the estimated size of the transaction in bytes.
+     */
+    private static int estimateSize(Transaction transaction) {
+        if (transaction == null) {
+            return ISZERO;
+        }
+        return Revertible.BASE_ESTIMATED_SIZE + BYTES_PER_CHARACTER
+                * (transaction.getDescription().length() + transaction.getCategory().length());
+    }
 }
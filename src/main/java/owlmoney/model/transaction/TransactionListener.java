@@ -0,0 +1,19 @@
+package owlmoney.model.transaction;
+
+/**
+ * TransactionListener is told whenever a transaction joins or leaves a TransactionList, including edits,
+ * evictions and undos, so that running totals kept elsewhere never need to scan the transactions again.
+ */
+public interface TransactionListener {
+    int ADDED = 1;
+    int REMOVED = -1;
+
+    /**
+     * Updates the listener with a transaction that joined or left the list.
+     * An edited transaction is removed with its old details and added again with its new details.
+     *
+     * @param transaction the transaction that changed.
+     * @param change      ADDED if the transaction joined the list, or REMOVED if it left the list.
+     */
+    void transactionChanged(Transaction transaction, int change);
+}
@@ -0,0 +1,59 @@
+package owlmoney.model.transaction;
+
+/**
+ * TransactionMatch is a transaction found by a search, tagged with the account it belongs to.
+ */
+public class TransactionMatch {
+    private final String accountName;
+    private final int number;
+    private final Transaction transaction;
+
+    /**
+     * Creates a TransactionMatch.
+     *
+     * @param accountName the name of the bank account or card the transaction belongs to.
+     * @param number      the one-based number of the transaction in its account.
+     * @param transaction the transaction that matched.
+     */
+    TransactionMatch(String accountName, int number, Transaction transaction) {
+        this.accountName = accountName;
+        this.number = number;
+        this.transaction = transaction;
+    }
+
+    /**
+     * Gets the name of the account the transaction belongs to.
+     *
+     * @return the name of the bank account or card.
+     */
+    public String getAccountName() {
+        return accountName;
+    }
+
+    /**
+     * Gets the number of the transaction in its account, as shown when listing the account.
+     *
+     * @return the one-based number of the transaction.
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Gets the transaction that matched.
+     *
+     * @return the transaction that matched.
+     */
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    /**
+     * Gets the time of the transaction for ordering matches by date.
+     *
+     * @return the time of the transaction in milliseconds.
+     */
+    long getTime() {
+        return transaction.getDateInDateFormat().getTime();
+    }
+}
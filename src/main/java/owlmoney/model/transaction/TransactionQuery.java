@@ -0,0 +1,234 @@
+package owlmoney.model.transaction;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.function.Predicate;
+
+import owlmoney.model.transaction.exception.TransactionException;
+
+/**
+ * TransactionQuery compiles the keywords of a find command into one filter that every criterion must match.
+ * Criteria are checked from the cheapest and most selective to the most expensive, so that most transactions
+ * are rejected after a single comparison and the list is only read once.
+ * The date range is kept as well, so that a list in date order can find the bounds of the range by binary search
+ * and only filter the transactions within it.
+ */
+public class TransactionQuery {
+    private final ArrayList<String> criteria;
+    private final ArrayList<String> noMatchReasons;
+    private Predicate<Transaction> fusedFilter;
+    private long fromTime;
+    private long toTime;
+    private boolean hasDateRange;
+    private static final int ISZERO = 0;
+    private static final int ONE_INDEX = 1;
+    private static final String FINDDESCRIPTION = "description";
+    private static final String FINDCATEGORY = "category";
+    private static final String FINDDATE = "date range";
+
+    /**
+     * Creates a TransactionQuery from the keywords of a find command, ignoring blank keywords.
+     *
+     * @param fromDate    The date to search from.
+     * @param toDate      The date to search until.
+     * @param description The description keyword to match against.
+     * @param category    The category keyword to match against.
+     * @throws TransactionException If parsing of date fails.
+     */
+    public TransactionQuery(String fromDate, String toDate, String description, String category)
+            throws TransactionException {
+        criteria = new ArrayList<>();
+        noMatchReasons = new ArrayList<>();
+        fusedFilter = transaction -> true;
+        boolean isDescriptionGiven = !(description.isBlank() || description.isEmpty());
+        boolean isCategoryGiven = !(category.isBlank() || category.isEmpty());
+        boolean isDateGiven = !(fromDate.isBlank() || fromDate.isEmpty());
+        if (isDescriptionGiven) {
+            addCriterion(FINDDESCRIPTION, "the description keyword: " + description);
+        }
+        if (isCategoryGiven) {
+            addCriterion(FINDCATEGORY, "the category keyword: " + category);
+        }
+        if (isDateGiven) {
+            addCriterion(FINDDATE, "the date range specified: " + fromDate + " to " + toDate);
+            Date from = parseDate(fromDate);
+            Date to = parseDate(toDate);
+            fromTime = from.getTime();
+            toTime = to.getTime();
+            hasDateRange = true;
+            and(isWithinDates(from, to));
+        }
+        if (isCategoryGiven) {
+            and(hasCategory(category));
+        }
+        if (isDescriptionGiven) {
+            and(hasDescription(description));
+        }
+    }
+
+    /**
+     * Adds a criterion that every matching transaction must also satisfy, checked after the existing ones.
+     *
+     * @param filter the criterion to add.
+     * @return this TransactionQuery for adding further criteria.
+     */
+    public TransactionQuery and(Predicate<Transaction> filter) {
+        fusedFilter = fusedFilter.and(filter);
+        return this;
+    }
+
+    /**
+     * Checks if the transaction satisfies every criterion of the query.
+     *
+     * @param transaction the transaction to check.
+     * @return the result of whether the transaction matches the query.
+     */
+    public boolean matches(Transaction transaction) {
+        return fusedFilter.test(transaction);
+    }
+
+    /**
+     * Checks if the query only matches transactions within a date range.
+     *
+     * @return the result of whether the query has a date range.
+     */
+    public boolean hasDateRange() {
+        return hasDateRange;
+    }
+
+    /**
+     * Gets the start of the date range of the query, inclusive.
+     *
+     * @return the start of the date range in milliseconds.
+     */
+    public long getFromTime() {
+        return fromTime;
+    }
+
+    /**
+     * Gets the end of the date range of the query, inclusive.
+     *
+     * @return the end of the date range in milliseconds.
+     */
+    public long getToTime() {
+        return toTime;
+    }
+
+    /**
+     * Gets the criteria used by the query, such as "description and category".
+     *
+     * @return the criteria used by the query.
+     */
+    public String getCriteria() {
+        return joinWithAnd(criteria);
+    }
+
+    /**
+     * Gets the message shown when no transaction matches the query.
+     *
+     * @return the message shown when no transaction matches the query.
+     */
+    public String getNoMatchMessage() {
+        return "No matches for " + joinWithAnd(noMatchReasons);
+    }
+
+    /**
+     * Creates a criterion that matches transactions whose description contains the keyword, ignoring case.
+     *
+     * @param keyword the description keyword to match against.
+     * @return the criterion.
+     */
+    public static Predicate<Transaction> hasDescription(String keyword) {
+        return transaction -> containsIgnoreCase(transaction.getDescription(), keyword);
+    }
+
+    /**
+     * Creates a criterion that matches transactions whose category contains the keyword, ignoring case.
+     *
+     * @param keyword the category keyword to match against.
+     * @return the criterion.
+     */
+    public static Predicate<Transaction> hasCategory(String keyword) {
+        return transaction -> containsIgnoreCase(transaction.getCategory(), keyword);
+    }
+
+    /**
+     * Creates a criterion that matches transactions dated within the range, inclusive of both dates.
+     *
+     * @param from the date to search from.
+     * @param to   the date to search until.
+     * @return the criterion.
+     */
+    public static Predicate<Transaction> isWithinDates(Date from, Date to) {
+        long fromTime = from.getTime();
+        long toTime = to.getTime();
+        return transaction -> {
+            long time = transaction.getDateInDateFormat().getTime();
+            return time >= fromTime && time <= toTime;
+        };
+    }
+
+    /**
+     * Records a criterion and how it is described when nothing matches.
+     *
+     * @param criterion     the name of the criterion.
+     * @param noMatchReason the description of the criterion when nothing matches.
+     */
+    private void addCriterion(String criterion, String noMatchReason) {
+        criteria.add(criterion);
+        noMatchReasons.add(noMatchReason);
+    }
+
+    /**
+     * Parses a date in the dd/MM/yyyy format used by find commands.
+     *
+     * @param date the date to parse.
+     * @return the parsed date.
+     * @throws TransactionException If parsing of date fails.
+     */
+    private static Date parseDate(String date) throws TransactionException {
+        DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
+        try {
+            return temp.parse(date);
+        } catch (ParseException error) {
+            throw new TransactionException(error.toString());
+        }
+    }
+
+    /**
+     * Checks if the text contains the keyword ignoring case, without creating upper case copies of the text.
+     *
+     * @param text    the text to search in.
+     * @param keyword the keyword to search for.
+     * @return the result of whether the text contains the keyword.
+     */
+    private static boolean containsIgnoreCase(String text, String keyword) {
+        int lastStart = text.length() - keyword.length();
+        for (int i = ISZERO; i <= lastStart; i++) {
+            if (text.regionMatches(true, i, keyword, ISZERO, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Joins the parts with commas and a final "and", such as "description, category and date range".
+     *
+     * @param parts the parts to join.
+     * @return the joined parts.
+     */
+    private static String joinWithAnd(ArrayList<String> parts) {
+        if (parts.isEmpty()) {
+            return "";
+        }
+        int lastIndex = parts.size() - ONE_INDEX;
+        if (lastIndex == ISZERO) {
+            return parts.get(ISZERO);
+        }
+        return String.join(", ", parts.subList(ISZERO, lastIndex)) + " and " + parts.get(lastIndex);
+    }
+}
@@ -0,0 +1,182 @@
+package owlmoney.model.transaction;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.ui.Ui;
+
+/**
+ * TransactionRollup keeps the totals of a TransactionList by month and category as transactions change.
+ * Every add, edit and removal updates one cell and one monthly total, so reports and monthly totals are read
+ * from the totals without going through the transactions again.
+ */
+public class TransactionRollup {
+    private final TreeMap<YearMonth, TreeMap<String, RollupCell>> cells;
+    private final HashMap<YearMonth, RollupCell> monthTotals;
+    private long version;
+    private static final int ADD = 1;
+    private static final int REMOVE = -1;
+    private static final int CENTS_PER_DOLLAR = 100;
+
+    /**
+     * Creates an empty TransactionRollup.
+     */
+    TransactionRollup() {
+        cells = new TreeMap<>();
+        monthTotals = new HashMap<>();
+    }
+
+    /**
+     * Adds a transaction to the totals of its month and category.
+     *
+     * @param transaction the transaction to add.
+     */
+    void add(Transaction transaction) {
+        apply(transaction, ADD);
+    }
+
+    /**
+     * Removes a transaction from the totals of its month and category.
+     * The transaction must have the same details it had when it was added.
+     *
+     * @param transaction the transaction to remove.
+     */
+    void remove(Transaction transaction) {
+        apply(transaction, REMOVE);
+    }
+
+    /**
+     * Gets the total amount spent in the month.
+     *
+     * @param month the month to get the total of.
+     * @return the total amount spent in the month.
+     */
+    double getMonthAmountSpent(YearMonth month) {
+        RollupCell total = monthTotals.get(month);
+        return total == null ? 0 : (double) total.getSpentCents() / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Gets the total amount spent in every month, in cents.
+     *
+     * @return the total amount spent in cents.
+     */
+    public long getTotalSpentCents() {
+        long totalSpentCents = 0;
+        for (RollupCell total : monthTotals.values()) {
+            totalSpentCents += total.getSpentCents();
+        }
+        return totalSpentCents;
+    }
+
+    /**
+     * Gets the amount spent in each month on a category, ignoring the case of the category.
+     *
+     * @param category the category to get the amounts of.
+     * @return the amount spent in cents in each month with expenditures in the category.
+     */
+    public Map<YearMonth, Long> getSpentCentsByMonth(String category) {
+        HashMap<YearMonth, Long> spentByMonth = new HashMap<>();
+        for (Map.Entry<YearMonth, TreeMap<String, RollupCell>> monthCells : cells.entrySet()) {
+            for (Map.Entry<String, RollupCell> cell : monthCells.getValue().entrySet()) {
+                if (cell.getKey().equalsIgnoreCase(category) && cell.getValue().getSpentCents() != 0) {
+                    spentByMonth.merge(monthCells.getKey(), cell.getValue().getSpentCents(), Long::sum);
+                }
+            }
+        }
+        return spentByMonth;
+    }
+
+    /**
+     * Gets the version of the totals, which changes every time a transaction is added or removed.
+     *
+     * @return the version of the totals.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Prints the totals of every category, for one month or for every month from the earliest.
+     *
+     * @param month the month to report, or null to report every month.
+     * @param ui    required for printing.
+     * @throws TransactionException If there are no transactions to report.
+     */
+    public void printReport(YearMonth month, Ui ui) throws TransactionException {
+        Map<YearMonth, TreeMap<String, RollupCell>> reported = cells;
+        if (month != null) {
+            reported = cells.subMap(month, true, month, true);
+        }
+        if (reported.isEmpty()) {
+            throw new TransactionException("There are no transactions to report");
+        }
+        ui.printReportHeader();
+        for (Map.Entry<YearMonth, TreeMap<String, RollupCell>> monthCells : reported.entrySet()) {
+            for (Map.Entry<String, RollupCell> cell : monthCells.getValue().entrySet()) {
+                ui.printReportRow(monthCells.getKey(), cell.getKey(), cell.getValue().getSpentCents(),
+                        cell.getValue().getDepositCents(), cell.getValue().getTransactionCount());
+            }
+        }
+        ui.printDivider();
+    }
+
+    /**
+     * Combines the totals of two rollups, such as the unpaid and paid expenditures of a card.
+     *
+     * @param first  the first rollup to combine.
+     * @param second the second rollup to combine.
+     * @return a new rollup with the totals of both rollups.
+     */
+    public static TransactionRollup combine(TransactionRollup first, TransactionRollup second) {
+        TransactionRollup combined = new TransactionRollup();
+        combined.addCells(first);
+        combined.addCells(second);
+        return combined;
+    }
+
+    /**
+     * Adds every cell of another rollup to this rollup.
+     *
+     * @param other the rollup to add.
+     */
+    private void addCells(TransactionRollup other) {
+        for (Map.Entry<YearMonth, TreeMap<String, RollupCell>> monthCells : other.cells.entrySet()) {
+            TreeMap<String, RollupCell> categories = cells.computeIfAbsent(monthCells.getKey(), k -> new TreeMap<>());
+            for (Map.Entry<String, RollupCell> cell : monthCells.getValue().entrySet()) {
+                categories.computeIfAbsent(cell.getKey(), k -> new RollupCell()).add(cell.getValue());
+                monthTotals.computeIfAbsent(monthCells.getKey(), k -> new RollupCell()).add(cell.getValue());
+            }
+        }
+    }
+
+    /**
+     * Adds or removes a transaction from the cell of its month and category and from its monthly total,
+     * dropping cells that no longer have any transactions.
+     *
+     * @param transaction the transaction to add or remove.
+     * @param sign        1 to add the transaction, or -1 to remove it.
+     */
+    private void apply(Transaction transaction, int sign) {
+        YearMonth month = YearMonth.from(transaction.getLocalDate());
+        long amountCents = Math.round(transaction.getAmount() * CENTS_PER_DOLLAR);
+        TreeMap<String, RollupCell> categories = cells.computeIfAbsent(month, k -> new TreeMap<>());
+        RollupCell cell = categories.computeIfAbsent(transaction.getCategory(), k -> new RollupCell());
+        cell.apply(amountCents, transaction.getSpent(), sign);
+        if (cell.isEmpty()) {
+            categories.remove(transaction.getCategory());
+        }
+        if (categories.isEmpty()) {
+            cells.remove(month);
+        }
+        RollupCell total = monthTotals.computeIfAbsent(month, k -> new RollupCell());
+        total.apply(amountCents, transaction.getSpent(), sign);
+        if (total.isEmpty()) {
+            monthTotals.remove(month);
+        }
+        version++;
+    }
+}
@@ -0,0 +1,147 @@
+package owlmoney.model.transaction;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import owlmoney.ui.Ui;
+
+/**
+ * TransactionSearch runs one query over the transactions of every account at once on a fork-join pool.
+ * Each account is searched by its own task and the date-sorted results are merged pairwise,
+ * so the time taken is bounded by the largest account rather than the number of accounts.
+ */
+public class TransactionSearch {
+    private final TransactionQuery query;
+    private final ArrayList<String> accountNames;
+    private final ArrayList<TransactionList> transactionLists;
+    private static final int ISZERO = 0;
+    private static final int ONE_INDEX = 1;
+    private static final int HALF = 2;
+
+    /**
+     * Creates a TransactionSearch for the query with no accounts.
+     *
+     * @param query the criteria every match must satisfy.
+     */
+    public TransactionSearch(TransactionQuery query) {
+        this.query = query;
+        this.accountNames = new ArrayList<>();
+        this.transactionLists = new ArrayList<>();
+    }
+
+    /**
+     * Adds the transactions of an account to be searched.
+     *
+     * @param accountName  the name of the account, used to tag its matches.
+     * @param transactions the transactions of the account.
+     */
+    public void addAccount(String accountName, TransactionList transactions) {
+        accountNames.add(accountName);
+        transactionLists.add(transactions);
+    }
+
+    /**
+     * Searches every account and returns the matches ordered by date, oldest first.
+     * Matches on the same date keep the order the accounts were added in.
+     *
+     * @return the matches from every account.
+     */
+    public List<TransactionMatch> search() {
+        if (transactionLists.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return ForkJoinPool.commonPool().invoke(new SearchTask(ISZERO, transactionLists.size()));
+    }
+
+    /**
+     * Searches every account and prints the matches in one table tagged with their accounts.
+     *
+     * @param ui required for printing.
+     */
+    public void printSearch(Ui ui) {
+        List<TransactionMatch> matches = search();
+        if (matches.isEmpty()) {
+            ui.printMessage(query.getNoMatchMessage() + " in any account");
+            return;
+        }
+        ui.printMessage("Find by: " + query.getCriteria() + " in all accounts");
+        ui.printAccountTransactionHeader();
+        for (TransactionMatch match : matches) {
+            Transaction transaction = match.getTransaction();
+            ui.printAccountTransaction(match.getAccountName(), match.getNumber(), transaction.getDescription(),
+                    transaction.getAmount(), transaction.getSpent(), transaction.getDateInDateFormat(),
+                    transaction.getCategory());
+        }
+        ui.printWideDivider();
+    }
+
+    /**
+     * Merges two lists of matches that are each ordered by date into one ordered list.
+     *
+     * @param first  the matches from the earlier accounts.
+     * @param second the matches from the later accounts.
+     * @return the merged matches.
+     */
+    private static List<TransactionMatch> merge(List<TransactionMatch> first, List<TransactionMatch> second) {
+        if (first.isEmpty()) {
+            return second;
+        } else if (second.isEmpty()) {
+            return first;
+        }
+        ArrayList<TransactionMatch> merged = new ArrayList<>(first.size() + second.size());
+        int firstIndex = ISZERO;
+        int secondIndex = ISZERO;
+        while (firstIndex < first.size() && secondIndex < second.size()) {
+            if (second.get(secondIndex).getTime() < first.get(firstIndex).getTime()) {
+                merged.add(second.get(secondIndex++));
+            } else {
+                merged.add(first.get(firstIndex++));
+            }
+        }
+        merged.addAll(first.subList(firstIndex, first.size()));
+        merged.addAll(second.subList(secondIndex, second.size()));
+        return merged;
+    }
+
+    /**
+     * Searches a range of accounts, splitting it until each task searches one account.
+     */
+    private class SearchTask extends RecursiveTask<List<TransactionMatch>> {
+        private final int start;
+        private final int end;
+
+        /**
+         * Creates a SearchTask for the accounts from start inclusive to end exclusive.
+         *
+         * @param start the index of the first account to search.
+         * @param end   the index after the last account to search.
+         */
+        SearchTask(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Searches the accounts in the range.
+         *
+         * @return the matches in the range ordered by date.
+         */
+        @Override
+        protected List<TransactionMatch> compute() {
+            if (end - start == ONE_INDEX) {
+                List<TransactionMatch> matches = transactionLists.get(start).findMatches(query,
+                        accountNames.get(start));
+                matches.sort(Comparator.comparingLong(TransactionMatch::getTime));
+                return matches;
+            }
+            int middle = start + (end - start) / HALF;
+            SearchTask later = new SearchTask(middle, end);
+            later.fork();
+            List<TransactionMatch> earlierMatches = new SearchTask(start, middle).compute();
+            return merge(earlierMatches, later.join());
+        }
+    }
+}
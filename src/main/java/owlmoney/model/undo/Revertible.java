@@ -0,0 +1,28 @@
+package owlmoney.model.undo;
+
+import owlmoney.ui.Ui;
+
+/**
+ * Represents one change to the profile that can be reverted.
+ */
+@FunctionalInterface
+public interface Revertible {
+    /** Estimated bytes held by a change that only captures references and numbers. */
+    int BASE_ESTIMATED_SIZE = 32;
+
+    /**
+     * Reverts the change.
+     *
+     * @param ui required for printing.
+     */
+    void revert(Ui ui);
+
+    /**
+     * Gets the estimated number of bytes of memory held by the change.
+     *
+     * @return the estimated size of the change in bytes.
+     */
+    default int getEstimatedSize() {
+        return BASE_ESTIMATED_SIZE;
+    }
+}
@@ -0,0 +1,174 @@
+package owlmoney.model.undo;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import owlmoney.ui.Ui;
+
+/**
+ * Keeps the inverse of the latest commands so that they can be undone, latest first.
+ * The journal is bounded by both the number of records and their estimated memory, dropping the oldest records.
+ */
+public class UndoJournal {
+    private final Deque<UndoRecord> records;
+    private final long maxBytes;
+    private int maxDepth;
+    private long currentBytes;
+    private UndoRecord openGroup;
+    private final Deque<Integer> groupStarts;
+    private static final int ISZERO = 0;
+    private static final int DEFAULT_MAX_DEPTH = 20;
+    private static final long DEFAULT_MAX_BYTES = 256 * 1024;
+
+    /**
+     * Creates an UndoJournal with the default depth and memory ceiling.
+     */
+    public UndoJournal() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates an UndoJournal with the specified depth and memory ceiling.
+     *
+     * @param maxDepth the maximum number of commands that can be undone.
+     * @param maxBytes the maximum estimated memory in bytes held by the journal.
+     */
+    public UndoJournal(int maxDepth, long maxBytes) {
+        this.records = new ArrayDeque<>();
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+        this.currentBytes = ISZERO;
+        this.groupStarts = new ArrayDeque<>();
+    }
+
+    /**
+     * Sets the maximum number of commands that can be undone, dropping the oldest records if needed.
+     *
+     * @param maxDepth the maximum number of commands that can be undone.
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+        trim();
+    }
+
+    /**
+     * Starts a group so that every record until the matching endGroup is undone as one command.
+     * Groups can be nested, only the outermost group is recorded.
+     *
+     * @param description what the grouped command does.
+     */
+    public void startGroup(String description) {
+        if (groupStarts.isEmpty()) {
+            openGroup = new UndoRecord(description);
+        }
+        groupStarts.push(openGroup.getChangeCount());
+    }
+
+    /**
+     * Ends the current group and records it if it is the outermost group and has changes.
+     */
+    public void endGroup() {
+        if (groupStarts.isEmpty()) {
+            return;
+        }
+        groupStarts.pop();
+        if (groupStarts.isEmpty()) {
+            UndoRecord group = openGroup;
+            openGroup = null;
+            if (!group.isEmpty()) {
+                push(group);
+            }
+        }
+    }
+
+    /**
+     * Ends the current group after its command failed part way, reverting the changes recorded since the group
+     * started instead of recording them, so that the command leaves nothing half done.
+     *
+     * @param ui required for printing.
+     */
+    public void abortGroup(Ui ui) {
+        if (groupStarts.isEmpty()) {
+            return;
+        }
+        openGroup.revertSince(groupStarts.pop(), ui);
+        if (groupStarts.isEmpty()) {
+            openGroup = null;
+        }
+    }
+
+    /**
+     * Records the inverse of a command, or adds it to the open group.
+     *
+     * @param record the inverse of the command.
+     */
+    public void record(UndoRecord record) {
+        if (openGroup != null) {
+            openGroup.addChange(record);
+        } else {
+            push(record);
+        }
+    }
+
+    /**
+     * Removes and returns the latest record.
+     *
+     * @return the latest record, or null if there is nothing to undo.
+     */
+    public UndoRecord pop() {
+        UndoRecord record = records.pollFirst();
+        if (record != null) {
+            currentBytes -= record.getEstimatedSize();
+        }
+        return record;
+    }
+
+    /**
+     * Removes every record, used when a change that cannot be undone is made.
+     */
+    public void clear() {
+        records.clear();
+        currentBytes = ISZERO;
+        if (openGroup != null) {
+            openGroup = new UndoRecord(openGroup.getDescription());
+        }
+    }
+
+    /**
+     * Gets the number of commands that can be undone.
+     *
+     * @return the number of records in the journal.
+     */
+    public int getSize() {
+        return records.size();
+    }
+
+    /**
+     * Gets the estimated memory held by the journal.
+     *
+     * @return the estimated size of every record in bytes.
+     */
+    public long getEstimatedBytes() {
+        return currentBytes;
+    }
+
+    /**
+     * Adds a record as the latest record and trims the journal to its bounds.
+     *
+     * @param record the record to add.
+     */
+    private void push(UndoRecord record) {
+        records.addFirst(record);
+        currentBytes += record.getEstimatedSize();
+        trim();
+    }
+
+    /**
+     * Drops the oldest records until the journal is within its depth and memory ceiling.
+     */
+    private void trim() {
+        while (!records.isEmpty() && (records.size() > maxDepth || currentBytes > maxBytes)) {
+            currentBytes -= records.pollLast().getEstimatedSize();
+        }
+    }
+}
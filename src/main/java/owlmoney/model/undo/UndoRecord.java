@@ -0,0 +1,116 @@
+package owlmoney.model.undo;
+
+import java.util.ArrayList;
+
+import owlmoney.ui.Ui;
+
+/**
+ * Stores the inverse of one command as the changes it made, which are reverted in reverse order.
+ * The changes are followed by a persistence step that saves the reverted state through the usual storage path.
+ */
+public class UndoRecord implements Revertible {
+    private final String description;
+    private final Revertible persistence;
+    private final ArrayList<Revertible> changes;
+    private static final int ISZERO = 0;
+    private static final int ONE_INDEX = 1;
+    private static final int BYTES_PER_CHARACTER = 2;
+
+    /**
+     * Creates an UndoRecord with no changes.
+     *
+     * @param description what the command did, such as "adding an expenditure to JunBank".
+     * @param persistence the step that saves the reverted state to disk.
+     */
+    public UndoRecord(String description, Revertible persistence) {
+        this.description = description;
+        this.persistence = persistence;
+        this.changes = new ArrayList<>();
+    }
+
+    /**
+     * Creates an UndoRecord for changes that persist themselves, such as a group of other records.
+     *
+     * @param description what the command did.
+     */
+    public UndoRecord(String description) {
+        this(description, null);
+    }
+
+    /**
+     * Adds a change in the order it was made.
+     *
+     * @param change the change that was made.
+     */
+    public void addChange(Revertible change) {
+        changes.add(change);
+    }
+
+    /**
+     * Gets the number of changes in the record.
+     *
+     * @return the number of changes made so far.
+     */
+    public int getChangeCount() {
+        return changes.size();
+    }
+
+    /**
+     * Reverts and removes every change made after the specified number of changes, from the latest to the earliest.
+     *
+     * @param changeCount the number of earliest changes to keep.
+     * @param ui required for printing.
+     */
+    public void revertSince(int changeCount, Ui ui) {
+        for (int i = changes.size() - ONE_INDEX; i >= changeCount; i--) {
+            changes.remove(i).revert(ui);
+        }
+    }
+
+    /**
+     * Checks if the record has no changes.
+     *
+     * @return the result of whether the record has no changes.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Gets the description of what the command did.
+     *
+     * @return the description of the command.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Reverts every change from the latest to the earliest, then saves the reverted state.
+     *
+     * @param ui required for printing.
+     */
+    @Override
+    public void revert(Ui ui) {
+        for (int i = changes.size() - ONE_INDEX; i >= ISZERO; i--) {
+            changes.get(i).revert(ui);
+        }
+        if (persistence != null) {
+            persistence.revert(ui);
+        }
+    }
+
+    /**
+     * Gets the estimated number of bytes of memory held by the record and its changes.
+     *
+     * @return the estimated size of the record in bytes.
+     */
+    @Override
+    public int getEstimatedSize() {
+        int size = BASE_ESTIMATED_SIZE + description.length() * BYTES_PER_CHARACTER;
+        for (Revertible change : changes) {
+            size += change.getEstimatedSize();
+        }
+        return size;
+    }
+}
@@ -6,8 +6,11 @@ import java.io.Reader;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
@@ -15,21 +18,145 @@ import com.opencsv.CSVWriter;
 
 /**
  * Handles reading and writing data to and from disk.
+ * Writes and deletions can be deferred so that repeated exports of the same file only reach the disk once on flush.
+ * Rows appended to a file are deferred as well, and are added after the pending write of the same file if any.
+ * The deferred state is shared by every Storage instance as the model layer creates its own instances.
  */
 public class Storage {
     private final String path;
+    private static final Map<String, ArrayList<String[]>> pendingWrites = new LinkedHashMap<>();
+    private static final Map<String, ArrayList<String[]>> pendingAppends = new LinkedHashMap<>();
+    private static int deferDepth = 0;
+    private static final int ISZERO = 0;
+    private static final int HEADER_LINES = 1;
 
     public Storage(String path) {
         this.path = path;
     }
 
+    /**
+     * Starts deferring all writes until they are flushed.
+     * Calls can be nested, writes only reach the disk directly again once every deferral is resumed.
+     */
+    public void deferWrites() {
+        synchronized (pendingWrites) {
+            deferDepth++;
+        }
+    }
+
+    /**
+     * Ends one level of deferral and flushes the pending writes if no deferral remains.
+     *
+     * @return the number of files written to disk.
+     * @throws IOException when unable to write data to file.
+     */
+    public int resumeWrites() throws IOException {
+        synchronized (pendingWrites) {
+            if (deferDepth > ISZERO) {
+                deferDepth--;
+            }
+            if (deferDepth == ISZERO) {
+                return flushWrites();
+            }
+            return ISZERO;
+        }
+    }
+
+    /**
+     * Checks if writes are currently being deferred.
+     *
+     * @return the result of whether writes are deferred.
+     */
+    public boolean isDeferringWrites() {
+        synchronized (pendingWrites) {
+            return deferDepth > ISZERO;
+        }
+    }
+
+    /**
+     * Writes every pending file to disk, keeping only the latest content of each file.
+     * Files pending deletion are deleted instead, and pending rows are appended after every file is written.
+     * Files that could not be written remain pending so that the next flush retries them.
+     *
+     * @return the number of files written to disk.
+     * @throws IOException when unable to write data to file.
+     */
+    public int flushWrites() throws IOException {
+        synchronized (pendingWrites) {
+            int filesWritten = ISZERO;
+            IOException failure = null;
+            for (Map.Entry<String, ArrayList<String[]>> pending : new ArrayList<>(pendingWrites.entrySet())) {
+                try {
+                    if (pending.getValue() == null) {
+                        Files.deleteIfExists(Paths.get(pending.getKey()));
+                    } else {
+                        writeToDisk(pending.getValue(), pending.getKey());
+                    }
+                    pendingWrites.remove(pending.getKey());
+                    filesWritten++;
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            for (Map.Entry<String, ArrayList<String[]>> pending : new ArrayList<>(pendingAppends.entrySet())) {
+                try {
+                    ArrayList<String[]> appendData = pending.getValue();
+                    appendToDisk(appendData.subList(HEADER_LINES, appendData.size()), appendData.get(ISZERO),
+                            pending.getKey());
+                    pendingAppends.remove(pending.getKey());
+                    filesWritten++;
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return filesWritten;
+        }
+    }
+
+    /**
+     * Discards every pending write and deletion without touching the disk.
+     */
+    public void discardWrites() {
+        synchronized (pendingWrites) {
+            pendingWrites.clear();
+            pendingAppends.clear();
+        }
+    }
+
+    /**
+     * Deletes the specified file from disk, replacing any pending write to it.
+     * The deletion is deferred as well if writes are currently being deferred.
+     *
+     * @param fileName the filename to delete.
+     * @throws IOException when unable to delete the file.
+     */
+    public void deleteFile(String fileName) throws IOException {
+        synchronized (pendingWrites) {
+            pendingAppends.remove(path + fileName);
+            if (deferDepth > ISZERO) {
+                pendingWrites.put(path + fileName, null);
+                return;
+            }
+            pendingWrites.remove(path + fileName);
+        }
+        Files.deleteIfExists(Paths.get(path + fileName));
+    }
+
     /**
      * Checks if the specfied file exists.
      * @param fileName the filename to check.
      * @return the result of whether the file exists.
      */
     public boolean isFileExist(String fileName) {
-        return Files.exists(Paths.get(path + fileName));
+        synchronized (pendingWrites) {
+            if (pendingWrites.containsKey(path + fileName)) {
+                return pendingWrites.get(path + fileName) != null;
+            }
+            return pendingAppends.containsKey(path + fileName) || Files.exists(Paths.get(path + fileName));
+        }
     }
 
     /**
@@ -54,14 +181,78 @@ public class Storage {
      * @throws IOException when unable to write data to file.
      */
     public void writeFile(ArrayList<String[]> inputData, String fileName) throws IOException {
+        synchronized (pendingWrites) {
+            pendingAppends.remove(path + fileName);
+            if (deferDepth > ISZERO) {
+                pendingWrites.put(path + fileName, inputData);
+                return;
+            }
+        }
+        writeToDisk(inputData, path + fileName);
+    }
+
+    /**
+     * Appends rows to the end of the specified file, creating it with the header if it does not exist yet.
+     * The rows are added to the pending write of the file instead if there is one.
+     *
+     * @param inputData rows to append in ArrayList of String Arrays.
+     * @param headerRecord header to start the file with if it does not exist yet.
+     * @param fileName name of file to append to.
+     * @throws IOException when unable to write data to file.
+     */
+    public void appendToFile(ArrayList<String[]> inputData, String[] headerRecord, String fileName)
+            throws IOException {
+        String filePath = path + fileName;
+        synchronized (pendingWrites) {
+            if (pendingWrites.containsKey(filePath)) {
+                ArrayList<String[]> pendingData = pendingWrites.get(filePath);
+                ArrayList<String[]> mergedData = new ArrayList<>();
+                if (pendingData == null) {
+                    mergedData.add(headerRecord);
+                } else {
+                    mergedData.addAll(pendingData);
+                }
+                mergedData.addAll(inputData);
+                pendingWrites.put(filePath, mergedData);
+                return;
+            }
+            if (deferDepth > ISZERO) {
+                ArrayList<String[]> appendData = pendingAppends.get(filePath);
+                if (appendData == null) {
+                    appendData = new ArrayList<>();
+                    appendData.add(headerRecord);
+                    pendingAppends.put(filePath, appendData);
+                }
+                appendData.addAll(inputData);
+                return;
+            }
+        }
+        appendToDisk(inputData, headerRecord, filePath);
+    }
+
+    /**
+     * Appends the rows to the file at the specified full path, writing the header first if the file is new.
+     *
+     * @param inputData rows to append.
+     * @param headerRecord header to start the file with if it does not exist yet.
+     * @param filePath full path of the file to append to.
+     * @throws IOException when unable to write data to file.
+     */
+    private void appendToDisk(List<String[]> inputData, String[] headerRecord, String filePath)
+            throws IOException {
+        boolean isNewFile = !Files.exists(Paths.get(filePath));
         try (
-                Writer writer = Files.newBufferedWriter(Paths.get(path + fileName));
+                Writer writer = Files.newBufferedWriter(Paths.get(filePath),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
                 CSVWriter csvWriter = new CSVWriter(writer,
                         CSVWriter.DEFAULT_SEPARATOR,
                         CSVWriter.NO_QUOTE_CHARACTER,
                         CSVWriter.DEFAULT_ESCAPE_CHARACTER,
                         CSVWriter.DEFAULT_LINE_END);
         ) {
+            if (isNewFile) {
+                csvWriter.writeNext(headerRecord);
+            }
             for (String[] line : inputData) {
                 csvWriter.writeNext(line);
             }
@@ -71,29 +262,44 @@ public class Storage {
     }
 
     /**
-     * Writes file for profile user name only.
+     * Writes the data to the file at the specified full path.
      *
-     * @param inputData input data in String Arrays.
-     * @param fileName name of file when exported.
+     * @param inputData input data in ArrayList of String Arrays.
+     * @param filePath full path of the file to write to.
      * @throws IOException when unable to write data to file.
      */
-    public void writeProfileFile(String[] inputData, String fileName) throws IOException {
+    private void writeToDisk(ArrayList<String[]> inputData, String filePath) throws IOException {
         try (
-                Writer writer = Files.newBufferedWriter(Paths.get(path + fileName));
+                Writer writer = Files.newBufferedWriter(Paths.get(filePath));
                 CSVWriter csvWriter = new CSVWriter(writer,
                         CSVWriter.DEFAULT_SEPARATOR,
                         CSVWriter.NO_QUOTE_CHARACTER,
                         CSVWriter.DEFAULT_ESCAPE_CHARACTER,
                         CSVWriter.DEFAULT_LINE_END);
         ) {
-            String[] headerRecord = {"Name"};
-            csvWriter.writeNext(headerRecord);
-            csvWriter.writeNext(inputData);
+            for (String[] line : inputData) {
+                csvWriter.writeNext(line);
+            }
         } catch (IOException e) {
             throw new IOException(e);
         }
     }
 
+    /**
+     * Writes file for profile user name only.
+     *
+     * @param inputData input data in String Arrays.
+     * @param fileName name of file when exported.
+     * @throws IOException when unable to write data to file.
+     */
+    public void writeProfileFile(String[] inputData, String fileName) throws IOException {
+        ArrayList<String[]> exportData = new ArrayList<>();
+        String[] headerRecord = {"Name"};
+        exportData.add(headerRecord);
+        exportData.add(inputData);
+        writeFile(exportData, fileName);
+    }
+
     /**
      * Reads input file for profile user name.
      *
@@ -102,9 +308,37 @@ public class Storage {
      * @throws IOException when unable to read the file.
      */
     public List<String[]> readFile(String fileName) throws IOException {
+        synchronized (pendingWrites) {
+            ArrayList<String[]> pendingData = pendingWrites.get(path + fileName);
+            if (pendingWrites.containsKey(path + fileName) && pendingData == null) {
+                throw new IOException(fileName + " has been deleted");
+            }
+            if (pendingData != null) {
+                int firstDataLine = Math.min(HEADER_LINES, pendingData.size());
+                return new ArrayList<>(pendingData.subList(firstDataLine, pendingData.size()));
+            }
+            ArrayList<String[]> appendData = pendingAppends.get(path + fileName);
+            if (appendData != null) {
+                List<String[]> list = Files.exists(Paths.get(path + fileName))
+                        ? readFromDisk(path + fileName) : new ArrayList<>();
+                list.addAll(appendData.subList(HEADER_LINES, appendData.size()));
+                return list;
+            }
+        }
+        return readFromDisk(path + fileName);
+    }
+
+    /**
+     * Reads the rows after the header of the file at the specified full path.
+     *
+     * @param filePath full path of the file to read.
+     * @return List of String Array containing the rows of the file.
+     * @throws IOException when unable to read the file.
+     */
+    private List<String[]> readFromDisk(String filePath) throws IOException {
         try (
-                Reader reader = Files.newBufferedReader(Paths.get(path + fileName));
-                CSVReader csvReader = new CSVReaderBuilder(reader).withSkipLines(1).build();
+                Reader reader = Files.newBufferedReader(Paths.get(filePath));
+                CSVReader csvReader = new CSVReaderBuilder(reader).withSkipLines(HEADER_LINES).build();
         ) {
             List<String[]> list = new ArrayList<>();
             list = csvReader.readAll();
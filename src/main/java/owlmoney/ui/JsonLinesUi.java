@@ -0,0 +1,520 @@
+package owlmoney.ui;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * JsonLinesUi prints every transaction, account, card, bond and goal as one JSON object per line for other tools.
+ * Amounts are written in cents and dates in ISO format, and each line is written as soon as it is built.
+ */
+public class JsonLinesUi extends Ui {
+    private final StringBuilder line = new StringBuilder();
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int ISZERO = 0;
+    private static final int HEX_DIGITS = 4;
+    private static final int FIRST_PRINTABLE_CHARACTER = 0x20;
+    private static final int HEX_RADIX = 16;
+
+    /**
+     * Prints a message as a JSON object, skipping blank messages that only space out tables.
+     *
+     * @param msg The message to print.
+     */
+    @Override
+    public void printMessage(String msg) {
+        if (msg.isBlank()) {
+            return;
+        }
+        startRecord("message").appendField("text", msg);
+        endRecord();
+    }
+
+    /**
+     * Prints an error as a JSON object.
+     *
+     * @param exceptionMessage The specifics of the error.
+     */
+    @Override
+    public void printError(String exceptionMessage) {
+        startRecord("error").appendField("text", exceptionMessage);
+        endRecord();
+    }
+
+    /**
+     * Prints a short greeting instead of the welcome logo.
+     *
+     * @param username the name of the user.
+     */
+    @Override
+    public void greet(String username) {
+        printMessage("Welcome " + username + "!");
+    }
+
+    /**
+     * Prints nothing, as every JSON object names its own fields.
+     *
+     * @param type the type of transaction header.
+     */
+    @Override
+    public void printTransactionHeader(String type) {
+    }
+
+    /**
+     * Prints nothing, as every JSON object names its own fields.
+     */
+    @Override
+    public void printAccountTransactionHeader() {
+    }
+
+    /**
+     * Prints nothing, as every JSON object names its own fields.
+     */
+    @Override
+    public void printCardHeader() {
+    }
+
+    /**
+     * Prints nothing, as every JSON object names its own fields.
+     */
+    @Override
+    public void printBankHeader() {
+    }
+
+    /**
+     * Prints nothing, as every JSON object names its own fields.
+     */
+    @Override
+    public void printGoalHeader() {
+    }
+
+    /**
+     * Prints nothing, as every JSON object names its own fields.
+     */
+    @Override
+    public void printBondHeader() {
+    }
+
+    /**
+     * Prints nothing, as every JSON object names its own fields.
+     */
+    @Override
+    public void printReportHeader() {
+    }
+
+    /**
+     * Prints nothing, as there are no tables to separate.
+     */
+    @Override
+    public void printDivider() {
+    }
+
+    /**
+     * Prints nothing, as there are no tables to separate.
+     */
+    @Override
+    public void printGoalDivider() {
+    }
+
+    /**
+     * Prints nothing, as there are no tables to separate.
+     */
+    @Override
+    public void printWideDivider() {
+    }
+
+    /**
+     * Prints the transaction as a JSON object, with expenditures as negative cents.
+     *
+     * @param num         Represents the numbering of the transaction.
+     * @param description Describes the listed transaction.
+     * @param amount      Represents the amount of the listed transaction.
+     * @param isSpent     Represents whether the listed transaction is an expenditure.
+     * @param date        Represents the date entered for the listed transaction.
+     * @param category    Represents the category which the listed transaction falls under.
+     */
+    @Override
+    public void printTransaction(int num, String description, double amount, boolean isSpent, Date date,
+            String category) {
+        startRecord("transaction").appendField("number", num).appendField("description", description)
+                .appendField("amountCents", isSpent ? -toCents(amount) : toCents(amount))
+                .appendField("date", toIsoDate(date)).appendField("category", category);
+        endRecord();
+    }
+
+    /**
+     * Prints the transaction in a list as a JSON object with its ID, with expenditures as negative cents.
+     *
+     * @param num         Represents the numbering of the transaction.
+     * @param description Describes the listed transaction.
+     * @param amount      Represents the amount of the listed transaction.
+     * @param isSpent     Represents whether the listed transaction is an expenditure.
+     * @param date        Represents the date entered for the listed transaction.
+     * @param category    Represents the category which the listed transaction falls under.
+     * @param id          Represents the ID of the listed transaction.
+     */
+    @Override
+    public void printTransaction(int num, String description, double amount, boolean isSpent, Date date,
+            String category, long id) {
+        startRecord("transaction").appendField("number", num).appendField("id", id)
+                .appendField("description", description)
+                .appendField("amountCents", isSpent ? -toCents(amount) : toCents(amount))
+                .appendField("date", toIsoDate(date)).appendField("category", category);
+        endRecord();
+    }
+
+    /**
+     * Prints the recurring transaction as a JSON object, with expenditures as negative cents.
+     *
+     * @param num         Represents the numbering of the recurring transaction.
+     * @param description Describes the listed recurring transaction.
+     * @param amount      Represents the amount of the listed recurring transaction.
+     * @param isSpent     Represents whether the listed recurring transaction is an expenditure.
+     * @param date        Represents the date of the next occurrence of the listed recurring transaction.
+     * @param category    Represents the category which the listed recurring transaction falls under.
+     * @param repeats     Represents how often the listed recurring transaction repeats.
+     */
+    @Override
+    public void printRecurringTransaction(int num, String description, double amount, boolean isSpent, Date date,
+            String category, String repeats) {
+        startRecord("recurringTransaction").appendField("number", num).appendField("description", description)
+                .appendField("amountCents", isSpent ? -toCents(amount) : toCents(amount))
+                .appendField("nextDate", toIsoDate(date)).appendField("category", category)
+                .appendField("repeats", repeats);
+        endRecord();
+    }
+
+    /**
+     * Prints the transaction as a JSON object tagged with its account, with expenditures as negative cents.
+     *
+     * @param account     Represents the name of the bank account or card of the transaction.
+     * @param num         Represents the numbering of the transaction in its account.
+     * @param description Describes the listed transaction.
+     * @param amount      Represents the amount of the listed transaction.
+     * @param isSpent     Represents whether the listed transaction is an expenditure.
+     * @param date        Represents the date entered for the listed transaction.
+     * @param category    Represents the category which the listed transaction falls under.
+     */
+    @Override
+    public void printAccountTransaction(String account, int num, String description, double amount, boolean isSpent,
+            Date date, String category) {
+        startRecord("transaction").appendField("account", account).appendField("number", num)
+                .appendField("description", description)
+                .appendField("amountCents", isSpent ? -toCents(amount) : toCents(amount))
+                .appendField("date", toIsoDate(date)).appendField("category", category);
+        endRecord();
+    }
+
+    /**
+     * Prints the card as a JSON object.
+     *
+     * @param num      Represents the numbering of the card.
+     * @param name     Represents the name of the card.
+     * @param monLimit Represents the monthly limit of the card.
+     * @param remLimit Represents the remaining card limit left for the card.
+     * @param rebate   Represents the card rebate in percentage.
+     */
+    @Override
+    public void printCard(int num, String name, double monLimit, double remLimit, double rebate) {
+        startRecord("card").appendField("number", num).appendField("name", name)
+                .appendField("limitCents", toCents(monLimit)).appendField("remainingLimitCents", toCents(remLimit))
+                .appendField("rebatePercent", rebate);
+        endRecord();
+    }
+
+    /**
+     * Prints the investment account as a JSON object.
+     *
+     * @param num    Represents the numbering of the investment account.
+     * @param name   Represents the name of the investment account.
+     * @param type   Represents the account type.
+     * @param amount Represents the current amount in the listed investment account.
+     */
+    @Override
+    public void printInvestment(int num, String name, String type, double amount) {
+        startRecord("bank").appendField("number", num).appendField("name", name).appendField("accountType", type)
+                .appendField("amountCents", toCents(amount));
+        endRecord();
+    }
+
+    /**
+     * Prints the saving account as a JSON object.
+     *
+     * @param num    Represents the numbering of the saving account.
+     * @param name   Represents the name of the saving account.
+     * @param type   Represents the account type.
+     * @param amount Represents the current amount in the listed saving account.
+     * @param income Represents the income in the listed saving account.
+     */
+    @Override
+    public void printSaving(int num, String name, String type, double amount, double income) {
+        startRecord("bank").appendField("number", num).appendField("name", name).appendField("accountType", type)
+                .appendField("amountCents", toCents(amount)).appendField("incomeCents", toCents(income));
+        endRecord();
+    }
+
+    /**
+     * Prints the goal as a JSON object.
+     *
+     * @param num        Represents the numbering of the goal.
+     * @param name       Represents the goal name.
+     * @param amount     Represents the amount to save up in the goal.
+     * @param bankName   Represents the saving account tied to the goal.
+     * @param progress   Represents the amount left to save.
+     * @param date       Represents the date to accomplish the goal.
+     * @param isAchieved Represents whether the goal has been achieved.
+     */
+    @Override
+    public void printGoal(int num, String name, double amount, String bankName, double progress, Date date,
+            boolean isAchieved) {
+        startRecord("goal").appendField("number", num).appendField("name", name)
+                .appendField("amountCents", toCents(amount)).appendField("savingAccount", bankName)
+                .appendField("remainingCents", toCents(progress)).appendField("date", toIsoDate(date))
+                .appendField("achieved", isAchieved);
+        endRecord();
+    }
+
+    /**
+     * Prints the bond as a JSON object.
+     *
+     * @param num    Represents the numbering of the bond.
+     * @param name   Represents the bond name.
+     * @param amount Represents the amount of the bond.
+     * @param rate   Represents the yearly coupon rate for the bond.
+     * @param date   Represents the date of purchase for the bond.
+     * @param year   Represents the year for the bond.
+     */
+    @Override
+    public void printBond(int num, String name, double amount, double rate, Date date, int year) {
+        startRecord("bond").appendField("number", num).appendField("name", name)
+                .appendField("amountCents", toCents(amount)).appendField("ratePercent", rate)
+                .appendField("purchaseDate", toIsoDate(date)).appendField("years", year);
+        endRecord();
+    }
+
+    /**
+     * Prints the totals of one month and category of a report as a JSON object.
+     *
+     * @param month            Represents the month of the totals.
+     * @param category         Represents the category of the totals.
+     * @param spentCents       Represents the total amount spent in cents.
+     * @param depositCents     Represents the total amount deposited in cents.
+     * @param transactionCount Represents the number of transactions making up the totals.
+     */
+    @Override
+    public void printReportRow(YearMonth month, String category, long spentCents, long depositCents,
+            int transactionCount) {
+        startRecord("report").appendField("month", month.toString()).appendField("category", category)
+                .appendField("spentCents", spentCents).appendField("depositCents", depositCents)
+                .appendField("transactions", transactionCount);
+        endRecord();
+    }
+
+    /**
+     * Prints nothing, as every JSON object names its own fields.
+     */
+    @Override
+    public void printBudgetHeader() {
+    }
+
+    /**
+     * Prints nothing, as every JSON object names its own fields.
+     */
+    @Override
+    public void printForecastHeader() {
+    }
+
+    /**
+     * Prints the forecast of one bank account for one month as a JSON object.
+     *
+     * @param month         the month of the forecast.
+     * @param accountName   the name of the bank account.
+     * @param moneyInCents  the total expected to be credited in the month in cents.
+     * @param moneyOutCents the total expected to be debited in the month in cents.
+     * @param balanceCents  the expected balance at the end of the month in cents.
+     */
+    @Override
+    public void printForecast(YearMonth month, String accountName, long moneyInCents, long moneyOutCents,
+            long balanceCents) {
+        startRecord("forecast").appendField("month", month.toString()).appendField("account", accountName)
+                .appendField("moneyInCents", moneyInCents).appendField("moneyOutCents", moneyOutCents)
+                .appendField("balanceCents", balanceCents);
+        endRecord();
+    }
+
+    /**
+     * Prints the budget as a JSON object, with the accounts separated by commas or empty for every account.
+     *
+     * @param num        Represents the numbering of the budget.
+     * @param category   Represents the category of the budget.
+     * @param amount     Represents the amount that can be spent in a month.
+     * @param spentCents Represents the amount spent this month in cents.
+     * @param accounts   Represents the accounts of the budget, or an empty list for every account.
+     */
+    @Override
+    public void printBudget(int num, String category, double amount, long spentCents, List<String> accounts) {
+        startRecord("budget").appendField("number", num).appendField("category", category)
+                .appendField("amountCents", toCents(amount)).appendField("spentCents", spentCents)
+                .appendField("remainingCents", toCents(amount) - spentCents)
+                .appendField("accounts", String.join(",", accounts));
+        endRecord();
+    }
+
+    /**
+     * Prints the totals making up the net worth as a JSON object, with the cash position and the net worth.
+     *
+     * @param savingsCents    Represents the total balance of the saving accounts in cents.
+     * @param investmentCents Represents the total balance of the investment accounts in cents.
+     * @param bondCents       Represents the total principal of the bonds in cents.
+     * @param unpaidCardCents Represents the total unpaid card expenditures in cents.
+     */
+    @Override
+    public void printNetWorth(long savingsCents, long investmentCents, long bondCents, long unpaidCardCents) {
+        long cashPositionCents = savingsCents + investmentCents - unpaidCardCents;
+        startRecord("networth").appendField("savingsCents", savingsCents)
+                .appendField("investmentCents", investmentCents).appendField("bondCents", bondCents)
+                .appendField("unpaidCardCents", unpaidCardCents).appendField("cashPositionCents", cashPositionCents)
+                .appendField("netWorthCents", cashPositionCents + bondCents);
+        endRecord();
+    }
+
+    /**
+     * Starts a new JSON object with its record type.
+     *
+     * @param type the type of record, such as transaction.
+     * @return this JsonLinesUi for appending fields.
+     */
+    private JsonLinesUi startRecord(String type) {
+        line.setLength(ISZERO);
+        line.append("{\"type\":");
+        appendString(type);
+        return this;
+    }
+
+    /**
+     * Appends a text field to the current JSON object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @return this JsonLinesUi for appending fields.
+     */
+    private JsonLinesUi appendField(String name, String value) {
+        appendName(name);
+        appendString(value);
+        return this;
+    }
+
+    /**
+     * Appends a whole number field to the current JSON object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @return this JsonLinesUi for appending fields.
+     */
+    private JsonLinesUi appendField(String name, long value) {
+        appendName(name);
+        line.append(value);
+        return this;
+    }
+
+    /**
+     * Appends a decimal number field to the current JSON object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @return this JsonLinesUi for appending fields.
+     */
+    private JsonLinesUi appendField(String name, double value) {
+        appendName(name);
+        line.append(value);
+        return this;
+    }
+
+    /**
+     * Appends a true or false field to the current JSON object.
+     *
+     * @param name  the name of the field.
+     * @param value the value of the field.
+     * @return this JsonLinesUi for appending fields.
+     */
+    private JsonLinesUi appendField(String name, boolean value) {
+        appendName(name);
+        line.append(value);
+        return this;
+    }
+
+    /**
+     * Appends the separator and name of a field.
+     *
+     * @param name the name of the field.
+     */
+    private void appendName(String name) {
+        line.append(',');
+        appendString(name);
+        line.append(':');
+    }
+
+    /**
+     * Appends a quoted JSON string, escaping quotes, backslashes and control characters.
+     *
+     * @param value the text to append, or null.
+     */
+    private void appendString(String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = ISZERO; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == '"' || character == '\\') {
+                line.append('\\').append(character);
+            } else if (character == '\n') {
+                line.append("\\n");
+            } else if (character == '\r') {
+                line.append("\\r");
+            } else if (character == '\t') {
+                line.append("\\t");
+            } else if (character < FIRST_PRINTABLE_CHARACTER) {
+                String hex = Integer.toString(character, HEX_RADIX);
+                line.append("\\u");
+                for (int padding = hex.length(); padding < HEX_DIGITS; padding++) {
+                    line.append('0');
+                }
+                line.append(hex);
+            } else {
+                line.append(character);
+            }
+        }
+        line.append('"');
+    }
+
+    /**
+     * Ends the current JSON object and writes it as one line.
+     */
+    private void endRecord() {
+        line.append('}');
+        System.out.println(line);
+    }
+
+    /**
+     * Converts an amount in dollars to whole cents.
+     *
+     * @param amount the amount in dollars.
+     * @return the amount in cents.
+     */
+    private long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Converts a date to ISO format, such as 2019-10-01.
+     *
+     * @param date the date to convert.
+     * @return the date in ISO format.
+     */
+    private String toIsoDate(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toString();
+    }
+}
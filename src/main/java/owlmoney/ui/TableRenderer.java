@@ -0,0 +1,74 @@
+package owlmoney.ui;
+
+import java.io.PrintStream;
+
+/**
+ * TableRenderer builds fixed-width table rows into a reusable buffer and writes them out as one block.
+ * Rows are padded the same way as left-justified format specifiers such as %-20s, without reparsing a format string.
+ */
+class TableRenderer {
+    private final StringBuilder buffer;
+    private static final int INITIAL_CAPACITY = 8192;
+    private static final int FLUSH_THRESHOLD = 65536;
+    private static final int ISZERO = 0;
+    private static final char SPACE = ' ';
+    private static final String NEWLINE = System.lineSeparator();
+
+    /**
+     * Creates a TableRenderer with an empty buffer.
+     */
+    TableRenderer() {
+        buffer = new StringBuilder(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Appends a row with every cell left-justified to its column width and followed by a space.
+     *
+     * @param columnWidths the minimum width of each column.
+     * @param cells        the content of each column.
+     */
+    void appendRow(int[] columnWidths, String... cells) {
+        for (int i = ISZERO; i < columnWidths.length; i++) {
+            String cell = String.valueOf(cells[i]);
+            buffer.append(cell);
+            for (int padding = columnWidths[i] - cell.length(); padding > ISZERO; padding--) {
+                buffer.append(SPACE);
+            }
+            buffer.append(SPACE);
+        }
+        buffer.append(NEWLINE);
+        flushIfFull();
+    }
+
+    /**
+     * Appends a line as it is, such as a divider.
+     *
+     * @param line the line to append.
+     */
+    void appendLine(String line) {
+        buffer.append(line).append(NEWLINE);
+        flushIfFull();
+    }
+
+    /**
+     * Writes every buffered row to the current standard output in one write and empties the buffer.
+     */
+    void flush() {
+        if (buffer.length() == ISZERO) {
+            return;
+        }
+        PrintStream out = System.out;
+        out.append(buffer);
+        out.flush();
+        buffer.setLength(ISZERO);
+    }
+
+    /**
+     * Writes the buffered rows once the buffer is large enough, so that very long tables do not hold every row.
+     */
+    private void flushIfFull() {
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package owlmoney.ui;
 
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+
 /**
  * Ui handles messages shown to the user of this application.
  * It does not need to be instantiated with any tasks; these are passed
@@ -13,6 +20,7 @@ public class Ui {
     private static final String DATE = "Date";
     private static final String CATEGORY = "Category";
     private static final String TRANSACTIONNO = "Transaction No.";
+    private static final String TRANSACTIONID = "ID";
     private static final String TRANSTYPE = "transaction";
     private static final String ITEMTYPE = "item";
     private static final String CARDNAME = "Card Name";
@@ -36,7 +44,60 @@ public class Ui {
     private static final String RECURTRANSTYPE = "recurTransaction";
     private static final String NEXTEXPENSE = "Next Expense Date";
     private static final String RECURITEMTYPE = "recurItem";
+    private static final String REPEATS = "Repeats";
+    private static final String ACCOUNT = "Account";
+    private static final String NUMBER = "No.";
+    private static final String MONTH = "Month";
+    private static final String SPENT = "Spent";
+    private static final String DEPOSITED = "Deposited";
+    private static final String TRANSACTIONS = "Transactions";
+    private static final String SAVINGS_TOTAL = "Savings accounts";
+    private static final String INVESTMENT_TOTAL = "Investment accounts";
+    private static final String BOND_TOTAL = "Bonds";
+    private static final String UNPAID_CARD_TOTAL = "Unpaid card expenditures";
+    private static final String CASH_POSITION = "Cash position";
+    private static final String NET_WORTH = "Net worth";
+    private static final String MONTHLY_BUDGET = "Monthly Budget";
+    private static final String SPENT_THIS_MONTH = "Spent This Month";
+    private static final String REMAINING = "Remaining";
+    private static final String ACCOUNTS = "Accounts";
+    private static final String EVERY_ACCOUNT = "All accounts";
+    private static final String MONEY_IN = "Money In";
+    private static final String MONEY_OUT = "Money Out";
+    private static final String MONTH_END_BALANCE = "Month-end Balance";
     private static final String NEWLINE = System.lineSeparator();
+    private static final String DIVIDER = "-----------------------------------------------------------------"
+            + "----------------------------------------------------------------";
+    private static final String GOAL_DIVIDER = "-----------------------------------------------------------------"
+            + "--------------------------------------------------------------------------";
+    private static final String NOT_APPLICABLE = "Not Applicable";
+    private static final String DEBIT = "[-] $";
+    private static final String CREDIT = "[+] $";
+    private static final String DOLLAR = "$";
+    private static final String PERCENT = "%";
+    private static final String ACHIEVED = "Y";
+    private static final String NOT_ACHIEVED = "N";
+    private static final int[] TRANSACTION_COLUMNS = {20, 55, 15, 20, 20};
+    private static final int[] LISTED_TRANSACTION_COLUMNS = {20, 55, 15, 20, 20, 10};
+    private static final int[] RECURRING_TRANSACTION_COLUMNS = {20, 55, 15, 20, 20, 15};
+    private static final int[] ACCOUNT_TRANSACTION_COLUMNS = {30, 5, 50, 15, 18, 15};
+    private static final int[] CARD_COLUMNS = {20, 30, 15, 20, 15};
+    private static final int[] BANK_COLUMNS = {20, 35, 15, 15, 15};
+    private static final int[] GOAL_COLUMNS = {10, 30, 20, 20, 20, 20, 20};
+    private static final int[] BOND_COLUMNS = {20, 30, 15, 10, 20, 10};
+    private static final int[] REPORT_COLUMNS = {20, 20, 20, 20, 15};
+    private static final int[] NET_WORTH_COLUMNS = {30, 20};
+    private static final int[] BUDGET_COLUMNS = {10, 20, 20, 20, 20, 35};
+    private static final int[] FORECAST_COLUMNS = {20, 35, 20, 20, 20};
+    private static final int CENTS_PER_DOLLAR = 100;
+    private final TableRenderer tableRenderer = new TableRenderer();
+
+    /**
+     * Writes every table row that is still buffered to the user.
+     */
+    public void flush() {
+        tableRenderer.flush();
+    }
 
     /**
      * Prints a message line to the user.
@@ -44,6 +105,7 @@ public class Ui {
      * @param msg The message to print.
      */
     public void printMessage(String msg) {
+        flush();
         System.out.println(msg);
     }
 
@@ -52,17 +114,18 @@ public class Ui {
      */
     public void printTransactionHeader(String type) {
         if (ITEMTYPE.equals(type)) {
-            System.out.printf("%-20s %-55s %-15s %-20s %-20s %n", ITEMNO, DESCRIPTION, AMOUNT, DATE, CATEGORY);
+            tableRenderer.appendRow(TRANSACTION_COLUMNS, ITEMNO, DESCRIPTION, AMOUNT, DATE, CATEGORY);
         } else if (TRANSTYPE.equals(type)) {
-            System.out.printf("%-20s %-55s %-15s %-20s %-20s %n", TRANSACTIONNO, DESCRIPTION, AMOUNT, DATE, CATEGORY);
+            tableRenderer.appendRow(LISTED_TRANSACTION_COLUMNS, TRANSACTIONNO, DESCRIPTION, AMOUNT, DATE, CATEGORY,
+                    TRANSACTIONID);
         } else if (RECURITEMTYPE.equals(type)) {
-            System.out.printf("%-20s %-55s %-15s %-20s %-20s %n", ITEMNO, DESCRIPTION, AMOUNT, NEXTEXPENSE, CATEGORY);
+            tableRenderer.appendRow(RECURRING_TRANSACTION_COLUMNS, ITEMNO, DESCRIPTION, AMOUNT, NEXTEXPENSE, CATEGORY,
+                    REPEATS);
         } else if (RECURTRANSTYPE.equals(type)) {
-            System.out.printf(
-                    "%-20s %-55s %-15s %-20s %-20s %n", TRANSACTIONNO, DESCRIPTION, AMOUNT, NEXTEXPENSE, CATEGORY);
+            tableRenderer.appendRow(RECURRING_TRANSACTION_COLUMNS, TRANSACTIONNO, DESCRIPTION, AMOUNT, NEXTEXPENSE,
+                    CATEGORY, REPEATS);
         }
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------");
+        tableRenderer.appendLine(DIVIDER);
     }
 
     /**
@@ -76,17 +139,90 @@ public class Ui {
      */
     public void printTransaction(int num, String description, String amount, String date,
             String category) {
-        System.out.printf("%-20s %-55s %-15s %-20s %-20s %n", num, description, amount, date, category);
+        tableRenderer.appendRow(TRANSACTION_COLUMNS, Integer.toString(num), description, amount, date, category);
+    }
+
+    /**
+     * Prints the transaction being specified from its raw values.
+     *
+     * @param num         Represents the numbering of the transaction.
+     * @param description Describes the listed transaction.
+     * @param amount      Represents the amount of the listed transaction.
+     * @param isSpent     Represents whether the listed transaction is an expenditure.
+     * @param date        Represents the date entered for the listed transaction.
+     * @param category    Represents the category which the listed transaction falls under.
+     */
+    public void printTransaction(int num, String description, double amount, boolean isSpent, Date date,
+            String category) {
+        printTransaction(num, description, (isSpent ? DEBIT : CREDIT) + formatAmount(amount), formatDate(date),
+                category);
+    }
+
+    /**
+     * Prints a transaction in a list of transactions from its raw values, together with its ID.
+     *
+     * @param num         Represents the numbering of the transaction.
+     * @param description Describes the listed transaction.
+     * @param amount      Represents the amount of the listed transaction.
+     * @param isSpent     Represents whether the listed transaction is an expenditure.
+     * @param date        Represents the date entered for the listed transaction.
+     * @param category    Represents the category which the listed transaction falls under.
+     * @param id          Represents the ID of the listed transaction.
+     */
+    public void printTransaction(int num, String description, double amount, boolean isSpent, Date date,
+            String category, long id) {
+        tableRenderer.appendRow(LISTED_TRANSACTION_COLUMNS, Integer.toString(num), description,
+                (isSpent ? DEBIT : CREDIT) + formatAmount(amount), formatDate(date), category, Long.toString(id));
+    }
+
+    /**
+     * Prints the recurring transaction being specified from its raw values.
+     *
+     * @param num         Represents the numbering of the recurring transaction.
+     * @param description Describes the listed recurring transaction.
+     * @param amount      Represents the amount of the listed recurring transaction.
+     * @param isSpent     Represents whether the listed recurring transaction is an expenditure.
+     * @param date        Represents the date of the next occurrence of the listed recurring transaction.
+     * @param category    Represents the category which the listed recurring transaction falls under.
+     * @param repeats     Represents how often the listed recurring transaction repeats.
+     */
+    public void printRecurringTransaction(int num, String description, double amount, boolean isSpent, Date date,
+            String category, String repeats) {
+        tableRenderer.appendRow(RECURRING_TRANSACTION_COLUMNS, Integer.toString(num), description,
+                (isSpent ? DEBIT : CREDIT) + formatAmount(amount), formatDate(date), category, repeats);
+    }
+
+    /**
+     * Prints the header for transactions from multiple accounts.
+     */
+    public void printAccountTransactionHeader() {
+        tableRenderer.appendRow(ACCOUNT_TRANSACTION_COLUMNS, ACCOUNT, NUMBER, DESCRIPTION, AMOUNT, DATE, CATEGORY);
+        tableRenderer.appendLine(GOAL_DIVIDER);
+    }
+
+    /**
+     * Prints a transaction tagged with the account it belongs to.
+     *
+     * @param account     Represents the name of the bank account or card of the transaction.
+     * @param num         Represents the numbering of the transaction in its account.
+     * @param description Describes the listed transaction.
+     * @param amount      Represents the amount of the listed transaction.
+     * @param isSpent     Represents whether the listed transaction is an expenditure.
+     * @param date        Represents the date entered for the listed transaction.
+     * @param category    Represents the category which the listed transaction falls under.
+     */
+    public void printAccountTransaction(String account, int num, String description, double amount, boolean isSpent,
+            Date date, String category) {
+        tableRenderer.appendRow(ACCOUNT_TRANSACTION_COLUMNS, account, Integer.toString(num), description,
+                (isSpent ? DEBIT : CREDIT) + formatAmount(amount), formatDate(date), category);
     }
 
     /**
      * Prints the card header.
      */
     public void printCardHeader() {
-        System.out.printf("%-20s %-30s %-15s %-20s %-15s %n", ITEMNO, CARDNAME, MONLIMIT, REMLIMIT, REBATE);
-
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------");
+        tableRenderer.appendRow(CARD_COLUMNS, ITEMNO, CARDNAME, MONLIMIT, REMLIMIT, REBATE);
+        tableRenderer.appendLine(DIVIDER);
     }
 
     /**
@@ -99,17 +235,29 @@ public class Ui {
      * @param rebate   Represents the card rebate in percentage.
      */
     public void printCard(int num, String name, String monLimit, String remLimit, String rebate) {
-        System.out.printf("%-20s %-30s %-15s %-20s %-15s %n", num, name, monLimit, remLimit, rebate);
+        tableRenderer.appendRow(CARD_COLUMNS, Integer.toString(num), name, monLimit, remLimit, rebate);
+    }
+
+    /**
+     * Prints the card details being specified from their raw values.
+     *
+     * @param num      Represents the numbering of the card.
+     * @param name     Represents the name of the card.
+     * @param monLimit Represents the monthly limit of the card.
+     * @param remLimit Represents the remaining card limit left for the card.
+     * @param rebate   Represents the card rebate in percentage.
+     */
+    public void printCard(int num, String name, double monLimit, double remLimit, double rebate) {
+        printCard(num, name, DOLLAR + formatAmount(monLimit), DOLLAR + formatAmount(remLimit),
+                formatAmount(rebate) + PERCENT);
     }
 
     /**
      * Prints the bank header.
      */
     public void printBankHeader() {
-        System.out.printf("%-20s %-35s %-15s %-15s %-15s %n", ITEMNO, ACCNAME, ACCTYPE, CURRAMOUNT, INCOME);
-
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------");
+        tableRenderer.appendRow(BANK_COLUMNS, ITEMNO, ACCNAME, ACCTYPE, CURRAMOUNT, INCOME);
+        tableRenderer.appendLine(DIVIDER);
     }
 
     /**
@@ -121,7 +269,19 @@ public class Ui {
      * @param amount Represents the current amount in the listed investment account.
      */
     public void printInvestment(int num, String name, String type, String amount) {
-        System.out.printf("%-20s %-35s %-15s %-15s %-15s %n", num, name, type, amount, "Not Applicable");
+        tableRenderer.appendRow(BANK_COLUMNS, Integer.toString(num), name, type, amount, NOT_APPLICABLE);
+    }
+
+    /**
+     * Prints the investment account details being specified from their raw values.
+     *
+     * @param num    Represents the numbering of the investment account.
+     * @param name   Represents the name of the investment account.
+     * @param type   Represents the account type.
+     * @param amount Represents the current amount in the listed investment account.
+     */
+    public void printInvestment(int num, String name, String type, double amount) {
+        printInvestment(num, name, type, DOLLAR + formatAmount(amount));
     }
 
     /**
@@ -134,18 +294,29 @@ public class Ui {
      * @param income Represents the income in the listed saving account.
      */
     public void printSaving(int num, String name, String type, String amount, String income) {
-        System.out.printf("%-20s %-35s %-15s %-15s %-15s %n", num, name, type, amount, income);
+        tableRenderer.appendRow(BANK_COLUMNS, Integer.toString(num), name, type, amount, income);
+    }
+
+    /**
+     * Prints the saving account details being specified from their raw values.
+     *
+     * @param num    Represents the numbering of the saving account.
+     * @param name   Represents the name of the saving account.
+     * @param type   Represents the account type.
+     * @param amount Represents the current amount in the listed saving account.
+     * @param income Represents the income in the listed saving account.
+     */
+    public void printSaving(int num, String name, String type, double amount, double income) {
+        printSaving(num, name, type, DOLLAR + formatAmount(amount), DOLLAR + formatAmount(income));
     }
 
     /**
      * Prints the goal header.
      */
     public void printGoalHeader() {
-        System.out.printf("%-10s %-30s %-20s %-20s %-20s %-20s %-20s %n", ITEMNO, GOALNAME, GOALAMOUNT, GOALBANKNAME,
-                GOALPROGRESS, GOALDATE, GOALACHIEVED);
-
-        System.out.println("-----------------------------------------------------------------------------"
-                + "--------------------------------------------------------------");
+        tableRenderer.appendRow(GOAL_COLUMNS, ITEMNO, GOALNAME, GOALAMOUNT, GOALBANKNAME, GOALPROGRESS, GOALDATE,
+                GOALACHIEVED);
+        tableRenderer.appendLine(GOAL_DIVIDER);
     }
 
     /**
@@ -158,19 +329,33 @@ public class Ui {
      */
     public void printGoal(int num, String name, String amount, String bankName, String progress, String date,
             String achieved) {
-        System.out.printf("%-10s %-30s %-20s %-20s %-20s %-20s %-20s %n", num, name, amount, bankName, progress,
-                date, achieved);
+        tableRenderer.appendRow(GOAL_COLUMNS, Integer.toString(num), name, amount, bankName, progress, date,
+                achieved);
+    }
+
+    /**
+     * Prints the goal details being specified from their raw values.
+     *
+     * @param num        Represents the numbering of the goal.
+     * @param name       Represents the goal name.
+     * @param amount     Represents the amount to save up in the goal.
+     * @param bankName   Represents the saving account tied to the goal, which may be blank.
+     * @param progress   Represents the amount left to save.
+     * @param date       Represents the date to accomplish the goal.
+     * @param isAchieved Represents whether the goal has been achieved.
+     */
+    public void printGoal(int num, String name, double amount, String bankName, double progress, Date date,
+            boolean isAchieved) {
+        printGoal(num, name, DOLLAR + formatAmount(amount), bankName, DOLLAR + formatAmount(progress),
+                formatDate(date), isAchieved ? ACHIEVED : NOT_ACHIEVED);
     }
 
     /**
      * Prints the bond header.
      */
     public void printBondHeader() {
-        System.out.printf("%-20s %-30s %-15s %-10s %-20s %-10s %n", ITEMNO, BONDNAME, AMOUNT, BONDRATE, BONDDATE,
-                BONDYEAR);
-
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------");
+        tableRenderer.appendRow(BOND_COLUMNS, ITEMNO, BONDNAME, AMOUNT, BONDRATE, BONDDATE, BONDYEAR);
+        tableRenderer.appendLine(DIVIDER);
     }
 
     /**
@@ -184,23 +369,170 @@ public class Ui {
      * @param year   Represents the year for the bond.
      */
     public void printBond(int num, String name, String amount, String rate, String date, int year) {
-        System.out.printf("%-20s %-30s %-15s %-10s %-20s %-10s %n", num, name, amount, rate, date, year);
+        tableRenderer.appendRow(BOND_COLUMNS, Integer.toString(num), name, amount, rate, date, Integer.toString(year));
+    }
+
+    /**
+     * Prints the bond details being specified from their raw values.
+     *
+     * @param num    Represents the numbering of the bond.
+     * @param name   Represents the bond name.
+     * @param amount Represents the amount of the bond.
+     * @param rate   Represents the yearly coupon rate for the bond.
+     * @param date   Represents the date of purchase for the bond.
+     * @param year   Represents the year for the bond.
+     */
+    public void printBond(int num, String name, double amount, double rate, Date date, int year) {
+        printBond(num, name, DOLLAR + formatAmount(amount), formatAmount(rate), formatDate(date), year);
+    }
+
+    /**
+     * Prints the header of a report of totals by month and category.
+     */
+    public void printReportHeader() {
+        tableRenderer.appendRow(REPORT_COLUMNS, MONTH, CATEGORY, SPENT, DEPOSITED, TRANSACTIONS);
+        tableRenderer.appendLine(DIVIDER);
+    }
+
+    /**
+     * Prints the totals of one month and category of a report.
+     *
+     * @param month            Represents the month of the totals.
+     * @param category         Represents the category of the totals.
+     * @param spentCents       Represents the total amount spent in cents.
+     * @param depositCents     Represents the total amount deposited in cents.
+     * @param transactionCount Represents the number of transactions making up the totals.
+     */
+    public void printReportRow(YearMonth month, String category, long spentCents, long depositCents,
+            int transactionCount) {
+        tableRenderer.appendRow(REPORT_COLUMNS, month.format(DateTimeFormatter.ofPattern("MMMM yyyy")), category,
+                DOLLAR + formatAmount((double) spentCents / CENTS_PER_DOLLAR),
+                DOLLAR + formatAmount((double) depositCents / CENTS_PER_DOLLAR), Integer.toString(transactionCount));
+    }
+
+    /**
+     * Prints the header of budgets.
+     */
+    public void printBudgetHeader() {
+        tableRenderer.appendRow(BUDGET_COLUMNS, NUMBER, CATEGORY, MONTHLY_BUDGET, SPENT_THIS_MONTH, REMAINING,
+                ACCOUNTS);
+        tableRenderer.appendLine(DIVIDER);
+    }
+
+    /**
+     * Prints a budget with the amount spent this month.
+     *
+     * @param num        Represents the numbering of the budget.
+     * @param category   Represents the category of the budget.
+     * @param amount     Represents the amount that can be spent in a month.
+     * @param spentCents Represents the amount spent this month in cents.
+     * @param accounts   Represents the accounts of the budget, or an empty list for every account.
+     */
+    public void printBudget(int num, String category, double amount, long spentCents, List<String> accounts) {
+        long remainingCents = Math.round(amount * CENTS_PER_DOLLAR) - spentCents;
+        tableRenderer.appendRow(BUDGET_COLUMNS, Integer.toString(num), category, DOLLAR + formatAmount(amount),
+                formatCents(spentCents), formatCents(remainingCents),
+                accounts.isEmpty() ? EVERY_ACCOUNT : String.join(", ", accounts));
+    }
+
+    /**
+     * Prints the header of a forecast.
+     */
+    public void printForecastHeader() {
+        tableRenderer.appendRow(FORECAST_COLUMNS, MONTH, ACCOUNT, MONEY_IN, MONEY_OUT, MONTH_END_BALANCE);
+        tableRenderer.appendLine(DIVIDER);
+    }
+
+    /**
+     * Prints the forecast of one bank account for one month.
+     *
+     * @param month         Represents the month of the forecast.
+     * @param accountName   Represents the name of the bank account.
+     * @param moneyInCents  Represents the total expected to be credited in the month in cents.
+     * @param moneyOutCents Represents the total expected to be debited in the month in cents.
+     * @param balanceCents  Represents the expected balance at the end of the month in cents.
+     */
+    public void printForecast(YearMonth month, String accountName, long moneyInCents, long moneyOutCents,
+            long balanceCents) {
+        tableRenderer.appendRow(FORECAST_COLUMNS, month.format(DateTimeFormatter.ofPattern("MMMM yyyy")),
+                accountName, CREDIT + formatAmount((double) moneyInCents / CENTS_PER_DOLLAR),
+                DEBIT + formatAmount((double) moneyOutCents / CENTS_PER_DOLLAR), formatCents(balanceCents));
+    }
+
+    /**
+     * Prints the totals making up the net worth, followed by the cash position and the net worth.
+     * The cash position leaves out bonds, which cannot be spent until they mature.
+     *
+     * @param savingsCents    Represents the total balance of the saving accounts in cents.
+     * @param investmentCents Represents the total balance of the investment accounts in cents.
+     * @param bondCents       Represents the total principal of the bonds in cents.
+     * @param unpaidCardCents Represents the total unpaid card expenditures in cents.
+     */
+    public void printNetWorth(long savingsCents, long investmentCents, long bondCents, long unpaidCardCents) {
+        long cashPositionCents = savingsCents + investmentCents - unpaidCardCents;
+        tableRenderer.appendRow(NET_WORTH_COLUMNS, SAVINGS_TOTAL, formatCents(savingsCents));
+        tableRenderer.appendRow(NET_WORTH_COLUMNS, INVESTMENT_TOTAL, formatCents(investmentCents));
+        tableRenderer.appendRow(NET_WORTH_COLUMNS, BOND_TOTAL, formatCents(bondCents));
+        tableRenderer.appendRow(NET_WORTH_COLUMNS, UNPAID_CARD_TOTAL,
+                DEBIT + formatAmount((double) unpaidCardCents / CENTS_PER_DOLLAR));
+        tableRenderer.appendLine(DIVIDER);
+        tableRenderer.appendRow(NET_WORTH_COLUMNS, CASH_POSITION, formatCents(cashPositionCents));
+        tableRenderer.appendRow(NET_WORTH_COLUMNS, NET_WORTH, formatCents(cashPositionCents + bondCents));
+    }
+
+    /**
+     * Formats an amount to two decimal places.
+     *
+     * @param amount the amount to format.
+     * @return the formatted amount.
+     */
+    private String formatAmount(double amount) {
+        return new DecimalFormat("0.00").format(amount);
+    }
+
+    /**
+     * Formats an amount in cents as dollars, such as $12.30 or -$12.30.
+     *
+     * @param cents the amount in cents.
+     * @return the formatted amount.
+     */
+    private String formatCents(long cents) {
+        String dollars = DOLLAR + formatAmount((double) Math.abs(cents) / CENTS_PER_DOLLAR);
+        return cents < 0 ? "-" + dollars : dollars;
+    }
+
+    /**
+     * Formats a date the way it is shown in tables, such as 01 January 2019.
+     *
+     * @param date the date to format.
+     * @return the formatted date.
+     */
+    private String formatDate(Date date) {
+        return new SimpleDateFormat("dd MMMM yyyy").format(date);
     }
 
     /**
      * Prints the divider to separate the section of the output.
      */
     public void printDivider() {
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------");
+        tableRenderer.appendLine(DIVIDER);
+        flush();
     }
 
     /**
      * Prints the divider to separate the section for Goals output.
      */
     public void printGoalDivider() {
-        System.out.println("-----------------------------------------------------------------------------"
-                + "--------------------------------------------------------------");
+        tableRenderer.appendLine(GOAL_DIVIDER);
+        flush();
+    }
+
+    /**
+     * Prints the divider to separate the section for wider tables, such as transactions from multiple accounts.
+     */
+    public void printWideDivider() {
+        tableRenderer.appendLine(GOAL_DIVIDER);
+        flush();
     }
 
     /**
@@ -0,0 +1,30 @@
+package owlmoney;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import owlmoney.ui.JsonLinesUi;
+
+class MainTest {
+
+    @Test
+    void getOutputUi_outputOption_matchingUiCreated() throws MainException {
+        assertTrue(Main.getOutputUi(new String[] {"--script", "a.txt", "--output", "jsonl"}) instanceof JsonLinesUi);
+        assertFalse(Main.getOutputUi(new String[] {"--output", "text"}) instanceof JsonLinesUi);
+        assertFalse(Main.getOutputUi(new String[] {"--script", "a.txt"}) instanceof JsonLinesUi);
+    }
+
+    @Test
+    void getOutputUi_missingOrUnknownOutputMode_throwsException() {
+        MainException missingThrown = assertThrows(MainException.class, () ->
+                Main.getOutputUi(new String[] {"--output"}));
+        assertEquals("--output must be followed by text or jsonl", missingThrown.getMessage());
+        MainException unknownThrown = assertThrows(MainException.class, () ->
+                Main.getOutputUi(new String[] {"--output", "xml"}));
+        assertEquals("--output must be either text or jsonl", unknownThrown.getMessage());
+    }
+}
@@ -7,8 +7,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.Calendar;
 
 import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.transaction.Expenditure;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
@@ -588,4 +590,25 @@ class BankListTest {
                 + "---------------------------------" + NEWLINE;
         assertEquals(outputMessage, outContent.toString());
     }
+
+    @Test
+    void bankListUpdateRecurringTransactions_oneAccountDue_updatesDueAccountOnce() throws BankException {
+        BankList testList = new BankList(new Storage("data/"));
+        Ui testUi = new Ui();
+        Saving dueBank = new Saving("due", 100, 100);
+        Saving idleBank = new Saving("idle", 200, 100);
+        testList.bankListImportNewBank(dueBank);
+        testList.bankListImportNewBank(idleBank);
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.MONTH, -1);
+        testList.bankListImportNewRecurringExpenditure("due",
+                new Expenditure("rent", 10, calendar.getTime(), "Bills"));
+
+        testList.bankListUpdateRecurringTransactions(testUi);
+        assertEquals(80, dueBank.getCurrentAmount());
+        assertEquals(200, idleBank.getCurrentAmount());
+
+        testList.bankListUpdateRecurringTransactions(testUi);
+        assertEquals(80, dueBank.getCurrentAmount());
+    }
 }
@@ -303,6 +303,22 @@ class InvestmentTest {
         assertEquals(actualMessage,expectedMessage);
     }
 
+    @Test
+    void updateRecurringTransaction_bondsYearsBehind_creditsAllAndRemovesMatureBonds() throws BankException {
+        Ui uiTest = new Ui();
+        Calendar calendarTestDate = Calendar.getInstance();
+        calendarTestDate.add(Calendar.YEAR,-5);
+        Date testDate = calendarTestDate.getTime();
+        Bank testInvestment = new Investment("DBB VICKERS", 10000);
+        testInvestment.addBondToInvestmentAccount(new Bond("TEST BOND 0", 1000, 2.0, testDate, 1), uiTest);
+        testInvestment.addBondToInvestmentAccount(new Bond("TEST BOND 1", 2000, 1.0, testDate, 2), uiTest);
+        assertEquals(true, testInvestment.updateRecurringTransactions(uiTest));
+        assertEquals(13060, testInvestment.getCurrentAmount());
+        assertThrows(BondException.class, () -> testInvestment.investmentGetBond("TEST BOND 0"));
+        assertThrows(BondException.class, () -> testInvestment.investmentGetBond("TEST BOND 1"));
+        assertEquals(false, testInvestment.updateRecurringTransactions(uiTest));
+    }
+
     //Tests function for find feature.
     @Test
     void findBondInInvestment_bondNameThatExist_success() {
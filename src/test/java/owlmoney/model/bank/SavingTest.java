@@ -220,10 +220,11 @@ class SavingTest {
             System.out.println("Expects success but error was thrown");
         }
         String outputMessage = "Transaction No.      Description                                             "
-                + "Amount          Next Expense Date    Category             " + NEWLINE + "-----------------"
+                + "Amount          Next Expense Date    Category             "
+                + "Repeats         " + NEWLINE + "-----------------"
                 + "------------------------------------------------------------------------------------------"
                 + "----------------------" + NEWLINE + "1                    testExpenditure                 "
-                + "                        [-] $10.00      28 September 2019    testExpenditure      "
+                + "                        [-] $10.00      28 September 2019    testExpenditure      monthly         "
                 + NEWLINE + "--------------------------------------------------------------------------------"
                 + "-------------------------------------------------" + NEWLINE;
         assertEquals(outputMessage, outContent.toString());
@@ -252,10 +253,11 @@ class SavingTest {
             System.out.println("Expects success but error was thrown");
         }
         String outputMessage = "Transaction No.      Description                                             "
-                + "Amount          Next Expense Date    Category             " + NEWLINE + "-----------------"
+                + "Amount          Next Expense Date    Category             "
+                + "Repeats         " + NEWLINE + "-----------------"
                 + "------------------------------------------------------------------------------------------"
                 + "----------------------" + NEWLINE + "1                    testExpenditure                 "
-                + "                        [-] $10.00      28 September 2019    testExpenditure      "
+                + "                        [-] $10.00      28 September 2019    testExpenditure      monthly         "
                 + NEWLINE + "--------------------------------------------------------------------------------"
                 + "-------------------------------------------------" + NEWLINE;
         assertEquals(outputMessage, outContent.toString());
@@ -291,7 +293,7 @@ class SavingTest {
             System.out.println("Expects success but error was thrown");
         }
         try {
-            savingTest.savingEditRecurringExpenditure(1, "editExpenditure", "25.25", "editExpenditure", testUi);
+            savingTest.savingEditRecurringExpenditure(1, "editExpenditure", "25.25", "editExpenditure", null, testUi);
         } catch (TransactionException errorMessage) {
             System.out.println("Expects success but error was thrown");
         }
@@ -303,10 +305,11 @@ class SavingTest {
             System.out.println("Expects success but error was thrown");
         }
         String outputMessage = "Transaction No.      Description                                             "
-                + "Amount          Next Expense Date    Category             " + NEWLINE + "-----------------"
+                + "Amount          Next Expense Date    Category             "
+                + "Repeats         " + NEWLINE + "-----------------"
                 + "------------------------------------------------------------------------------------------"
                 + "----------------------" + NEWLINE + "1                    editExpenditure                 "
-                + "                        [-] $25.25      28 September 2019    editExpenditure      "
+                + "                        [-] $25.25      28 September 2019    editExpenditure      monthly         "
                 + NEWLINE + "--------------------------------------------------------------------------------"
                 + "-------------------------------------------------" + NEWLINE;
         assertEquals(outputMessage, outContent.toString());
@@ -330,6 +333,38 @@ class SavingTest {
         assertEquals(80, savingTest.getCurrentAmount());
     }
 
+    @Test
+    void savingUpdateRecurringTransactions_yearOffline_catchesUpUntilBalanceRunsOut() {
+        Ui testUi = new Ui();
+        Saving savingTest = new Saving("test", 100, 0);
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.setTime(new Date());
+        calendar.add(Calendar.MONTH, -12);
+        try {
+            savingTest.savingAddRecurringExpenditure(
+                    new Expenditure("testExpenditure", 30, calendar.getTime(), "testExpenditure"), testUi);
+        } catch (TransactionException errorMessage) {
+            System.out.println("Expects success but error was thrown");
+        }
+        assertEquals(true, savingTest.updateRecurringTransactions(testUi));
+        assertEquals(10, savingTest.getCurrentAmount());
+        assertEquals(false, savingTest.updateRecurringTransactions(testUi));
+    }
+
+    @Test
+    void savingUpdateRecurringTransactions_savedNextIncomeDate_creditsMissedIncomeOnce() {
+        Ui testUi = new Ui();
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.MONTH, -2);
+        calendar.add(Calendar.DATE, 1);
+        Saving savingTest = new Saving("test", 100, 50, calendar.getTime());
+        assertEquals(true, savingTest.updateRecurringTransactions(testUi));
+        assertEquals(200, savingTest.getCurrentAmount());
+        assertEquals(false, savingTest.updateRecurringTransactions(testUi));
+        assertEquals(200, savingTest.getCurrentAmount());
+    }
+
     //Tests function for find feature.
     @Test
     void findBondInInvestment_useOnSavingAccount_throwsException() {
@@ -0,0 +1,69 @@
+package owlmoney.model.budget;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import owlmoney.model.budget.exception.BudgetException;
+import owlmoney.model.transaction.Expenditure;
+import owlmoney.model.transaction.Transaction;
+import owlmoney.model.transaction.TransactionListener;
+import owlmoney.storage.Storage;
+import owlmoney.ui.Ui;
+
+class BudgetListTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    void addBudget_duplicateCategory_throwsException() {
+        BudgetList testList = new BudgetList(new Storage("data/"));
+        Ui testUi = new Ui();
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            testList.addBudget(new Budget("food", 100, new ArrayList<>()), testUi);
+        } catch (BudgetException err) {
+            System.out.println("Expects success but error was thrown");
+        }
+        BudgetException thrown = assertThrows(BudgetException.class, () ->
+                testList.addBudget(new Budget("FOOD", 50, new ArrayList<>()), testUi));
+        assertEquals("There is already a budget for the category FOOD", thrown.toString());
+    }
+
+    @Test
+    void updateSpent_addedThenRemoved_tracksOnlyListedAccounts() {
+        BudgetList testList = new BudgetList(new Storage("data/"));
+        Budget testBudget = new Budget("food", 100, List.of("DBS"));
+        testList.importBudget(testBudget);
+        Transaction lunch = new Expenditure("lunch", 12.3, new Date("10/10/2019"), "Food");
+        YearMonth october = YearMonth.of(2019, 10);
+        testList.updateSpent("DBS", lunch, TransactionListener.ADDED);
+        testList.updateSpent("OCBC", lunch, TransactionListener.ADDED);
+        assertEquals(1230, testBudget.getSpentCents(october));
+        testList.updateSpent("DBS", lunch, TransactionListener.REMOVED);
+        assertEquals(0, testBudget.getSpentCents(october));
+    }
+
+    @Test
+    void printAlerts_crossingEightyPercent_printsWarningOnce() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        BudgetList testList = new BudgetList(new Storage("data/"));
+        testList.importBudget(new Budget("food", 10, new ArrayList<>()));
+        Ui testUi = new Ui();
+        for (double amount : new double[] {7, 1.5, 0.5}) {
+            Transaction meal = new Expenditure("meal", amount, new Date("10/10/2019"), "food");
+            testList.updateSpent("DBS", meal, TransactionListener.ADDED);
+            testList.printAlerts("DBS", meal, testUi);
+        }
+        assertEquals("Warning: you have used 80% of your food budget for October 2019 ($8.50 of $10.00)"
+                + NEWLINE, outContent.toString());
+    }
+}
@@ -1,7 +1,9 @@
 package owlmoney.model.card;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -9,6 +11,9 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Date;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,7 +33,8 @@ public class CardTest {
             + "Amount          Date                 Category             " + NEWLINE;
     private static final String HEADER_LIST_EXPENDITURE = "Transaction No.      "
             + "Description                                             "
-            + "Amount          Date                 Category             " + NEWLINE;
+            + "Amount          Date                 Category             "
+            + "ID         " + NEWLINE;
     private static final String HEADER_EDIT_EXPENDITURE = "Edited details of the specified expenditure:"
             + NEWLINE + "Item No.             Description                                             "
             + "Amount          Date                 Category             " + NEWLINE;
@@ -142,9 +148,11 @@ public class CardTest {
         }
         String expectedOutput = HEADER_LIST_EXPENDITURE + DIVIDER
                 + "2                    Curry Rice                                              "
-                + "[-] $200.00     06 June 2019         Food                 " + NEWLINE
+                + "[-] $200.00     06 June 2019         Food                 "
+                + "2          " + NEWLINE
                 + "1                    Chicken Rice                                            "
-                + "[-] $100.00     05 June 2019         Food                 " + NEWLINE
+                + "[-] $100.00     05 June 2019         Food                 "
+                + "1          " + NEWLINE
                 + DIVIDER;
 
         assertEquals(expectedOutput, outContent.toString());
@@ -170,7 +178,8 @@ public class CardTest {
         }
         String expectedOutput = HEADER_LIST_EXPENDITURE + DIVIDER
                 + "2                    Curry Rice                                              "
-                + "[-] $200.00     06 June 2019         Food                 " + NEWLINE
+                + "[-] $200.00     06 June 2019         Food                 "
+                + "2          " + NEWLINE
                 + DIVIDER;
         assertEquals(expectedOutput, outContent.toString());
         outContent.reset();
@@ -485,13 +494,16 @@ public class CardTest {
                 dateFormat.parse("10/07/2019"), "Food");
         String expectedOutput = HEADER_LIST_EXPENDITURE + DIVIDER
                 + "1                    Fried Rice                                              "
-                + "[-] $300.00     10 July 2019         Food                 " + NEWLINE
+                + "[-] $300.00     10 July 2019         Food                 "
+                + "3          " + NEWLINE
                 + DIVIDER
                 + HEADER_LIST_EXPENDITURE + DIVIDER
                 + "2                    Curry Rice                                              "
-                + "[-] $200.00     06 June 2019         Food                 " + NEWLINE
+                + "[-] $200.00     06 June 2019         Food                 "
+                + "2          " + NEWLINE
                 + "1                    Chicken Rice                                            "
-                + "[-] $100.00     05 June 2019         Food                 " + NEWLINE
+                + "[-] $100.00     05 June 2019         Food                 "
+                + "1          " + NEWLINE
                 + DIVIDER;
 
         try {
@@ -521,11 +533,14 @@ public class CardTest {
                 dateFormat.parse("10/07/2019"), "Food");
         String expectedOutput = HEADER_LIST_EXPENDITURE + DIVIDER
                 + "3                    Fried Rice                                              "
-                + "[-] $300.00     10 July 2019         Food                 " + NEWLINE
+                + "[-] $300.00     10 July 2019         Food                 "
+                + "3          " + NEWLINE
                 + "2                    Curry Rice                                              "
-                + "[-] $200.00     06 June 2019         Food                 " + NEWLINE
+                + "[-] $200.00     06 June 2019         Food                 "
+                + "2          " + NEWLINE
                 + "1                    Chicken Rice                                            "
-                + "[-] $100.00     05 June 2019         Food                 " + NEWLINE
+                + "[-] $100.00     05 June 2019         Food                 "
+                + "1          " + NEWLINE
                 + DIVIDER;
         try {
             testCard.addInExpenditure(newExpenditure1, testUi, "card");
@@ -575,13 +590,16 @@ public class CardTest {
                 dateFormat.parse("10/07/2019"), "Food");
         String expectedOutput = HEADER_LIST_EXPENDITURE + DIVIDER
                 + "2                    Curry Rice                                              "
-                + "[-] $200.00     06 June 2019         Food                 " + NEWLINE
+                + "[-] $200.00     06 June 2019         Food                 "
+                + "2          " + NEWLINE
                 + "1                    Chicken Rice                                            "
-                + "[-] $100.00     05 June 2019         Food                 " + NEWLINE
+                + "[-] $100.00     05 June 2019         Food                 "
+                + "1          " + NEWLINE
                 + DIVIDER
                 + HEADER_LIST_EXPENDITURE + DIVIDER
                 + "1                    Fried Rice                                              "
-                + "[-] $300.00     10 July 2019         Food                 " + NEWLINE
+                + "[-] $300.00     10 July 2019         Food                 "
+                + "3          " + NEWLINE
                 + DIVIDER;
         try {
             testCard.addInPaidExpenditure(newExpenditure1, testUi, "card");
@@ -610,11 +628,14 @@ public class CardTest {
                 dateFormat.parse("10/07/2019"), "Food");
         String expectedOutput = HEADER_LIST_EXPENDITURE + DIVIDER
                 + "3                    Fried Rice                                              "
-                + "[-] $300.00     10 July 2019         Food                 " + NEWLINE
+                + "[-] $300.00     10 July 2019         Food                 "
+                + "3          " + NEWLINE
                 + "2                    Curry Rice                                              "
-                + "[-] $200.00     06 June 2019         Food                 " + NEWLINE
+                + "[-] $200.00     06 June 2019         Food                 "
+                + "2          " + NEWLINE
                 + "1                    Chicken Rice                                            "
-                + "[-] $100.00     05 June 2019         Food                 " + NEWLINE
+                + "[-] $100.00     05 June 2019         Food                 "
+                + "1          " + NEWLINE
                 + DIVIDER;
         try {
             testCard.addInPaidExpenditure(newExpenditure1, testUi, "card");
@@ -651,5 +672,56 @@ public class CardTest {
                         + "because there are no transactions in the card, but it did not throw");
         assertEquals("There are no expenditures in this card.", exception.toString());
     }
-}
 
+    @Test
+    void updateRecurringTransactions_monthsOffline_addsOneExpenditurePerMonth() {
+        Card testCard = new Card("Test Card", 100, 0.05);
+        Ui testUi = new Ui();
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.MONTH, -3);
+        calendar.add(Calendar.MINUTE, -1);
+        try {
+            testCard.cardAddRecurringExpenditure(
+                    new Expenditure("Streaming", 30, calendar.getTime(), "Entertainment"), testUi);
+        } catch (TransactionException error) {
+            System.out.println("Expected no exceptions, but exception thrown: " + error.getMessage());
+        }
+        assertEquals(true, testCard.updateRecurringTransactions(testUi));
+        assertEquals(30, testCard.getUnpaidBillAmount(YearMonth.now()));
+        assertEquals(30, testCard.getUnpaidBillAmount(YearMonth.now().minusMonths(3)));
+        assertEquals(false, testCard.updateRecurringTransactions(testUi));
+        assertEquals(30, testCard.getUnpaidBillAmount(YearMonth.now()));
+    }
+
+    @Test
+    void updateRecurringTransactions_exceedsMonthLimit_skipsThatMonthOnly() {
+        System.setOut(new PrintStream(outContent));
+        Card testCard = new Card("Test Card", 50, 0.05);
+        Ui testUi = new Ui();
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.MINUTE, -1);
+        Date thisMonthDate = calendar.getTime();
+        calendar.add(Calendar.MONTH, -1);
+        Date lastMonthDate = calendar.getTime();
+        try {
+            testCard.addInExpenditure(new Expenditure("Groceries", 40, thisMonthDate, "Food"), testUi, "card");
+            testCard.cardAddRecurringExpenditure(
+                    new Expenditure("Streaming", 20, lastMonthDate, "Entertainment"), testUi);
+        } catch (CardException | TransactionException error) {
+            System.out.println("Expected no exceptions, but exception thrown: " + error.getMessage());
+        }
+        assertEquals(true, testCard.updateRecurringTransactions(testUi));
+        YearMonth thisMonth = YearMonth.from(thisMonthDate.toInstant().atZone(ZoneId.systemDefault()));
+        assertEquals(20, testCard.getUnpaidBillAmount(thisMonth.minusMonths(1)));
+        assertEquals(40, testCard.getUnpaidBillAmount(thisMonth));
+        calendar.setTime(thisMonthDate);
+        calendar.add(Calendar.MONTH, 1);
+        assertEquals(calendar.getTime(), testCard.getNextDueDate());
+        assertTrue(outContent.toString().contains("Skipped recurring expenditure Streaming"));
+
+        outContent.reset();
+        assertFalse(testCard.updateRecurringTransactions(testUi));
+        assertEquals(40, testCard.getUnpaidBillAmount(thisMonth));
+        assertEquals("", outContent.toString());
+    }
+}
@@ -0,0 +1,49 @@
+package owlmoney.model.event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+
+import owlmoney.model.bank.Saving;
+
+class EventBusTest {
+
+    @Test
+    void publish_duringBatch_deliversImmediatelyAndCoalescesBatched() {
+        EventBus testBus = new EventBus();
+        ArrayList<String> immediate = new ArrayList<>();
+        ArrayList<String> batched = new ArrayList<>();
+        testBus.subscribe(BalanceChangedEvent.class, event -> immediate.add(event.getBank().getAccountName()));
+        testBus.subscribeBatched(BalanceChangedEvent.class, event -> batched.add(event.getBank().getAccountName()));
+        Saving first = new Saving("FIRST", 1000, 100);
+        Saving second = new Saving("SECOND", 1000, 100);
+
+        testBus.beginBatch();
+        testBus.beginBatch();
+        testBus.publish(new BalanceChangedEvent(first));
+        testBus.publish(new BalanceChangedEvent(second));
+        testBus.publish(new BalanceChangedEvent(first));
+        testBus.endBatch();
+        assertEquals(3, immediate.size());
+        assertEquals(0, batched.size());
+
+        testBus.endBatch();
+        assertEquals(2, batched.size());
+        assertEquals("FIRST", batched.get(0));
+        assertEquals("SECOND", batched.get(1));
+    }
+
+    @Test
+    void publish_outsideBatch_deliversToBatchedHandlersAtOnce() {
+        EventBus testBus = new EventBus();
+        ArrayList<String> renamed = new ArrayList<>();
+        testBus.subscribeBatched(AccountRenamedEvent.class, event -> renamed.add(event.getNewName()));
+        testBus.endBatch();
+
+        testBus.publish(new AccountRenamedEvent("OLD", "NEW", "saving"));
+        assertEquals(1, renamed.size());
+        assertEquals("NEW", renamed.get(0));
+    }
+}
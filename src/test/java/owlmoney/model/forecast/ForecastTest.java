@@ -0,0 +1,46 @@
+package owlmoney.model.forecast;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.YearMonth;
+import java.util.Date;
+
+import owlmoney.ui.JsonLinesUi;
+
+class ForecastTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    void getLastOccurrence_halfYearlyUntilEndDate_returnsMonthOfLastCoupon() {
+        Date firstCoupon = new Date("01/10/2020");
+        assertEquals(YearMonth.of(2025, 1), Forecast.getLastOccurrence(firstCoupon, new Date("01/10/2025"),
+                Forecast.HALF_YEARLY));
+        assertEquals(YearMonth.of(2024, 7), Forecast.getLastOccurrence(firstCoupon, new Date("01/09/2025"),
+                Forecast.HALF_YEARLY));
+        assertNull(Forecast.getLastOccurrence(firstCoupon, new Date("01/09/2020"), Forecast.HALF_YEARLY));
+    }
+
+    @Test
+    void printForecast_monthlyAndOnce_printsMonthEndBalances() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        YearMonth currentMonth = YearMonth.now();
+        Forecast testForecast = new Forecast();
+        testForecast.addAccount("DBS", 100);
+        testForecast.addSchedule("DBS", new Date(), null, Forecast.MONTHLY, 10.5);
+        testForecast.addOnce("DBS", currentMonth.plusMonths(1), -50);
+        testForecast.printForecast(3, new JsonLinesUi());
+        assertEquals("{\"type\":\"forecast\",\"month\":\"" + currentMonth + "\",\"account\":\"DBS\","
+                + "\"moneyInCents\":1050,\"moneyOutCents\":0,\"balanceCents\":11050}" + NEWLINE
+                + "{\"type\":\"forecast\",\"month\":\"" + currentMonth.plusMonths(1) + "\",\"account\":\"DBS\","
+                + "\"moneyInCents\":1050,\"moneyOutCents\":5000,\"balanceCents\":7100}" + NEWLINE
+                + "{\"type\":\"forecast\",\"month\":\"" + currentMonth.plusMonths(2) + "\",\"account\":\"DBS\","
+                + "\"moneyInCents\":1050,\"moneyOutCents\":0,\"balanceCents\":8150}" + NEWLINE,
+                outContent.toString());
+    }
+}
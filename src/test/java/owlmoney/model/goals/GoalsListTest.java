@@ -2,7 +2,11 @@ package owlmoney.model.goals;
 
 import org.junit.jupiter.api.Test;
 import owlmoney.model.bank.Saving;
+import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.event.EventBus;
 import owlmoney.model.goals.exception.GoalsException;
+import owlmoney.model.transaction.Expenditure;
+import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
@@ -109,4 +113,29 @@ public class GoalsListTest {
                 "Expected to deleteFromGoalsList to throw, but didn't");
         assertEquals("There is no goal with the name: test3", thrown.toString());
     }
+
+    @Test
+    void balanceChanged_tiedSavingReachesTarget_updatesRemainingAndAchieves() throws GoalsException,
+            BankException, TransactionException {
+        GoalsList testList = new GoalsList(new Storage("data/"));
+        Ui testUi = new Ui();
+        Saving newSaving = new Saving("TEST SAVING", 1000, 100);
+        EventBus testBus = new EventBus();
+        testList.listenTo(testBus);
+        newSaving.setEventBus(testBus);
+        Goals newGoals = new Goals("TEST", 1200, new Date("10/10/2020"), newSaving);
+        testList.addToGoals(newGoals, testUi);
+        assertEquals(200, newGoals.getRawRemainingAmount());
+
+        newSaving.addInExpenditure(new Expenditure("lunch", 300, new Date("10/10/2019"), "Food"), testUi, "bank");
+        assertEquals(500, newGoals.getRawRemainingAmount());
+
+        testList.editGoals("TEST", "800", null, "", null, testUi);
+        assertEquals(100, newGoals.getRawRemainingAmount());
+        assertEquals(false, newGoals.getRawStatus());
+
+        newSaving.deleteExpenditure(1, testUi);
+        assertEquals(0, newGoals.getRawRemainingAmount());
+        assertEquals(true, newGoals.getRawStatus());
+    }
 }
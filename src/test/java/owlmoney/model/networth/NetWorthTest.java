@@ -0,0 +1,47 @@
+package owlmoney.model.networth;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import owlmoney.ui.JsonLinesUi;
+
+class NetWorthTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    void printNetWorth_everyType_printsTotalsCashPositionAndNetWorth() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        NetWorth testNetWorth = new NetWorth();
+        testNetWorth.addHolding(new Object(), 0, NetWorth.SAVING, () -> 100010);
+        testNetWorth.addHolding(new Object(), 0, NetWorth.SAVING, () -> 20);
+        testNetWorth.addHolding(new Object(), 0, NetWorth.INVESTMENT, () -> 5000);
+        testNetWorth.addHolding(new Object(), 0, NetWorth.BONDS, () -> 100000);
+        testNetWorth.addHolding(new Object(), 0, NetWorth.CARD, () -> 2530);
+        testNetWorth.printNetWorth(new JsonLinesUi());
+        assertEquals("{\"type\":\"networth\",\"savingsCents\":100030,\"investmentCents\":5000,\"bondCents\":100000,"
+                + "\"unpaidCardCents\":2530,\"cashPositionCents\":102500,\"netWorthCents\":202500}" + NEWLINE,
+                outContent.toString());
+    }
+
+    @Test
+    void printNetWorth_unchangedVersion_reusesEarlierCalculation() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        NetWorth testNetWorth = new NetWorth();
+        Object testAccount = new Object();
+        AtomicInteger calculations = new AtomicInteger();
+        for (int version : new int[] {1, 1, 2, 2}) {
+            testNetWorth.addHolding(testAccount, version, NetWorth.SAVING, () -> {
+                calculations.incrementAndGet();
+                return 100;
+            });
+            testNetWorth.printNetWorth(new JsonLinesUi());
+        }
+        assertEquals(2, calculations.get());
+    }
+}
@@ -0,0 +1,145 @@
+package owlmoney.model.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import owlmoney.ui.Ui;
+
+class AutoUpdaterTest {
+    private static final long NOW = 1_000_000L;
+
+    /**
+     * Records the delay of every update scheduled on it.
+     */
+    private static class RecordingExecutor extends ScheduledThreadPoolExecutor {
+        private final ArrayList<Long> delays = new ArrayList<>();
+        private final ArrayList<ScheduledFuture<?>> futures = new ArrayList<>();
+
+        RecordingExecutor() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            ScheduledFuture<?> future = super.schedule(command, delay, unit);
+            delays.add(unit.toMillis(delay));
+            futures.add(future);
+            return future;
+        }
+    }
+
+    /**
+     * Profile whose next due date is set by the test and whose updates are only counted.
+     */
+    private static class ProfileStub extends Profile {
+        private Date nextDueDate;
+        private final AtomicInteger updateCount = new AtomicInteger();
+        private final CountDownLatch updated = new CountDownLatch(1);
+
+        ProfileStub(Ui ui) {
+            super("Test User", ui);
+        }
+
+        @Override
+        Date profileGetNextDueDate() {
+            return nextDueDate;
+        }
+
+        @Override
+        void profileUpdateDueTransactions(Ui ui) {
+            updateCount.incrementAndGet();
+            nextDueDate = null;
+            updated.countDown();
+        }
+    }
+
+    @Test
+    void reschedule_nextDueDateChanges_updateScheduledAtLatestDueDate() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        Ui uiTest = new Ui();
+        ProfileStub profileTest = new ProfileStub(uiTest);
+        RecordingExecutor executor = new RecordingExecutor();
+        AutoUpdater autoUpdater = new AutoUpdater(profileTest, uiTest, executor, () -> NOW);
+        try {
+            profileTest.nextDueDate = new Date(NOW + 5000);
+            autoUpdater.reschedule();
+            assertEquals(1, executor.delays.size());
+            assertEquals(5000L, (long) executor.delays.get(0));
+
+            autoUpdater.reschedule();
+            assertEquals(1, executor.delays.size());
+
+            profileTest.nextDueDate = new Date(NOW + 2000);
+            autoUpdater.reschedule();
+            assertEquals(2, executor.delays.size());
+            assertEquals(2000L, (long) executor.delays.get(1));
+            assertTrue(executor.futures.get(0).isCancelled());
+
+            profileTest.nextDueDate = null;
+            autoUpdater.reschedule();
+            assertEquals(2, executor.delays.size());
+            assertTrue(executor.futures.get(1).isCancelled());
+            assertEquals(0, profileTest.updateCount.get());
+        } finally {
+            autoUpdater.stop();
+        }
+    }
+
+    @Test
+    void update_commandHoldsLock_updateWaitsUntilCommandEnds() throws InterruptedException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        Ui uiTest = new Ui();
+        ProfileStub profileTest = new ProfileStub(uiTest);
+        RecordingExecutor executor = new RecordingExecutor();
+        AutoUpdater autoUpdater = new AutoUpdater(profileTest, uiTest, executor, () -> NOW);
+        try {
+            profileTest.profileBeginCommand();
+            try {
+                profileTest.nextDueDate = new Date(NOW - 1000);
+                autoUpdater.reschedule();
+                assertEquals(0L, (long) executor.delays.get(0));
+                assertFalse(profileTest.updated.await(200, TimeUnit.MILLISECONDS));
+                assertEquals(0, profileTest.updateCount.get());
+            } finally {
+                profileTest.profileEndCommand();
+            }
+            assertTrue(profileTest.updated.await(5, TimeUnit.SECONDS));
+            assertEquals(1, profileTest.updateCount.get());
+        } finally {
+            autoUpdater.stop();
+        }
+    }
+
+    @Test
+    void stop_updateScheduled_executorShutDownWithoutUpdating() throws InterruptedException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        Ui uiTest = new Ui();
+        ProfileStub profileTest = new ProfileStub(uiTest);
+        RecordingExecutor executor = new RecordingExecutor();
+        AutoUpdater autoUpdater = new AutoUpdater(profileTest, uiTest, executor, () -> NOW);
+        profileTest.nextDueDate = new Date(NOW + 60000);
+        autoUpdater.reschedule();
+
+        autoUpdater.stop();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, profileTest.updateCount.get());
+
+        profileTest.nextDueDate = new Date(NOW + 1000);
+        autoUpdater.reschedule();
+        assertEquals(1, executor.delays.size());
+        assertEquals(0, profileTest.updateCount.get());
+    }
+}
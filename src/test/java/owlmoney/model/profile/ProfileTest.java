@@ -1,10 +1,16 @@
 package owlmoney.model.profile;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -18,11 +24,17 @@ import owlmoney.model.bank.Saving;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.Bond;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.card.Card;
+import owlmoney.model.card.exception.CardException;
+import owlmoney.model.profile.exception.ProfileException;
+import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
 class ProfileTest {
     private static final String NEWLINE = System.lineSeparator();
     private static final DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
+    private static final String FILE_PATH = "data/";
+    private static final Path CARD_LIST_FILE = Paths.get(FILE_PATH + "profile_cardlist.csv");
 
     //Tests function for transfer feature.
     @Test
@@ -261,4 +273,90 @@ class ProfileTest {
                 thrown.getMessage());
 
     }
+
+    /**
+     * Checks if the card list saved on disk has a card with the specified name, ignoring any deferred writes.
+     */
+    private static boolean isCardSavedOnDisk(String cardName) throws IOException {
+        if (!Files.exists(CARD_LIST_FILE)) {
+            return false;
+        }
+        return Files.readAllLines(CARD_LIST_FILE).stream().anyMatch(line -> line.startsWith(cardName + ","));
+    }
+
+    @Test
+    void profileCommitTransaction_cardAdded_savedToDiskOnlyOnCommit()
+            throws IOException, CardException, ProfileException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        Ui uiTest = new Ui();
+        new Storage(FILE_PATH).createDirectoryIfNotExist(FILE_PATH);
+        Profile profileTest = new Profile("Test User", uiTest);
+        profileTest.profileBeginTransaction(uiTest);
+        try {
+            profileTest.profileAddNewCard(new Card("Commit Test Card", 1000, 1), uiTest);
+            assertTrue(profileTest.profileIsInTransaction());
+            assertFalse(isCardSavedOnDisk("Commit Test Card"));
+        } finally {
+            profileTest.profileCommitTransaction(uiTest);
+        }
+        assertFalse(profileTest.profileIsInTransaction());
+        assertFalse(new Storage(FILE_PATH).isDeferringWrites());
+        assertTrue(isCardSavedOnDisk("Commit Test Card"));
+
+        Profile reloadedProfile = new Profile("Test User", uiTest);
+        assertEquals(1, reloadedProfile.getCardRebateAmount("Commit Test Card"));
+        reloadedProfile.profileDeleteCard("Commit Test Card", uiTest);
+        assertFalse(isCardSavedOnDisk("Commit Test Card"));
+    }
+
+    @Test
+    void profileRollbackTransaction_cardAdded_profileReloadedFromDisk()
+            throws IOException, CardException, ProfileException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        Ui uiTest = new Ui();
+        new Storage(FILE_PATH).createDirectoryIfNotExist(FILE_PATH);
+        Profile profileTest = new Profile("Test User", uiTest);
+        profileTest.profileBeginTransaction(uiTest);
+        try {
+            profileTest.profileAddNewCard(new Card("Rollback Test Card", 1000, 1), uiTest);
+            assertEquals(1, profileTest.getCardRebateAmount("Rollback Test Card"));
+        } finally {
+            profileTest.profileRollbackTransaction(uiTest);
+        }
+        assertFalse(profileTest.profileIsInTransaction());
+        assertFalse(new Storage(FILE_PATH).isDeferringWrites());
+        CardException thrown = assertThrows(CardException.class, () ->
+                profileTest.getCardRebateAmount("Rollback Test Card"));
+        assertEquals("Credit card Rollback Test Card does not exist!", thrown.getMessage());
+        assertFalse(isCardSavedOnDisk("Rollback Test Card"));
+    }
+
+    @Test
+    void profileBeginTransaction_nestedOrUnbalancedCalls_throwsExceptionAndKeepsDeferral()
+            throws IOException, ProfileException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        Ui uiTest = new Ui();
+        Profile profileTest = new Profile("Test User", uiTest);
+        Storage storage = new Storage(FILE_PATH);
+        ProfileException commitThrown = assertThrows(ProfileException.class, () ->
+                profileTest.profileCommitTransaction(uiTest));
+        assertEquals("There is no transaction to commit, use /begin first", commitThrown.getMessage());
+        ProfileException rollbackThrown = assertThrows(ProfileException.class, () ->
+                profileTest.profileRollbackTransaction(uiTest));
+        assertEquals("There is no transaction to roll back, use /begin first", rollbackThrown.getMessage());
+
+        profileTest.profileBeginTransaction(uiTest);
+        try {
+            ProfileException beginThrown = assertThrows(ProfileException.class, () ->
+                    profileTest.profileBeginTransaction(uiTest));
+            assertEquals("A transaction has already begun, use /commit or /rollback to end it first",
+                    beginThrown.getMessage());
+            storage.deferWrites();
+            assertEquals(0, storage.resumeWrites());
+            assertTrue(storage.isDeferringWrites());
+        } finally {
+            profileTest.profileRollbackTransaction(uiTest);
+        }
+        assertFalse(storage.isDeferringWrites());
+    }
 }
@@ -0,0 +1,47 @@
+package owlmoney.model.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+class RecurrenceRuleTest {
+    private static final SimpleDateFormat FORMAT = new SimpleDateFormat("dd/MM/yyyy");
+
+    @Test
+    void countOccurrences_weeklyOverOneYear_fiftyThreeOccurrences() throws Exception {
+        Date first = FORMAT.parse("01/01/2019");
+        assertEquals(53, RecurrenceRule.WEEKLY.countOccurrences(first, FORMAT.parse("31/12/2019")));
+        assertEquals(52, RecurrenceRule.WEEKLY.countOccurrences(first, FORMAT.parse("30/12/2019")));
+        assertEquals(0, RecurrenceRule.WEEKLY.countOccurrences(first, FORMAT.parse("31/12/2018")));
+        assertEquals(FORMAT.parse("31/12/2019"), RecurrenceRule.WEEKLY.getOccurrence(first, 52));
+    }
+
+    @Test
+    void getOccurrence_monthlyOnThirtyFirst_noDriftAfterShortMonths() throws Exception {
+        Date first = FORMAT.parse("31/01/2019");
+        assertEquals(FORMAT.parse("28/02/2019"), RecurrenceRule.MONTHLY.getOccurrence(first, 1));
+        assertEquals(FORMAT.parse("31/03/2019"), RecurrenceRule.MONTHLY.getOccurrence(first, 2));
+        assertEquals(3, RecurrenceRule.MONTHLY.countOccurrences(first, FORMAT.parse("31/03/2019")));
+        assertEquals(2, RecurrenceRule.MONTHLY.countOccurrences(first, FORMAT.parse("30/03/2019")));
+    }
+
+    @Test
+    void getOccurrence_lastBusinessDay_skipsWeekends() throws Exception {
+        Date first = RecurrenceRule.LAST_BUSINESS_DAY.alignFirstOccurrence(FORMAT.parse("01/08/2019"));
+        assertEquals(FORMAT.parse("30/08/2019"), first);
+        assertEquals(FORMAT.parse("30/09/2019"), RecurrenceRule.LAST_BUSINESS_DAY.getOccurrence(first, 1));
+        assertEquals(FORMAT.parse("29/11/2019"), RecurrenceRule.LAST_BUSINESS_DAY.getOccurrence(first, 3));
+        assertEquals(4, RecurrenceRule.LAST_BUSINESS_DAY.countOccurrences(first, FORMAT.parse("29/11/2019")));
+    }
+
+    @Test
+    void fromKeyword_anyCase_ruleOrNull() {
+        assertEquals(RecurrenceRule.FORTNIGHTLY, RecurrenceRule.fromKeyword("Fortnightly"));
+        assertEquals(RecurrenceRule.QUARTERLY, RecurrenceRule.everyMonths(3));
+        assertNull(RecurrenceRule.fromKeyword("daily"));
+    }
+}
@@ -33,10 +33,12 @@ class RecurringExpenditureListTest {
         DateFormat temp = new SimpleDateFormat("dd MMMM yyyy");
         String printedMessage = "Added expenditure with the following details:" + NEWLINE + "Item No.        "
                 + "     Description                                             Amount          Next Expense "
-                + "Date    Category             " + NEWLINE + "----------------------------------------------"
+                + "Date    Category             "
+                + "Repeats         " + NEWLINE + "----------------------------------------------"
                 + "-----------------------------------------------------------------------------------"
                 + NEWLINE + "1                    test                                                    [-]"
-                + " $1.00       " + temp.format(newDate) + "      test                 " + NEWLINE + "-------"
+                + " $1.00       " + temp.format(newDate) + "      test                 "
+                + "monthly         " + NEWLINE + "-------"
                 + "------------------------------------------------------------------------------------------"
                 + "--------------------------------" + NEWLINE;
         assertEquals(printedMessage, outContent.toString());
@@ -109,10 +111,12 @@ class RecurringExpenditureListTest {
         DateFormat temp = new SimpleDateFormat("dd MMMM yyyy");
         String deletedMessage = "Deleted expenditure with the following details:" + NEWLINE + "Item No.      "
                 + "       Description                                             Amount          Next "
-                + "Expense Date    Category             " + NEWLINE + "--------------------------------------"
+                + "Expense Date    Category             "
+                + "Repeats         " + NEWLINE + "--------------------------------------"
                 + "------------------------------------------------------------------------------------------"
                 + "-" + NEWLINE + "1                    test                                                 "
-                + "   [-] $1.00       " + temp.format(newDate) + "      test                 " + NEWLINE
+                + "   [-] $1.00       " + temp.format(newDate) + "      test                 "
+                + "monthly         " + NEWLINE
                 + "------------------------------------------------------------------------------------------"
                 + "---------------------------------------" + NEWLINE;
         assertEquals(deletedMessage, outContent.toString());
@@ -150,11 +154,13 @@ class RecurringExpenditureListTest {
         DateFormat temp = new SimpleDateFormat("dd MMMM yyyy");
 
         String outputMessage = "Transaction No.      Description                                             "
-                + "Amount          Next Expense Date    Category             " + NEWLINE + "-----------------"
+                + "Amount          Next Expense Date    Category             "
+                + "Repeats         " + NEWLINE + "-----------------"
                 + "------------------------------------------------------------------------------------------"
                 + "----------------------" + NEWLINE + "1                    test                            "
                 + "                        [-] $1.00       " + temp.format(newDate) + "      test            "
-                + "     " + NEWLINE + "----------------------------------------------------------------------"
+                + "     monthly         " + NEWLINE
+                + "----------------------------------------------------------------------"
                 + "-----------------------------------------------------------" + NEWLINE;
         assertEquals(outputMessage, outContent.toString());
     }
@@ -165,7 +171,7 @@ class RecurringExpenditureListTest {
         Ui testUi = new Ui();
         TransactionException thrown = assertThrows(TransactionException.class, () ->
                         testList.editRecurringExpenditure(
-                                1, "test2", "400", "test2", testUi),
+                                1, "test2", "400", "test2", null, testUi),
                 "Expected editRecurringExpenditure to throw, but it didn't");
         assertEquals("There are no recurring expenditures in this account", thrown.getMessage());
     }
@@ -182,7 +188,7 @@ class RecurringExpenditureListTest {
         }
         TransactionException thrown = assertThrows(TransactionException.class, () ->
                         testList.editRecurringExpenditure(
-                                6, "test2", "400", "test2", testUi),
+                                6, "test2", "400", "test2", null, testUi),
                 "Expected deleteRecurringExpenditure to throw, but it didn't");
         assertEquals("Index is out of transaction list range", thrown.getMessage());
     }
@@ -198,7 +204,7 @@ class RecurringExpenditureListTest {
             System.out.println("Expected no throw, but error thrown");
         }
         try {
-            testList.editRecurringExpenditure(1, "edit", "400", "edit", testUi);
+            testList.editRecurringExpenditure(1, "edit", "400", "edit", null, testUi);
         } catch (TransactionException errorMessage) {
             System.out.println("Expected no throw, but error thrown");
         }
@@ -6,13 +6,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
 
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.model.undo.Revertible;
+import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
 class TransactionListTest {
@@ -321,11 +327,13 @@ class TransactionListTest {
         }
         DateFormat temp = new SimpleDateFormat("dd MMMM yyyy");
         String outputMessage = "Transaction No.      Description                                             "
-                + "Amount          Date                 Category             " + NEWLINE + "-----------------"
+                + "Amount          Date                 Category             "
+                + "ID         " + NEWLINE + "-----------------"
                 + "------------------------------------------------------------------------------------------"
                 + "----------------------" + NEWLINE + "2                    test                            "
                 + "                        [+] $2.00       " + temp.format(newDate) + "      test            "
-                + "     " + NEWLINE + "----------------------------------------------------------------------"
+                + "     2          " + NEWLINE
+                + "----------------------------------------------------------------------"
                 + "-----------------------------------------------------------" + NEWLINE;
         assertEquals(outputMessage, outContent.toString());
     }
@@ -370,11 +378,126 @@ class TransactionListTest {
         }
         DateFormat temp = new SimpleDateFormat("dd MMMM yyyy");
         String outputMessage = "Transaction No.      Description                                             "
-                + "Amount          Date                 Category             " + NEWLINE + "-----------------"
+                + "Amount          Date                 Category             "
+                + "ID         " + NEWLINE + "-----------------"
                 + "------------------------------------------------------------------------------------------"
                 + "----------------------" + NEWLINE + "2                    test                            "
                 + "                        [-] $2.00       " + temp.format(newDate) + "      test            "
-                + "     " + NEWLINE + "----------------------------------------------------------------------"
+                + "     2          " + NEWLINE
+                + "----------------------------------------------------------------------"
+                + "-----------------------------------------------------------" + NEWLINE;
+        assertEquals(outputMessage, outContent.toString());
+    }
+
+    @Test
+    void listExpenditure_cursorAfterNewExpenditure_listNextOlderExpenditure() {
+        TransactionList testList = new TransactionList();
+        Ui testUi = new Ui();
+        Date newDate = new Date("10/26/2019");
+        for (int i = 1; i <= 3; i++) {
+            testList.addExpenditureToList(new Expenditure("test", i, newDate, "test"), testUi, "bank");
+        }
+        long cursor = PageRequest.NO_CURSOR;
+        try {
+            cursor = testList.listExpenditure(testUi, new PageRequest(1));
+        } catch (TransactionException errorMessage) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        testList.addExpenditureToList(new Expenditure("test", 4, newDate, "test"), testUi, "bank");
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        try {
+            testList.listExpenditure(testUi, new PageRequest(1, 1, cursor));
+        } catch (TransactionException errorMessage) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        DateFormat temp = new SimpleDateFormat("dd MMMM yyyy");
+        String outputMessage = "Transaction No.      Description                                             "
+                + "Amount          Date                 Category             "
+                + "ID         " + NEWLINE + "-----------------"
+                + "------------------------------------------------------------------------------------------"
+                + "----------------------" + NEWLINE + "2                    test                            "
+                + "                        [-] $2.00       " + temp.format(newDate) + "      test            "
+                + "     2          " + NEWLINE
+                + "----------------------------------------------------------------------"
+                + "-----------------------------------------------------------" + NEWLINE;
+        assertEquals(outputMessage, outContent.toString());
+    }
+
+    @Test
+    void listExpenditure_cursorOnLastPage_throwsException() {
+        TransactionList testList = new TransactionList();
+        Ui testUi = new Ui();
+        testList.addExpenditureToList(new Expenditure("test", 1, new Date(), "test"), testUi, "bank");
+        testList.addExpenditureToList(new Expenditure("test", 2, new Date(), "test"), testUi, "bank");
+        long cursor = -1;
+        try {
+            cursor = testList.listExpenditure(testUi, new PageRequest(2));
+        } catch (TransactionException errorMessage) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        assertEquals(PageRequest.NO_CURSOR, cursor);
+        TransactionException thrown = assertThrows(TransactionException.class, () ->
+                testList.listExpenditure(testUi, new PageRequest(2, 2, PageRequest.NO_CURSOR)),
+                "Expected listExpenditure to throw, but it didn't");
+        assertEquals("There are no more expenditures to list", thrown.getMessage());
+    }
+
+    @Test
+    void listExpenditure_sortByAmount_listLargestExpendituresFirst() {
+        TransactionList testList = new TransactionList();
+        Ui testUi = new Ui();
+        Date newDate = new Date("10/26/2019");
+        testList.addExpenditureToList(new Expenditure("test", 3, newDate, "test"), testUi, "bank");
+        testList.addExpenditureToList(new Expenditure("test", 9, newDate, "test"), testUi, "bank");
+        testList.addDepositToList(new Deposit("test", 50, newDate, "test"), testUi, "bank");
+        testList.addExpenditureToList(new Expenditure("test", 1, newDate, "test"), testUi, "bank");
+        testList.addExpenditureToList(new Expenditure("test", 5, newDate, "test"), testUi, "bank");
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        try {
+            testList.listExpenditure(testUi, new PageRequest(2, 1, PageRequest.SORT_BY_AMOUNT));
+        } catch (TransactionException errorMessage) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        DateFormat temp = new SimpleDateFormat("dd MMMM yyyy");
+        String outputMessage = "Transaction No.      Description                                             "
+                + "Amount          Date                 Category             "
+                + "ID         " + NEWLINE + "-----------------"
+                + "------------------------------------------------------------------------------------------"
+                + "----------------------" + NEWLINE + "2                    test                            "
+                + "                        [-] $9.00       " + temp.format(newDate) + "      test            "
+                + "     2          " + NEWLINE + "5                    test                                            "
+                + "        [-] $5.00       " + temp.format(newDate) + "      test                 5          " + NEWLINE
+                + "----------------------------------------------------------------------"
+                + "-----------------------------------------------------------" + NEWLINE;
+        assertEquals(outputMessage, outContent.toString());
+    }
+
+    @Test
+    void listExpenditure_sortByDateAddedOutOfOrder_listLatestDateFirst() {
+        TransactionList testList = new TransactionList();
+        Ui testUi = new Ui();
+        Date earlierDate = new Date("10/25/2019");
+        Date laterDate = new Date("10/26/2019");
+        testList.addExpenditureToList(new Expenditure("test", 1, laterDate, "test"), testUi, "bank");
+        testList.addExpenditureToList(new Expenditure("test", 2, earlierDate, "test"), testUi, "bank");
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        try {
+            testList.listExpenditure(testUi, new PageRequest(1, 1, PageRequest.SORT_BY_DATE));
+        } catch (TransactionException errorMessage) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        DateFormat temp = new SimpleDateFormat("dd MMMM yyyy");
+        String outputMessage = "Transaction No.      Description                                             "
+                + "Amount          Date                 Category             "
+                + "ID         " + NEWLINE + "-----------------"
+                + "------------------------------------------------------------------------------------------"
+                + "----------------------" + NEWLINE + "1                    test                            "
+                + "                        [-] $1.00       " + temp.format(laterDate) + "      test            "
+                + "     1          " + NEWLINE
+                + "----------------------------------------------------------------------"
                 + "-----------------------------------------------------------" + NEWLINE;
         assertEquals(outputMessage, outContent.toString());
     }
@@ -403,11 +526,13 @@ class TransactionListTest {
         }
         DateFormat temp2 = new SimpleDateFormat("dd MMMM yyyy");
         String outputMessage = "Transaction No.      Description                                             "
-                + "Amount          Date                 Category             " + NEWLINE + "-----------------"
+                + "Amount          Date                 Category             "
+                + "ID         " + NEWLINE + "-----------------"
                 + "------------------------------------------------------------------------------------------"
                 + "----------------------" + NEWLINE + "1                    edit                            "
                 + "                        [-] $5.35       " + temp2.format(editedDate) + "      edit        "
-                + "         " + NEWLINE + "------------------------------------------------------------------"
+                + "         1          " + NEWLINE
+                + "------------------------------------------------------------------"
                 + "---------------------------------------------------------------" + NEWLINE;
         assertEquals(outputMessage, outContent.toString());
     }
@@ -436,11 +561,13 @@ class TransactionListTest {
         }
         DateFormat temp2 = new SimpleDateFormat("dd MMMM yyyy");
         String outputMessage = "Transaction No.      Description                                             "
-                + "Amount          Date                 Category             " + NEWLINE + "-----------------"
+                + "Amount          Date                 Category             "
+                + "ID         " + NEWLINE + "-----------------"
                 + "------------------------------------------------------------------------------------------"
                 + "----------------------" + NEWLINE + "1                    edit                            "
                 + "                        [+] $5.35       " + temp2.format(editedDate) + "      test        "
-                + "         " + NEWLINE + "------------------------------------------------------------------"
+                + "         1          " + NEWLINE
+                + "------------------------------------------------------------------"
                 + "---------------------------------------------------------------" + NEWLINE;
         assertEquals(outputMessage, outContent.toString());
     }
@@ -496,13 +623,14 @@ class TransactionListTest {
                     "19/9/2019", "", "", uiTest);
             String expectedOutput = "Find by: date range" + NEWLINE
                     + "Transaction No.      Description                                             "
-                    + "Amount          Date                 Category             " + NEWLINE
+                    + "Amount          Date                 Category             "
+                    + "ID         " + NEWLINE
                     + "-----------------------------------------------------------------------------"
                     + "----------------------------------------------------" + NEWLINE
                     + "2                    Bubble Tea                                              "
-                    + "[-] $10.00      10 July 2019         Food                 " + NEWLINE
+                    + "[-] $10.00      10 July 2019         Food                 2          " + NEWLINE
                     + "3                    Fund Received                                           "
-                    + "[+] $100.00     11 September 2019    Deposit              " + NEWLINE
+                    + "[+] $100.00     11 September 2019    Deposit              3          " + NEWLINE
                     + "----------------------------------------------------------------------------"
                     + "-----------------------------------------------------" + NEWLINE;
             assertEquals(expectedOutput,outContent.toString());
@@ -576,11 +704,12 @@ class TransactionListTest {
                     "", "", "deposit", uiTest);
             String expectedOutput = "Find by: category" + NEWLINE
                     + "Transaction No.      Description                                             "
-                    + "Amount          Date                 Category             " + NEWLINE
+                    + "Amount          Date                 Category             "
+                    + "ID         " + NEWLINE
                     + "-------------------------------------------------------------------------------"
                     + "--------------------------------------------------" + NEWLINE
                     + "3                    Fund Received                                           "
-                    + "[+] $100.00     11 September 2019    Deposit              " + NEWLINE
+                    + "[+] $100.00     11 September 2019    Deposit              3          " + NEWLINE
                     + "--------------------------------------------------------------------------"
                     + "-------------------------------------------------------" + NEWLINE;
             assertEquals(expectedOutput,outContent.toString());
@@ -656,11 +785,12 @@ class TransactionListTest {
                     "", "rice", "", uiTest);
             String expectedOutput = "Find by: description" + NEWLINE
                     + "Transaction No.      Description                                             "
-                    + "Amount          Date                 Category             " + NEWLINE
+                    + "Amount          Date                 Category             "
+                    + "ID         " + NEWLINE
                     + "-------------------------------------------------------------------------------"
                     + "--------------------------------------------------" + NEWLINE
                     + "1                    Chicken Rice                                            "
-                    + "[-] $15.00      10 June 2019         Food                 " + NEWLINE
+                    + "[-] $15.00      10 June 2019         Food                 1          " + NEWLINE
                     + "--------------------------------------------------------------------------"
                     + "-------------------------------------------------------" + NEWLINE;
             assertEquals(expectedOutput,outContent.toString());
@@ -706,4 +836,326 @@ class TransactionListTest {
         }
 
     }
+
+    //Tests function for find feature.
+    @Test
+    void findMatchingTransaction_MatchingDescriptionAndCategory_onlyMatchesBothPrinted() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        Ui uiTest = new Ui();
+        TransactionList transactionListTemp = new TransactionList();
+        try {
+            Transaction expenditureTestOne = new Expenditure("Chicken Rice", 15,
+                    (temp.parse("10/6/2019")), "Food");
+            Transaction expenditureTestTwo = new Expenditure("Rice Cooker", 40,
+                    (temp.parse("10/7/2019")), "Household");
+            Transaction depositTest = new Deposit("Fund Received", 100,
+                    (temp.parse("11/9/2019")), "Deposit");
+
+            transactionListTemp.addExpenditureToList(expenditureTestOne, uiTest, "saving");
+            transactionListTemp.addExpenditureToList(expenditureTestTwo, uiTest, "saving");
+            transactionListTemp.addExpenditureToList(depositTest, uiTest, "saving");
+        } catch (ParseException error) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        try {
+            outContent.reset();
+            transactionListTemp.findMatchingTransaction("1/7/2019",
+                    "31/7/2019", "rice", "household", uiTest);
+            String expectedOutput = "Find by: description, category and date range" + NEWLINE
+                    + "Transaction No.      Description                                             "
+                    + "Amount          Date                 Category             "
+                    + "ID         " + NEWLINE
+                    + "-----------------------------------------------------------------------------"
+                    + "----------------------------------------------------" + NEWLINE
+                    + "2                    Rice Cooker                                             "
+                    + "[-] $40.00      10 July 2019         Household            2          " + NEWLINE
+                    + "----------------------------------------------------------------------------"
+                    + "-----------------------------------------------------" + NEWLINE;
+            assertEquals(expectedOutput, outContent.toString());
+            outContent.reset();
+        } catch (TransactionException error) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+    }
+
+    //Tests function for find feature.
+    @Test
+    void findMatchingTransaction_DescriptionAndCategoryMissMatch_printErrorMessage() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        Ui uiTest = new Ui();
+        TransactionList transactionListTemp = new TransactionList();
+        try {
+            Transaction expenditureTestOne = new Expenditure("Chicken Rice", 15,
+                    (temp.parse("10/6/2019")), "Food");
+            transactionListTemp.addExpenditureToList(expenditureTestOne, uiTest, "saving");
+        } catch (ParseException error) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        try {
+            outContent.reset();
+            transactionListTemp.findMatchingTransaction("",
+                    "", "rice", "transport", uiTest);
+            String expectedOutput = "No matches for the description keyword: rice and the category keyword: "
+                    + "transport" + NEWLINE;
+            assertEquals(expectedOutput, outContent.toString());
+            outContent.reset();
+        } catch (TransactionException error) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+    }
+
+    @Test
+    void getTransactionNumberById_earlierTransactionDeleted_sameTransactionFound() throws TransactionException {
+        TransactionList testList = new TransactionList();
+        Date newDate = new Date("10/26/2019");
+        Transaction first = new Expenditure("first", 1, newDate, "test");
+        Transaction second = new Expenditure("second", 2, newDate, "test");
+        Transaction third = new Expenditure("third", 3, newDate, "test");
+        testList.addExpenditureToList(first, "bank");
+        testList.addExpenditureToList(second, "bank");
+        testList.addExpenditureToList(third, "bank");
+        assertEquals(3, testList.getTransactionNumberById(third.getId()));
+
+        testList.deleteExpenditureFromList(1);
+        assertEquals(2, testList.getTransactionNumberById(third.getId()));
+        assertEquals(second.getId(), testList.getIdByTransactionNumber(1));
+        TransactionException thrown = assertThrows(TransactionException.class, () ->
+                testList.getTransactionNumberById(first.getId()));
+        assertEquals("There is no transaction with ID " + first.getId(), thrown.getMessage());
+    }
+
+    @Test
+    void importExpenditureToList_savedIds_idsKeptAndNextIdAfterHighest() throws TransactionException {
+        TransactionList testList = new TransactionList();
+        Date newDate = new Date("10/26/2019");
+        Transaction saved = new Expenditure("saved", 1, newDate, "test");
+        saved.setId(7);
+        Transaction unsaved = new Expenditure("unsaved", 2, newDate, "test");
+        testList.importExpenditureToList(saved, "bank");
+        testList.importExpenditureToList(unsaved, "bank");
+        Transaction added = new Expenditure("added", 3, newDate, "test");
+        testList.addExpenditureToList(added, "bank");
+
+        assertEquals(7, saved.getId());
+        assertEquals(8, unsaved.getId());
+        assertEquals(9, added.getId());
+        assertEquals(1, testList.getTransactionNumberById(7));
+    }
+
+    @Test
+    void deleteTransactionsFromList_matchesDeletedThenUndone_orderRestored() throws TransactionException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        TransactionList testList = new TransactionList();
+        Ui testUi = new Ui();
+        Date newDate = new Date("10/26/2019");
+        testList.addExpenditureToList(new Expenditure("coffee", 1, newDate, "food"), "bank");
+        testList.addExpenditureToList(new Expenditure("taxi", 2, newDate, "transport"), "bank");
+        testList.addDepositToList(new Deposit("coffee refund", 10, newDate, "deposit"), testUi, "bank");
+        testList.addExpenditureToList(new Expenditure("coffee beans", 4, newDate, "food"), "bank");
+        TransactionQuery query = new TransactionQuery("", "", "coffee", "");
+
+        List<Integer> matches = testList.getMatchingTransactionNumbers(query);
+        assertEquals(List.of(1, 3, 4), matches);
+        assertEquals(5, testList.getNetDepositAmount(matches));
+        Revertible undo = testList.prepareRemoveUndo(matches);
+        testList.deleteTransactionsFromList(matches, testUi);
+        assertEquals(1, testList.getSize());
+        assertEquals("taxi", testList.get(0).getDescription());
+        TransactionException thrown = assertThrows(TransactionException.class, () ->
+                testList.getMatchingTransactionNumbers(query));
+        assertEquals("No matches for the description keyword: coffee", thrown.getMessage());
+
+        undo.revert(testUi);
+        assertEquals(4, testList.getSize());
+        assertEquals("coffee", testList.get(0).getDescription());
+        assertEquals("taxi", testList.get(1).getDescription());
+        assertEquals("coffee refund", testList.get(2).getDescription());
+        assertEquals("coffee beans", testList.get(3).getDescription());
+    }
+
+    @Test
+    void editTransactions_newCategory_onlyExpendituresRecategorized() throws TransactionException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        TransactionList testList = new TransactionList();
+        Ui testUi = new Ui();
+        Date newDate = new Date("10/26/2019");
+        testList.addExpenditureToList(new Expenditure("coffee", 1, newDate, "food"), "bank");
+        testList.addDepositToList(new Deposit("coffee refund", 10, newDate, "deposit"), testUi, "bank");
+        List<Integer> matches = testList.getMatchingTransactionNumbers(new TransactionQuery("", "", "coffee", ""));
+
+        Revertible undo = testList.prepareEditUndo(matches);
+        testList.editTransactions(matches, "cafe", "drinks", testUi);
+        assertEquals("cafe", testList.get(0).getDescription());
+        assertEquals("drinks", testList.get(0).getCategory());
+        assertEquals("cafe", testList.get(1).getDescription());
+        assertEquals("deposit", testList.get(1).getCategory());
+
+        undo.revert(testUi);
+        assertEquals("coffee", testList.get(0).getDescription());
+        assertEquals("food", testList.get(0).getCategory());
+        assertEquals("coffee refund", testList.get(1).getDescription());
+    }
+
+    @Test
+    void exportTransactionList_onlyDeletions_appendedToDeleteLogUntilCompacted()
+            throws IOException, TransactionException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        Storage storage = new Storage("data/");
+        String fileName = "test_transactionList.csv";
+        String deleteLogFileName = TransactionList.getDeleteLogFileName(fileName);
+        TransactionList testList = new TransactionList();
+        Ui testUi = new Ui();
+        Date newDate = new Date("10/26/2019");
+        for (int i = 1; i <= 8; i++) {
+            testList.addExpenditureToList(new Expenditure("item" + i, i, newDate, "food"), "bank");
+        }
+        int[] fullWriteCount = {0};
+        Supplier<ArrayList<String[]>> exportData = () -> {
+            fullWriteCount[0]++;
+            ArrayList<String[]> rows = new ArrayList<>();
+            rows.add(new String[] {"description", "id"});
+            for (int i = 0; i < testList.getSize(); i++) {
+                rows.add(new String[] {testList.get(i).getDescription(), Long.toString(testList.get(i).getId())});
+            }
+            return rows;
+        };
+        assertEquals("test_transactionList_deleted.csv", deleteLogFileName);
+
+        storage.deferWrites();
+        try {
+            testList.exportTransactionList(storage, fileName, exportData);
+            testList.deleteExpenditureFromList(1, testUi);
+            testList.exportTransactionList(storage, fileName, exportData);
+            testList.deleteExpenditureFromList(1, testUi);
+            testList.exportTransactionList(storage, fileName, exportData);
+            assertEquals(1, fullWriteCount[0]);
+            assertEquals(8, storage.readFile(fileName).size());
+            assertEquals("1", storage.readFile(deleteLogFileName).get(0)[0]);
+            assertEquals("2", storage.readFile(deleteLogFileName).get(1)[0]);
+
+            testList.deleteExpenditureFromList(1, testUi);
+            testList.exportTransactionList(storage, fileName, exportData);
+            assertEquals(2, fullWriteCount[0]);
+            assertEquals(5, storage.readFile(fileName).size());
+            assertEquals("item4", storage.readFile(fileName).get(0)[0]);
+            assertEquals(false, storage.isFileExist(deleteLogFileName));
+        } finally {
+            storage.discardWrites();
+            storage.resumeWrites();
+        }
+    }
+
+    @Test
+    void exportTransactionList_newestDeletedThenReloaded_deletedIdNotReused()
+            throws IOException, TransactionException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        Storage storage = new Storage("data/");
+        String fileName = "test_transactionList.csv";
+        Ui testUi = new Ui();
+        Date newDate = new Date("10/26/2019");
+        TransactionList testList = new TransactionList();
+        for (int i = 1; i <= 12; i++) {
+            testList.addExpenditureToList(new Expenditure("item" + i, i, newDate, "food"), "bank");
+        }
+
+        storage.deferWrites();
+        try {
+            testList.exportTransactionList(storage, fileName, getExportData(testList));
+            testList.deleteExpenditureFromList(12, testUi);
+            testList.exportTransactionList(storage, fileName, getExportData(testList));
+            TransactionList reloadedList = reloadTransactionList(storage, fileName);
+            Transaction added = new Expenditure("added", 13, newDate, "food");
+            reloadedList.addExpenditureToList(added, "bank");
+            assertEquals(13, added.getId());
+
+            reloadedList.deleteExpenditureFromList(12, testUi);
+            reloadedList.exportTransactionList(storage, fileName, getExportData(reloadedList));
+            assertEquals(11, storage.readFile(fileName).size());
+            TransactionList compactedList = reloadTransactionList(storage, fileName);
+            int[] fullWriteCount = {0};
+            compactedList.deleteExpenditureFromList(1, testUi);
+            compactedList.exportTransactionList(storage, fileName, () -> {
+                fullWriteCount[0]++;
+                return getExportData(compactedList).get();
+            });
+            assertEquals(0, fullWriteCount[0]);
+            Transaction addedAfterCompaction = new Expenditure("added again", 14, newDate, "food");
+            compactedList.addExpenditureToList(addedAfterCompaction, "bank");
+            assertEquals(14, addedAfterCompaction.getId());
+        } finally {
+            storage.discardWrites();
+            storage.resumeWrites();
+        }
+    }
+
+    /**
+     * Prepares the description and ID of every transaction in the list for saving.
+     *
+     * @param testList the list to save.
+     * @return the rows to save, after a header row.
+     */
+    private Supplier<ArrayList<String[]>> getExportData(TransactionList testList) {
+        return () -> {
+            ArrayList<String[]> rows = new ArrayList<>();
+            rows.add(new String[] {"description", "id"});
+            for (int i = 0; i < testList.getSize(); i++) {
+                rows.add(new String[] {testList.get(i).getDescription(), Long.toString(testList.get(i).getId())});
+            }
+            return rows;
+        };
+    }
+
+    /**
+     * Loads a list saved by getExportData, skipping the transactions in its delete log as the profile does.
+     *
+     * @param storage the storage the list was saved with.
+     * @param fileName the name of the file the list was saved to.
+     * @return the loaded list.
+     * @throws IOException if the files cannot be read.
+     */
+    private TransactionList reloadTransactionList(Storage storage, String fileName) throws IOException {
+        List<String[]> rows = storage.readFile(fileName);
+        List<Long> loggedDeletedIds = new ArrayList<>();
+        String deleteLogFileName = TransactionList.getDeleteLogFileName(fileName);
+        if (storage.isFileExist(deleteLogFileName)) {
+            for (String[] row : storage.readFile(deleteLogFileName)) {
+                loggedDeletedIds.add(Long.parseLong(row[0]));
+            }
+        }
+        TransactionList reloadedList = new TransactionList();
+        int skippedRowCount = 0;
+        for (String[] row : rows) {
+            long id = Long.parseLong(row[1]);
+            if (loggedDeletedIds.contains(id)) {
+                skippedRowCount++;
+                continue;
+            }
+            Transaction expenditure = new Expenditure(row[0], 1, new Date("10/26/2019"), "food");
+            expenditure.setId(id);
+            reloadedList.importExpenditureToList(expenditure, "bank");
+        }
+        reloadedList.markSaved(fileName, rows.size(), skippedRowCount, loggedDeletedIds);
+        return reloadedList;
+    }
+
+    @Test
+    void getMatchingTransactionNumbers_dateRange_sameMatchesInAndOutOfDateOrder() throws TransactionException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        TransactionList testList = new TransactionList();
+        for (int day = 1; day <= 9; day++) {
+            testList.addExpenditureToList(new Expenditure("day" + day, day, new Date("10/" + day + "/2019"),
+                    "food"), "bank");
+        }
+        TransactionQuery query = new TransactionQuery("03/10/2019", "05/10/2019", "", "");
+        assertEquals(List.of(3, 4, 5), testList.getMatchingTransactionNumbers(query));
+        TransactionQuery descriptionQuery = new TransactionQuery("01/10/2019", "09/10/2019", "day9", "");
+        assertEquals(List.of(9), testList.getMatchingTransactionNumbers(descriptionQuery));
+        TransactionQuery emptyQuery = new TransactionQuery("01/11/2019", "30/11/2019", "", "");
+        assertThrows(TransactionException.class, () -> testList.getMatchingTransactionNumbers(emptyQuery));
+
+        testList.addExpenditureToList(new Expenditure("late entry", 10, new Date("10/04/2019"), "food"), "bank");
+        assertEquals(List.of(3, 4, 5, 10), testList.getMatchingTransactionNumbers(query));
+    }
 }
@@ -0,0 +1,58 @@
+package owlmoney.model.transaction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.YearMonth;
+import java.util.Date;
+
+import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.ui.JsonLinesUi;
+import owlmoney.ui.Ui;
+
+class TransactionRollupTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    void getMonthAmountSpent_addEditAndDelete_totalsFollowTransactions() throws TransactionException {
+        TransactionList testList = new TransactionList();
+        Ui testUi = new Ui();
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        testList.addExpenditureToList(new Expenditure("lunch", 5.10, new Date("10/02/2019"), "food"), "bank");
+        testList.addExpenditureToList(new Expenditure("dinner", 7.20, new Date("10/03/2019"), "food"), "bank");
+        testList.addDepositToList(new Deposit("salary", 100, new Date("10/04/2019"), "Deposit"), testUi, "bank");
+        assertEquals(12.30, testList.getMonthAmountSpent(10, 2019));
+        testList.editExpenditure(1, "", "", "02/09/2019", "", testUi);
+        assertEquals(7.20, testList.getMonthAmountSpent(10, 2019));
+        assertEquals(5.10, testList.getMonthAmountSpent(9, 2019));
+        testList.deleteExpenditureFromList(2);
+        assertEquals(5.10, testList.getMonthAmountSpent(9, 2019));
+        assertEquals(0.0, testList.getMonthAmountSpent(10, 2019));
+    }
+
+    @Test
+    void printReport_oneMonth_printsEachCategoryOfTheMonth() throws TransactionException {
+        TransactionList testList = new TransactionList();
+        testList.addExpenditureToList(new Expenditure("lunch", 5.10, new Date("10/02/2019"), "food"), "bank");
+        testList.addExpenditureToList(new Expenditure("dinner", 7.20, new Date("10/03/2019"), "food"), "bank");
+        testList.addExpenditureToList(new Expenditure("bus", 1.50, new Date("09/03/2019"), "transport"), "bank");
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        testList.getRollup().printReport(YearMonth.of(2019, 10), new JsonLinesUi());
+        assertEquals("{\"type\":\"report\",\"month\":\"2019-10\",\"category\":\"food\",\"spentCents\":1230,"
+                + "\"depositCents\":0,\"transactions\":2}" + NEWLINE, outContent.toString());
+    }
+
+    @Test
+    void printReport_noTransactionsInMonth_throwsException() {
+        TransactionList testList = new TransactionList();
+        testList.addExpenditureToList(new Expenditure("lunch", 5.10, new Date("10/02/2019"), "food"), "bank");
+        TransactionException thrown = assertThrows(TransactionException.class, () ->
+                testList.getRollup().printReport(YearMonth.of(2019, 11), new JsonLinesUi()));
+        assertEquals("There are no transactions to report", thrown.getMessage());
+    }
+}
@@ -0,0 +1,46 @@
+package owlmoney.model.transaction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+import owlmoney.model.transaction.exception.TransactionException;
+
+class TransactionSearchTest {
+    private static final DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
+
+    @Test
+    void search_matchesInSeveralAccounts_mergedByDateAndTagged() throws ParseException, TransactionException {
+        TransactionList savingTransactions = new TransactionList();
+        savingTransactions.importExpenditureToList(new Expenditure("Chicken Rice", 15,
+                temp.parse("10/6/2019"), "Food"), "bank");
+        savingTransactions.importExpenditureToList(new Expenditure("Rice Cooker", 40,
+                temp.parse("10/8/2019"), "Household"), "bank");
+        TransactionList cardTransactions = new TransactionList();
+        cardTransactions.importExpenditureToList(new Expenditure("Fried Rice", 5,
+                temp.parse("10/7/2019"), "Food"), "card");
+        cardTransactions.importExpenditureToList(new Expenditure("Bubble Tea", 3,
+                temp.parse("11/7/2019"), "Food"), "card");
+        TransactionSearch search = new TransactionSearch(new TransactionQuery("", "", "rice", ""));
+        search.addAccount("JunBank", savingTransactions);
+        search.addAccount("POBB", cardTransactions);
+        List<TransactionMatch> matches = search.search();
+        assertEquals(3, matches.size());
+        assertEquals("Chicken Rice", matches.get(0).getTransaction().getDescription());
+        assertEquals("POBB", matches.get(1).getAccountName());
+        assertEquals(1, matches.get(1).getNumber());
+        assertEquals("Rice Cooker", matches.get(2).getTransaction().getDescription());
+        assertEquals(2, matches.get(2).getNumber());
+    }
+
+    @Test
+    void search_noAccounts_noMatches() throws TransactionException {
+        TransactionSearch search = new TransactionSearch(new TransactionQuery("", "", "rice", ""));
+        assertEquals(0, search.search().size());
+    }
+}
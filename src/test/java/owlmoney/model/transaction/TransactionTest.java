@@ -4,9 +4,14 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.Date;
 
 class TransactionTest {
+    private static final DateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+
     @Test
     void checkDebitCredit_expenditure_showMinus() {
         Transaction expenditure = new Expenditure("test", 1.0, new Date("1/1/2019"), "test");
@@ -18,4 +23,17 @@ class TransactionTest {
         Transaction deposit = new Deposit("test", 1.0, new Date("1/1/2019"), "test");
         assertEquals("[+] $", deposit.checkDebitCredit());
     }
+
+    @Test
+    void advanceRecurrence_threeMonthlyOccurrencesFromThirtyFirst_returnsToMonthEnd() throws ParseException {
+        Transaction recurringExpenditure = new Expenditure("rent", 1.0, dateFormat.parse("31/01/2019"), "test");
+        recurringExpenditure.advanceRecurrence(1);
+        assertEquals(dateFormat.parse("28/02/2019"), recurringExpenditure.getDateInDateFormat());
+        recurringExpenditure.advanceRecurrence(1);
+        assertEquals(dateFormat.parse("31/03/2019"), recurringExpenditure.getDateInDateFormat());
+        recurringExpenditure.advanceRecurrence(1);
+        assertEquals(dateFormat.parse("30/04/2019"), recurringExpenditure.getDateInDateFormat());
+        assertEquals(dateFormat.parse("31/01/2019"), recurringExpenditure.getRecurrenceStartDate());
+        assertEquals(3, recurringExpenditure.getRecurrenceCount());
+    }
 }
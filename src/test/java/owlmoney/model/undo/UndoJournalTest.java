@@ -0,0 +1,116 @@
+package owlmoney.model.undo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+
+import owlmoney.ui.Ui;
+
+class UndoJournalTest {
+
+    @Test
+    void pop_multipleRecords_latestRecordReturnedFirst() {
+        UndoJournal testJournal = new UndoJournal();
+        testJournal.record(new UndoRecord("first"));
+        testJournal.record(new UndoRecord("second"));
+        assertEquals("second", testJournal.pop().getDescription());
+        assertEquals("first", testJournal.pop().getDescription());
+        assertNull(testJournal.pop());
+    }
+
+    @Test
+    void record_exceedsMaxDepth_oldestRecordDropped() {
+        UndoJournal testJournal = new UndoJournal(2, 1024);
+        testJournal.record(new UndoRecord("first"));
+        testJournal.record(new UndoRecord("second"));
+        testJournal.record(new UndoRecord("third"));
+        assertEquals(2, testJournal.getSize());
+        testJournal.pop();
+        assertEquals("second", testJournal.pop().getDescription());
+    }
+
+    @Test
+    void record_exceedsMaxBytes_oldestRecordDropped() {
+        UndoRecord firstRecord = new UndoRecord("old");
+        UndoJournal testJournal = new UndoJournal(20, firstRecord.getEstimatedSize() + 1);
+        testJournal.record(firstRecord);
+        testJournal.record(new UndoRecord("new"));
+        assertEquals(1, testJournal.getSize());
+        assertEquals("new", testJournal.pop().getDescription());
+        assertEquals(0, testJournal.getEstimatedBytes());
+    }
+
+    @Test
+    void revert_groupedRecords_changesRevertedInReverseOrder() {
+        ArrayList<String> reverted = new ArrayList<>();
+        UndoJournal testJournal = new UndoJournal();
+        testJournal.startGroup("group");
+        UndoRecord firstRecord = new UndoRecord("first", ui -> reverted.add("first saved"));
+        firstRecord.addChange(ui -> reverted.add("first"));
+        testJournal.record(firstRecord);
+        UndoRecord secondRecord = new UndoRecord("second");
+        secondRecord.addChange(ui -> reverted.add("second"));
+        testJournal.record(secondRecord);
+        testJournal.endGroup();
+        assertEquals(1, testJournal.getSize());
+        UndoRecord group = testJournal.pop();
+        assertEquals("group", group.getDescription());
+        group.revert(new Ui());
+        assertEquals("[second, first, first saved]", reverted.toString());
+    }
+
+    @Test
+    void clear_recordsExist_nothingToUndo() {
+        UndoJournal testJournal = new UndoJournal();
+        testJournal.record(new UndoRecord("first"));
+        testJournal.clear();
+        assertEquals(0, testJournal.getSize());
+        assertNull(testJournal.pop());
+    }
+
+    @Test
+    void abortGroup_nestedGroupFailed_onlyNestedChangesReverted() {
+        ArrayList<String> reverted = new ArrayList<>();
+        UndoJournal testJournal = new UndoJournal();
+        testJournal.startGroup("outer");
+        UndoRecord outerRecord = new UndoRecord("outer change");
+        outerRecord.addChange(ui -> reverted.add("outer"));
+        testJournal.record(outerRecord);
+        testJournal.startGroup("inner");
+        UndoRecord firstInnerRecord = new UndoRecord("first inner change");
+        firstInnerRecord.addChange(ui -> reverted.add("first inner"));
+        testJournal.record(firstInnerRecord);
+        UndoRecord secondInnerRecord = new UndoRecord("second inner change");
+        secondInnerRecord.addChange(ui -> reverted.add("second inner"));
+        testJournal.record(secondInnerRecord);
+
+        testJournal.abortGroup(new Ui());
+        assertEquals(2, reverted.size());
+        assertEquals("second inner", reverted.get(0));
+        assertEquals("first inner", reverted.get(1));
+        testJournal.endGroup();
+        assertEquals(1, testJournal.getSize());
+        reverted.clear();
+        testJournal.pop().revert(new Ui());
+        assertEquals(1, reverted.size());
+        assertEquals("outer", reverted.get(0));
+    }
+
+    @Test
+    void abortGroup_outermostGroupFailed_nothingRecorded() {
+        ArrayList<String> reverted = new ArrayList<>();
+        UndoJournal testJournal = new UndoJournal();
+        testJournal.startGroup("transfer");
+        UndoRecord record = new UndoRecord("expenditure");
+        record.addChange(ui -> reverted.add("expenditure"));
+        testJournal.record(record);
+        testJournal.abortGroup(new Ui());
+        assertEquals(1, reverted.size());
+        assertEquals(0, testJournal.getSize());
+        testJournal.record(new UndoRecord("after"));
+        assertEquals(1, testJournal.getSize());
+    }
+}
@@ -0,0 +1,140 @@
+package owlmoney.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+class StorageTest {
+    private static final String[] HEADER = {"description", "id"};
+
+    /**
+     * Creates a storage in a new temporary directory so that tests do not touch the data directory.
+     */
+    private static Storage createTemporaryStorage() throws IOException {
+        return new Storage(Files.createTempDirectory("owlmoney").toString() + File.separator);
+    }
+
+    /**
+     * Drops every pending write and ends every deferral, as the deferred state is shared by every Storage.
+     */
+    private static void resetDeferredState(Storage storage) throws IOException {
+        storage.discardWrites();
+        while (storage.isDeferringWrites()) {
+            storage.resumeWrites();
+        }
+    }
+
+    private static ArrayList<String[]> createRows(String... descriptions) {
+        ArrayList<String[]> rows = new ArrayList<>();
+        rows.add(HEADER);
+        for (int i = 0; i < descriptions.length; i++) {
+            rows.add(new String[] {descriptions[i], Integer.toString(i + 1)});
+        }
+        return rows;
+    }
+
+    @Test
+    void readFile_writeDeferred_returnsPendingDataBeforeFlush() throws IOException {
+        Storage storage = createTemporaryStorage();
+        try {
+            storage.deferWrites();
+            storage.writeFile(createRows("coffee", "taxi"), "test.csv");
+            assertTrue(storage.isFileExist("test.csv"));
+            List<String[]> pendingData = storage.readFile("test.csv");
+            assertEquals(2, pendingData.size());
+            assertEquals("taxi", pendingData.get(1)[0]);
+
+            assertEquals(1, storage.resumeWrites());
+            assertFalse(storage.isDeferringWrites());
+            assertEquals("coffee", storage.readFile("test.csv").get(0)[0]);
+        } finally {
+            resetDeferredState(storage);
+        }
+    }
+
+    @Test
+    void resumeWrites_nestedDeferrals_flushedOnlyWhenOutermostResumed() throws IOException {
+        Storage storage = createTemporaryStorage();
+        try {
+            storage.deferWrites();
+            storage.deferWrites();
+            storage.writeFile(createRows("coffee"), "test.csv");
+            storage.writeFile(createRows("coffee", "taxi"), "test.csv");
+
+            assertEquals(0, storage.resumeWrites());
+            assertTrue(storage.isDeferringWrites());
+            assertEquals(1, storage.resumeWrites());
+            assertFalse(storage.isDeferringWrites());
+            assertEquals(2, storage.readFile("test.csv").size());
+            assertEquals(0, storage.resumeWrites());
+        } finally {
+            resetDeferredState(storage);
+        }
+    }
+
+    @Test
+    void appendToFile_appendDeferred_addedAfterWrittenRows() throws IOException {
+        Storage storage = createTemporaryStorage();
+        try {
+            storage.writeFile(createRows("coffee"), "test.csv");
+            storage.deferWrites();
+            ArrayList<String[]> appendedRows = new ArrayList<>();
+            appendedRows.add(new String[] {"taxi", "2"});
+            storage.appendToFile(appendedRows, HEADER, "test.csv");
+            assertEquals(2, storage.readFile("test.csv").size());
+
+            storage.resumeWrites();
+            List<String[]> savedData = storage.readFile("test.csv");
+            assertEquals(2, savedData.size());
+            assertEquals("coffee", savedData.get(0)[0]);
+            assertEquals("taxi", savedData.get(1)[0]);
+        } finally {
+            resetDeferredState(storage);
+        }
+    }
+
+    @Test
+    void discardWrites_pendingWritesAndAppends_nothingReachesDisk() throws IOException {
+        Storage storage = createTemporaryStorage();
+        try {
+            storage.deferWrites();
+            storage.writeFile(createRows("coffee"), "written.csv");
+            ArrayList<String[]> appendedRows = new ArrayList<>();
+            appendedRows.add(new String[] {"1"});
+            storage.appendToFile(appendedRows, new String[] {"id"}, "appended.csv");
+            assertTrue(storage.isFileExist("appended.csv"));
+
+            storage.discardWrites();
+            assertFalse(storage.isFileExist("written.csv"));
+            assertFalse(storage.isFileExist("appended.csv"));
+            assertEquals(0, storage.resumeWrites());
+            assertFalse(storage.isFileExist("written.csv"));
+            assertFalse(storage.isFileExist("appended.csv"));
+        } finally {
+            resetDeferredState(storage);
+        }
+    }
+
+    @Test
+    void deleteFile_deleteDeferredAfterWrite_fileRemovedOnFlush() throws IOException {
+        Storage storage = createTemporaryStorage();
+        try {
+            storage.writeFile(createRows("coffee"), "test.csv");
+            storage.deferWrites();
+            storage.deleteFile("test.csv");
+            assertFalse(storage.isFileExist("test.csv"));
+            storage.resumeWrites();
+            assertFalse(storage.isFileExist("test.csv"));
+        } finally {
+            resetDeferredState(storage);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package owlmoney.ui;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Date;
+
+class JsonLinesUiTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    void printMessage_quotesBackslashesAndControlCharacters_escaped() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        JsonLinesUi testUi = new JsonLinesUi();
+        testUi.printMessage("say \"hi\" to C:\\data" + "\n" + "next\tline\r" + (char) 1 + (char) 0x1f);
+        assertEquals("{\"type\":\"message\",\"text\":\"say \\\"hi\\\" to C:\\\\data\\nnext\\tline\\r"
+                + "\\u0001\\u001f\"}" + NEWLINE, outContent.toString());
+    }
+
+    @Test
+    void printMessage_blankMessageThenError_onlyErrorPrinted() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        JsonLinesUi testUi = new JsonLinesUi();
+        testUi.printMessage("\n");
+        testUi.printError("Bank \"JunBank\" not found");
+        assertEquals("{\"type\":\"error\",\"text\":\"Bank \\\"JunBank\\\" not found\"}" + NEWLINE,
+                outContent.toString());
+    }
+
+    @Test
+    void printTransaction_expenditureAndDeposit_signedCentsAndIsoDate() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        JsonLinesUi testUi = new JsonLinesUi();
+        Date newDate = new Date("10/26/2019");
+        testUi.printTransaction(1, "coffee", 12.34, true, newDate, "food", 7);
+        testUi.printTransaction(2, "refund", 0.1 + 0.2, false, newDate, "deposit");
+        assertEquals("{\"type\":\"transaction\",\"number\":1,\"id\":7,\"description\":\"coffee\","
+                + "\"amountCents\":-1234,\"date\":\"2019-10-26\",\"category\":\"food\"}" + NEWLINE
+                + "{\"type\":\"transaction\",\"number\":2,\"description\":\"refund\",\"amountCents\":30,"
+                + "\"date\":\"2019-10-26\",\"category\":\"deposit\"}" + NEWLINE, outContent.toString());
+    }
+}